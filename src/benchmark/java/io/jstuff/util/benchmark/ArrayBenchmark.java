@@ -0,0 +1,160 @@
+/*
+ * @(#) ArrayBenchmark.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.jstuff.util.IntOutput;
+
+/**
+ * Benchmarks comparing the array functions (which store digits right to left) with the recursive {@link Appendable}
+ * functions.
+ *
+ * @author  Peter Wall
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(Distribution.SIZE)
+public class ArrayBenchmark {
+
+    @Param
+    public Distribution distribution;
+
+    private int[] intValues;
+    private long[] longValues;
+    private final StringBuilder sb = new StringBuilder(64);
+    private final char[] chars = new char[64];
+    private final byte[] bytes = new byte[64];
+    private final ByteBuffer directBuffer = ByteBuffer.allocateDirect(64);
+
+    @Setup
+    public void setup() {
+        intValues = distribution.intValues();
+        longValues = distribution.longValues();
+    }
+
+    @Benchmark
+    public void appendIntAppendable(Blackhole bh) throws IOException {
+        for (int value : intValues) {
+            sb.setLength(0);
+            IntOutput.appendInt(sb, value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void appendIntCharArray(Blackhole bh) {
+        for (int value : intValues)
+            bh.consume(IntOutput.appendInt(chars, 0, value));
+    }
+
+    @Benchmark
+    public void appendIntByteArray(Blackhole bh) {
+        for (int value : intValues)
+            bh.consume(IntOutput.appendInt(bytes, 0, value));
+    }
+
+    @Benchmark
+    public void appendLongAppendable(Blackhole bh) throws IOException {
+        for (long value : longValues) {
+            sb.setLength(0);
+            IntOutput.appendLong(sb, value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void appendLongCharArray(Blackhole bh) {
+        for (long value : longValues)
+            bh.consume(IntOutput.appendLong(chars, 0, value));
+    }
+
+    @Benchmark
+    public void appendLongByteArray(Blackhole bh) {
+        for (long value : longValues)
+            bh.consume(IntOutput.appendLong(bytes, 0, value));
+    }
+
+    @Benchmark
+    public void appendLongGroupedAppendable(Blackhole bh) throws IOException {
+        for (long value : longValues) {
+            sb.setLength(0);
+            IntOutput.appendLongGrouped(sb, value, ',');
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void appendLongGroupedByteArray(Blackhole bh) {
+        for (long value : longValues)
+            bh.consume(IntOutput.appendLongGrouped(bytes, 0, value, ','));
+    }
+
+    @Benchmark
+    public void appendLongDirectByteBuffer(Blackhole bh) {
+        for (long value : longValues) {
+            directBuffer.clear();
+            IntOutput.appendLong(directBuffer, value);
+            bh.consume(directBuffer.position());
+        }
+    }
+
+    @Benchmark
+    public void append8HexByteArray(Blackhole bh) {
+        for (int value : intValues)
+            bh.consume(IntOutput.append8Hex(bytes, 0, value));
+    }
+
+    @Benchmark
+    public void append8HexDirectByteBuffer(Blackhole bh) {
+        for (int value : intValues) {
+            directBuffer.clear();
+            IntOutput.append8Hex(directBuffer, value);
+            bh.consume(directBuffer.position());
+        }
+    }
+
+}
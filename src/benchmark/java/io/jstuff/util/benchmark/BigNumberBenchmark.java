@@ -0,0 +1,144 @@
+/*
+ * @(#) BigNumberBenchmark.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.benchmark;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.jstuff.util.IntOutput;
+
+/**
+ * Benchmarks for the {@link BigDecimal} and {@link BigInteger} functions of {@link IntOutput}, compared with
+ * {@link BigDecimal#toPlainString()} and {@link BigInteger#toString()}.  The {@link BigDecimal} values are amounts
+ * with 2 decimal places; the {@link BigInteger} values have 100 to 200 digits.  The 128-bit values (as pairs of
+ * {@code long}s) are compared with creating a {@link BigInteger} from the bytes of the value.
+ *
+ * @author  Peter Wall
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(Distribution.SIZE)
+public class BigNumberBenchmark {
+
+    private BigDecimal[] amounts;
+    private BigInteger[] bigIntegers;
+    private long[] int128Values;
+    private final StringBuilder sb = new StringBuilder(256);
+
+    @Setup
+    public void setup() {
+        Random random = new Random(11235);
+        amounts = new BigDecimal[Distribution.SIZE];
+        bigIntegers = new BigInteger[Distribution.SIZE];
+        for (int i = 0; i < Distribution.SIZE; i++) {
+            amounts[i] = BigDecimal.valueOf(random.nextInt(100000000) - 50000000, 2);
+            bigIntegers[i] = new BigInteger(333 + random.nextInt(333), random);
+        }
+        int128Values = new long[Distribution.SIZE * 2];
+        for (int i = 0; i < Distribution.SIZE * 2; i++)
+            int128Values[i] = random.nextLong();
+    }
+
+    @Benchmark
+    public void appendBigDecimal(Blackhole bh) throws IOException {
+        for (BigDecimal amount : amounts) {
+            sb.setLength(0);
+            IntOutput.appendBigDecimal(sb, amount);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void toPlainString(Blackhole bh) {
+        for (BigDecimal amount : amounts) {
+            sb.setLength(0);
+            sb.append(amount.toPlainString());
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void appendBigInteger(Blackhole bh) throws IOException {
+        for (BigInteger bigInteger : bigIntegers) {
+            sb.setLength(0);
+            IntOutput.appendBigInteger(sb, bigInteger);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void bigIntegerToString(Blackhole bh) {
+        for (BigInteger bigInteger : bigIntegers) {
+            sb.setLength(0);
+            sb.append(bigInteger.toString());
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void appendUnsignedInt128(Blackhole bh) throws IOException {
+        for (int i = 0; i < int128Values.length; i += 2) {
+            sb.setLength(0);
+            IntOutput.appendUnsignedInt128(sb, int128Values[i], int128Values[i + 1]);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void int128BigIntegerToString(Blackhole bh) {
+        for (int i = 0; i < int128Values.length; i += 2) {
+            sb.setLength(0);
+            byte[] bytes = new byte[17];
+            for (int j = 0; j < 8; j++) {
+                bytes[1 + j] = (byte)(int128Values[i] >>> (56 - j * 8));
+                bytes[9 + j] = (byte)(int128Values[i + 1] >>> (56 - j * 8));
+            }
+            sb.append(new BigInteger(bytes).toString());
+            bh.consume(sb.length());
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * @(#) Distribution.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.benchmark;
+
+import java.util.Random;
+
+/**
+ * The distributions of values used by the benchmarks.
+ *
+ * @author  Peter Wall
+ */
+public enum Distribution {
+
+    /** Small positive values (0..99). */
+    SMALL {
+        @Override
+        int nextInt(Random random) {
+            return random.nextInt(100);
+        }
+        @Override
+        long nextLong(Random random) {
+            return random.nextInt(100);
+        }
+    },
+
+    /** Values uniformly distributed across the full positive range. */
+    UNIFORM {
+        @Override
+        int nextInt(Random random) {
+            return random.nextInt() & Integer.MAX_VALUE;
+        }
+        @Override
+        long nextLong(Random random) {
+            return random.nextLong() & Long.MAX_VALUE;
+        }
+    },
+
+    /** Values with the maximum number of digits. */
+    MAX_LENGTH {
+        @Override
+        int nextInt(Random random) {
+            return Integer.MAX_VALUE - random.nextInt(1000000000);
+        }
+        @Override
+        long nextLong(Random random) {
+            return Long.MAX_VALUE - (random.nextLong() & 0x7FFFFFFFFFFFFFFL);
+        }
+    },
+
+    /** Negative values uniformly distributed across the full negative range. */
+    NEGATIVE {
+        @Override
+        int nextInt(Random random) {
+            return random.nextInt() | Integer.MIN_VALUE;
+        }
+        @Override
+        long nextLong(Random random) {
+            return random.nextLong() | Long.MIN_VALUE;
+        }
+    };
+
+    public static final int SIZE = 1024;
+
+    abstract int nextInt(Random random);
+
+    abstract long nextLong(Random random);
+
+    /**
+     * Create an array of {@code int} values in this distribution.  A fixed seed is used so that successive runs
+     * operate on the same values.
+     *
+     * @return      the array
+     */
+    public int[] intValues() {
+        Random random = new Random(ordinal() + 12345);
+        int[] values = new int[SIZE];
+        for (int i = 0; i < SIZE; i++)
+            values[i] = nextInt(random);
+        return values;
+    }
+
+    /**
+     * Create an array of {@code long} values in this distribution.  A fixed seed is used so that successive runs
+     * operate on the same values.
+     *
+     * @return      the array
+     */
+    public long[] longValues() {
+        Random random = new Random(ordinal() + 67890);
+        long[] values = new long[SIZE];
+        for (int i = 0; i < SIZE; i++)
+            values[i] = nextLong(random);
+        return values;
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * @(#) DoubleBenchmark.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.benchmark;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.jstuff.util.DoubleOutput;
+
+/**
+ * Benchmarks for the {@link DoubleOutput} functions, compared with {@link StringBuilder#append(double)} and
+ * {@link String#format(String, Object...)}.  The values for the shortest output are random bit patterns (excluding
+ * NaN and infinity), so that they cover the full range of exponents; the values for the fixed output are prices with
+ * up to 3 decimal places.
+ *
+ * @author  Peter Wall
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(Distribution.SIZE)
+public class DoubleBenchmark {
+
+    private double[] values;
+    private double[] fixedValues;
+    private final StringBuilder sb = new StringBuilder(32);
+    private final char[] chars = new char[32];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(24680);
+        values = new double[Distribution.SIZE];
+        for (int i = 0; i < Distribution.SIZE; i++) {
+            double d;
+            do {
+                d = Double.longBitsToDouble(random.nextLong());
+            } while (Double.isNaN(d) || Double.isInfinite(d));
+            values[i] = d;
+        }
+        fixedValues = new double[Distribution.SIZE];
+        for (int i = 0; i < Distribution.SIZE; i++)
+            fixedValues[i] = random.nextInt(10000000) / 1000.0;
+    }
+
+    @Benchmark
+    public void appendDouble(Blackhole bh) throws IOException {
+        for (double d : values) {
+            sb.setLength(0);
+            DoubleOutput.appendDouble(sb, d);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void appendDoubleCharArray(Blackhole bh) {
+        for (double d : values)
+            bh.consume(DoubleOutput.appendDouble(chars, 0, d));
+    }
+
+    @Benchmark
+    public void appendDoubleFixed(Blackhole bh) throws IOException {
+        for (double d : fixedValues) {
+            sb.setLength(0);
+            DoubleOutput.appendDoubleFixed(sb, d, 2, '.');
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void stringFormatFixed(Blackhole bh) {
+        for (double d : fixedValues)
+            bh.consume(String.format("%.2f", d));
+    }
+
+    @Benchmark
+    public void stringBuilderAppend(Blackhole bh) {
+        for (double d : values) {
+            sb.setLength(0);
+            sb.append(d);
+            bh.consume(sb.length());
+        }
+    }
+
+}
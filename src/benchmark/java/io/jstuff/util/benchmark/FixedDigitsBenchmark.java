@@ -0,0 +1,167 @@
+/*
+ * @(#) FixedDigitsBenchmark.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.jstuff.util.IntOutput;
+
+/**
+ * Benchmarks for the fixed-length decimal functions, compared with the use of the JDK functions with manual padding.
+ *
+ * @author  Peter Wall
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(Distribution.SIZE)
+public class FixedDigitsBenchmark {
+
+    private int[] values;
+    private final StringBuilder sb = new StringBuilder(64);
+    private final IntConsumer consumer = ch -> sb.append((char)ch);
+
+    @Setup
+    public void setup() {
+        values = Distribution.UNIFORM.intValues();
+        for (int i = 0; i < values.length; i++)
+            values[i] %= 1000;
+    }
+
+    @Benchmark
+    public void append2Digits(Blackhole bh) throws IOException {
+        for (int value : values) {
+            sb.setLength(0);
+            IntOutput.append2Digits(sb, value % 100);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void output2Digits(Blackhole bh) {
+        for (int value : values) {
+            sb.setLength(0);
+            IntOutput.output2Digits(value % 100, consumer);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void append2DigitsSafe(Blackhole bh) throws IOException {
+        for (int value : values) {
+            sb.setLength(0);
+            IntOutput.append2DigitsSafe(sb, value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void output2DigitsSafe(Blackhole bh) {
+        for (int value : values) {
+            sb.setLength(0);
+            IntOutput.output2DigitsSafe(value, consumer);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void stringBuilder2Digits(Blackhole bh) {
+        for (int value : values) {
+            sb.setLength(0);
+            int i = value % 100;
+            if (i < 10)
+                sb.append('0');
+            sb.append(i);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void append3Digits(Blackhole bh) throws IOException {
+        for (int value : values) {
+            sb.setLength(0);
+            IntOutput.append3Digits(sb, value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void output3Digits(Blackhole bh) {
+        for (int value : values) {
+            sb.setLength(0);
+            IntOutput.output3Digits(value, consumer);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void append3DigitsSafe(Blackhole bh) throws IOException {
+        for (int value : values) {
+            sb.setLength(0);
+            IntOutput.append3DigitsSafe(sb, value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void output3DigitsSafe(Blackhole bh) {
+        for (int value : values) {
+            sb.setLength(0);
+            IntOutput.output3DigitsSafe(value, consumer);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void stringBuilder3Digits(Blackhole bh) {
+        for (int value : values) {
+            sb.setLength(0);
+            if (value < 100)
+                sb.append(value < 10 ? "00" : "0");
+            sb.append(value);
+            bh.consume(sb.length());
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * @(#) FourDigitBenchmark.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.jstuff.util.FourDigitOutput;
+import io.jstuff.util.IntOutput;
+
+/**
+ * Benchmarks comparing the four-digit functions of {@link FourDigitOutput} with the two-digit functions of
+ * {@link IntOutput}.  The {@code interleaved} benchmarks perform a pass over a large array between conversions, to
+ * show the effect of the larger table when it has to compete for cache space with other data; run them with
+ * {@code -prof perfnorm} to see the cache miss counts.
+ *
+ * @author  Peter Wall
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(Distribution.SIZE)
+public class FourDigitBenchmark {
+
+    private static final int EVICTION_SIZE = 16 * 1024; // 64KB - larger than a typical L1 data cache
+
+    @Param
+    public Distribution distribution;
+
+    private int[] intValues;
+    private long[] longValues;
+    private final int[] evictionData = new int[EVICTION_SIZE];
+    private final StringBuilder sb = new StringBuilder(64);
+    private final byte[] bytes = new byte[64];
+
+    @Setup
+    public void setup() {
+        intValues = distribution.intValues();
+        longValues = distribution.longValues();
+        for (int i = 0; i < EVICTION_SIZE; i++)
+            evictionData[i] = i;
+    }
+
+    @Benchmark
+    public void appendIntTwoDigit(Blackhole bh) {
+        for (int value : intValues)
+            bh.consume(IntOutput.appendInt(bytes, 0, value));
+    }
+
+    @Benchmark
+    public void appendIntFourDigit(Blackhole bh) {
+        for (int value : intValues)
+            bh.consume(FourDigitOutput.appendInt(bytes, 0, value));
+    }
+
+    @Benchmark
+    public void appendLongTwoDigit(Blackhole bh) {
+        for (long value : longValues)
+            bh.consume(IntOutput.appendLong(bytes, 0, value));
+    }
+
+    @Benchmark
+    public void appendLongFourDigit(Blackhole bh) {
+        for (long value : longValues)
+            bh.consume(FourDigitOutput.appendLong(bytes, 0, value));
+    }
+
+    @Benchmark
+    public void appendLongTwoDigitAppendable(Blackhole bh) throws IOException {
+        for (long value : longValues) {
+            sb.setLength(0);
+            IntOutput.appendLong(sb, value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void appendLongFourDigitAppendable(Blackhole bh) throws IOException {
+        for (long value : longValues) {
+            sb.setLength(0);
+            FourDigitOutput.appendLong(sb, value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void appendLongTwoDigitInterleaved(Blackhole bh) {
+        int sum = 0;
+        for (long value : longValues) {
+            bh.consume(IntOutput.appendLong(bytes, 0, value));
+            sum += evict();
+        }
+        bh.consume(sum);
+    }
+
+    @Benchmark
+    public void appendLongFourDigitInterleaved(Blackhole bh) {
+        int sum = 0;
+        for (long value : longValues) {
+            bh.consume(FourDigitOutput.appendLong(bytes, 0, value));
+            sum += evict();
+        }
+        bh.consume(sum);
+    }
+
+    private int evict() {
+        int sum = 0;
+        for (int i = 0; i < EVICTION_SIZE; i += 16) // one access per 64-byte cache line
+            sum += evictionData[i];
+        return sum;
+    }
+
+}
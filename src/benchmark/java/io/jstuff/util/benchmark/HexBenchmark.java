@@ -0,0 +1,202 @@
+/*
+ * @(#) HexBenchmark.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.jstuff.util.IntOutput;
+
+/**
+ * Benchmarks for the hexadecimal functions, compared with the equivalent JDK functions.
+ *
+ * @author  Peter Wall
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(Distribution.SIZE)
+public class HexBenchmark {
+
+    @Param
+    public Distribution distribution;
+
+    private int[] intValues;
+    private long[] longValues;
+    private final StringBuilder sb = new StringBuilder(64);
+    private final IntConsumer consumer = ch -> sb.append((char)ch);
+
+    @Setup
+    public void setup() {
+        intValues = distribution.intValues();
+        longValues = distribution.longValues();
+    }
+
+    @Benchmark
+    public void appendIntHex(Blackhole bh) throws IOException {
+        for (int value : intValues) {
+            sb.setLength(0);
+            IntOutput.appendIntHex(sb, value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void appendIntHexLC(Blackhole bh) throws IOException {
+        for (int value : intValues) {
+            sb.setLength(0);
+            IntOutput.appendIntHexLC(sb, value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void outputIntHex(Blackhole bh) {
+        for (int value : intValues) {
+            sb.setLength(0);
+            IntOutput.outputIntHex(value, consumer);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void integerToHexString(Blackhole bh) {
+        for (int value : intValues) {
+            sb.setLength(0);
+            sb.append(Integer.toHexString(value));
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void appendLongHex(Blackhole bh) throws IOException {
+        for (long value : longValues) {
+            sb.setLength(0);
+            IntOutput.appendLongHex(sb, value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void appendLongHexLC(Blackhole bh) throws IOException {
+        for (long value : longValues) {
+            sb.setLength(0);
+            IntOutput.appendLongHexLC(sb, value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void outputLongHex(Blackhole bh) {
+        for (long value : longValues) {
+            sb.setLength(0);
+            IntOutput.outputLongHex(value, consumer);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void longToHexString(Blackhole bh) {
+        for (long value : longValues) {
+            sb.setLength(0);
+            sb.append(Long.toHexString(value));
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void append8Hex(Blackhole bh) throws IOException {
+        for (int value : intValues) {
+            sb.setLength(0);
+            IntOutput.append8Hex(sb, value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void output8Hex(Blackhole bh) {
+        for (int value : intValues) {
+            sb.setLength(0);
+            IntOutput.output8Hex(value, consumer);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void append4Hex(Blackhole bh) throws IOException {
+        for (int value : intValues) {
+            sb.setLength(0);
+            IntOutput.append4Hex(sb, value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void output4Hex(Blackhole bh) {
+        for (int value : intValues) {
+            sb.setLength(0);
+            IntOutput.output4Hex(value, consumer);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void append2Hex(Blackhole bh) throws IOException {
+        for (int value : intValues) {
+            sb.setLength(0);
+            IntOutput.append2Hex(sb, value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void output2Hex(Blackhole bh) {
+        for (int value : intValues) {
+            sb.setLength(0);
+            IntOutput.output2Hex(value, consumer);
+            bh.consume(sb.length());
+        }
+    }
+
+}
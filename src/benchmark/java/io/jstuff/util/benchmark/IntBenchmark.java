@@ -0,0 +1,173 @@
+/*
+ * @(#) IntBenchmark.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.jstuff.util.IntOutput;
+
+/**
+ * Benchmarks for the {@code int} decimal functions, compared with the equivalent JDK functions.
+ *
+ * @author  Peter Wall
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(Distribution.SIZE)
+public class IntBenchmark {
+
+    @Param
+    public Distribution distribution;
+
+    private int[] values;
+    private final StringBuilder sb = new StringBuilder(64);
+    private final IntConsumer consumer = ch -> sb.append((char)ch);
+
+    @Setup
+    public void setup() {
+        values = distribution.intValues();
+    }
+
+    @Benchmark
+    public void appendInt(Blackhole bh) throws IOException {
+        for (int value : values) {
+            sb.setLength(0);
+            IntOutput.appendInt(sb, value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void outputInt(Blackhole bh) {
+        for (int value : values) {
+            sb.setLength(0);
+            IntOutput.outputInt(value, consumer);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void integerToString(Blackhole bh) {
+        for (int value : values) {
+            sb.setLength(0);
+            sb.append(Integer.toString(value));
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void stringBuilderAppend(Blackhole bh) {
+        for (int value : values) {
+            sb.setLength(0);
+            sb.append(value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void appendUnsignedInt(Blackhole bh) throws IOException {
+        for (int value : values) {
+            sb.setLength(0);
+            IntOutput.appendUnsignedInt(sb, value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void outputUnsignedInt(Blackhole bh) {
+        for (int value : values) {
+            sb.setLength(0);
+            IntOutput.outputUnsignedInt(value, consumer);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void integerToUnsignedString(Blackhole bh) {
+        for (int value : values) {
+            sb.setLength(0);
+            sb.append(Integer.toUnsignedString(value));
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void appendIntScaled(Blackhole bh) throws IOException {
+        for (int value : values) {
+            sb.setLength(0);
+            IntOutput.appendIntScaled(sb, value, 2, '.');
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void outputIntScaled(Blackhole bh) {
+        for (int value : values) {
+            sb.setLength(0);
+            IntOutput.outputIntScaled(value, 2, '.', consumer);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void appendIntGrouped(Blackhole bh) throws IOException {
+        for (int value : values) {
+            sb.setLength(0);
+            IntOutput.appendIntGrouped(sb, value, ',');
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void outputIntGrouped(Blackhole bh) {
+        for (int value : values) {
+            sb.setLength(0);
+            IntOutput.outputIntGrouped(value, ',', consumer);
+            bh.consume(sb.length());
+        }
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * @(#) LongBenchmark.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.jstuff.util.IntOutput;
+
+/**
+ * Benchmarks for the {@code long} decimal functions, compared with the equivalent JDK functions.
+ *
+ * @author  Peter Wall
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(Distribution.SIZE)
+public class LongBenchmark {
+
+    @Param
+    public Distribution distribution;
+
+    private long[] values;
+    private final StringBuilder sb = new StringBuilder(64);
+    private final IntConsumer consumer = ch -> sb.append((char)ch);
+
+    @Setup
+    public void setup() {
+        values = distribution.longValues();
+    }
+
+    @Benchmark
+    public void appendLong(Blackhole bh) throws IOException {
+        for (long value : values) {
+            sb.setLength(0);
+            IntOutput.appendLong(sb, value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void outputLong(Blackhole bh) {
+        for (long value : values) {
+            sb.setLength(0);
+            IntOutput.outputLong(value, consumer);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void longToString(Blackhole bh) {
+        for (long value : values) {
+            sb.setLength(0);
+            sb.append(Long.toString(value));
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void stringBuilderAppend(Blackhole bh) {
+        for (long value : values) {
+            sb.setLength(0);
+            sb.append(value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void appendUnsignedLong(Blackhole bh) throws IOException {
+        for (long value : values) {
+            sb.setLength(0);
+            IntOutput.appendUnsignedLong(sb, value);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void outputUnsignedLong(Blackhole bh) {
+        for (long value : values) {
+            sb.setLength(0);
+            IntOutput.outputUnsignedLong(value, consumer);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void longToUnsignedString(Blackhole bh) {
+        for (long value : values) {
+            sb.setLength(0);
+            sb.append(Long.toUnsignedString(value));
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void appendLongScaled(Blackhole bh) throws IOException {
+        for (long value : values) {
+            sb.setLength(0);
+            IntOutput.appendLongScaled(sb, value, 2, '.');
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void outputLongScaled(Blackhole bh) {
+        for (long value : values) {
+            sb.setLength(0);
+            IntOutput.outputLongScaled(value, 2, '.', consumer);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void appendLongGrouped(Blackhole bh) throws IOException {
+        for (long value : values) {
+            sb.setLength(0);
+            IntOutput.appendLongGrouped(sb, value, ',');
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void outputLongGrouped(Blackhole bh) {
+        for (long value : values) {
+            sb.setLength(0);
+            IntOutput.outputLongGrouped(value, ',', consumer);
+            bh.consume(sb.length());
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * @(#) ParseBenchmark.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.jstuff.util.IntInput;
+
+/**
+ * Benchmarks for the {@link IntInput} parsing functions, compared with the equivalent JDK functions.
+ *
+ * @author  Peter Wall
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(Distribution.SIZE)
+public class ParseBenchmark {
+
+    @Param
+    public Distribution distribution;
+
+    private String[] strings;
+    private String text;
+    private char[] chars;
+    private byte[] bytes;
+    private final ParsePosition pos = new ParsePosition(0);
+
+    @Setup
+    public void setup() {
+        long[] values = distribution.longValues();
+        strings = new String[values.length];
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            strings[i] = Long.toString(values[i]);
+            sb.append(strings[i]).append(' ');
+        }
+        text = sb.toString();
+        chars = text.toCharArray();
+        bytes = text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public void longParseLong(Blackhole bh) {
+        for (String string : strings)
+            bh.consume(Long.parseLong(string));
+    }
+
+    @Benchmark
+    public void parseLongCharSequence(Blackhole bh) {
+        pos.setIndex(0);
+        for (int i = 0; i < Distribution.SIZE; i++) {
+            bh.consume(IntInput.parseLong(text, pos));
+            pos.setIndex(pos.getIndex() + 1);
+        }
+    }
+
+    @Benchmark
+    public void parseLongCharArray(Blackhole bh) {
+        pos.setIndex(0);
+        for (int i = 0; i < Distribution.SIZE; i++) {
+            bh.consume(IntInput.parseLong(chars, pos));
+            pos.setIndex(pos.getIndex() + 1);
+        }
+    }
+
+    @Benchmark
+    public void parseLongByteArray(Blackhole bh) {
+        pos.setIndex(0);
+        for (int i = 0; i < Distribution.SIZE; i++) {
+            bh.consume(IntInput.parseLong(bytes, pos));
+            pos.setIndex(pos.getIndex() + 1);
+        }
+    }
+
+}
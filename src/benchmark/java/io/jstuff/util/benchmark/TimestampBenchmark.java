@@ -0,0 +1,117 @@
+/*
+ * @(#) TimestampBenchmark.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.benchmark;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.jstuff.util.CachedTimestampOutput;
+import io.jstuff.util.TimestampOutput;
+
+/**
+ * Benchmarks for the {@link TimestampOutput} and {@link CachedTimestampOutput} functions, compared with formatting
+ * a {@link ZonedDateTime}.  The times
+ * increase by a few milliseconds each, as in a log file, so that most conversions fall in the same second as the
+ * previous one.
+ *
+ * @author  Peter Wall
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(Distribution.SIZE)
+public class TimestampBenchmark {
+
+    private static final DateTimeFormatter formatter =
+            DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSXXXXX");
+
+    private long[] times;
+    private final StringBuilder sb = new StringBuilder(64);
+    private final char[] chars = new char[TimestampOutput.MAX_LENGTH];
+    private final CachedTimestampOutput cachedOutput = new CachedTimestampOutput(3600);
+
+    @Setup
+    public void setup() {
+        times = new long[Distribution.SIZE];
+        long time = 1700000000000L;
+        for (int i = 0; i < Distribution.SIZE; i++) {
+            time += (i * 7919) % 13;
+            times[i] = time;
+        }
+    }
+
+    @Benchmark
+    public void appendTimestamp(Blackhole bh) throws IOException {
+        for (long time : times) {
+            sb.setLength(0);
+            TimestampOutput.appendTimestamp(sb, time, 3600);
+            bh.consume(sb.length());
+        }
+    }
+
+    @Benchmark
+    public void appendTimestampCharArray(Blackhole bh) {
+        for (long time : times)
+            bh.consume(TimestampOutput.appendTimestamp(chars, 0, time, 3600));
+    }
+
+    @Benchmark
+    public void cachedTimestampCharArray(Blackhole bh) {
+        for (long time : times)
+            bh.consume(cachedOutput.appendTimestamp(chars, 0, time));
+    }
+
+    @Benchmark
+    public void zonedDateTimeFormat(Blackhole bh) {
+        ZoneOffset offset = ZoneOffset.ofHours(1);
+        for (long time : times) {
+            sb.setLength(0);
+            formatter.formatTo(ZonedDateTime.ofInstant(Instant.ofEpochMilli(time), offset), sb);
+            bh.consume(sb.length());
+        }
+    }
+
+}
@@ -0,0 +1,245 @@
+/*
+ * @(#) CachedTimestampOutput.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util;
+
+import java.io.IOException;
+
+/**
+ * An object to output ISO 8601 timestamps ({@code yyyy-MM-ddTHH:mm:ss.SSS} or {@code yyyy-MM-ddTHH:mm:ss.SSSSSS},
+ * followed by {@code Z} or an offset), with a fixed offset from UTC, to an {@link Appendable}, a {@code char} array or
+ * a {@code byte} array.
+ * <br>
+ * The {@code yyyy-MM-ddTHH:mm:ss} prefix for the most recent second is held in pre-encoded form, so that a call for a
+ * time within the same second need only copy the prefix and convert the milliseconds or microseconds.  The prefix is
+ * held in an immutable snapshot object, which is replaced (using a {@code volatile} field, without locking) when the
+ * second changes; an instance may therefore be shared by any number of threads.  If threads are outputting times from
+ * different seconds, the snapshot may be replaced more often than necessary, but the output will always be correct.
+ * <br>
+ * For an alternative that caches the prefix per thread, see {@link TimestampOutput}.
+ *
+ * @author  Peter Wall
+ */
+public class CachedTimestampOutput {
+
+    private final int offsetSeconds;
+    private final char[] suffixChars;
+    private final byte[] suffixBytes;
+    private final String suffixString;
+    private volatile Snapshot snapshot;
+
+    /**
+     * Construct a {@code CachedTimestampOutput} with the specified offset from UTC.
+     *
+     * @param   offsetSeconds   the offset from UTC in seconds
+     * @throws  IllegalArgumentException if the offset is out of range
+     */
+    public CachedTimestampOutput(int offsetSeconds) {
+        TimestampOutput.checkOffset(offsetSeconds);
+        this.offsetSeconds = offsetSeconds;
+        char[] chars = new char[9];
+        int length = TimestampOutput.appendOffset(chars, 0, offsetSeconds);
+        suffixChars = new char[length];
+        suffixBytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            suffixChars[i] = chars[i];
+            suffixBytes[i] = (byte)chars[i];
+        }
+        suffixString = new String(suffixChars);
+        snapshot = new Snapshot(0);
+    }
+
+    /**
+     * Construct a {@code CachedTimestampOutput} for UTC.
+     */
+    public CachedTimestampOutput() {
+        this(0);
+    }
+
+    /**
+     * Get the offset from UTC.
+     *
+     * @return          the offset from UTC in seconds
+     */
+    public int getOffsetSeconds() {
+        return offsetSeconds;
+    }
+
+    /**
+     * Append a timestamp with milliseconds to an {@link Appendable}.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   epochMillis the time in milliseconds since the epoch
+     * @throws  IOException if thrown by the {@link Appendable}
+     * @throws  IllegalArgumentException if the year is out of range
+     */
+    public void appendTimestamp(Appendable a, long epochMillis) throws IOException {
+        long localMillis = epochMillis + offsetSeconds * 1000L;
+        long second = Math.floorDiv(localMillis, 1000L);
+        a.append(snapshot(second).string);
+        a.append('.');
+        IntOutput.append3Digits(a, (int)(localMillis - second * 1000));
+        a.append(suffixString);
+    }
+
+    /**
+     * Append a timestamp with microseconds to an {@link Appendable}.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   epochMicros the time in microseconds since the epoch
+     * @throws  IOException if thrown by the {@link Appendable}
+     * @throws  IllegalArgumentException if the year is out of range
+     */
+    public void appendTimestampMicros(Appendable a, long epochMicros) throws IOException {
+        long localMicros = epochMicros + offsetSeconds * 1000000L;
+        long second = Math.floorDiv(localMicros, 1000000L);
+        int micros = (int)(localMicros - second * 1000000);
+        a.append(snapshot(second).string);
+        a.append('.');
+        int millis = micros / 1000;
+        IntOutput.append3Digits(a, millis);
+        IntOutput.append3Digits(a, micros - millis * 1000);
+        a.append(suffixString);
+    }
+
+    /**
+     * Append a timestamp with milliseconds to a {@code char} array.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   epochMillis the time in milliseconds since the epoch
+     * @return              the offset following the last character stored
+     * @throws  IllegalArgumentException if the year is out of range
+     */
+    public int appendTimestamp(char[] chars, int offset, long epochMillis) {
+        long localMillis = epochMillis + offsetSeconds * 1000L;
+        long second = Math.floorDiv(localMillis, 1000L);
+        System.arraycopy(snapshot(second).chars, 0, chars, offset, TimestampOutput.PREFIX_LENGTH);
+        offset += TimestampOutput.PREFIX_LENGTH;
+        chars[offset++] = '.';
+        offset = IntOutput.append3Digits(chars, offset, (int)(localMillis - second * 1000));
+        System.arraycopy(suffixChars, 0, chars, offset, suffixChars.length);
+        return offset + suffixChars.length;
+    }
+
+    /**
+     * Append a timestamp with microseconds to a {@code char} array.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   epochMicros the time in microseconds since the epoch
+     * @return              the offset following the last character stored
+     * @throws  IllegalArgumentException if the year is out of range
+     */
+    public int appendTimestampMicros(char[] chars, int offset, long epochMicros) {
+        long localMicros = epochMicros + offsetSeconds * 1000000L;
+        long second = Math.floorDiv(localMicros, 1000000L);
+        int micros = (int)(localMicros - second * 1000000);
+        System.arraycopy(snapshot(second).chars, 0, chars, offset, TimestampOutput.PREFIX_LENGTH);
+        offset += TimestampOutput.PREFIX_LENGTH;
+        chars[offset++] = '.';
+        int millis = micros / 1000;
+        offset = IntOutput.append3Digits(chars, offset, millis);
+        offset = IntOutput.append3Digits(chars, offset, micros - millis * 1000);
+        System.arraycopy(suffixChars, 0, chars, offset, suffixChars.length);
+        return offset + suffixChars.length;
+    }
+
+    /**
+     * Append a timestamp with milliseconds to a {@code byte} array as ASCII characters.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   epochMillis the time in milliseconds since the epoch
+     * @return              the offset following the last byte stored
+     * @throws  IllegalArgumentException if the year is out of range
+     */
+    public int appendTimestamp(byte[] bytes, int offset, long epochMillis) {
+        long localMillis = epochMillis + offsetSeconds * 1000L;
+        long second = Math.floorDiv(localMillis, 1000L);
+        System.arraycopy(snapshot(second).bytes, 0, bytes, offset, TimestampOutput.PREFIX_LENGTH);
+        offset += TimestampOutput.PREFIX_LENGTH;
+        bytes[offset++] = '.';
+        offset = IntOutput.append3Digits(bytes, offset, (int)(localMillis - second * 1000));
+        System.arraycopy(suffixBytes, 0, bytes, offset, suffixBytes.length);
+        return offset + suffixBytes.length;
+    }
+
+    /**
+     * Append a timestamp with microseconds to a {@code byte} array as ASCII characters.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   epochMicros the time in microseconds since the epoch
+     * @return              the offset following the last byte stored
+     * @throws  IllegalArgumentException if the year is out of range
+     */
+    public int appendTimestampMicros(byte[] bytes, int offset, long epochMicros) {
+        long localMicros = epochMicros + offsetSeconds * 1000000L;
+        long second = Math.floorDiv(localMicros, 1000000L);
+        int micros = (int)(localMicros - second * 1000000);
+        System.arraycopy(snapshot(second).bytes, 0, bytes, offset, TimestampOutput.PREFIX_LENGTH);
+        offset += TimestampOutput.PREFIX_LENGTH;
+        bytes[offset++] = '.';
+        int millis = micros / 1000;
+        offset = IntOutput.append3Digits(bytes, offset, millis);
+        offset = IntOutput.append3Digits(bytes, offset, micros - millis * 1000);
+        System.arraycopy(suffixBytes, 0, bytes, offset, suffixBytes.length);
+        return offset + suffixBytes.length;
+    }
+
+    private Snapshot snapshot(long second) {
+        Snapshot current = snapshot;
+        if (current.second == second)
+            return current;
+        Snapshot replacement = new Snapshot(second);
+        snapshot = replacement;
+        return replacement;
+    }
+
+    /**
+     * An immutable snapshot of the {@code yyyy-MM-ddTHH:mm:ss} prefix for a particular second (local to the offset), in
+     * {@code char}, {@code byte} and {@link String} form.
+     */
+    private static class Snapshot {
+
+        private final long second;
+        private final char[] chars;
+        private final byte[] bytes;
+        private final String string;
+
+        private Snapshot(long second) {
+            chars = new char[TimestampOutput.PREFIX_LENGTH];
+            TimestampOutput.storePrefix(chars, second);
+            bytes = new byte[TimestampOutput.PREFIX_LENGTH];
+            for (int i = 0; i < TimestampOutput.PREFIX_LENGTH; i++)
+                bytes[i] = (byte)chars[i];
+            string = new String(chars);
+            this.second = second;
+        }
+
+    }
+
+}
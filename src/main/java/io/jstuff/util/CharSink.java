@@ -0,0 +1,81 @@
+/*
+ * @(#) CharSink.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util;
+
+/**
+ * A destination for characters output by the {@code outputXxxx} functions of {@link IntOutput}.  Unlike
+ * {@link java.util.function.IntConsumer}, which is called once for each character, a {@code CharSink} may be called
+ * with a pair of characters or a group of digits, reducing the number of interface calls required to output a number.
+ * <br>
+ * Only {@link #put(char)} and {@link #put(CharSequence, int, int)} must be implemented; the default implementations of
+ * the other methods are expressed in terms of those two, but an implementation may override them to store the
+ * characters more efficiently.  (Because the interface has two abstract methods, it is not a functional interface, so
+ * a lambda passed to an {@code outputXxxx} function will always be taken as an
+ * {@link java.util.function.IntConsumer}.)
+ *
+ * @author  Peter Wall
+ */
+public interface CharSink {
+
+    /**
+     * Output a single character.
+     *
+     * @param   ch          the character
+     */
+    void put(char ch);
+
+    /**
+     * Output a range of characters from a {@link CharSequence}.
+     *
+     * @param   cs          the {@link CharSequence}
+     * @param   from        the index of the first character
+     * @param   to          the index after the last character
+     */
+    void put(CharSequence cs, int from, int to);
+
+    /**
+     * Output two characters.
+     *
+     * @param   ch1         the first character
+     * @param   ch2         the second character
+     */
+    default void put2(char ch1, char ch2) {
+        put(ch1);
+        put(ch2);
+    }
+
+    /**
+     * Output a non-negative {@code int} as the specified number of decimal digits, left-padded with zeros.  Note that
+     * there is no range check on the input value; the value must be less than 10 to the power of {@code count}.
+     *
+     * @param   value       the value
+     * @param   count       the number of digits
+     */
+    default void putDigits(int value, int count) {
+        IntOutput.outputDigits(value, count, this);
+    }
+
+}
@@ -0,0 +1,948 @@
+/*
+ * @(#) DoubleOutput.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.function.IntConsumer;
+
+/**
+ * Functions to output {@code double} and {@code float} values as the shortest decimal representation that will convert
+ * back to the same value, to an {@link Appendable}, an {@link IntConsumer}, a {@code char} array or a {@code byte}
+ * array.  The output is in the same form as {@link Double#toString(double)} and {@link Float#toString(float)} (as
+ * specified from Java 19 onwards): values from 10<sup>-3</sup> (inclusive) to 10<sup>7</sup> (exclusive) are output
+ * in plain decimal form with at least one digit after the decimal point, and other values in scientific notation
+ * ({@code 1.0E10}).
+ * <br>
+ * The conversion uses the Schubfach algorithm (Raffaello Giulietti, <i>The Schubfach way to render doubles</i>), which
+ * finds the shortest decimal in the rounding interval of the value using a table of 126-bit approximations of powers
+ * of ten.  The table is created on first use.  The digits are output using the functions of {@link IntOutput}, and
+ * no intermediate objects are created.
+ *
+ * @author  Peter Wall
+ */
+public class DoubleOutput {
+
+    private static final int DOUBLE_Q_MIN = -1074;
+    private static final long DOUBLE_C_MIN = 1L << 52;
+    private static final int DOUBLE_C_TINY = 3;
+    private static final int FLOAT_Q_MIN = -149;
+    private static final int FLOAT_C_MIN = 1 << 23;
+    private static final int FLOAT_C_TINY = 8;
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+    private static final long MASK_63 = 0x7FFFFFFFFFFFFFFFL;
+    private static final long MASK_32 = 0xFFFFFFFFL;
+    private static final int MAX_FIXED_DECIMALS = 18;
+
+    /**
+     * Append a {@code double} to an {@link Appendable}, using the shortest decimal representation that will convert
+     * back to the same value.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   d           the {@code double}
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendDouble(Appendable a, double d) throws IOException {
+        long bits = Double.doubleToRawLongBits(d);
+        if (Double.isNaN(d))
+            a.append("NaN");
+        else {
+            if (bits < 0)
+                a.append('-');
+            bits &= MASK_63;
+            if (bits == 0x7FF0000000000000L)
+                a.append("Infinity");
+            else if (bits == 0)
+                a.append("0.0");
+            else
+                appendDecimal(a, doubleSignificand(bits), doubleExponent(bits));
+        }
+    }
+
+    /**
+     * Append a {@code float} to an {@link Appendable}, using the shortest decimal representation that will convert
+     * back to the same value.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   f           the {@code float}
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendFloat(Appendable a, float f) throws IOException {
+        int bits = Float.floatToRawIntBits(f);
+        if (Float.isNaN(f))
+            a.append("NaN");
+        else {
+            if (bits < 0)
+                a.append('-');
+            bits &= 0x7FFFFFFF;
+            if (bits == 0x7F800000)
+                a.append("Infinity");
+            else if (bits == 0)
+                a.append("0.0");
+            else
+                appendDecimal(a, floatSignificand(bits), floatExponent(bits));
+        }
+    }
+
+    private static void appendDecimal(Appendable a, long f, int e) throws IOException {
+        while (f % 10 == 0) {
+            f /= 10;
+            e++;
+        }
+        int length = IntOutput.positiveLongLength(f);
+        int point = length + e;
+        if (point > 0 && point <= 7) {
+            if (e >= 0) {
+                IntOutput.appendPositiveLong(a, f);
+                for (; e > 0; e--)
+                    a.append('0');
+                a.append('.');
+                a.append('0');
+            }
+            else {
+                long p = IntOutput.longPowersOfTen[-e];
+                long integral = f / p;
+                IntOutput.appendPositiveLong(a, integral);
+                a.append('.');
+                IntOutput.appendNDigits(a, f - integral * p, -e);
+            }
+        }
+        else if (point > -3 && point <= 0) {
+            a.append('0');
+            a.append('.');
+            for (; point < 0; point++)
+                a.append('0');
+            IntOutput.appendPositiveLong(a, f);
+        }
+        else {
+            long p = IntOutput.longPowersOfTen[length - 1];
+            int first = (int)(f / p);
+            a.append(IntOutput.digits[first]);
+            a.append('.');
+            if (length == 1)
+                a.append('0');
+            else
+                IntOutput.appendNDigits(a, f - first * p, length - 1);
+            a.append('E');
+            IntOutput.appendInt(a, point - 1);
+        }
+    }
+
+    /**
+     * Output a {@code double} using an {@link IntConsumer}, using the shortest decimal representation that will
+     * convert back to the same value.
+     *
+     * @param   d           the {@code double}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputDouble(double d, IntConsumer consumer) {
+        long bits = Double.doubleToRawLongBits(d);
+        if (Double.isNaN(d))
+            outputString("NaN", consumer);
+        else {
+            if (bits < 0)
+                consumer.accept('-');
+            bits &= MASK_63;
+            if (bits == 0x7FF0000000000000L)
+                outputString("Infinity", consumer);
+            else if (bits == 0)
+                outputString("0.0", consumer);
+            else
+                outputDecimal(doubleSignificand(bits), doubleExponent(bits), consumer);
+        }
+    }
+
+    /**
+     * Output a {@code float} using an {@link IntConsumer}, using the shortest decimal representation that will
+     * convert back to the same value.
+     *
+     * @param   f           the {@code float}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputFloat(float f, IntConsumer consumer) {
+        int bits = Float.floatToRawIntBits(f);
+        if (Float.isNaN(f))
+            outputString("NaN", consumer);
+        else {
+            if (bits < 0)
+                consumer.accept('-');
+            bits &= 0x7FFFFFFF;
+            if (bits == 0x7F800000)
+                outputString("Infinity", consumer);
+            else if (bits == 0)
+                outputString("0.0", consumer);
+            else
+                outputDecimal(floatSignificand(bits), floatExponent(bits), consumer);
+        }
+    }
+
+    private static void outputDecimal(long f, int e, IntConsumer consumer) {
+        while (f % 10 == 0) {
+            f /= 10;
+            e++;
+        }
+        int length = IntOutput.positiveLongLength(f);
+        int point = length + e;
+        if (point > 0 && point <= 7) {
+            if (e >= 0) {
+                IntOutput.outputPositiveLong(f, consumer);
+                for (; e > 0; e--)
+                    consumer.accept('0');
+                consumer.accept('.');
+                consumer.accept('0');
+            }
+            else {
+                long p = IntOutput.longPowersOfTen[-e];
+                long integral = f / p;
+                IntOutput.outputPositiveLong(integral, consumer);
+                consumer.accept('.');
+                IntOutput.outputNDigits(f - integral * p, -e, consumer);
+            }
+        }
+        else if (point > -3 && point <= 0) {
+            consumer.accept('0');
+            consumer.accept('.');
+            for (; point < 0; point++)
+                consumer.accept('0');
+            IntOutput.outputPositiveLong(f, consumer);
+        }
+        else {
+            long p = IntOutput.longPowersOfTen[length - 1];
+            int first = (int)(f / p);
+            consumer.accept(IntOutput.digits[first]);
+            consumer.accept('.');
+            if (length == 1)
+                consumer.accept('0');
+            else
+                IntOutput.outputNDigits(f - first * p, length - 1, consumer);
+            consumer.accept('E');
+            IntOutput.outputInt(point - 1, consumer);
+        }
+    }
+
+    private static void outputString(String s, IntConsumer consumer) {
+        for (int i = 0, n = s.length(); i < n; i++)
+            consumer.accept(s.charAt(i));
+    }
+
+    /**
+     * Append a {@code double} to a {@code char} array, using the shortest decimal representation that will convert
+     * back to the same value.  The array must have sufficient space for the output (at most 24 characters).
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   d           the {@code double}
+     * @return              the offset following the last character stored
+     */
+    public static int appendDouble(char[] chars, int offset, double d) {
+        long bits = Double.doubleToRawLongBits(d);
+        if (Double.isNaN(d))
+            return appendString(chars, offset, "NaN");
+        if (bits < 0)
+            chars[offset++] = '-';
+        bits &= MASK_63;
+        if (bits == 0x7FF0000000000000L)
+            return appendString(chars, offset, "Infinity");
+        if (bits == 0)
+            return appendString(chars, offset, "0.0");
+        return appendDecimal(chars, offset, doubleSignificand(bits), doubleExponent(bits));
+    }
+
+    /**
+     * Append a {@code float} to a {@code char} array, using the shortest decimal representation that will convert
+     * back to the same value.  The array must have sufficient space for the output (at most 15 characters).
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   f           the {@code float}
+     * @return              the offset following the last character stored
+     */
+    public static int appendFloat(char[] chars, int offset, float f) {
+        int bits = Float.floatToRawIntBits(f);
+        if (Float.isNaN(f))
+            return appendString(chars, offset, "NaN");
+        if (bits < 0)
+            chars[offset++] = '-';
+        bits &= 0x7FFFFFFF;
+        if (bits == 0x7F800000)
+            return appendString(chars, offset, "Infinity");
+        if (bits == 0)
+            return appendString(chars, offset, "0.0");
+        return appendDecimal(chars, offset, floatSignificand(bits), floatExponent(bits));
+    }
+
+    private static int appendDecimal(char[] chars, int offset, long f, int e) {
+        while (f % 10 == 0) {
+            f /= 10;
+            e++;
+        }
+        int length = IntOutput.positiveLongLength(f);
+        int point = length + e;
+        if (point > 0 && point <= 7) {
+            if (e >= 0) {
+                offset = IntOutput.appendPositiveLong(chars, offset, f);
+                for (; e > 0; e--)
+                    chars[offset++] = '0';
+                chars[offset++] = '.';
+                chars[offset++] = '0';
+                return offset;
+            }
+            long p = IntOutput.longPowersOfTen[-e];
+            long integral = f / p;
+            offset = IntOutput.appendPositiveLong(chars, offset, integral);
+            chars[offset++] = '.';
+            return IntOutput.appendNDigits(chars, offset, f - integral * p, -e);
+        }
+        if (point > -3 && point <= 0) {
+            chars[offset++] = '0';
+            chars[offset++] = '.';
+            for (; point < 0; point++)
+                chars[offset++] = '0';
+            return IntOutput.appendPositiveLong(chars, offset, f);
+        }
+        long p = IntOutput.longPowersOfTen[length - 1];
+        int first = (int)(f / p);
+        chars[offset++] = IntOutput.digits[first];
+        chars[offset++] = '.';
+        if (length == 1)
+            chars[offset++] = '0';
+        else
+            offset = IntOutput.appendNDigits(chars, offset, f - first * p, length - 1);
+        chars[offset++] = 'E';
+        return IntOutput.appendInt(chars, offset, point - 1);
+    }
+
+    private static int appendString(char[] chars, int offset, String s) {
+        int n = s.length();
+        s.getChars(0, n, chars, offset);
+        return offset + n;
+    }
+
+    /**
+     * Append a {@code double} to a {@code byte} array as ASCII characters, using the shortest decimal representation
+     * that will convert back to the same value.  The array must have sufficient space for the output (at most 24
+     * bytes).
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   d           the {@code double}
+     * @return              the offset following the last byte stored
+     */
+    public static int appendDouble(byte[] bytes, int offset, double d) {
+        long bits = Double.doubleToRawLongBits(d);
+        if (Double.isNaN(d))
+            return appendString(bytes, offset, "NaN");
+        if (bits < 0)
+            bytes[offset++] = '-';
+        bits &= MASK_63;
+        if (bits == 0x7FF0000000000000L)
+            return appendString(bytes, offset, "Infinity");
+        if (bits == 0)
+            return appendString(bytes, offset, "0.0");
+        return appendDecimal(bytes, offset, doubleSignificand(bits), doubleExponent(bits));
+    }
+
+    /**
+     * Append a {@code float} to a {@code byte} array as ASCII characters, using the shortest decimal representation
+     * that will convert back to the same value.  The array must have sufficient space for the output (at most 15
+     * bytes).
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   f           the {@code float}
+     * @return              the offset following the last byte stored
+     */
+    public static int appendFloat(byte[] bytes, int offset, float f) {
+        int bits = Float.floatToRawIntBits(f);
+        if (Float.isNaN(f))
+            return appendString(bytes, offset, "NaN");
+        if (bits < 0)
+            bytes[offset++] = '-';
+        bits &= 0x7FFFFFFF;
+        if (bits == 0x7F800000)
+            return appendString(bytes, offset, "Infinity");
+        if (bits == 0)
+            return appendString(bytes, offset, "0.0");
+        return appendDecimal(bytes, offset, floatSignificand(bits), floatExponent(bits));
+    }
+
+    private static int appendDecimal(byte[] bytes, int offset, long f, int e) {
+        while (f % 10 == 0) {
+            f /= 10;
+            e++;
+        }
+        int length = IntOutput.positiveLongLength(f);
+        int point = length + e;
+        if (point > 0 && point <= 7) {
+            if (e >= 0) {
+                offset = IntOutput.appendPositiveLong(bytes, offset, f);
+                for (; e > 0; e--)
+                    bytes[offset++] = '0';
+                bytes[offset++] = '.';
+                bytes[offset++] = '0';
+                return offset;
+            }
+            long p = IntOutput.longPowersOfTen[-e];
+            long integral = f / p;
+            offset = IntOutput.appendPositiveLong(bytes, offset, integral);
+            bytes[offset++] = '.';
+            return IntOutput.appendNDigits(bytes, offset, f - integral * p, -e);
+        }
+        if (point > -3 && point <= 0) {
+            bytes[offset++] = '0';
+            bytes[offset++] = '.';
+            for (; point < 0; point++)
+                bytes[offset++] = '0';
+            return IntOutput.appendPositiveLong(bytes, offset, f);
+        }
+        long p = IntOutput.longPowersOfTen[length - 1];
+        int first = (int)(f / p);
+        bytes[offset++] = (byte)IntOutput.digits[first];
+        bytes[offset++] = '.';
+        if (length == 1)
+            bytes[offset++] = '0';
+        else
+            offset = IntOutput.appendNDigits(bytes, offset, f - first * p, length - 1);
+        bytes[offset++] = 'E';
+        return IntOutput.appendInt(bytes, offset, point - 1);
+    }
+
+    private static int appendString(byte[] bytes, int offset, String s) {
+        for (int i = 0, n = s.length(); i < n; i++)
+            bytes[offset++] = (byte)s.charAt(i);
+        return offset;
+    }
+
+    /**
+     * Append a {@code double} to an {@link Appendable} with a fixed number of decimal places, rounding the exact value
+     * of the {@code double} half-up.  This is the equivalent of {@code String.format("%.2f", d)} (for 2 decimal
+     * places), except that {@code String.format()} rounds the shortest decimal representation of the value, not the
+     * exact value, so for example {@code 1.005} (actually 1.00499999999999989...) is output as {@code 1.01} by
+     * {@code String.format()}, but as {@code 1.00} by this function.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   d           the {@code double}
+     * @param   decimals    the number of decimal places (0 to 18)
+     * @param   separator   the decimal separator character to use
+     * @throws  IOException if thrown by the {@link Appendable}
+     * @throws  IllegalArgumentException if the number of decimal places is out of range, or the value is too large
+     */
+    public static void appendDoubleFixed(Appendable a, double d, int decimals, char separator) throws IOException {
+        appendDoubleFixed(a, d, decimals, separator, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Append a {@code double} to an {@link Appendable} with a fixed number of decimal places, rounding the exact value
+     * of the {@code double} using the specified {@link RoundingMode}.  A negative value that rounds to zero is output
+     * with a minus sign, as with {@code String.format()}.
+     *
+     * @param   a               the {@link Appendable}
+     * @param   d               the {@code double}
+     * @param   decimals        the number of decimal places (0 to 18)
+     * @param   separator       the decimal separator character to use
+     * @param   roundingMode    the {@link RoundingMode}
+     * @throws  IOException if thrown by the {@link Appendable}
+     * @throws  IllegalArgumentException if the number of decimal places is out of range, or the value is too large
+     * @throws  ArithmeticException if the rounding mode is {@link RoundingMode#UNNECESSARY} and rounding is required
+     */
+    public static void appendDoubleFixed(Appendable a, double d, int decimals, char separator,
+            RoundingMode roundingMode) throws IOException {
+        checkDecimals(decimals);
+        long bits = Double.doubleToRawLongBits(d);
+        if (Double.isNaN(d))
+            a.append("NaN");
+        else {
+            if (bits < 0)
+                a.append('-');
+            if ((bits & MASK_63) == 0x7FF0000000000000L)
+                a.append("Infinity");
+            else
+                IntOutput.appendPositiveLongScaled(a, fixedDecimal(bits, decimals, roundingMode), decimals, separator);
+        }
+    }
+
+    /**
+     * Output a {@code double} using an {@link IntConsumer} with a fixed number of decimal places, rounding the exact
+     * value of the {@code double} half-up.
+     *
+     * @param   d           the {@code double}
+     * @param   decimals    the number of decimal places (0 to 18)
+     * @param   separator   the decimal separator character to use
+     * @param   consumer    the {@link IntConsumer}
+     * @throws  IllegalArgumentException if the number of decimal places is out of range, or the value is too large
+     */
+    public static void outputDoubleFixed(double d, int decimals, char separator, IntConsumer consumer) {
+        outputDoubleFixed(d, decimals, separator, RoundingMode.HALF_UP, consumer);
+    }
+
+    /**
+     * Output a {@code double} using an {@link IntConsumer} with a fixed number of decimal places, rounding the exact
+     * value of the {@code double} using the specified {@link RoundingMode}.
+     *
+     * @param   d               the {@code double}
+     * @param   decimals        the number of decimal places (0 to 18)
+     * @param   separator       the decimal separator character to use
+     * @param   roundingMode    the {@link RoundingMode}
+     * @param   consumer        the {@link IntConsumer}
+     * @throws  IllegalArgumentException if the number of decimal places is out of range, or the value is too large
+     * @throws  ArithmeticException if the rounding mode is {@link RoundingMode#UNNECESSARY} and rounding is required
+     */
+    public static void outputDoubleFixed(double d, int decimals, char separator, RoundingMode roundingMode,
+            IntConsumer consumer) {
+        checkDecimals(decimals);
+        long bits = Double.doubleToRawLongBits(d);
+        if (Double.isNaN(d))
+            outputString("NaN", consumer);
+        else {
+            if (bits < 0)
+                consumer.accept('-');
+            if ((bits & MASK_63) == 0x7FF0000000000000L)
+                outputString("Infinity", consumer);
+            else
+                IntOutput.outputPositiveLongScaled(fixedDecimal(bits, decimals, roundingMode), decimals, separator,
+                        consumer);
+        }
+    }
+
+    /**
+     * Append a {@code double} to a {@code char} array with a fixed number of decimal places, rounding the exact value
+     * of the {@code double} half-up.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   d           the {@code double}
+     * @param   decimals    the number of decimal places (0 to 18)
+     * @param   separator   the decimal separator character to use
+     * @return              the offset following the last character stored
+     * @throws  IllegalArgumentException if the number of decimal places is out of range, or the value is too large
+     */
+    public static int appendDoubleFixed(char[] chars, int offset, double d, int decimals, char separator) {
+        return appendDoubleFixed(chars, offset, d, decimals, separator, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Append a {@code double} to a {@code char} array with a fixed number of decimal places, rounding the exact value
+     * of the {@code double} using the specified {@link RoundingMode}.
+     *
+     * @param   chars           the {@code char} array
+     * @param   offset          the offset within the array at which to store the first character
+     * @param   d               the {@code double}
+     * @param   decimals        the number of decimal places (0 to 18)
+     * @param   separator       the decimal separator character to use
+     * @param   roundingMode    the {@link RoundingMode}
+     * @return                  the offset following the last character stored
+     * @throws  IllegalArgumentException if the number of decimal places is out of range, or the value is too large
+     * @throws  ArithmeticException if the rounding mode is {@link RoundingMode#UNNECESSARY} and rounding is required
+     */
+    public static int appendDoubleFixed(char[] chars, int offset, double d, int decimals, char separator,
+            RoundingMode roundingMode) {
+        checkDecimals(decimals);
+        long bits = Double.doubleToRawLongBits(d);
+        if (Double.isNaN(d))
+            return appendString(chars, offset, "NaN");
+        if (bits < 0)
+            chars[offset++] = '-';
+        if ((bits & MASK_63) == 0x7FF0000000000000L)
+            return appendString(chars, offset, "Infinity");
+        return IntOutput.appendPositiveLongScaled(chars, offset, fixedDecimal(bits, decimals, roundingMode), decimals,
+                separator);
+    }
+
+    /**
+     * Append a {@code double} to a {@code byte} array as ASCII characters with a fixed number of decimal places,
+     * rounding the exact value of the {@code double} half-up.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   d           the {@code double}
+     * @param   decimals    the number of decimal places (0 to 18)
+     * @param   separator   the decimal separator character to use
+     * @return              the offset following the last byte stored
+     * @throws  IllegalArgumentException if the number of decimal places is out of range, or the value is too large
+     */
+    public static int appendDoubleFixed(byte[] bytes, int offset, double d, int decimals, char separator) {
+        return appendDoubleFixed(bytes, offset, d, decimals, separator, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Append a {@code double} to a {@code byte} array as ASCII characters with a fixed number of decimal places,
+     * rounding the exact value of the {@code double} using the specified {@link RoundingMode}.
+     *
+     * @param   bytes           the {@code byte} array
+     * @param   offset          the offset within the array at which to store the first byte
+     * @param   d               the {@code double}
+     * @param   decimals        the number of decimal places (0 to 18)
+     * @param   separator       the decimal separator character to use
+     * @param   roundingMode    the {@link RoundingMode}
+     * @return                  the offset following the last byte stored
+     * @throws  IllegalArgumentException if the number of decimal places is out of range, or the value is too large
+     * @throws  ArithmeticException if the rounding mode is {@link RoundingMode#UNNECESSARY} and rounding is required
+     */
+    public static int appendDoubleFixed(byte[] bytes, int offset, double d, int decimals, char separator,
+            RoundingMode roundingMode) {
+        checkDecimals(decimals);
+        long bits = Double.doubleToRawLongBits(d);
+        if (Double.isNaN(d))
+            return appendString(bytes, offset, "NaN");
+        if (bits < 0)
+            bytes[offset++] = '-';
+        if ((bits & MASK_63) == 0x7FF0000000000000L)
+            return appendString(bytes, offset, "Infinity");
+        return IntOutput.appendPositiveLongScaled(bytes, offset, fixedDecimal(bits, decimals, roundingMode), decimals,
+                separator);
+    }
+
+    private static void checkDecimals(int decimals) {
+        if (decimals < 0 || decimals > MAX_FIXED_DECIMALS)
+            throw new IllegalArgumentException("Decimals out of range: " + decimals);
+    }
+
+    /**
+     * Get the value of a finite {@code double} (in bit form, with the sign bit in the top bit) multiplied by
+     * 10<sup>decimals</sup> and rounded to an integer.  The {@code double} is m &times; 2<sup>q</sup>, so the scaled
+     * value is m &times; 5<sup>decimals</sup> &times; 2<sup>q + decimals</sup>; the first part is calculated exactly
+     * as a 128-bit product (at most 95 bits), and the power of two is applied by shifting, with the bits shifted out
+     * used to determine the rounding.
+     */
+    private static long fixedDecimal(long bits, int decimals, RoundingMode roundingMode) {
+        boolean negative = bits < 0;
+        bits &= MASK_63;
+        long m = bits & (DOUBLE_C_MIN - 1);
+        int bq = (int)(bits >>> 52);
+        int q = DOUBLE_Q_MIN;
+        if (bq != 0) {
+            m |= DOUBLE_C_MIN;
+            q = bq - 1075;
+        }
+        long p5 = IntOutput.powersOfFive[decimals];
+        long lo = m * p5;
+        long hi = multiplyHigh(m, p5);
+        int shift = q + decimals;
+        if (shift >= 0) {
+            if (shift >= 63 || hi != 0 || lo >>> (63 - shift) != 0)
+                throw new IllegalArgumentException("Value too large for fixed output");
+            return lo << shift;
+        }
+        shift = -shift;
+        long result;
+        int half; // comparison of the bits shifted out with one half: -1, 0 or 1
+        boolean inexact;
+        if (shift < 64) {
+            if (hi >>> shift != 0)
+                throw new IllegalArgumentException("Value too large for fixed output");
+            result = hi << (64 - shift) | lo >>> shift;
+            long remainder = lo & ((1L << shift) - 1);
+            half = Long.compareUnsigned(remainder, 1L << (shift - 1));
+            inexact = remainder != 0;
+        }
+        else if (shift < 96) {
+            result = hi >>> (shift - 64);
+            long remainder = hi & ((1L << (shift - 64)) - 1);
+            if (shift == 64)
+                half = Long.compareUnsigned(lo, Long.MIN_VALUE);
+            else {
+                half = Long.compare(remainder, 1L << (shift - 65));
+                if (half == 0 && lo != 0)
+                    half = 1;
+            }
+            inexact = (remainder | lo) != 0;
+        }
+        else { // the product is less than 2^95, so less than one half
+            result = 0;
+            half = -1;
+            inexact = (hi | lo) != 0;
+        }
+        if (result < 0)
+            throw new IllegalArgumentException("Value too large for fixed output");
+        if (inexact && roundUp(roundingMode, negative, result, half)) {
+            if (result == Long.MAX_VALUE)
+                throw new IllegalArgumentException("Value too large for fixed output");
+            result++;
+        }
+        return result;
+    }
+
+    private static boolean roundUp(RoundingMode roundingMode, boolean negative, long result, int half) {
+        switch (roundingMode) {
+        case UP:
+            return true;
+        case DOWN:
+            return false;
+        case CEILING:
+            return !negative;
+        case FLOOR:
+            return negative;
+        case HALF_UP:
+            return half >= 0;
+        case HALF_DOWN:
+            return half > 0;
+        case HALF_EVEN:
+            return half > 0 || half == 0 && (result & 1) != 0;
+        default:
+            throw new ArithmeticException("Rounding necessary");
+        }
+    }
+
+    /**
+     * Get the decimal significand of a finite, non-zero, positive {@code double} (in bit form).  The significand is
+     * the shortest (and of those, the closest) in the rounding interval of the value, possibly with trailing zeros; the
+     * corresponding power of ten is given by {@link #doubleExponent(long)}.
+     */
+    private static long doubleSignificand(long bits) {
+        long t = bits & (DOUBLE_C_MIN - 1);
+        int bq = (int)(bits >>> 52);
+        if (bq != 0) {
+            int mq = -DOUBLE_Q_MIN + 1 - bq;
+            long c = DOUBLE_C_MIN | t;
+            if (mq > 0 && mq < 53) { // fast path for integer values
+                long f = c >> mq;
+                if (f << mq == c)
+                    return f;
+            }
+            return doubleToDecimal(-mq, c);
+        }
+        return t < DOUBLE_C_TINY ? doubleToDecimal(DOUBLE_Q_MIN, 10 * t) : doubleToDecimal(DOUBLE_Q_MIN, t);
+    }
+
+    /**
+     * Get the decimal exponent corresponding to the significand returned by {@link #doubleSignificand(long)}.
+     */
+    private static int doubleExponent(long bits) {
+        long t = bits & (DOUBLE_C_MIN - 1);
+        int bq = (int)(bits >>> 52);
+        if (bq != 0) {
+            int mq = -DOUBLE_Q_MIN + 1 - bq;
+            long c = DOUBLE_C_MIN | t;
+            if (mq > 0 && mq < 53 && (c >> mq) << mq == c)
+                return 0;
+            return c != DOUBLE_C_MIN ? flog10pow2(-mq) : flog10threeQuartersPow2(-mq);
+        }
+        return t < DOUBLE_C_TINY ? flog10pow2(DOUBLE_Q_MIN) - 1 : flog10pow2(DOUBLE_Q_MIN);
+    }
+
+    private static long doubleToDecimal(int q, long c) {
+        int out = (int)c & 1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != DOUBLE_C_MIN || q == DOUBLE_Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        }
+        else { // the interval is asymmetric when c is at a power of 2
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+        long g1 = Table.g1(k);
+        long g0 = Table.g0(k);
+        long vb = rop(g1, g0, cb << h);
+        long vbl = rop(g1, g0, cbl << h);
+        long vbr = rop(g1, g0, cbr << h);
+        long s = vb >> 2;
+        if (s >= 100) { // try for one digit fewer
+            long sp10 = s / 10 * 10;
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin)
+                return upin ? sp10 : tp10;
+        }
+        long t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win)
+            return uin ? s : t;
+        long cmp = vb - (s + t << 1);
+        return cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t;
+    }
+
+    private static long rop(long g1, long g0, long cp) {
+        long x1 = multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | (z & MASK_63) + MASK_63 >>> 63;
+    }
+
+    /**
+     * Get the decimal significand of a finite, non-zero, positive {@code float} (in bit form).
+     */
+    private static long floatSignificand(int bits) {
+        int t = bits & (FLOAT_C_MIN - 1);
+        int bq = bits >>> 23;
+        if (bq != 0) {
+            int mq = -FLOAT_Q_MIN + 1 - bq;
+            int c = FLOAT_C_MIN | t;
+            if (mq > 0 && mq < 24) { // fast path for integer values
+                int f = c >> mq;
+                if (f << mq == c)
+                    return f;
+            }
+            return floatToDecimal(-mq, c);
+        }
+        return t < FLOAT_C_TINY ? floatToDecimal(FLOAT_Q_MIN, 10 * t) : floatToDecimal(FLOAT_Q_MIN, t);
+    }
+
+    /**
+     * Get the decimal exponent corresponding to the significand returned by {@link #floatSignificand(int)}.
+     */
+    private static int floatExponent(int bits) {
+        int t = bits & (FLOAT_C_MIN - 1);
+        int bq = bits >>> 23;
+        if (bq != 0) {
+            int mq = -FLOAT_Q_MIN + 1 - bq;
+            int c = FLOAT_C_MIN | t;
+            if (mq > 0 && mq < 24 && (c >> mq) << mq == c)
+                return 0;
+            return c != FLOAT_C_MIN ? flog10pow2(-mq) : flog10threeQuartersPow2(-mq);
+        }
+        return t < FLOAT_C_TINY ? flog10pow2(FLOAT_Q_MIN) - 1 : flog10pow2(FLOAT_Q_MIN);
+    }
+
+    private static long floatToDecimal(int q, int c) {
+        int out = c & 1;
+        long cb = (long)c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != FLOAT_C_MIN || q == FLOAT_Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        }
+        else { // the interval is asymmetric when c is at a power of 2
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 33;
+        long g = Table.g1(k) + 1;
+        int vb = rop(g, cb << h);
+        int vbl = rop(g, cbl << h);
+        int vbr = rop(g, cbr << h);
+        int s = vb >> 2;
+        if (s >= 100) { // try for one digit fewer
+            int sp10 = s / 10 * 10;
+            int tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin)
+                return upin ? sp10 : tp10;
+        }
+        int t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win)
+            return uin ? s : t;
+        int cmp = vb - (s + t << 1);
+        return cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t;
+    }
+
+    private static int rop(long g, long cp) {
+        long x1 = multiplyHigh(g, cp);
+        long vbp = x1 >>> 31;
+        return (int)(vbp | (x1 & MASK_32) + MASK_32 >>> 32);
+    }
+
+    /**
+     * Returns floor(log<sub>10</sub>(2<sup>e</sup>)).
+     */
+    private static int flog10pow2(int e) {
+        return (int)(e * 661971961083L >> 41);
+    }
+
+    /**
+     * Returns floor(log<sub>10</sub>(3/4 &times; 2<sup>e</sup>)).
+     */
+    private static int flog10threeQuartersPow2(int e) {
+        return (int)(e * 661971961083L - 274743187321L >> 41);
+    }
+
+    /**
+     * Returns floor(log<sub>2</sub>(10<sup>e</sup>)).
+     */
+    private static int flog2pow10(int e) {
+        return (int)(e * 913124641741L >> 38);
+    }
+
+    /**
+     * Returns the high 64 bits of the 128-bit product of two {@code long} values (equivalent to
+     * {@code Math.multiplyHigh}, which is not available in Java 8).
+     */
+    private static long multiplyHigh(long x, long y) {
+        long x1 = x >> 32;
+        long x2 = x & 0xFFFFFFFFL;
+        long y1 = y >> 32;
+        long y2 = y & 0xFFFFFFFFL;
+        long z2 = x2 * y2;
+        long t = x1 * y2 + (z2 >>> 32);
+        long z1 = (t & 0xFFFFFFFFL) + x2 * y1;
+        long z0 = t >> 32;
+        return x1 * y1 + z0 + (z1 >> 32);
+    }
+
+    /**
+     * The table of powers of ten, created on first use.  For each k, 10<sup>-k</sup> = &beta; &times; 2<sup>r</sup>
+     * with 2<sup>125</sup> &le; &beta; &lt; 2<sup>126</sup>, and g = floor(&beta;) + 1 is stored as its high and low
+     * 63 bits.
+     */
+    private static class Table {
+
+        private static final long[] g = new long[(K_MAX - K_MIN + 1) * 2];
+
+        static {
+            BigInteger mask63 = BigInteger.valueOf(MASK_63);
+            for (int k = K_MIN; k <= K_MAX; k++) {
+                int e = -k;
+                int r = flog2pow10(e) - 125;
+                BigInteger beta;
+                if (e >= 0) {
+                    BigInteger pow10 = BigInteger.TEN.pow(e);
+                    beta = r >= 0 ? pow10.shiftRight(r) : pow10.shiftLeft(-r);
+                }
+                else
+                    beta = BigInteger.ONE.shiftLeft(-r).divide(BigInteger.TEN.pow(-e));
+                BigInteger value = beta.add(BigInteger.ONE);
+                int index = (k - K_MIN) * 2;
+                g[index] = value.shiftRight(63).longValue();
+                g[index + 1] = value.and(mask63).longValue();
+            }
+        }
+
+        private static long g1(int k) {
+            return g[(k - K_MIN) * 2];
+        }
+
+        private static long g0(int k) {
+            return g[(k - K_MIN) * 2 + 1];
+        }
+
+    }
+
+}
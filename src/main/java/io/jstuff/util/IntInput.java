@@ -0,0 +1,1475 @@
+/*
+ * @(#) IntInput.java
+ *
+ * int-output  Integer output functions Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.jstuff.util;
+
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.text.ParsePosition;
+
+/**
+ * A set of static functions to parse integer values in the forms output by {@link IntOutput}, from a
+ * {@link CharSequence}, a {@code char} array, a {@code byte} array or a {@link ByteBuffer}.  The functions do not
+ * allocate any objects, other than an exception in the case of invalid input.
+ * <br>
+ * Most of the functions parse a number starting at a given offset, and report the offset following the number (in a
+ * {@link ParsePosition}, or in the case of a {@link ByteBuffer}, in the buffer position); characters following the
+ * number are not examined, allowing the functions to be used to parse numbers embedded in a larger text.  A
+ * {@link NumberFormatException} is thrown if there are no digits at the offset, or if the value is out of range for the
+ * result type.
+ *
+ * @author  Peter Wall
+ */
+public class IntInput {
+
+    private static final long MAX_UNSIGNED_DIV_10 = 0x1999999999999999L; // (2 ^ 64 - 1) / 10
+    private static final long MAX_UNSIGNED_DIV_10_8 = 184467440737L; // (2 ^ 64 - 1) / 10 ^ 8
+
+    /**
+     * Parse an {@code int} from a {@link CharSequence}, starting at the index in the {@link ParsePosition}.  The input
+     * is expected to consist of an optional minus sign followed by decimal digits.  On return, the index in the
+     * {@link ParsePosition} is set to the offset following the last character of the number.
+     *
+     * @param   cs          the {@link CharSequence}
+     * @param   pos         the {@link ParsePosition}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static int parseInt(CharSequence cs, ParsePosition pos) {
+        int start = pos.getIndex();
+        return toInt(parseDecimal(cs, start, cs.length(), pos), start);
+    }
+
+    /**
+     * Parse a {@code long} from a {@link CharSequence}, starting at the index in the {@link ParsePosition}.  The input
+     * is expected to consist of an optional minus sign followed by decimal digits.  On return, the index in the
+     * {@link ParsePosition} is set to the offset following the last character of the number.
+     *
+     * @param   cs          the {@link CharSequence}
+     * @param   pos         the {@link ParsePosition}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static long parseLong(CharSequence cs, ParsePosition pos) {
+        return parseDecimal(cs, pos.getIndex(), cs.length(), pos);
+    }
+
+    /**
+     * Parse an unsigned {@code int} from a {@link CharSequence}, starting at the index in the {@link ParsePosition}.
+     * The input is expected to consist of decimal digits.  On return, the index in the {@link ParsePosition} is set to
+     * the offset following the last character of the number.
+     *
+     * @param   cs          the {@link CharSequence}
+     * @param   pos         the {@link ParsePosition}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static int parseUnsignedInt(CharSequence cs, ParsePosition pos) {
+        int start = pos.getIndex();
+        return toUnsignedInt(parseUnsignedDecimal(cs, start, cs.length(), pos), start);
+    }
+
+    /**
+     * Parse an unsigned {@code long} from a {@link CharSequence}, starting at the index in the {@link ParsePosition}.
+     * The input is expected to consist of decimal digits.  On return, the index in the {@link ParsePosition} is set to
+     * the offset following the last character of the number.
+     *
+     * @param   cs          the {@link CharSequence}
+     * @param   pos         the {@link ParsePosition}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static long parseUnsignedLong(CharSequence cs, ParsePosition pos) {
+        return parseUnsignedDecimal(cs, pos.getIndex(), cs.length(), pos);
+    }
+
+    /**
+     * Parse an {@code int} with decimal places from a {@link CharSequence}, starting at the index in the
+     * {@link ParsePosition}.  The input is expected to consist of an optional minus sign followed by decimal digits,
+     * optionally followed by the separator and up to {@code scale} decimal digits (the result is the number multiplied
+     * by 10 to the power of {@code scale}).  On return, the index in the {@link ParsePosition} is set to the offset
+     * following the last character of the number.
+     *
+     * @param   cs          the {@link CharSequence}
+     * @param   pos         the {@link ParsePosition}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static int parseIntScaled(CharSequence cs, ParsePosition pos, int scale, char separator) {
+        int start = pos.getIndex();
+        return toInt(parseScaled(cs, start, cs.length(), pos, scale, separator), start);
+    }
+
+    /**
+     * Parse a {@code long} with decimal places from a {@link CharSequence}, starting at the index in the
+     * {@link ParsePosition}.  The input is expected to consist of an optional minus sign followed by decimal digits,
+     * optionally followed by the separator and up to {@code scale} decimal digits (the result is the number multiplied
+     * by 10 to the power of {@code scale}).  On return, the index in the {@link ParsePosition} is set to the offset
+     * following the last character of the number.
+     *
+     * @param   cs          the {@link CharSequence}
+     * @param   pos         the {@link ParsePosition}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static long parseLongScaled(CharSequence cs, ParsePosition pos, int scale, char separator) {
+        return parseScaled(cs, pos.getIndex(), cs.length(), pos, scale, separator);
+    }
+
+    /**
+     * Parse an {@code int} with digits grouped in 3s from a {@link CharSequence}, starting at the index in the
+     * {@link ParsePosition}.  The input is expected to consist of an optional minus sign followed by 1 to 3 decimal
+     * digits, followed by any number of groups of the grouping character and 3 digits.  On return, the index in the
+     * {@link ParsePosition} is set to the offset following the last character of the number.
+     *
+     * @param   cs              the {@link CharSequence}
+     * @param   pos             the {@link ParsePosition}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static int parseIntGrouped(CharSequence cs, ParsePosition pos, char groupingChar) {
+        int start = pos.getIndex();
+        return toInt(parseGrouped(cs, start, cs.length(), pos, groupingChar), start);
+    }
+
+    /**
+     * Parse a {@code long} with digits grouped in 3s from a {@link CharSequence}, starting at the index in the
+     * {@link ParsePosition}.  The input is expected to consist of an optional minus sign followed by 1 to 3 decimal
+     * digits, followed by any number of groups of the grouping character and 3 digits.  On return, the index in the
+     * {@link ParsePosition} is set to the offset following the last character of the number.
+     *
+     * @param   cs              the {@link CharSequence}
+     * @param   pos             the {@link ParsePosition}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static long parseLongGrouped(CharSequence cs, ParsePosition pos, char groupingChar) {
+        return parseGrouped(cs, pos.getIndex(), cs.length(), pos, groupingChar);
+    }
+
+    /**
+     * Parse an {@code int} in hexadecimal from a {@link CharSequence}, starting at the index in the
+     * {@link ParsePosition}.  The input is expected to consist of hexadecimal digits (upper or lower case).  On return,
+     * the index in the {@link ParsePosition} is set to the offset following the last character of the number.
+     *
+     * @param   cs          the {@link CharSequence}
+     * @param   pos         the {@link ParsePosition}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static int parseIntHex(CharSequence cs, ParsePosition pos) {
+        return (int)parseHex(cs, pos.getIndex(), cs.length(), pos, 32);
+    }
+
+    /**
+     * Parse a {@code long} in hexadecimal from a {@link CharSequence}, starting at the index in the
+     * {@link ParsePosition}.  The input is expected to consist of hexadecimal digits (upper or lower case).  On return,
+     * the index in the {@link ParsePosition} is set to the offset following the last character of the number.
+     *
+     * @param   cs          the {@link CharSequence}
+     * @param   pos         the {@link ParsePosition}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static long parseLongHex(CharSequence cs, ParsePosition pos) {
+        return parseHex(cs, pos.getIndex(), cs.length(), pos, 64);
+    }
+
+    /**
+     * Parse an {@code int} from a {@link CharSequence}, from the start offset to the end offset.  The characters in the
+     * range must consist of an optional minus sign followed by decimal digits.
+     *
+     * @param   cs          the {@link CharSequence}
+     * @param   start       the start offset
+     * @param   end         the end offset
+     * @return              the value
+     * @throws  NumberFormatException if the range does not contain a valid number
+     */
+    public static int parseInt(CharSequence cs, int start, int end) {
+        return toInt(parseDecimal(cs, start, end, null), start);
+    }
+
+    /**
+     * Parse a {@code long} from a {@link CharSequence}, from the start offset to the end offset.  The characters in the
+     * range must consist of an optional minus sign followed by decimal digits.
+     *
+     * @param   cs          the {@link CharSequence}
+     * @param   start       the start offset
+     * @param   end         the end offset
+     * @return              the value
+     * @throws  NumberFormatException if the range does not contain a valid number
+     */
+    public static long parseLong(CharSequence cs, int start, int end) {
+        return parseDecimal(cs, start, end, null);
+    }
+
+    private static long parseDecimal(CharSequence cs, int start, int limit, ParsePosition pos) {
+        int k = start;
+        boolean negative = false;
+        if (k < limit && cs.charAt(k) == '-') {
+            negative = true;
+            k++;
+        }
+        int digitsStart = k;
+        long result = 0; // accumulated as a negative number, to allow for Long.MIN_VALUE
+        long min = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        while (k < limit) {
+            int digit = cs.charAt(k) - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            result = accumulate(result, digit, min, k);
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        setEnd(pos, k, limit);
+        return negative ? result : -result;
+    }
+
+    private static long parseUnsignedDecimal(CharSequence cs, int start, int limit, ParsePosition pos) {
+        int k = start;
+        int digitsStart = k;
+        long result = 0;
+        while (k < limit) {
+            int digit = cs.charAt(k) - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            if (Long.compareUnsigned(result, MAX_UNSIGNED_DIV_10) > 0)
+                throw outOfRange(k);
+            result = result * 10 + digit;
+            if (Long.compareUnsigned(result, digit) < 0)
+                throw outOfRange(k);
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        setEnd(pos, k, limit);
+        return result;
+    }
+
+    private static long parseScaled(CharSequence cs, int start, int limit, ParsePosition pos,
+            int scale, char separator) {
+        int k = start;
+        boolean negative = false;
+        if (k < limit && cs.charAt(k) == '-') {
+            negative = true;
+            k++;
+        }
+        int digitsStart = k;
+        long result = 0;
+        long min = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        while (k < limit) {
+            int digit = cs.charAt(k) - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            result = accumulate(result, digit, min, k);
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        int decimals = 0;
+        if (scale > 0 && k + 1 < limit && cs.charAt(k) == separator && isDigit(cs.charAt(k + 1))) {
+            k++;
+            while (k < limit) {
+                int digit = cs.charAt(k) - '0';
+                if (digit < 0 || digit > 9)
+                    break;
+                if (++decimals > scale)
+                    throw new NumberFormatException("Too many decimal places at offset " + k);
+                result = accumulate(result, digit, min, k);
+                k++;
+            }
+        }
+        for (; decimals < scale; decimals++)
+            result = accumulate(result, 0, min, k);
+        setEnd(pos, k, limit);
+        return negative ? result : -result;
+    }
+
+    private static long parseGrouped(CharSequence cs, int start, int limit, ParsePosition pos, char groupingChar) {
+        int k = start;
+        boolean negative = false;
+        if (k < limit && cs.charAt(k) == '-') {
+            negative = true;
+            k++;
+        }
+        int digitsStart = k;
+        long result = 0;
+        long min = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        while (k < limit) {
+            int digit = cs.charAt(k) - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            if (k - digitsStart == 3)
+                throw badGroup(k);
+            result = accumulate(result, digit, min, k);
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        while (k + 3 < limit && cs.charAt(k) == groupingChar && isDigit(cs.charAt(k + 1)) &&
+                isDigit(cs.charAt(k + 2)) && isDigit(cs.charAt(k + 3))) {
+            result = accumulate(result, cs.charAt(k + 1) - '0', min, k + 1);
+            result = accumulate(result, cs.charAt(k + 2) - '0', min, k + 2);
+            result = accumulate(result, cs.charAt(k + 3) - '0', min, k + 3);
+            k += 4;
+            if (k < limit && isDigit(cs.charAt(k)))
+                throw badGroup(k);
+        }
+        setEnd(pos, k, limit);
+        return negative ? result : -result;
+    }
+
+    private static long parseHex(CharSequence cs, int start, int limit, ParsePosition pos, int bits) {
+        int k = start;
+        int digitsStart = k;
+        long result = 0;
+        while (k < limit) {
+            int digit = hexValue(cs.charAt(k));
+            if (digit < 0)
+                break;
+            if ((result >>> (bits - 4)) != 0)
+                throw outOfRange(k);
+            result = (result << 4) | digit;
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        setEnd(pos, k, limit);
+        return result;
+    }
+
+    /**
+     * Parse an {@code int} from a {@code char} array, starting at the index in the {@link ParsePosition}.  The input is
+     * expected to consist of an optional minus sign followed by decimal digits.  On return, the index in the
+     * {@link ParsePosition} is set to the offset following the last character of the number.
+     *
+     * @param   chars       the {@code char} array
+     * @param   pos         the {@link ParsePosition}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static int parseInt(char[] chars, ParsePosition pos) {
+        int start = pos.getIndex();
+        return toInt(parseDecimal(chars, start, chars.length, pos), start);
+    }
+
+    /**
+     * Parse a {@code long} from a {@code char} array, starting at the index in the {@link ParsePosition}.  The input is
+     * expected to consist of an optional minus sign followed by decimal digits.  On return, the index in the
+     * {@link ParsePosition} is set to the offset following the last character of the number.
+     *
+     * @param   chars       the {@code char} array
+     * @param   pos         the {@link ParsePosition}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static long parseLong(char[] chars, ParsePosition pos) {
+        return parseDecimal(chars, pos.getIndex(), chars.length, pos);
+    }
+
+    /**
+     * Parse an unsigned {@code int} from a {@code char} array, starting at the index in the {@link ParsePosition}.  The
+     * input is expected to consist of decimal digits.  On return, the index in the {@link ParsePosition} is set to the
+     * offset following the last character of the number.
+     *
+     * @param   chars       the {@code char} array
+     * @param   pos         the {@link ParsePosition}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static int parseUnsignedInt(char[] chars, ParsePosition pos) {
+        int start = pos.getIndex();
+        return toUnsignedInt(parseUnsignedDecimal(chars, start, chars.length, pos), start);
+    }
+
+    /**
+     * Parse an unsigned {@code long} from a {@code char} array, starting at the index in the {@link ParsePosition}.
+     * The input is expected to consist of decimal digits.  On return, the index in the {@link ParsePosition} is set to
+     * the offset following the last character of the number.
+     *
+     * @param   chars       the {@code char} array
+     * @param   pos         the {@link ParsePosition}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static long parseUnsignedLong(char[] chars, ParsePosition pos) {
+        return parseUnsignedDecimal(chars, pos.getIndex(), chars.length, pos);
+    }
+
+    /**
+     * Parse an {@code int} with decimal places from a {@code char} array, starting at the index in the
+     * {@link ParsePosition}.  The input is expected to consist of an optional minus sign followed by decimal digits,
+     * optionally followed by the separator and up to {@code scale} decimal digits (the result is the number multiplied
+     * by 10 to the power of {@code scale}).  On return, the index in the {@link ParsePosition} is set to the offset
+     * following the last character of the number.
+     *
+     * @param   chars       the {@code char} array
+     * @param   pos         the {@link ParsePosition}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static int parseIntScaled(char[] chars, ParsePosition pos, int scale, char separator) {
+        int start = pos.getIndex();
+        return toInt(parseScaled(chars, start, chars.length, pos, scale, separator), start);
+    }
+
+    /**
+     * Parse a {@code long} with decimal places from a {@code char} array, starting at the index in the
+     * {@link ParsePosition}.  The input is expected to consist of an optional minus sign followed by decimal digits,
+     * optionally followed by the separator and up to {@code scale} decimal digits (the result is the number multiplied
+     * by 10 to the power of {@code scale}).  On return, the index in the {@link ParsePosition} is set to the offset
+     * following the last character of the number.
+     *
+     * @param   chars       the {@code char} array
+     * @param   pos         the {@link ParsePosition}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static long parseLongScaled(char[] chars, ParsePosition pos, int scale, char separator) {
+        return parseScaled(chars, pos.getIndex(), chars.length, pos, scale, separator);
+    }
+
+    /**
+     * Parse an {@code int} with digits grouped in 3s from a {@code char} array, starting at the index in the
+     * {@link ParsePosition}.  The input is expected to consist of an optional minus sign followed by 1 to 3 decimal
+     * digits, followed by any number of groups of the grouping character and 3 digits.  On return, the index in the
+     * {@link ParsePosition} is set to the offset following the last character of the number.
+     *
+     * @param   chars           the {@code char} array
+     * @param   pos             the {@link ParsePosition}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static int parseIntGrouped(char[] chars, ParsePosition pos, char groupingChar) {
+        int start = pos.getIndex();
+        return toInt(parseGrouped(chars, start, chars.length, pos, groupingChar), start);
+    }
+
+    /**
+     * Parse a {@code long} with digits grouped in 3s from a {@code char} array, starting at the index in the
+     * {@link ParsePosition}.  The input is expected to consist of an optional minus sign followed by 1 to 3 decimal
+     * digits, followed by any number of groups of the grouping character and 3 digits.  On return, the index in the
+     * {@link ParsePosition} is set to the offset following the last character of the number.
+     *
+     * @param   chars           the {@code char} array
+     * @param   pos             the {@link ParsePosition}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static long parseLongGrouped(char[] chars, ParsePosition pos, char groupingChar) {
+        return parseGrouped(chars, pos.getIndex(), chars.length, pos, groupingChar);
+    }
+
+    /**
+     * Parse an {@code int} in hexadecimal from a {@code char} array, starting at the index in the
+     * {@link ParsePosition}.  The input is expected to consist of hexadecimal digits (upper or lower case).  On return,
+     * the index in the {@link ParsePosition} is set to the offset following the last character of the number.
+     *
+     * @param   chars       the {@code char} array
+     * @param   pos         the {@link ParsePosition}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static int parseIntHex(char[] chars, ParsePosition pos) {
+        return (int)parseHex(chars, pos.getIndex(), chars.length, pos, 32);
+    }
+
+    /**
+     * Parse a {@code long} in hexadecimal from a {@code char} array, starting at the index in the
+     * {@link ParsePosition}.  The input is expected to consist of hexadecimal digits (upper or lower case).  On return,
+     * the index in the {@link ParsePosition} is set to the offset following the last character of the number.
+     *
+     * @param   chars       the {@code char} array
+     * @param   pos         the {@link ParsePosition}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static long parseLongHex(char[] chars, ParsePosition pos) {
+        return parseHex(chars, pos.getIndex(), chars.length, pos, 64);
+    }
+
+    /**
+     * Parse an {@code int} from a {@code char} array, from the start offset to the end offset.  The characters in the
+     * range must consist of an optional minus sign followed by decimal digits.
+     *
+     * @param   chars       the {@code char} array
+     * @param   start       the start offset
+     * @param   end         the end offset
+     * @return              the value
+     * @throws  NumberFormatException if the range does not contain a valid number
+     */
+    public static int parseInt(char[] chars, int start, int end) {
+        return toInt(parseDecimal(chars, start, end, null), start);
+    }
+
+    /**
+     * Parse a {@code long} from a {@code char} array, from the start offset to the end offset.  The characters in the
+     * range must consist of an optional minus sign followed by decimal digits.
+     *
+     * @param   chars       the {@code char} array
+     * @param   start       the start offset
+     * @param   end         the end offset
+     * @return              the value
+     * @throws  NumberFormatException if the range does not contain a valid number
+     */
+    public static long parseLong(char[] chars, int start, int end) {
+        return parseDecimal(chars, start, end, null);
+    }
+
+    private static long parseDecimal(char[] chars, int start, int limit, ParsePosition pos) {
+        int k = start;
+        boolean negative = false;
+        if (k < limit && chars[k] == '-') {
+            negative = true;
+            k++;
+        }
+        int digitsStart = k;
+        long result = 0; // accumulated as a negative number, to allow for Long.MIN_VALUE
+        long min = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        while (k < limit) {
+            int digit = chars[k] - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            result = accumulate(result, digit, min, k);
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        setEnd(pos, k, limit);
+        return negative ? result : -result;
+    }
+
+    private static long parseUnsignedDecimal(char[] chars, int start, int limit, ParsePosition pos) {
+        int k = start;
+        int digitsStart = k;
+        long result = 0;
+        while (k < limit) {
+            int digit = chars[k] - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            if (Long.compareUnsigned(result, MAX_UNSIGNED_DIV_10) > 0)
+                throw outOfRange(k);
+            result = result * 10 + digit;
+            if (Long.compareUnsigned(result, digit) < 0)
+                throw outOfRange(k);
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        setEnd(pos, k, limit);
+        return result;
+    }
+
+    private static long parseScaled(char[] chars, int start, int limit, ParsePosition pos,
+            int scale, char separator) {
+        int k = start;
+        boolean negative = false;
+        if (k < limit && chars[k] == '-') {
+            negative = true;
+            k++;
+        }
+        int digitsStart = k;
+        long result = 0;
+        long min = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        while (k < limit) {
+            int digit = chars[k] - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            result = accumulate(result, digit, min, k);
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        int decimals = 0;
+        if (scale > 0 && k + 1 < limit && chars[k] == separator && isDigit(chars[k + 1])) {
+            k++;
+            while (k < limit) {
+                int digit = chars[k] - '0';
+                if (digit < 0 || digit > 9)
+                    break;
+                if (++decimals > scale)
+                    throw new NumberFormatException("Too many decimal places at offset " + k);
+                result = accumulate(result, digit, min, k);
+                k++;
+            }
+        }
+        for (; decimals < scale; decimals++)
+            result = accumulate(result, 0, min, k);
+        setEnd(pos, k, limit);
+        return negative ? result : -result;
+    }
+
+    private static long parseGrouped(char[] chars, int start, int limit, ParsePosition pos, char groupingChar) {
+        int k = start;
+        boolean negative = false;
+        if (k < limit && chars[k] == '-') {
+            negative = true;
+            k++;
+        }
+        int digitsStart = k;
+        long result = 0;
+        long min = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        while (k < limit) {
+            int digit = chars[k] - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            if (k - digitsStart == 3)
+                throw badGroup(k);
+            result = accumulate(result, digit, min, k);
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        while (k + 3 < limit && chars[k] == groupingChar && isDigit(chars[k + 1]) &&
+                isDigit(chars[k + 2]) && isDigit(chars[k + 3])) {
+            result = accumulate(result, chars[k + 1] - '0', min, k + 1);
+            result = accumulate(result, chars[k + 2] - '0', min, k + 2);
+            result = accumulate(result, chars[k + 3] - '0', min, k + 3);
+            k += 4;
+            if (k < limit && isDigit(chars[k]))
+                throw badGroup(k);
+        }
+        setEnd(pos, k, limit);
+        return negative ? result : -result;
+    }
+
+    private static long parseHex(char[] chars, int start, int limit, ParsePosition pos, int bits) {
+        int k = start;
+        int digitsStart = k;
+        long result = 0;
+        while (k < limit) {
+            int digit = hexValue(chars[k]);
+            if (digit < 0)
+                break;
+            if ((result >>> (bits - 4)) != 0)
+                throw outOfRange(k);
+            result = (result << 4) | digit;
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        setEnd(pos, k, limit);
+        return result;
+    }
+
+    /**
+     * Parse an {@code int} from a {@code byte} array of ASCII characters, starting at the index in the
+     * {@link ParsePosition}.  The input is expected to consist of an optional minus sign followed by decimal digits.
+     * On return, the index in the {@link ParsePosition} is set to the offset following the last byte of the number.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   pos         the {@link ParsePosition}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static int parseInt(byte[] bytes, ParsePosition pos) {
+        int start = pos.getIndex();
+        return toInt(parseDecimal(bytes, start, bytes.length, pos), start);
+    }
+
+    /**
+     * Parse a {@code long} from a {@code byte} array of ASCII characters, starting at the index in the
+     * {@link ParsePosition}.  The input is expected to consist of an optional minus sign followed by decimal digits.
+     * On return, the index in the {@link ParsePosition} is set to the offset following the last byte of the number.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   pos         the {@link ParsePosition}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static long parseLong(byte[] bytes, ParsePosition pos) {
+        return parseDecimal(bytes, pos.getIndex(), bytes.length, pos);
+    }
+
+    /**
+     * Parse an unsigned {@code int} from a {@code byte} array of ASCII characters, starting at the index in the
+     * {@link ParsePosition}.  The input is expected to consist of decimal digits.  On return, the index in the
+     * {@link ParsePosition} is set to the offset following the last byte of the number.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   pos         the {@link ParsePosition}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static int parseUnsignedInt(byte[] bytes, ParsePosition pos) {
+        int start = pos.getIndex();
+        return toUnsignedInt(parseUnsignedDecimal(bytes, start, bytes.length, pos), start);
+    }
+
+    /**
+     * Parse an unsigned {@code long} from a {@code byte} array of ASCII characters, starting at the index in the
+     * {@link ParsePosition}.  The input is expected to consist of decimal digits.  On return, the index in the
+     * {@link ParsePosition} is set to the offset following the last byte of the number.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   pos         the {@link ParsePosition}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static long parseUnsignedLong(byte[] bytes, ParsePosition pos) {
+        return parseUnsignedDecimal(bytes, pos.getIndex(), bytes.length, pos);
+    }
+
+    /**
+     * Parse an {@code int} with decimal places from a {@code byte} array of ASCII characters, starting at the index in
+     * the {@link ParsePosition}.  The input is expected to consist of an optional minus sign followed by decimal
+     * digits, optionally followed by the separator and up to {@code scale} decimal digits (the result is the number
+     * multiplied by 10 to the power of {@code scale}).  On return, the index in the {@link ParsePosition} is set to the
+     * offset following the last byte of the number.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   pos         the {@link ParsePosition}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static int parseIntScaled(byte[] bytes, ParsePosition pos, int scale, char separator) {
+        int start = pos.getIndex();
+        return toInt(parseScaled(bytes, start, bytes.length, pos, scale, separator), start);
+    }
+
+    /**
+     * Parse a {@code long} with decimal places from a {@code byte} array of ASCII characters, starting at the index in
+     * the {@link ParsePosition}.  The input is expected to consist of an optional minus sign followed by decimal
+     * digits, optionally followed by the separator and up to {@code scale} decimal digits (the result is the number
+     * multiplied by 10 to the power of {@code scale}).  On return, the index in the {@link ParsePosition} is set to the
+     * offset following the last byte of the number.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   pos         the {@link ParsePosition}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static long parseLongScaled(byte[] bytes, ParsePosition pos, int scale, char separator) {
+        return parseScaled(bytes, pos.getIndex(), bytes.length, pos, scale, separator);
+    }
+
+    /**
+     * Parse an {@code int} with digits grouped in 3s from a {@code byte} array of ASCII characters, starting at the
+     * index in the {@link ParsePosition}.  The input is expected to consist of an optional minus sign followed by 1 to
+     * 3 decimal digits, followed by any number of groups of the grouping character and 3 digits.  On return, the index
+     * in the {@link ParsePosition} is set to the offset following the last byte of the number.
+     *
+     * @param   bytes           the {@code byte} array
+     * @param   pos             the {@link ParsePosition}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static int parseIntGrouped(byte[] bytes, ParsePosition pos, char groupingChar) {
+        int start = pos.getIndex();
+        return toInt(parseGrouped(bytes, start, bytes.length, pos, groupingChar), start);
+    }
+
+    /**
+     * Parse a {@code long} with digits grouped in 3s from a {@code byte} array of ASCII characters, starting at the
+     * index in the {@link ParsePosition}.  The input is expected to consist of an optional minus sign followed by 1 to
+     * 3 decimal digits, followed by any number of groups of the grouping character and 3 digits.  On return, the index
+     * in the {@link ParsePosition} is set to the offset following the last byte of the number.
+     *
+     * @param   bytes           the {@code byte} array
+     * @param   pos             the {@link ParsePosition}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static long parseLongGrouped(byte[] bytes, ParsePosition pos, char groupingChar) {
+        return parseGrouped(bytes, pos.getIndex(), bytes.length, pos, groupingChar);
+    }
+
+    /**
+     * Parse an {@code int} in hexadecimal from a {@code byte} array of ASCII characters, starting at the index in the
+     * {@link ParsePosition}.  The input is expected to consist of hexadecimal digits (upper or lower case).  On return,
+     * the index in the {@link ParsePosition} is set to the offset following the last byte of the number.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   pos         the {@link ParsePosition}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static int parseIntHex(byte[] bytes, ParsePosition pos) {
+        return (int)parseHex(bytes, pos.getIndex(), bytes.length, pos, 32);
+    }
+
+    /**
+     * Parse a {@code long} in hexadecimal from a {@code byte} array of ASCII characters, starting at the index in the
+     * {@link ParsePosition}.  The input is expected to consist of hexadecimal digits (upper or lower case).  On return,
+     * the index in the {@link ParsePosition} is set to the offset following the last byte of the number.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   pos         the {@link ParsePosition}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the index, or the value is out of range
+     */
+    public static long parseLongHex(byte[] bytes, ParsePosition pos) {
+        return parseHex(bytes, pos.getIndex(), bytes.length, pos, 64);
+    }
+
+    /**
+     * Parse an {@code int} from a {@code byte} array of ASCII characters, from the start offset to the end offset.  The
+     * bytes in the range must consist of an optional minus sign followed by decimal digits.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   start       the start offset
+     * @param   end         the end offset
+     * @return              the value
+     * @throws  NumberFormatException if the range does not contain a valid number
+     */
+    public static int parseInt(byte[] bytes, int start, int end) {
+        return toInt(parseDecimal(bytes, start, end, null), start);
+    }
+
+    /**
+     * Parse a {@code long} from a {@code byte} array of ASCII characters, from the start offset to the end offset.  The
+     * bytes in the range must consist of an optional minus sign followed by decimal digits.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   start       the start offset
+     * @param   end         the end offset
+     * @return              the value
+     * @throws  NumberFormatException if the range does not contain a valid number
+     */
+    public static long parseLong(byte[] bytes, int start, int end) {
+        return parseDecimal(bytes, start, end, null);
+    }
+
+    /**
+     * Parse exactly 8 decimal digits from a {@code byte} array, starting at the specified offset.  The 8 bytes are
+     * checked and converted together, as a single {@code long} (SWAR &ndash; SIMD Within A Register), which is
+     * considerably faster than converting one digit at a time.  This is useful for fixed-width fields, such as
+     * zero-padded identifiers.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset of the first digit
+     * @return              the value
+     * @throws  NumberFormatException if any of the 8 bytes is not a decimal digit
+     * @throws  IndexOutOfBoundsException if there are fewer than 8 bytes following the offset
+     */
+    public static int parse8Digits(byte[] bytes, int offset) {
+        if (offset < 0 || offset > bytes.length - 8)
+            throw new IndexOutOfBoundsException("Offset out of range: " + offset);
+        long chunk = load8(bytes, offset);
+        if (!isDigits(chunk))
+            throw new NumberFormatException("Non-digit in 8 digits at offset " + offset);
+        return combineDigits(chunk);
+    }
+
+    private static long parseDecimal(byte[] bytes, int start, int limit, ParsePosition pos) {
+        int k = start;
+        boolean negative = false;
+        if (k < limit && bytes[k] == '-') {
+            negative = true;
+            k++;
+        }
+        int digitsStart = k;
+        long result = 0; // accumulated as a negative number, to allow for Long.MIN_VALUE
+        long min = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        while (k + 8 <= limit) {
+            long chunk = load8(bytes, k);
+            if (!isDigits(chunk))
+                break;
+            result = accumulate8(result, combineDigits(chunk), min, k);
+            k += 8;
+        }
+        while (k < limit) {
+            int digit = bytes[k] - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            result = accumulate(result, digit, min, k);
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        setEnd(pos, k, limit);
+        return negative ? result : -result;
+    }
+
+    private static long parseUnsignedDecimal(byte[] bytes, int start, int limit, ParsePosition pos) {
+        int k = start;
+        int digitsStart = k;
+        long result = 0;
+        while (k + 8 <= limit) {
+            long chunk = load8(bytes, k);
+            if (!isDigits(chunk))
+                break;
+            if (Long.compareUnsigned(result, MAX_UNSIGNED_DIV_10_8) > 0)
+                throw outOfRange(k);
+            int value = combineDigits(chunk);
+            result = result * 100000000 + value;
+            if (Long.compareUnsigned(result, value) < 0)
+                throw outOfRange(k);
+            k += 8;
+        }
+        while (k < limit) {
+            int digit = bytes[k] - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            if (Long.compareUnsigned(result, MAX_UNSIGNED_DIV_10) > 0)
+                throw outOfRange(k);
+            result = result * 10 + digit;
+            if (Long.compareUnsigned(result, digit) < 0)
+                throw outOfRange(k);
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        setEnd(pos, k, limit);
+        return result;
+    }
+
+    private static long parseScaled(byte[] bytes, int start, int limit, ParsePosition pos,
+            int scale, char separator) {
+        int k = start;
+        boolean negative = false;
+        if (k < limit && bytes[k] == '-') {
+            negative = true;
+            k++;
+        }
+        int digitsStart = k;
+        long result = 0;
+        long min = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        while (k < limit) {
+            int digit = bytes[k] - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            result = accumulate(result, digit, min, k);
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        int decimals = 0;
+        if (scale > 0 && k + 1 < limit && bytes[k] == separator && isDigit(bytes[k + 1])) {
+            k++;
+            while (k < limit) {
+                int digit = bytes[k] - '0';
+                if (digit < 0 || digit > 9)
+                    break;
+                if (++decimals > scale)
+                    throw new NumberFormatException("Too many decimal places at offset " + k);
+                result = accumulate(result, digit, min, k);
+                k++;
+            }
+        }
+        for (; decimals < scale; decimals++)
+            result = accumulate(result, 0, min, k);
+        setEnd(pos, k, limit);
+        return negative ? result : -result;
+    }
+
+    private static long parseGrouped(byte[] bytes, int start, int limit, ParsePosition pos, char groupingChar) {
+        int k = start;
+        boolean negative = false;
+        if (k < limit && bytes[k] == '-') {
+            negative = true;
+            k++;
+        }
+        int digitsStart = k;
+        long result = 0;
+        long min = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        while (k < limit) {
+            int digit = bytes[k] - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            if (k - digitsStart == 3)
+                throw badGroup(k);
+            result = accumulate(result, digit, min, k);
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        while (k + 3 < limit && bytes[k] == groupingChar && isDigit(bytes[k + 1]) &&
+                isDigit(bytes[k + 2]) && isDigit(bytes[k + 3])) {
+            result = accumulate(result, bytes[k + 1] - '0', min, k + 1);
+            result = accumulate(result, bytes[k + 2] - '0', min, k + 2);
+            result = accumulate(result, bytes[k + 3] - '0', min, k + 3);
+            k += 4;
+            if (k < limit && isDigit(bytes[k]))
+                throw badGroup(k);
+        }
+        setEnd(pos, k, limit);
+        return negative ? result : -result;
+    }
+
+    private static long parseHex(byte[] bytes, int start, int limit, ParsePosition pos, int bits) {
+        int k = start;
+        int digitsStart = k;
+        long result = 0;
+        while (k < limit) {
+            int digit = hexValue(bytes[k]);
+            if (digit < 0)
+                break;
+            if ((result >>> (bits - 4)) != 0)
+                throw outOfRange(k);
+            result = (result << 4) | digit;
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        setEnd(pos, k, limit);
+        return result;
+    }
+
+    /**
+     * Parse an {@code int} from a {@link ByteBuffer} of ASCII characters, starting at the current position of the
+     * buffer.  The input is expected to consist of an optional minus sign followed by decimal digits.  The buffer
+     * position is advanced past the last byte of the number.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the current position, or the value is out of range
+     */
+    public static int parseInt(ByteBuffer buffer) {
+        int start = buffer.position();
+        return toInt(parseDecimal(buffer), start);
+    }
+
+    /**
+     * Parse a {@code long} from a {@link ByteBuffer} of ASCII characters, starting at the current position of the
+     * buffer.  The input is expected to consist of an optional minus sign followed by decimal digits.  The buffer
+     * position is advanced past the last byte of the number.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the current position, or the value is out of range
+     */
+    public static long parseLong(ByteBuffer buffer) {
+        return parseDecimal(buffer);
+    }
+
+    /**
+     * Parse an unsigned {@code int} from a {@link ByteBuffer} of ASCII characters, starting at the current position of
+     * the buffer.  The input is expected to consist of decimal digits.  The buffer position is advanced past the last
+     * byte of the number.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the current position, or the value is out of range
+     */
+    public static int parseUnsignedInt(ByteBuffer buffer) {
+        int start = buffer.position();
+        return toUnsignedInt(parseUnsignedDecimal(buffer), start);
+    }
+
+    /**
+     * Parse an unsigned {@code long} from a {@link ByteBuffer} of ASCII characters, starting at the current position of
+     * the buffer.  The input is expected to consist of decimal digits.  The buffer position is advanced past the last
+     * byte of the number.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the current position, or the value is out of range
+     */
+    public static long parseUnsignedLong(ByteBuffer buffer) {
+        return parseUnsignedDecimal(buffer);
+    }
+
+    /**
+     * Parse an {@code int} with decimal places from a {@link ByteBuffer} of ASCII characters, starting at the current
+     * position of the buffer.  The input is expected to consist of an optional minus sign followed by decimal digits,
+     * optionally followed by the separator and up to {@code scale} decimal digits (the result is the number multiplied
+     * by 10 to the power of {@code scale}).  The buffer position is advanced past the last byte of the number.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the current position, or the value is out of range
+     */
+    public static int parseIntScaled(ByteBuffer buffer, int scale, char separator) {
+        int start = buffer.position();
+        return toInt(parseScaled(buffer, scale, separator), start);
+    }
+
+    /**
+     * Parse a {@code long} with decimal places from a {@link ByteBuffer} of ASCII characters, starting at the current
+     * position of the buffer.  The input is expected to consist of an optional minus sign followed by decimal digits,
+     * optionally followed by the separator and up to {@code scale} decimal digits (the result is the number multiplied
+     * by 10 to the power of {@code scale}).  The buffer position is advanced past the last byte of the number.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the current position, or the value is out of range
+     */
+    public static long parseLongScaled(ByteBuffer buffer, int scale, char separator) {
+        return parseScaled(buffer, scale, separator);
+    }
+
+    /**
+     * Parse an {@code int} with digits grouped in 3s from a {@link ByteBuffer} of ASCII characters, starting at the
+     * current position of the buffer.  The input is expected to consist of an optional minus sign followed by 1 to 3
+     * decimal digits, followed by any number of groups of the grouping character and 3 digits.  The buffer position is
+     * advanced past the last byte of the number.
+     *
+     * @param   buffer          the {@link ByteBuffer}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the value
+     * @throws  NumberFormatException if there are no digits at the current position, or the value is out of range
+     */
+    public static int parseIntGrouped(ByteBuffer buffer, char groupingChar) {
+        int start = buffer.position();
+        return toInt(parseGrouped(buffer, groupingChar), start);
+    }
+
+    /**
+     * Parse a {@code long} with digits grouped in 3s from a {@link ByteBuffer} of ASCII characters, starting at the
+     * current position of the buffer.  The input is expected to consist of an optional minus sign followed by 1 to 3
+     * decimal digits, followed by any number of groups of the grouping character and 3 digits.  The buffer position is
+     * advanced past the last byte of the number.
+     *
+     * @param   buffer          the {@link ByteBuffer}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the value
+     * @throws  NumberFormatException if there are no digits at the current position, or the value is out of range
+     */
+    public static long parseLongGrouped(ByteBuffer buffer, char groupingChar) {
+        return parseGrouped(buffer, groupingChar);
+    }
+
+    /**
+     * Parse an {@code int} in hexadecimal from a {@link ByteBuffer} of ASCII characters, starting at the current
+     * position of the buffer.  The input is expected to consist of hexadecimal digits (upper or lower case).  The
+     * buffer position is advanced past the last byte of the number.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the current position, or the value is out of range
+     */
+    public static int parseIntHex(ByteBuffer buffer) {
+        return (int)parseHex(buffer, 32);
+    }
+
+    /**
+     * Parse a {@code long} in hexadecimal from a {@link ByteBuffer} of ASCII characters, starting at the current
+     * position of the buffer.  The input is expected to consist of hexadecimal digits (upper or lower case).  The
+     * buffer position is advanced past the last byte of the number.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @return              the value
+     * @throws  NumberFormatException if there are no digits at the current position, or the value is out of range
+     */
+    public static long parseLongHex(ByteBuffer buffer) {
+        return parseHex(buffer, 64);
+    }
+
+    /**
+     * Parse exactly 8 decimal digits from a {@link ByteBuffer}, starting at the current position of the buffer.  The 8
+     * bytes are checked and converted together, as a single {@code long} (SWAR &ndash; SIMD Within A Register), which
+     * is considerably faster than converting one digit at a time.  The buffer position is advanced by 8.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @return              the value
+     * @throws  NumberFormatException if any of the 8 bytes is not a decimal digit
+     * @throws  BufferUnderflowException if there are fewer than 8 bytes remaining
+     */
+    public static int parse8Digits(ByteBuffer buffer) {
+        int position = buffer.position();
+        if (buffer.limit() - position < 8)
+            throw new BufferUnderflowException();
+        long chunk = load8(buffer, position);
+        if (!isDigits(chunk))
+            throw new NumberFormatException("Non-digit in 8 digits at offset " + position);
+        setPosition(buffer, position + 8);
+        return combineDigits(chunk);
+    }
+
+    private static long parseDecimal(ByteBuffer buffer) {
+        int k = buffer.position();
+        int limit = buffer.limit();
+        boolean negative = false;
+        if (k < limit && buffer.get(k) == '-') {
+            negative = true;
+            k++;
+        }
+        int digitsStart = k;
+        long result = 0; // accumulated as a negative number, to allow for Long.MIN_VALUE
+        long min = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        while (k + 8 <= limit) {
+            long chunk = load8(buffer, k);
+            if (!isDigits(chunk))
+                break;
+            result = accumulate8(result, combineDigits(chunk), min, k);
+            k += 8;
+        }
+        while (k < limit) {
+            int digit = buffer.get(k) - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            result = accumulate(result, digit, min, k);
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        setPosition(buffer, k);
+        return negative ? result : -result;
+    }
+
+    private static long parseUnsignedDecimal(ByteBuffer buffer) {
+        int k = buffer.position();
+        int limit = buffer.limit();
+        int digitsStart = k;
+        long result = 0;
+        while (k + 8 <= limit) {
+            long chunk = load8(buffer, k);
+            if (!isDigits(chunk))
+                break;
+            if (Long.compareUnsigned(result, MAX_UNSIGNED_DIV_10_8) > 0)
+                throw outOfRange(k);
+            int value = combineDigits(chunk);
+            result = result * 100000000 + value;
+            if (Long.compareUnsigned(result, value) < 0)
+                throw outOfRange(k);
+            k += 8;
+        }
+        while (k < limit) {
+            int digit = buffer.get(k) - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            if (Long.compareUnsigned(result, MAX_UNSIGNED_DIV_10) > 0)
+                throw outOfRange(k);
+            result = result * 10 + digit;
+            if (Long.compareUnsigned(result, digit) < 0)
+                throw outOfRange(k);
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        setPosition(buffer, k);
+        return result;
+    }
+
+    private static long parseScaled(ByteBuffer buffer, int scale, char separator) {
+        int k = buffer.position();
+        int limit = buffer.limit();
+        boolean negative = false;
+        if (k < limit && buffer.get(k) == '-') {
+            negative = true;
+            k++;
+        }
+        int digitsStart = k;
+        long result = 0;
+        long min = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        while (k < limit) {
+            int digit = buffer.get(k) - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            result = accumulate(result, digit, min, k);
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        int decimals = 0;
+        if (scale > 0 && k + 1 < limit && buffer.get(k) == separator && isDigit(buffer.get(k + 1))) {
+            k++;
+            while (k < limit) {
+                int digit = buffer.get(k) - '0';
+                if (digit < 0 || digit > 9)
+                    break;
+                if (++decimals > scale)
+                    throw new NumberFormatException("Too many decimal places at offset " + k);
+                result = accumulate(result, digit, min, k);
+                k++;
+            }
+        }
+        for (; decimals < scale; decimals++)
+            result = accumulate(result, 0, min, k);
+        setPosition(buffer, k);
+        return negative ? result : -result;
+    }
+
+    private static long parseGrouped(ByteBuffer buffer, char groupingChar) {
+        int k = buffer.position();
+        int limit = buffer.limit();
+        boolean negative = false;
+        if (k < limit && buffer.get(k) == '-') {
+            negative = true;
+            k++;
+        }
+        int digitsStart = k;
+        long result = 0;
+        long min = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        while (k < limit) {
+            int digit = buffer.get(k) - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            if (k - digitsStart == 3)
+                throw badGroup(k);
+            result = accumulate(result, digit, min, k);
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        while (k + 3 < limit && buffer.get(k) == groupingChar && isDigit(buffer.get(k + 1)) &&
+                isDigit(buffer.get(k + 2)) && isDigit(buffer.get(k + 3))) {
+            result = accumulate(result, buffer.get(k + 1) - '0', min, k + 1);
+            result = accumulate(result, buffer.get(k + 2) - '0', min, k + 2);
+            result = accumulate(result, buffer.get(k + 3) - '0', min, k + 3);
+            k += 4;
+            if (k < limit && isDigit(buffer.get(k)))
+                throw badGroup(k);
+        }
+        setPosition(buffer, k);
+        return negative ? result : -result;
+    }
+
+    private static long parseHex(ByteBuffer buffer, int bits) {
+        int k = buffer.position();
+        int limit = buffer.limit();
+        int digitsStart = k;
+        long result = 0;
+        while (k < limit) {
+            int digit = hexValue(buffer.get(k));
+            if (digit < 0)
+                break;
+            if ((result >>> (bits - 4)) != 0)
+                throw outOfRange(k);
+            result = (result << 4) | digit;
+            k++;
+        }
+        if (k == digitsStart)
+            throw noDigits(k);
+        setPosition(buffer, k);
+        return result;
+    }
+
+    private static long accumulate(long result, int digit, long min, int index) {
+        if (result < min / 10)
+            throw outOfRange(index);
+        result *= 10;
+        if (result < min + digit)
+            throw outOfRange(index);
+        return result - digit;
+    }
+
+    private static long accumulate8(long result, int value, long min, int index) {
+        if (result < min / 100000000)
+            throw outOfRange(index);
+        result *= 100000000;
+        if (result < min + value)
+            throw outOfRange(index);
+        return result - value;
+    }
+
+    /**
+     * Load 8 bytes from a {@code byte} array into a {@code long}, with the first byte in the least significant
+     * position.
+     */
+    private static long load8(byte[] bytes, int index) {
+        return (bytes[index] & 0xFFL) | (bytes[index + 1] & 0xFFL) << 8 | (bytes[index + 2] & 0xFFL) << 16 |
+                (bytes[index + 3] & 0xFFL) << 24 | (bytes[index + 4] & 0xFFL) << 32 |
+                (bytes[index + 5] & 0xFFL) << 40 | (bytes[index + 6] & 0xFFL) << 48 | (long)bytes[index + 7] << 56;
+    }
+
+    /**
+     * Load 8 bytes from a {@link ByteBuffer} into a {@code long}, with the first byte in the least significant
+     * position.
+     */
+    private static long load8(ByteBuffer buffer, int index) {
+        long chunk = buffer.getLong(index);
+        return buffer.order() == ByteOrder.LITTLE_ENDIAN ? chunk : Long.reverseBytes(chunk);
+    }
+
+    /**
+     * Test whether all 8 bytes of a {@code long} are ASCII digits: the high nibble of each byte must be 3, and adding 6
+     * to the low nibble must not carry into the high nibble.
+     */
+    private static boolean isDigits(long chunk) {
+        return ((chunk & 0xF0F0F0F0F0F0F0F0L) | (((chunk + 0x0606060606060606L) & 0xF0F0F0F0F0F0F0F0L) >>> 4)) ==
+                0x3333333333333333L;
+    }
+
+    /**
+     * Combine 8 ASCII digits in a {@code long} (first digit in the least significant byte) into an {@code int}, using
+     * three multiply-add steps to combine pairs of digits, then pairs of 2-digit values, then pairs of 4-digit values.
+     */
+    private static int combineDigits(long chunk) {
+        chunk -= 0x3030303030303030L;
+        chunk = (chunk * 10 + (chunk >>> 8)) & 0x00FF00FF00FF00FFL;
+        chunk = (chunk * 100 + (chunk >>> 16)) & 0x0000FFFF0000FFFFL;
+        return (int)(chunk * 10000 + (chunk >>> 32));
+    }
+
+    private static boolean isDigit(int ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static int hexValue(int ch) {
+        if (ch >= '0' && ch <= '9')
+            return ch - '0';
+        ch |= 0x20; // convert to lower case
+        if (ch >= 'a' && ch <= 'f')
+            return ch - 'a' + 10;
+        return -1;
+    }
+
+    private static int toInt(long value, int start) {
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
+            throw outOfRange(start);
+        return (int)value;
+    }
+
+    private static int toUnsignedInt(long value, int start) {
+        if ((value >>> 32) != 0)
+            throw outOfRange(start);
+        return (int)value;
+    }
+
+    private static void setEnd(ParsePosition pos, int index, int limit) {
+        if (pos != null)
+            pos.setIndex(index);
+        else if (index != limit)
+            throw new NumberFormatException("Unexpected character at offset " + index);
+    }
+
+    private static void setPosition(Buffer buffer, int position) {
+        buffer.position(position); // called through Buffer for compatibility with the Java 8 API
+    }
+
+    private static NumberFormatException noDigits(int index) {
+        return new NumberFormatException("No digits at offset " + index);
+    }
+
+    private static NumberFormatException outOfRange(int index) {
+        return new NumberFormatException("Value out of range at offset " + index);
+    }
+
+    private static NumberFormatException badGroup(int index) {
+        return new NumberFormatException("Incorrect digit grouping at offset " + index);
+    }
+
+}
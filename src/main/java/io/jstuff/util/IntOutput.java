@@ -2,7 +2,7 @@
  * @(#) IntOutput.java
  *
  * int-output  Integer output functions
- * Copyright (c) 2021, 2022, 2023 Peter Wall
+ * Copyright (c) 2021, 2022, 2023, 2026 Peter Wall
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -26,6 +26,14 @@
 package io.jstuff.util;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.util.Arrays;
 import java.util.function.IntConsumer;
 
 /**
@@ -72,6 +80,29 @@ public class IntOutput {
     public static final String MIN_INTEGER_DIGITS = "2147483648";
     public static final String MIN_LONG_DIGITS = "9223372036854775808";
 
+    private static final int[] intPowersOfTen = {
+            1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000
+    };
+
+    static final long[] longPowersOfTen = {
+            1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L, 10000000000L,
+            100000000000L, 1000000000000L, 10000000000000L, 100000000000000L, 1000000000000000L, 10000000000000000L,
+            100000000000000000L, 1000000000000000000L
+    };
+
+    private static final long TEN_TO_THE_19TH_UNSIGNED = 0x8AC7230489E80000L;
+
+    static final long[] powersOfFive = {
+            1L, 5L, 25L, 125L, 625L, 3125L, 15625L, 78125L, 390625L, 1953125L, 9765625L, 48828125L, 244140625L,
+            1220703125L, 6103515625L, 30517578125L, 152587890625L, 762939453125L, 3814697265625L, 19073486328125L
+    };
+
+    private static final int BIG_CHUNK_DIGITS = 18;
+    private static volatile BigInteger[] bigPowersOfTen = { BigInteger.valueOf(1000000000000000000L) };
+
+    private static final long HEX_ALPHA_OFFSET = 'A' - '0' - 10;
+    private static final long HEX_ALPHA_OFFSET_LC = 'a' - '0' - 10;
+
     /**
      * Append an {@code int} left-trimmed to an {@link Appendable}.  This method outputs the digits left to right,
      * avoiding the need to allocate a separate object to hold the string form.
@@ -258,17 +289,31 @@ public class IntOutput {
      * @throws  IOException if thrown by the {@link Appendable}
      */
     public static void appendPositiveLong(Appendable a, long n) throws IOException {
-        if (n >= 100) {
-            long m = n / 100;
+        if (n > Integer.MAX_VALUE) {
+            long m = n / 100000000; // the only long division - the remaining digits use int arithmetic
             appendPositiveLong(a, m);
-            append2Digits(a, (int)(n - m * 100));
+            append8Digits(a, (int)(n - m * 100000000));
         }
-        else {
-            int i = (int)n;
-            if (i >= 10)
-                a.append(tensDigits[i]);
-            a.append(digits[i]);
+        else
+            appendPositiveInt(a, (int)n);
+    }
+
+    private static void append8Digits(Appendable a, int i) throws IOException {
+        int n = i / 10000;
+        appendDigits(a, n, 4);
+        appendDigits(a, i - n * 10000, 4);
+    }
+
+    private static void appendDigits(Appendable a, int i, int count) throws IOException {
+        if (count > 2) {
+            int n = i / 100;
+            appendDigits(a, n, count - 2);
+            append2Digits(a, i - n * 100);
         }
+        else if (count == 2)
+            append2Digits(a, i);
+        else if (count == 1)
+            a.append(digits[i]);
     }
 
     /**
@@ -327,34 +372,25 @@ public class IntOutput {
      * @throws  IOException if thrown by the {@link Appendable}
      */
     public static void appendPositiveLongScaled(Appendable a, long n, int scale, char separator) throws IOException {
-        if (scale > 2) {
-            long m = n / 100;
-            appendPositiveLongScaled(a, m, scale - 2, separator);
-            append2Digits(a, (int)(n - m * 100));
-        }
-        else if (scale == 2) {
-            long m = n / 100;
-            appendPositiveLong(a, m);
-            a.append(separator);
-            append2Digits(a, (int)(n - m * 100));
+        if (n <= Integer.MAX_VALUE)
+            appendPositiveIntScaled(a, (int)n, scale, separator);
+        else if (scale > 8) {
+            long m = n / 100000000;
+            appendPositiveLongScaled(a, m, scale - 8, separator);
+            append8Digits(a, (int)(n - m * 100000000));
         }
-        else if (scale == 1) {
-            long m = n / 10;
+        else if (scale > 0) {
+            long m = n / 100000000;
             appendPositiveLong(a, m);
+            int i = (int)(n - m * 100000000);
+            int divisor = intPowersOfTen[scale];
+            int j = i / divisor;
+            appendDigits(a, j, 8 - scale);
             a.append(separator);
-            a.append(digits[(int)(n - m * 10)]);
-        }
-        else if (n >= 100) {
-            long m = n / 100;
-            appendPositiveLong(a, m);
-            append2Digits(a, (int)(n - m * 100));
-        }
-        else {
-            int i = (int)n;
-            if (i >= 10)
-                a.append(tensDigits[i]);
-            a.append(digits[i]);
+            appendDigits(a, i - j * divisor, scale);
         }
+        else
+            appendPositiveLong(a, n);
     }
 
     /**
@@ -439,6 +475,195 @@ public class IntOutput {
         append2Digits(a, n - m * 100);
     }
 
+    /**
+     * Append an {@code int} to an {@link Appendable} as the specified number of decimal digits, left filled with zeros.
+     * Note that there is no range check on the input value; it must be positive and must fit in the number of digits.
+     * To append the least significant digits of a value that is not guaranteed to be in range, use
+     * {@link #appendNDigitsSafe(Appendable, int, int)}.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   i           the {@code int}
+     * @param   count       the number of digits
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendNDigits(Appendable a, int i, int count) throws IOException {
+        for (; count > 10; count--)
+            a.append('0');
+        if (count == 8)
+            append8Digits(a, i);
+        else if (count == 9) {
+            int n = i / 100000000;
+            a.append(digits[n]);
+            append8Digits(a, i - n * 100000000);
+        }
+        else
+            appendDigits(a, i, count);
+    }
+
+    /**
+     * Append the least significant decimal digits of an {@code int} to an {@link Appendable}, as the specified number
+     * of digits, left filled with zeros.  The sign of the value is ignored.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   i           the {@code int}
+     * @param   count       the number of digits
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendNDigitsSafe(Appendable a, int i, int count) throws IOException {
+        appendNDigitsSafe(a, (long)i, count);
+    }
+
+    /**
+     * Append a {@code long} to an {@link Appendable} as the specified number of decimal digits, left filled with zeros.
+     * Note that there is no range check on the input value; it must be positive and must fit in the number of digits.
+     * To append the least significant digits of a value that is not guaranteed to be in range, use
+     * {@link #appendNDigitsSafe(Appendable, long, int)}.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   n           the {@code long}
+     * @param   count       the number of digits
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendNDigits(Appendable a, long n, int count) throws IOException {
+        for (; count > 19; count--)
+            a.append('0');
+        if (count > 9) {
+            long m = n / 100000000;
+            appendNDigits(a, m, count - 8);
+            append8Digits(a, (int)(n - m * 100000000));
+        }
+        else
+            appendNDigits(a, (int)n, count);
+    }
+
+    /**
+     * Append the least significant decimal digits of a {@code long} to an {@link Appendable}, as the specified number
+     * of digits, left filled with zeros.  The sign of the value is ignored.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   n           the {@code long}
+     * @param   count       the number of digits
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendNDigitsSafe(Appendable a, long n, int count) throws IOException {
+        if (count > 0) {
+            if (count < 19)
+                appendNDigits(a, Math.abs(n % longPowersOfTen[count]), count);
+            else if (n == Long.MIN_VALUE) {
+                for (; count > 19; count--)
+                    a.append('0');
+                a.append(MIN_LONG_DIGITS);
+            }
+            else
+                appendNDigits(a, Math.abs(n), count);
+        }
+    }
+
+    /**
+     * Append an {@code int} to an {@link Appendable}, right-aligned in a field of the specified width and padded on the
+     * left with the specified pad character.  If the pad character is {@code '0'}, the minus sign of a negative number
+     * precedes the padding.  If the number is longer than the field width, it is output in full.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   i           the {@code int}
+     * @param   width       the field width
+     * @param   padChar     the pad character
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendIntPadded(Appendable a, int i, int width, char padChar) throws IOException {
+        paddedInt(a, i, width - intLength(i), padChar);
+    }
+
+    /**
+     * Append an {@code int} to an {@link Appendable}, right-aligned in a field of the specified width and padded on the
+     * left with the specified pad character.  If the pad character is {@code '0'}, the minus sign of a negative number
+     * precedes the padding.  If the number is longer than the field width, the field is filled with the overflow
+     * character instead (for example, {@code '*'}).
+     *
+     * @param   a               the {@link Appendable}
+     * @param   i               the {@code int}
+     * @param   width           the field width
+     * @param   padChar         the pad character
+     * @param   overflowChar    the character to fill the field if the number does not fit
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendIntPadded(Appendable a, int i, int width, char padChar, char overflowChar)
+            throws IOException {
+        int padding = width - intLength(i);
+        if (padding < 0)
+            appendPadding(a, width, overflowChar);
+        else
+            paddedInt(a, i, padding, padChar);
+    }
+
+    /**
+     * Append a {@code long} to an {@link Appendable}, right-aligned in a field of the specified width and padded on the
+     * left with the specified pad character.  If the pad character is {@code '0'}, the minus sign of a negative number
+     * precedes the padding.  If the number is longer than the field width, it is output in full.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   n           the {@code long}
+     * @param   width       the field width
+     * @param   padChar     the pad character
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendLongPadded(Appendable a, long n, int width, char padChar) throws IOException {
+        paddedLong(a, n, width - longLength(n), padChar);
+    }
+
+    /**
+     * Append a {@code long} to an {@link Appendable}, right-aligned in a field of the specified width and padded on the
+     * left with the specified pad character.  If the pad character is {@code '0'}, the minus sign of a negative number
+     * precedes the padding.  If the number is longer than the field width, the field is filled with the overflow
+     * character instead (for example, {@code '*'}).
+     *
+     * @param   a               the {@link Appendable}
+     * @param   n               the {@code long}
+     * @param   width           the field width
+     * @param   padChar         the pad character
+     * @param   overflowChar    the character to fill the field if the number does not fit
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendLongPadded(Appendable a, long n, int width, char padChar, char overflowChar)
+            throws IOException {
+        int padding = width - longLength(n);
+        if (padding < 0)
+            appendPadding(a, width, overflowChar);
+        else
+            paddedLong(a, n, padding, padChar);
+    }
+
+    private static void paddedInt(Appendable a, int i, int padding, char padChar) throws IOException {
+        if (padding > 0) {
+            if (i < 0 && padChar == '0') {
+                a.append('-');
+                appendPadding(a, padding, '0');
+                appendUnsignedInt(a, -i);
+                return;
+            }
+            appendPadding(a, padding, padChar);
+        }
+        appendInt(a, i);
+    }
+
+    private static void paddedLong(Appendable a, long n, int padding, char padChar) throws IOException {
+        if (padding > 0) {
+            if (n < 0 && padChar == '0') {
+                a.append('-');
+                appendPadding(a, padding, '0');
+                appendUnsignedLong(a, -n);
+                return;
+            }
+            appendPadding(a, padding, padChar);
+        }
+        appendLong(a, n);
+    }
+
+    private static void appendPadding(Appendable a, int count, char ch) throws IOException {
+        for (int i = count; i > 0; i--)
+            a.append(ch);
+    }
+
     /**
      * Append an {@code int} left-trimmed to an {@link Appendable} with digits grouped in 3s and separated by the
      * specified grouping character.
@@ -563,156 +788,588 @@ public class IntOutput {
      * @throws  IOException if thrown by the {@link Appendable}
      */
     public static void appendPositiveLongGrouped(Appendable a, long n, char groupingChar) throws IOException {
-        if (n >= 100) {
-            long m = n / 100;
-            appendPositiveLongGrouped1(a, m, groupingChar);
-            append2Digits(a, (int)(n - m * 100));
-        }
-        else {
-            int i = (int)n;
-            if (i >= 10)
-                a.append(tensDigits[i]);
-            a.append(digits[i]);
-        }
-    }
-
-    private static void appendPositiveLongGrouped1(Appendable a, long n, char groupingChar) throws IOException {
-        if (n >= 100) {
-            long m = n / 100;
-            appendPositiveLongGrouped2(a, m, groupingChar);
-            int i = (int)(n - m * 100);
-            a.append(tensDigits[i]);
-            a.append(groupingChar);
-            a.append(digits[i]);
-        }
-        else {
-            int i = (int)n;
-            if (i >= 10) {
-                a.append(tensDigits[i]);
-                a.append(groupingChar);
-            }
-            a.append(digits[i]);
-        }
-    }
-
-    private static void appendPositiveLongGrouped2(Appendable a, long n, char groupingChar) throws IOException {
-        if (n >= 100) {
-            long m = n / 100;
+        if (n > Integer.MAX_VALUE) {
+            long m = n / 1000000000;
             appendPositiveLongGrouped(a, m, groupingChar);
+            int i = (int)(n - m * 1000000000);
+            int j = i / 1000000;
             a.append(groupingChar);
-            append2Digits(a, (int)(n - m * 100));
-        }
-        else {
-            int i = (int)n;
-            if (i >= 10)
-                a.append(tensDigits[i]);
-            a.append(digits[i]);
+            append3Digits(a, j);
+            i -= j * 1000000;
+            j = i / 1000;
+            a.append(groupingChar);
+            append3Digits(a, j);
+            a.append(groupingChar);
+            append3Digits(a, i - j * 1000);
         }
+        else
+            appendPositiveIntGrouped(a, (int)n, groupingChar);
     }
 
     /**
-     * Append an {@code int} left-trimmed to an {@link Appendable} in hexadecimal.  This method outputs the digits left
-     * to right, avoiding the need to allocate a separate object to hold the string form.
+     * Append a {@code long} left-trimmed to an {@link Appendable} with digits grouped in groups of the specified size,
+     * separated by the specified grouping character.
      *
-     * @param   a           the {@link Appendable}
-     * @param   i           the {@code int}
+     * @param   a               the {@link Appendable}
+     * @param   n               the {@code long}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @param   groupSize       the number of digits in each group
      * @throws  IOException if thrown by the {@link Appendable}
+     * @throws  IllegalArgumentException if a group size is less than 1
      */
-    public static void appendIntHex(Appendable a, int i) throws IOException {
-        if ((i & ~0xFFFF) != 0) {
-            append16BitsHex(a, i >>> 16);
-            append4Hex(a, i);
-        }
-        else
-            append16BitsHex(a, i);
+    public static void appendLongGrouped(Appendable a, long n, char groupingChar, int groupSize) throws IOException {
+        appendLongGroupedScaled(a, n, 0, '.', groupingChar, groupSize, groupSize);
     }
 
-    private static void append8BitsHex(Appendable a, int i) throws IOException {
-        if ((i & ~0xF) != 0)
-            a.append(digitsHex[i >>> 4]);
-        a.append(digitsHex[i & 0xF]);
+    /**
+     * Append a {@code long} left-trimmed to an {@link Appendable} with digits grouped in the Indian style (lakh and
+     * crore): the last 3 digits form a group, and the preceding digits are grouped in 2s (for example,
+     * {@code 12,34,56,789}).
+     *
+     * @param   a               the {@link Appendable}
+     * @param   n               the {@code long}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendLongGroupedIndian(Appendable a, long n, char groupingChar) throws IOException {
+        appendLongGroupedScaled(a, n, 0, '.', groupingChar, 3, 2);
     }
 
-    private static void append16BitsHex(Appendable a, int i) throws IOException {
-        if ((i & ~0xFF) != 0) {
-            append8BitsHex(a, i >>> 8);
-            append2Hex(a, i);
-        }
-        else
-            append8BitsHex(a, i);
+    /**
+     * Append a {@code long} left-trimmed to an {@link Appendable}, using a scale parameter to indicate the number of
+     * decimal places, with the digits of the integer part grouped in 3s and separated by the specified grouping
+     * character.
+     *
+     * @param   a               the {@link Appendable}
+     * @param   n               the {@code long}
+     * @param   scale           the number of decimal places
+     * @param   separator       the decimal separator character to use
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendLongGroupedScaled(Appendable a, long n, int scale, char separator, char groupingChar)
+            throws IOException {
+        appendLongGroupedScaled(a, n, scale, separator, groupingChar, 3, 3);
     }
 
     /**
-     * Append an {@code int} left-trimmed to an {@link Appendable} in hexadecimal, using lower-case for the alphabetic
-     * characters.  This method outputs the digits left to right, avoiding the need to allocate a separate object to
-     * hold the string form.
+     * Append a {@code long} left-trimmed to an {@link Appendable}, using a scale parameter to indicate the number of
+     * decimal places, with the digits of the integer part grouped and separated by the specified grouping character.
+     * The last (rightmost) group of the integer part has {@code firstGroupSize} digits, and the preceding groups have
+     * {@code groupSize} digits (3 and 2 for the Indian style).
+     * <br>
+     * The digits are output left to right in a single pass, without recursion: the length of the integer part is
+     * determined first (using the table of powers of ten), and then each group is separated using a single division by
+     * a power of ten.  Negative scale values are ignored.
      *
-     * @param   a           the {@link Appendable}
-     * @param   i           the {@code int}
+     * @param   a               the {@link Appendable}
+     * @param   n               the {@code long}
+     * @param   scale           the number of decimal places
+     * @param   separator       the decimal separator character to use
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @param   firstGroupSize  the number of digits in the last group of the integer part
+     * @param   groupSize       the number of digits in each preceding group
      * @throws  IOException if thrown by the {@link Appendable}
+     * @throws  IllegalArgumentException if a group size is less than 1
      */
-    public static void appendIntHexLC(Appendable a, int i) throws IOException {
-        if ((i & ~0xFFFF) != 0) {
-            append16BitsHexLC(a, i >>> 16);
-            append4HexLC(a, i);
+    public static void appendLongGroupedScaled(Appendable a, long n, int scale, char separator, char groupingChar,
+            int firstGroupSize, int groupSize) throws IOException {
+        checkGroupSizes(firstGroupSize, groupSize);
+        if (n < 0) {
+            a.append('-');
+            n = -n; // Long.MIN_VALUE remains negative, and is treated as unsigned
         }
-        else
-            append16BitsHexLC(a, i);
-    }
-
-    private static void append8BitsHexLC(Appendable a, int i) throws IOException {
-        if ((i & ~0xF) != 0)
-            a.append(digitsHexLC[i >>> 4]);
-        a.append(digitsHexLC[i & 0xF]);
-    }
-
-    private static void append16BitsHexLC(Appendable a, int i) throws IOException {
-        if ((i & ~0xFF) != 0) {
-            append8BitsHexLC(a, i >>> 8);
-            append2HexLC(a, i);
+        long fraction = 0;
+        if (scale >= 19) {
+            fraction = n;
+            n = 0;
+        }
+        else if (scale > 0) {
+            long p = longPowersOfTen[scale];
+            long m = Long.divideUnsigned(n, p);
+            fraction = n - m * p;
+            n = m;
+        }
+        int remaining = unsignedLongLength(n);
+        if (remaining > firstGroupSize) {
+            int leading = (remaining - firstGroupSize) % groupSize;
+            remaining -= leading == 0 ? groupSize : leading;
+            long p = longPowersOfTen[remaining];
+            long m = Long.divideUnsigned(n, p);
+            appendPositiveLong(a, m);
+            n -= m * p;
+            while (remaining > firstGroupSize) {
+                remaining -= groupSize;
+                p = longPowersOfTen[remaining];
+                m = n / p;
+                a.append(groupingChar);
+                appendNDigits(a, m, groupSize);
+                n -= m * p;
+            }
+            a.append(groupingChar);
+            appendNDigits(a, n, firstGroupSize);
         }
         else
-            append8BitsHexLC(a, i);
+            appendUnsignedLong(a, n);
+        if (scale > 0) {
+            a.append(separator);
+            if (scale >= 19) { // the fraction may be 2^63, which is negative as a long
+                for (; scale > 19; scale--)
+                    a.append('0');
+                long m = (fraction >>> 1) / 5;
+                appendNDigits(a, m, 18);
+                a.append(digits[(int)(fraction - m * 10)]);
+            }
+            else
+                appendNDigits(a, fraction, scale);
+        }
     }
 
     /**
-     * Append a {@code long} left-trimmed to an {@link Appendable} in hexadecimal.  This method outputs the digits left
-     * to right, avoiding the need to allocate a separate object to hold the string form.
+     * Append a {@link BigInteger} left-trimmed to an {@link Appendable}.  If the value fits in a {@code long} it is
+     * output using {@link #appendLong(Appendable, long)}; otherwise it is split by divide-and-conquer into 18-digit
+     * chunks, which are output using the {@code long} functions, avoiding the creation of the string form.
      *
      * @param   a           the {@link Appendable}
-     * @param   n           the {@code long}
+     * @param   bi          the {@link BigInteger}
      * @throws  IOException if thrown by the {@link Appendable}
      */
-    public static void appendLongHex(Appendable a, long n) throws IOException {
-        int hi = (int)(n >>> 32);
-        int lo = (int)n;
-        if (hi != 0) {
-            appendIntHex(a, hi);
-            append8Hex(a, lo);
+    public static void appendBigInteger(Appendable a, BigInteger bi) throws IOException {
+        if (bi.bitLength() < 64)
+            appendLong(a, bi.longValue());
+        else {
+            if (bi.signum() < 0) {
+                a.append('-');
+                bi = bi.negate();
+            }
+            appendPositiveBigInteger(a, bi, 0);
         }
-        else
-            appendIntHex(a, lo);
     }
 
     /**
-     * Append a {@code long} left-trimmed to an {@link Appendable} in hexadecimal, using lower-case for the alphabetic
-     * characters.  This method outputs the digits left to right, avoiding the need to allocate a separate object to
-     * hold the string form.
+     * Append a positive {@link BigInteger} to an {@link Appendable}, either left-trimmed (if {@code count} is zero) or
+     * left filled with zeros to the specified number of digits.  The value is divided by the power of 10<sup>18 &times;
+     * 2<sup>k</sup></sup> that splits it most evenly, and the two parts are output recursively.
      *
      * @param   a           the {@link Appendable}
-     * @param   n           the {@code long}
+     * @param   n           the {@link BigInteger}
+     * @param   count       the number of digits, or zero for left-trimmed output
      * @throws  IOException if thrown by the {@link Appendable}
      */
-    public static void appendLongHexLC(Appendable a, long n) throws IOException {
-        int hi = (int)(n >>> 32);
-        int lo = (int)n;
-        if (hi != 0) {
-            appendIntHexLC(a, hi);
-            append8HexLC(a, lo);
+    private static void appendPositiveBigInteger(Appendable a, BigInteger n, int count) throws IOException {
+        if (n.bitLength() < 64) {
+            if (count == 0)
+                appendPositiveLong(a, n.longValue());
+            else
+                appendNDigits(a, n.longValue(), count);
         }
-        else
-            appendIntHexLC(a, lo);
-    }
+        else {
+            int k = bigPowerOfTenIndex(n);
+            BigInteger[] qr = n.divideAndRemainder(bigPowerOfTen(k));
+            int chunkDigits = BIG_CHUNK_DIGITS << k;
+            appendPositiveBigInteger(a, qr[0], count == 0 ? 0 : count - chunkDigits);
+            appendPositiveBigInteger(a, qr[1], chunkDigits);
+        }
+    }
+
+    /**
+     * Append a {@link BigInteger} left-trimmed to an {@link Appendable} with digits grouped in 3s and separated by the
+     * specified grouping character.
+     *
+     * @param   a               the {@link Appendable}
+     * @param   bi              the {@link BigInteger}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendBigIntegerGrouped(Appendable a, BigInteger bi, char groupingChar) throws IOException {
+        if (bi.bitLength() < 64)
+            appendLongGrouped(a, bi.longValue(), groupingChar);
+        else {
+            if (bi.signum() < 0) {
+                a.append('-');
+                bi = bi.negate();
+            }
+            appendPositiveBigIntegerGrouped(a, bi, 0, groupingChar);
+        }
+    }
+
+    private static void appendPositiveBigIntegerGrouped(Appendable a, BigInteger n, int count, char groupingChar)
+            throws IOException {
+        if (n.bitLength() < 64) {
+            if (count == 0)
+                appendPositiveLongGrouped(a, n.longValue(), groupingChar);
+            else
+                appendChunkGrouped(a, n.longValue(), count, groupingChar);
+        }
+        else {
+            int k = bigPowerOfTenIndex(n);
+            BigInteger[] qr = n.divideAndRemainder(bigPowerOfTen(k));
+            int chunkDigits = BIG_CHUNK_DIGITS << k;
+            appendPositiveBigIntegerGrouped(a, qr[0], count == 0 ? 0 : count - chunkDigits, groupingChar);
+            appendPositiveBigIntegerGrouped(a, qr[1], chunkDigits, groupingChar);
+        }
+    }
+
+    /**
+     * Append a {@code long} to an {@link Appendable} as the specified number of digits (a multiple of 18), with each
+     * group of 3 digits preceded by the grouping character.
+     *
+     * @param   a               the {@link Appendable}
+     * @param   n               the {@code long}
+     * @param   count           the number of digits
+     * @param   groupingChar    the grouping character
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    private static void appendChunkGrouped(Appendable a, long n, int count, char groupingChar) throws IOException {
+        if (count > BIG_CHUNK_DIGITS) {
+            for (; count > BIG_CHUNK_DIGITS + 3; count -= 3) {
+                a.append(groupingChar);
+                a.append('0');
+                a.append('0');
+                a.append('0');
+            }
+            long m = n / 1000000000000000000L;
+            a.append(groupingChar);
+            append3Digits(a, (int)m);
+            n -= m * 1000000000000000000L;
+        }
+        long m = n / 1000000000;
+        append9DigitsGrouped(a, (int)m, groupingChar);
+        append9DigitsGrouped(a, (int)(n - m * 1000000000), groupingChar);
+    }
+
+    private static void append9DigitsGrouped(Appendable a, int i, char groupingChar) throws IOException {
+        int j = i / 1000000;
+        a.append(groupingChar);
+        append3Digits(a, j);
+        i -= j * 1000000;
+        j = i / 1000;
+        a.append(groupingChar);
+        append3Digits(a, j);
+        a.append(groupingChar);
+        append3Digits(a, i - j * 1000);
+    }
+
+    /**
+     * Append a {@link BigDecimal} to an {@link Appendable}, in the form output by {@link BigDecimal#toPlainString()}.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   bd          the {@link BigDecimal}
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendBigDecimal(Appendable a, BigDecimal bd) throws IOException {
+        appendBigDecimal(a, bd, '.');
+    }
+
+    /**
+     * Append a {@link BigDecimal} to an {@link Appendable}, in the form output by {@link BigDecimal#toPlainString()}
+     * but using the specified decimal separator.  If the unscaled value fits in a {@code long} it is output using
+     * {@link #appendLongScaled(Appendable, long, int, char)}; otherwise the integer and fractional parts are output
+     * as {@link BigInteger}s.  A negative scale causes the appropriate number of zeros to be output after the number.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   bd          the {@link BigDecimal}
+     * @param   separator   the decimal separator character to use
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendBigDecimal(Appendable a, BigDecimal bd, char separator) throws IOException {
+        BigInteger unscaled = bd.unscaledValue();
+        int scale = bd.scale();
+        if (unscaled.bitLength() < 64)
+            appendLongScaled(a, unscaled.longValue(), scale, separator);
+        else {
+            if (unscaled.signum() < 0) {
+                a.append('-');
+                unscaled = unscaled.negate();
+            }
+            if (scale > 0) {
+                BigInteger[] qr = unscaled.divideAndRemainder(BigInteger.TEN.pow(scale));
+                appendPositiveBigInteger(a, qr[0], 0);
+                a.append(separator);
+                appendPositiveBigInteger(a, qr[1], scale);
+            }
+            else
+                appendPositiveBigInteger(a, unscaled, 0);
+        }
+        if (scale < 0 && unscaled.signum() != 0) {
+            for (; scale < 0; scale++)
+                a.append('0');
+        }
+    }
+
+    /**
+     * Append a signed 128-bit integer, supplied as two {@code long}s, left-trimmed to an {@link Appendable}.  The value
+     * is split into 19-digit chunks, which are output using the {@code long} functions.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   hi          the high-order 64 bits
+     * @param   lo          the low-order 64 bits
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendInt128(Appendable a, long hi, long lo) throws IOException {
+        if (hi < 0) {
+            a.append('-');
+            lo = -lo;
+            hi = lo == 0 ? -hi : ~hi;
+        }
+        appendUnsignedInt128(a, hi, lo);
+    }
+
+    /**
+     * Append an unsigned 128-bit integer, supplied as two {@code long}s, left-trimmed to an {@link Appendable}.  The
+     * value is split into 19-digit chunks, which are output using the {@code long} functions.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   hi          the high-order 64 bits
+     * @param   lo          the low-order 64 bits
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendUnsignedInt128(Appendable a, long hi, long lo) throws IOException {
+        if (hi == 0)
+            appendUnsignedLong(a, lo);
+        else {
+            long q = divideUnsigned128(hi, lo, 19);
+            appendUnsignedInt128(a, (hi >>> 19) / powersOfFive[19], q);
+            long r = lo - q * TEN_TO_THE_19TH_UNSIGNED;
+            long m = (r >>> 1) / 50;
+            appendNDigits(a, m, 17);
+            append2Digits(a, (int)(r - m * 100));
+        }
+    }
+
+    /**
+     * Append a signed 128-bit integer, supplied as two {@code long}s, left-trimmed to an {@link Appendable} with
+     * digits grouped in 3s and separated by the specified grouping character.
+     *
+     * @param   a               the {@link Appendable}
+     * @param   hi              the high-order 64 bits
+     * @param   lo              the low-order 64 bits
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendInt128Grouped(Appendable a, long hi, long lo, char groupingChar) throws IOException {
+        if (hi < 0) {
+            a.append('-');
+            lo = -lo;
+            hi = lo == 0 ? -hi : ~hi;
+        }
+        appendUnsignedInt128Grouped(a, hi, lo, groupingChar);
+    }
+
+    /**
+     * Append an unsigned 128-bit integer, supplied as two {@code long}s, left-trimmed to an {@link Appendable} with
+     * digits grouped in 3s and separated by the specified grouping character.  The value is split into 18-digit chunks
+     * (so that the chunks align with the groups).
+     *
+     * @param   a               the {@link Appendable}
+     * @param   hi              the high-order 64 bits
+     * @param   lo              the low-order 64 bits
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendUnsignedInt128Grouped(Appendable a, long hi, long lo, char groupingChar)
+            throws IOException {
+        if (hi == 0 && lo >= 0)
+            appendPositiveLongGrouped(a, lo, groupingChar);
+        else {
+            long q = divideUnsigned128(hi, lo, 18);
+            appendUnsignedInt128Grouped(a, (hi >>> 18) / powersOfFive[18], q, groupingChar);
+            appendChunkGrouped(a, lo - q * longPowersOfTen[18], 18, groupingChar);
+        }
+    }
+
+    /**
+     * Append a signed 128-bit integer, supplied as two {@code long}s, left-trimmed to an {@link Appendable}, using a
+     * scale parameter to indicate the number of decimal places.  Negative scale values are ignored, as for
+     * {@link #appendLongScaled(Appendable, long, int, char)}.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   hi          the high-order 64 bits
+     * @param   lo          the low-order 64 bits
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendInt128Scaled(Appendable a, long hi, long lo, int scale, char separator)
+            throws IOException {
+        if (hi < 0) {
+            a.append('-');
+            lo = -lo;
+            hi = lo == 0 ? -hi : ~hi;
+        }
+        appendUnsignedInt128Scaled(a, hi, lo, scale, separator);
+    }
+
+    /**
+     * Append an unsigned 128-bit integer, supplied as two {@code long}s, left-trimmed to an {@link Appendable}, using
+     * a scale parameter to indicate the number of decimal places.  Negative scale values are ignored.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   hi          the high-order 64 bits
+     * @param   lo          the low-order 64 bits
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendUnsignedInt128Scaled(Appendable a, long hi, long lo, int scale, char separator)
+            throws IOException {
+        if (scale <= 0)
+            appendUnsignedInt128(a, hi, lo);
+        else if (hi == 0 && lo >= 0)
+            appendPositiveLongScaled(a, lo, scale, separator);
+        else if (scale <= 18) {
+            long q = divideUnsigned128(hi, lo, scale);
+            appendUnsignedInt128(a, (hi >>> scale) / powersOfFive[scale], q);
+            a.append(separator);
+            appendNDigits(a, lo - q * longPowersOfTen[scale], scale);
+        }
+        else {
+            long q = divideUnsigned128(hi, lo, 18);
+            appendUnsignedInt128Scaled(a, (hi >>> 18) / powersOfFive[18], q, scale - 18, separator);
+            appendNDigits(a, lo - q * longPowersOfTen[18], 18);
+        }
+    }
+
+    /**
+     * Append a 128-bit integer, supplied as two {@code long}s, left-trimmed to an {@link Appendable} in hexadecimal.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   hi          the high-order 64 bits
+     * @param   lo          the low-order 64 bits
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendInt128Hex(Appendable a, long hi, long lo) throws IOException {
+        if (hi != 0) {
+            appendLongHex(a, hi);
+            append8Hex(a, (int)(lo >>> 32));
+            append8Hex(a, (int)lo);
+        }
+        else
+            appendLongHex(a, lo);
+    }
+
+    /**
+     * Append a 128-bit integer, supplied as two {@code long}s, left-trimmed to an {@link Appendable} in hexadecimal,
+     * using lower-case for the alphabetic characters.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   hi          the high-order 64 bits
+     * @param   lo          the low-order 64 bits
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendInt128HexLC(Appendable a, long hi, long lo) throws IOException {
+        if (hi != 0) {
+            appendLongHexLC(a, hi);
+            append8HexLC(a, (int)(lo >>> 32));
+            append8HexLC(a, (int)lo);
+        }
+        else
+            appendLongHexLC(a, lo);
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to an {@link Appendable} in hexadecimal.  This method outputs the digits left
+     * to right, avoiding the need to allocate a separate object to hold the string form.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendIntHex(Appendable a, int i) throws IOException {
+        if ((i & ~0xFFFF) != 0) {
+            append16BitsHex(a, i >>> 16);
+            append4Hex(a, i);
+        }
+        else
+            append16BitsHex(a, i);
+    }
+
+    private static void append8BitsHex(Appendable a, int i) throws IOException {
+        if ((i & ~0xF) != 0)
+            a.append(digitsHex[i >>> 4]);
+        a.append(digitsHex[i & 0xF]);
+    }
+
+    private static void append16BitsHex(Appendable a, int i) throws IOException {
+        if ((i & ~0xFF) != 0) {
+            append8BitsHex(a, i >>> 8);
+            append2Hex(a, i);
+        }
+        else
+            append8BitsHex(a, i);
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to an {@link Appendable} in hexadecimal, using lower-case for the alphabetic
+     * characters.  This method outputs the digits left to right, avoiding the need to allocate a separate object to
+     * hold the string form.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendIntHexLC(Appendable a, int i) throws IOException {
+        if ((i & ~0xFFFF) != 0) {
+            append16BitsHexLC(a, i >>> 16);
+            append4HexLC(a, i);
+        }
+        else
+            append16BitsHexLC(a, i);
+    }
+
+    private static void append8BitsHexLC(Appendable a, int i) throws IOException {
+        if ((i & ~0xF) != 0)
+            a.append(digitsHexLC[i >>> 4]);
+        a.append(digitsHexLC[i & 0xF]);
+    }
+
+    private static void append16BitsHexLC(Appendable a, int i) throws IOException {
+        if ((i & ~0xFF) != 0) {
+            append8BitsHexLC(a, i >>> 8);
+            append2HexLC(a, i);
+        }
+        else
+            append8BitsHexLC(a, i);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to an {@link Appendable} in hexadecimal.  This method outputs the digits left
+     * to right, avoiding the need to allocate a separate object to hold the string form.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   n           the {@code long}
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendLongHex(Appendable a, long n) throws IOException {
+        int hi = (int)(n >>> 32);
+        int lo = (int)n;
+        if (hi != 0) {
+            appendIntHex(a, hi);
+            append8Hex(a, lo);
+        }
+        else
+            appendIntHex(a, lo);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to an {@link Appendable} in hexadecimal, using lower-case for the alphabetic
+     * characters.  This method outputs the digits left to right, avoiding the need to allocate a separate object to
+     * hold the string form.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   n           the {@code long}
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendLongHexLC(Appendable a, long n) throws IOException {
+        int hi = (int)(n >>> 32);
+        int lo = (int)n;
+        if (hi != 0) {
+            appendIntHexLC(a, hi);
+            append8HexLC(a, lo);
+        }
+        else
+            appendIntHexLC(a, lo);
+    }
 
     /**
      * Append an {@code int} to an {@link Appendable} as eight hexadecimal digits.
@@ -767,750 +1424,5694 @@ public class IntOutput {
     /**
      * Append an {@code int} to an {@link Appendable} as two hexadecimal digits.
      *
-     * @param   a           the {@link Appendable}
+     * @param   a           the {@link Appendable}
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void append2Hex(Appendable a, int i) throws IOException {
+        a.append(digitsHex[(i >> 4) & 0xF]);
+        a.append(digitsHex[i & 0xF]);
+    }
+
+    /**
+     * Append an {@code int} to an {@link Appendable} as two hexadecimal digits, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void append2HexLC(Appendable a, int i) throws IOException {
+        a.append(digitsHexLC[(i >> 4) & 0xF]);
+        a.append(digitsHexLC[i & 0xF]);
+    }
+
+    /**
+     * Append an {@code int} to an {@link Appendable} as a single hexadecimal digit.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void append1Hex(Appendable a, int i) throws IOException {
+        a.append(digitsHex[i & 0xF]);
+    }
+
+    /**
+     * Append an {@code int} to an {@link Appendable} as a single hexadecimal digit, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void append1HexLC(Appendable a, int i) throws IOException {
+        a.append(digitsHexLC[i & 0xF]);
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to an {@link Appendable} in octal.  The value is treated as unsigned, as in
+     * {@link Integer#toOctalString(int)}, but no intermediate {@link String} is created.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendIntOctal(Appendable a, int i) throws IOException {
+        for (int shift = (intOctalLength(i) - 1) * 3; shift >= 0; shift -= 3)
+            a.append(digitsHex[(i >>> shift) & 7]);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to an {@link Appendable} in octal.  The value is treated as unsigned, as in
+     * {@link Long#toOctalString(long)}, but no intermediate {@link String} is created.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   n           the {@code long}
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendLongOctal(Appendable a, long n) throws IOException {
+        appendNOctal(a, n, longOctalLength(n));
+    }
+
+    /**
+     * Append the least significant octal digits of a {@code long} to an {@link Appendable}, as the specified number of
+     * digits (for example, 3 digits for a file mode).  If the number of digits is greater than the number required to
+     * represent a {@code long}, the output is left filled with zeros.  A negative {@code int} value will be
+     * sign-extended (use {@code i & 0xFFFFFFFFL} to treat it as unsigned).
+     *
+     * @param   a           the {@link Appendable}
+     * @param   n           the {@code long}
+     * @param   count       the number of digits
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendNOctal(Appendable a, long n, int count) throws IOException {
+        for (; count > 22; count--)
+            a.append('0');
+        for (int shift = (count - 1) * 3; shift >= 0; shift -= 3)
+            a.append(digitsHex[(int)(n >>> shift) & 7]);
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to an {@link Appendable} in binary.  The value is treated as unsigned, as in
+     * {@link Integer#toBinaryString(int)}, but no intermediate {@link String} is created.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendIntBinary(Appendable a, int i) throws IOException {
+        for (int shift = intBinaryLength(i) - 1; shift >= 0; shift--)
+            a.append(digitsHex[(i >>> shift) & 1]);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to an {@link Appendable} in binary.  The value is treated as unsigned, as in
+     * {@link Long#toBinaryString(long)}, but no intermediate {@link String} is created.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   n           the {@code long}
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendLongBinary(Appendable a, long n) throws IOException {
+        appendNBinary(a, n, longBinaryLength(n));
+    }
+
+    /**
+     * Append the least significant binary digits of a {@code long} to an {@link Appendable}, as the specified number of
+     * digits (for example, 8 digits for the bits of a {@code byte}).  If the number of digits is greater than the
+     * number required to represent a {@code long}, the output is left filled with zeros.  A negative {@code int} value
+     * will be sign-extended (use {@code i & 0xFFFFFFFFL} to treat it as unsigned).
+     *
+     * @param   a           the {@link Appendable}
+     * @param   n           the {@code long}
+     * @param   count       the number of digits
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendNBinary(Appendable a, long n, int count) throws IOException {
+        for (; count > 64; count--)
+            a.append('0');
+        for (int shift = count - 1; shift >= 0; shift--)
+            a.append(digitsHex[(int)(n >>> shift) & 1]);
+    }
+
+    /**
+     * Append the values of an {@code int} array to an {@link Appendable}, left-trimmed and separated by the specified
+     * separator character.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   values      the {@code int} array
+     * @param   separator   the separator character
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendInts(Appendable a, int[] values, char separator) throws IOException {
+        for (int k = 0, n = values.length; k < n; k++) {
+            if (k > 0)
+                a.append(separator);
+            appendInt(a, values[k]);
+        }
+    }
+
+    /**
+     * Append the values of a {@code long} array to an {@link Appendable}, left-trimmed and separated by the specified
+     * separator character.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   values      the {@code long} array
+     * @param   separator   the separator character
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendLongs(Appendable a, long[] values, char separator) throws IOException {
+        for (int k = 0, n = values.length; k < n; k++) {
+            if (k > 0)
+                a.append(separator);
+            appendLong(a, values[k]);
+        }
+    }
+
+    /**
+     * Output an {@code int} left-trimmed using an {@link IntConsumer}.  This method outputs the digits left to right,
+     * avoiding the need to allocate a separate object to hold the string form.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputInt(int i, IntConsumer consumer) {
+        if (i < 0) {
+            consumer.accept('-');
+            if (i == Integer.MIN_VALUE)
+                outputString(MIN_INTEGER_DIGITS, consumer);
+            else
+                outputPositiveInt(-i, consumer);
+        }
+        else
+            outputPositiveInt(i, consumer);
+    }
+
+    /**
+     * Output a positive {@code int} left-trimmed using an {@link IntConsumer}.  This method outputs the digits left to
+     * right, avoiding the need to allocate a separate object to hold the string form.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputPositiveInt(int i, IntConsumer consumer) {
+        if (i >= 100) {
+            int n = i / 100;
+            outputPositiveInt(n, consumer);
+            output2Digits(i - n * 100, consumer);
+        }
+        else if (i >= 10)
+            output2Digits(i, consumer);
+        else
+            consumer.accept(digits[i]);
+    }
+
+    /**
+     * Output an unsigned {@code int} left-trimmed using an {@link IntConsumer}.  This method outputs the digits left to
+     * right, avoiding the need to allocate a separate object to hold the string form.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputUnsignedInt(int i, IntConsumer consumer) {
+        if (i >= 0)
+            outputPositiveInt(i, consumer);
+        else {
+            int n = (i >>> 1) / 50;
+            outputPositiveInt(n, consumer);
+            output2Digits(i - n * 100, consumer);
+        }
+    }
+
+    /**
+     * Output an {@code int} left-trimmed using an {@link IntConsumer}, using a scale parameter to indicate the number
+     * of decimal places.  This method outputs the digits left to right, avoiding the need to allocate a separate object
+     * to hold the string form.
+     *
+     * @param   i           the {@code int}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputIntScaled(int i, int scale, char separator, IntConsumer consumer) {
+        if (i < 0) {
+            consumer.accept('-');
+            if (i == Integer.MIN_VALUE)
+                outputStringScaled(MIN_INTEGER_DIGITS, scale, separator, consumer);
+            else
+                outputPositiveIntScaled(-i, scale, separator, consumer);
+        }
+        else
+            outputPositiveIntScaled(i, scale, separator, consumer);
+    }
+
+    /**
+     * Output a given string (representing a decimal value) using an {@link IntConsumer}, using a scale parameter to
+     * indicate the number of decimal places.
+
+     * @param   string      the string of digits
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @param   consumer    the {@link IntConsumer}
+     */
+    private static void outputStringScaled(String string, int scale, char separator, IntConsumer consumer) {
+        if (scale <= 0)
+            outputString(string, consumer);
+        else {
+            int length = string.length();
+            if (scale >= length) {
+                consumer.accept('0');
+                consumer.accept(separator);
+                for (int i = scale; i > length; i--)
+                    consumer.accept('0');
+                outputString(string, consumer);
+            }
+            else {
+                int insertionPoint = length - scale;
+                for (int i = 0; i < length; i++) {
+                    if (i == insertionPoint)
+                        consumer.accept(separator);
+                    consumer.accept(string.charAt(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Output a positive {@code int} left-trimmed using an {@link IntConsumer}, using a scale parameter to indicate the
+     * number of decimal places.  This method outputs the digits left to right, avoiding the need to allocate a separate
+     * object to hold the string form.
+     *
+     * @param   i           the {@code int}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputPositiveIntScaled(int i, int scale, char separator, IntConsumer consumer) {
+        if (scale > 2) {
+            int n = i / 100;
+            outputPositiveIntScaled(n, scale - 2, separator, consumer);
+            output2Digits(i - n * 100, consumer);
+        }
+        else if (scale == 2) {
+            int n = i / 100;
+            outputPositiveInt(n, consumer);
+            consumer.accept(separator);
+            output2Digits(i - n * 100, consumer);
+        }
+        else if (scale == 1) {
+            int n = i / 10;
+            outputPositiveInt(n, consumer);
+            consumer.accept(separator);
+            consumer.accept(digits[i - n * 10]);
+        }
+        else if (i >= 100) {
+            int n = i / 100;
+            outputPositiveInt(n, consumer);
+            output2Digits(i - n * 100, consumer);
+        }
+        else if (i >= 10)
+            output2Digits(i, consumer);
+        else
+            consumer.accept(digits[i]);
+    }
+
+    /**
+     * Output a {@code long} left-trimmed using an {@link IntConsumer}.  This method outputs the digits left to right,
+     * avoiding the need to allocate a separate object to hold the string form.
+     *
+     * @param   n           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputLong(long n, IntConsumer consumer) {
+        if (n < 0) {
+            consumer.accept('-');
+            if (n == Long.MIN_VALUE)
+                outputString(MIN_LONG_DIGITS, consumer);
+            else
+                outputPositiveLong(-n, consumer);
+        }
+        else
+            outputPositiveLong(n, consumer);
+    }
+
+    /**
+     * Output a positive {@code int} left-trimmed using an {@link IntConsumer}.  This method outputs the digits left to
+     * right, avoiding the need to allocate a separate object to hold the string form.
+     *
+     * @param   n           the {@code long}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputPositiveLong(long n, IntConsumer consumer) {
+        if (n > Integer.MAX_VALUE) {
+            long m = n / 100000000; // the only long division - the remaining digits use int arithmetic
+            outputPositiveLong(m, consumer);
+            output8Digits((int)(n - m * 100000000), consumer);
+        }
+        else
+            outputPositiveInt((int)n, consumer);
+    }
+
+    private static void output8Digits(int i, IntConsumer consumer) {
+        int n = i / 10000;
+        outputDigits(n, 4, consumer);
+        outputDigits(i - n * 10000, 4, consumer);
+    }
+
+    private static void outputDigits(int i, int count, IntConsumer consumer) {
+        if (count > 2) {
+            int n = i / 100;
+            outputDigits(n, count - 2, consumer);
+            output2Digits(i - n * 100, consumer);
+        }
+        else if (count == 2)
+            output2Digits(i, consumer);
+        else if (count == 1)
+            consumer.accept(digits[i]);
+    }
+
+    /**
+     * Output an unsigned {@code long} left-trimmed using an {@link IntConsumer}.  This method outputs the digits left
+     * to right, avoiding the need to allocate a separate object to hold the string form.
+     *
+     * @param   n           the {@code long}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputUnsignedLong(long n, IntConsumer consumer) {
+        if (n >= 0)
+            outputPositiveLong(n, consumer);
+        else {
+            long m = (n >>> 1) / 50;
+            outputPositiveLong(m, consumer);
+            output2Digits((int)(n - m * 100), consumer);
+        }
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to an {@link Appendable}, using a scale parameter to indicate the number of
+     * decimal places.  This method outputs the digits left to right, avoiding the need to allocate a separate object to
+     * hold the string form.
+     *
+     * @param   n           the {@code long}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputLongScaled(long n, int scale, char separator, IntConsumer consumer) {
+        if (n < 0) {
+            consumer.accept('-');
+            if (n == Long.MIN_VALUE)
+                outputStringScaled(MIN_LONG_DIGITS, scale, separator, consumer);
+            else
+                outputPositiveLongScaled(-n, scale, separator, consumer);
+        }
+        else
+            outputPositiveLongScaled(n, scale, separator, consumer);
+    }
+
+    /**
+     * Append a positive {@code long} left-trimmed to an {@link Appendable}, using a scale parameter to indicate the
+     * number of decimal places.  This method outputs the digits left to right, avoiding the need to allocate a separate
+     * object to hold the string form.
+     *
+     * @param   n           the {@code int}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputPositiveLongScaled(long n, int scale, char separator, IntConsumer consumer) {
+        if (n <= Integer.MAX_VALUE)
+            outputPositiveIntScaled((int)n, scale, separator, consumer);
+        else if (scale > 8) {
+            long m = n / 100000000;
+            outputPositiveLongScaled(m, scale - 8, separator, consumer);
+            output8Digits((int)(n - m * 100000000), consumer);
+        }
+        else if (scale > 0) {
+            long m = n / 100000000;
+            outputPositiveLong(m, consumer);
+            int i = (int)(n - m * 100000000);
+            int divisor = intPowersOfTen[scale];
+            int j = i / divisor;
+            outputDigits(j, 8 - scale, consumer);
+            consumer.accept(separator);
+            outputDigits(i - j * divisor, scale, consumer);
+        }
+        else
+            outputPositiveLong(n, consumer);
+    }
+
+    /**
+     * Output an {@code int} using an {@link IntConsumer} as a single decimal digit.  Note that there is no range check
+     * on the input value; to output the least significant digit in cases where the value is not guaranteed to be in the
+     * range 0..9, use {@link #output1DigitSafe}.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void output1Digit(int i, IntConsumer consumer) {
+        consumer.accept(i + '0');
+    }
+
+    /**
+     * Output the least significant decimal digit of an {@code int} using an {@link IntConsumer}.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void output1DigitSafe(int i, IntConsumer consumer) {
+        consumer.accept(i == Integer.MIN_VALUE ? '8' : (Math.abs(i) % 10) + '0'); // 8 is last digit of MIN_VALUE
+    }
+
+    /**
+     * Output an {@code int} using an {@link IntConsumer} as two decimal digits.  There is often a requirement to output
+     * a number as 2 digits, for example the cents value in dollars and cents, or hours, minutes and seconds in a time
+     * string.  Note that there is no range check on the input value; to output the least significant two digits in
+     * cases where the value is not guaranteed to be in the range 00..99, use {@link #output2DigitsSafe}.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void output2Digits(int i, IntConsumer consumer) {
+        consumer.accept(tensDigits[i]);
+        consumer.accept(digits[i]);
+    }
+
+    /**
+     * Output the least significant two decimal digits of an {@code int} using an {@link IntConsumer}.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void output2DigitsSafe(int i, IntConsumer consumer) {
+        int n = i == Integer.MIN_VALUE ? 48 : Math.abs(i) % 100; // 48 is last two digits of MIN_VALUE
+        consumer.accept(tensDigits[n]);
+        consumer.accept(digits[n]);
+    }
+
+    /**
+     * Output an {@code int} using an {@link IntConsumer} as three decimal digits.  There is less frequently a
+     * requirement to output a number as 3 digits, for example the milliseconds in a time string.  Note that there is no
+     * range check on the input value; to output the least significant three digits in cases where the value is not
+     * guaranteed to be in the range 000..999, use {@link #output3DigitsSafe}.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void output3Digits(int i, IntConsumer consumer) {
+        int n = i / 100;
+        consumer.accept(digits[n]);
+        output2Digits(i - n * 100, consumer);
+    }
+
+    /**
+     * Output the least significant three decimal digits of an {@code int} using an {@link IntConsumer}.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void output3DigitsSafe(int i, IntConsumer consumer) {
+        int n = i == Integer.MIN_VALUE ? 648 : Math.abs(i) % 1000; // 648 is last three digits of MIN_VALUE
+        int m = n / 100;
+        consumer.accept(digits[m]);
+        output2Digits(n - m * 100, consumer);
+    }
+
+    /**
+     * Output an {@code int} using an {@link IntConsumer} as the specified number of decimal digits, left filled with
+     * zeros.  Note that there is no range check on the input value; it must be positive and must fit in the number of
+     * digits.  To output the least significant digits of a value that is not guaranteed to be in range, use
+     * {@link #outputNDigitsSafe(int, int, IntConsumer)}.
+     *
+     * @param   i           the {@code int}
+     * @param   count       the number of digits
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputNDigits(int i, int count, IntConsumer consumer) {
+        for (; count > 10; count--)
+            consumer.accept('0');
+        if (count == 8)
+            output8Digits(i, consumer);
+        else if (count == 9) {
+            int n = i / 100000000;
+            consumer.accept(digits[n]);
+            output8Digits(i - n * 100000000, consumer);
+        }
+        else
+            outputDigits(i, count, consumer);
+    }
+
+    /**
+     * Output the least significant decimal digits of an {@code int} using an {@link IntConsumer}, as the specified
+     * number of digits, left filled with zeros.  The sign of the value is ignored.
+     *
+     * @param   i           the {@code int}
+     * @param   count       the number of digits
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputNDigitsSafe(int i, int count, IntConsumer consumer) {
+        outputNDigitsSafe((long)i, count, consumer);
+    }
+
+    /**
+     * Output a {@code long} using an {@link IntConsumer} as the specified number of decimal digits, left filled with
+     * zeros.  Note that there is no range check on the input value; it must be positive and must fit in the number of
+     * digits.  To output the least significant digits of a value that is not guaranteed to be in range, use
+     * {@link #outputNDigitsSafe(long, int, IntConsumer)}.
+     *
+     * @param   n           the {@code long}
+     * @param   count       the number of digits
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputNDigits(long n, int count, IntConsumer consumer) {
+        for (; count > 19; count--)
+            consumer.accept('0');
+        if (count > 9) {
+            long m = n / 100000000;
+            outputNDigits(m, count - 8, consumer);
+            output8Digits((int)(n - m * 100000000), consumer);
+        }
+        else
+            outputNDigits((int)n, count, consumer);
+    }
+
+    /**
+     * Output the least significant decimal digits of a {@code long} using an {@link IntConsumer}, as the specified
+     * number of digits, left filled with zeros.  The sign of the value is ignored.
+     *
+     * @param   n           the {@code long}
+     * @param   count       the number of digits
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputNDigitsSafe(long n, int count, IntConsumer consumer) {
+        if (count > 0) {
+            if (count < 19)
+                outputNDigits(Math.abs(n % longPowersOfTen[count]), count, consumer);
+            else if (n == Long.MIN_VALUE) {
+                for (; count > 19; count--)
+                    consumer.accept('0');
+                for (int k = 0; k < MIN_LONG_DIGITS.length(); k++)
+                    consumer.accept(MIN_LONG_DIGITS.charAt(k));
+            }
+            else
+                outputNDigits(Math.abs(n), count, consumer);
+        }
+    }
+
+    /**
+     * Output an {@code int} using an {@link IntConsumer}, right-aligned in a field of the specified width and padded on
+     * the left with the specified pad character.  If the pad character is {@code '0'}, the minus sign of a negative
+     * number precedes the padding.  If the number is longer than the field width, it is output in full.
+     *
+     * @param   i           the {@code int}
+     * @param   width       the field width
+     * @param   padChar     the pad character
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputIntPadded(int i, int width, char padChar, IntConsumer consumer) {
+        paddedInt(i, width - intLength(i), padChar, consumer);
+    }
+
+    /**
+     * Output an {@code int} using an {@link IntConsumer}, right-aligned in a field of the specified width and padded on
+     * the left with the specified pad character.  If the pad character is {@code '0'}, the minus sign of a negative
+     * number precedes the padding.  If the number is longer than the field width, the field is filled with the overflow
+     * character instead (for example, {@code '*'}).
+     *
+     * @param   i               the {@code int}
+     * @param   width           the field width
+     * @param   padChar         the pad character
+     * @param   overflowChar    the character to fill the field if the number does not fit
+     * @param   consumer        the {@link IntConsumer}
+     */
+    public static void outputIntPadded(int i, int width, char padChar, char overflowChar, IntConsumer consumer) {
+        int padding = width - intLength(i);
+        if (padding < 0)
+            outputPadding(width, overflowChar, consumer);
+        else
+            paddedInt(i, padding, padChar, consumer);
+    }
+
+    /**
+     * Output a {@code long} using an {@link IntConsumer}, right-aligned in a field of the specified width and padded on
+     * the left with the specified pad character.  If the pad character is {@code '0'}, the minus sign of a negative
+     * number precedes the padding.  If the number is longer than the field width, it is output in full.
+     *
+     * @param   n           the {@code long}
+     * @param   width       the field width
+     * @param   padChar     the pad character
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputLongPadded(long n, int width, char padChar, IntConsumer consumer) {
+        paddedLong(n, width - longLength(n), padChar, consumer);
+    }
+
+    /**
+     * Output a {@code long} using an {@link IntConsumer}, right-aligned in a field of the specified width and padded on
+     * the left with the specified pad character.  If the pad character is {@code '0'}, the minus sign of a negative
+     * number precedes the padding.  If the number is longer than the field width, the field is filled with the overflow
+     * character instead (for example, {@code '*'}).
+     *
+     * @param   n               the {@code long}
+     * @param   width           the field width
+     * @param   padChar         the pad character
+     * @param   overflowChar    the character to fill the field if the number does not fit
+     * @param   consumer        the {@link IntConsumer}
+     */
+    public static void outputLongPadded(long n, int width, char padChar, char overflowChar, IntConsumer consumer) {
+        int padding = width - longLength(n);
+        if (padding < 0)
+            outputPadding(width, overflowChar, consumer);
+        else
+            paddedLong(n, padding, padChar, consumer);
+    }
+
+    private static void paddedInt(int i, int padding, char padChar, IntConsumer consumer) {
+        if (padding > 0) {
+            if (i < 0 && padChar == '0') {
+                consumer.accept('-');
+                outputPadding(padding, '0', consumer);
+                outputUnsignedInt(-i, consumer);
+                return;
+            }
+            outputPadding(padding, padChar, consumer);
+        }
+        outputInt(i, consumer);
+    }
+
+    private static void paddedLong(long n, int padding, char padChar, IntConsumer consumer) {
+        if (padding > 0) {
+            if (n < 0 && padChar == '0') {
+                consumer.accept('-');
+                outputPadding(padding, '0', consumer);
+                outputUnsignedLong(-n, consumer);
+                return;
+            }
+            outputPadding(padding, padChar, consumer);
+        }
+        outputLong(n, consumer);
+    }
+
+    private static void outputPadding(int count, char ch, IntConsumer consumer) {
+        for (int i = count; i > 0; i--)
+            consumer.accept(ch);
+    }
+
+    /**
+     * Output an {@code int} left-trimmed using an {@link IntConsumer} with digits grouped in 3s and separated by the
+     * specified grouping character.
+     *
+     * @param   i               the {@code int}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @param   consumer        the {@link IntConsumer}
+     */
+    public static void outputIntGrouped(int i, char groupingChar, IntConsumer consumer) {
+        if (i < 0) {
+            consumer.accept('-');
+            if (i == Integer.MIN_VALUE) {
+                consumer.accept(MIN_INTEGER_DIGITS.charAt(0));
+                consumer.accept(groupingChar);
+                outputString(MIN_INTEGER_DIGITS, 1, 4, consumer);
+                consumer.accept(groupingChar);
+                outputString(MIN_INTEGER_DIGITS, 4, 7, consumer);
+                consumer.accept(groupingChar);
+                outputString(MIN_INTEGER_DIGITS, 7, 10, consumer);
+            }
+            else
+                outputPositiveIntGrouped(-i, groupingChar, consumer);
+        }
+        else
+            outputPositiveIntGrouped(i, groupingChar, consumer);
+    }
+
+    /**
+     * Output a positive {@code int} left-trimmed using an {@link IntConsumer} with digits grouped in 3s and separated
+     * by the specified grouping character.
+     *
+     * @param   i               the {@code int}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @param   consumer        the {@link IntConsumer}
+     */
+    public static void outputPositiveIntGrouped(int i, char groupingChar, IntConsumer consumer) {
+        if (i >= 100) {
+            int n = i / 100;
+            outputPositiveIntGrouped1(n, groupingChar, consumer);
+            output2Digits(i - n * 100, consumer);
+        }
+        else if (i >= 10)
+            output2Digits(i, consumer);
+        else
+            consumer.accept(digits[i]);
+    }
+
+    private static void outputPositiveIntGrouped1(int i, char groupingChar, IntConsumer consumer) {
+        if (i >= 100) {
+            int n = i / 100;
+            outputPositiveIntGrouped2(n, groupingChar, consumer);
+            i -= n * 100;
+            consumer.accept(tensDigits[i]);
+            consumer.accept(groupingChar);
+            consumer.accept(digits[i]);
+        }
+        else if (i >= 10) {
+            consumer.accept(tensDigits[i]);
+            consumer.accept(groupingChar);
+            consumer.accept(digits[i]);
+        }
+        else
+            consumer.accept(digits[i]);
+    }
+
+    private static void outputPositiveIntGrouped2(int i, char groupingChar, IntConsumer consumer) {
+        if (i >= 100) {
+            int n = i / 100;
+            outputPositiveIntGrouped(n, groupingChar, consumer);
+            consumer.accept(groupingChar);
+            output2Digits(i - n * 100, consumer);
+        }
+        else if (i >= 10)
+            output2Digits(i, consumer);
+        else
+            consumer.accept(digits[i]);
+    }
+
+    /**
+     * Output a {@code long} left-trimmed using an {@link IntConsumer} with digits grouped in 3s and separated by the
+     * specified grouping character.
+     *
+     * @param   n               the {@code long}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @param   consumer        the {@link IntConsumer}
+     */
+    public static void outputLongGrouped(long n, char groupingChar, IntConsumer consumer) {
+        if (n < 0) {
+            consumer.accept('-');
+            if (n == Long.MIN_VALUE) {
+                consumer.accept(MIN_LONG_DIGITS.charAt(0));
+                consumer.accept(groupingChar);
+                outputString(MIN_LONG_DIGITS, 1, 4, consumer);
+                consumer.accept(groupingChar);
+                outputString(MIN_LONG_DIGITS, 4, 7, consumer);
+                consumer.accept(groupingChar);
+                outputString(MIN_LONG_DIGITS, 7, 10, consumer);
+                consumer.accept(groupingChar);
+                outputString(MIN_LONG_DIGITS, 10, 13, consumer);
+                consumer.accept(groupingChar);
+                outputString(MIN_LONG_DIGITS, 13, 16, consumer);
+                consumer.accept(groupingChar);
+                outputString(MIN_LONG_DIGITS, 16, 19, consumer);
+            }
+            else
+                outputPositiveLongGrouped(-n, groupingChar, consumer);
+        }
+        else
+            outputPositiveLongGrouped(n, groupingChar, consumer);
+    }
+
+    /**
+     * Output a positive {@code long} left-trimmed using an {@link IntConsumer} with digits grouped in 3s and separated
+     * by the specified grouping character.
+     *
+     * @param   n               the {@code long}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @param   consumer        the {@link IntConsumer}
+     */
+    public static void outputPositiveLongGrouped(long n, char groupingChar, IntConsumer consumer) {
+        if (n > Integer.MAX_VALUE) {
+            long m = n / 1000000000;
+            outputPositiveLongGrouped(m, groupingChar, consumer);
+            int i = (int)(n - m * 1000000000);
+            int j = i / 1000000;
+            consumer.accept(groupingChar);
+            output3Digits(j, consumer);
+            i -= j * 1000000;
+            j = i / 1000;
+            consumer.accept(groupingChar);
+            output3Digits(j, consumer);
+            consumer.accept(groupingChar);
+            output3Digits(i - j * 1000, consumer);
+        }
+        else
+            outputPositiveIntGrouped((int)n, groupingChar, consumer);
+    }
+
+    /**
+     * Output a {@code long} left-trimmed using an {@link IntConsumer} with digits grouped in groups of the specified
+     * size, separated by the specified grouping character.
+     *
+     * @param   n               the {@code long}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @param   groupSize       the number of digits in each group
+     * @param   consumer        the {@link IntConsumer}
+     * @throws  IllegalArgumentException if a group size is less than 1
+     */
+    public static void outputLongGrouped(long n, char groupingChar, int groupSize, IntConsumer consumer) {
+        outputLongGroupedScaled(n, 0, '.', groupingChar, groupSize, groupSize, consumer);
+    }
+
+    /**
+     * Output a {@code long} left-trimmed using an {@link IntConsumer} with digits grouped in the Indian style (lakh and
+     * crore): the last 3 digits form a group, and the preceding digits are grouped in 2s (for example,
+     * {@code 12,34,56,789}).
+     *
+     * @param   n               the {@code long}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @param   consumer        the {@link IntConsumer}
+     */
+    public static void outputLongGroupedIndian(long n, char groupingChar, IntConsumer consumer) {
+        outputLongGroupedScaled(n, 0, '.', groupingChar, 3, 2, consumer);
+    }
+
+    /**
+     * Output a {@code long} left-trimmed using an {@link IntConsumer}, using a scale parameter to indicate the number
+     * of decimal places, with the digits of the integer part grouped in 3s and separated by the specified grouping
+     * character.
+     *
+     * @param   n               the {@code long}
+     * @param   scale           the number of decimal places
+     * @param   separator       the decimal separator character to use
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @param   consumer        the {@link IntConsumer}
+     */
+    public static void outputLongGroupedScaled(long n, int scale, char separator, char groupingChar,
+            IntConsumer consumer) {
+        outputLongGroupedScaled(n, scale, separator, groupingChar, 3, 3, consumer);
+    }
+
+    /**
+     * Output a {@code long} left-trimmed using an {@link IntConsumer}, using a scale parameter to indicate the number
+     * of decimal places, with the digits of the integer part grouped and separated by the specified grouping character.
+     * The last (rightmost) group of the integer part has {@code firstGroupSize} digits, and the preceding groups have
+     * {@code groupSize} digits (3 and 2 for the Indian style).
+     * <br>
+     * The digits are output left to right in a single pass, without recursion: the length of the integer part is
+     * determined first (using the table of powers of ten), and then each group is separated using a single division by
+     * a power of ten.  Negative scale values are ignored.
+     *
+     * @param   n               the {@code long}
+     * @param   scale           the number of decimal places
+     * @param   separator       the decimal separator character to use
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @param   firstGroupSize  the number of digits in the last group of the integer part
+     * @param   groupSize       the number of digits in each preceding group
+     * @param   consumer        the {@link IntConsumer}
+     * @throws  IllegalArgumentException if a group size is less than 1
+     */
+    public static void outputLongGroupedScaled(long n, int scale, char separator, char groupingChar, int firstGroupSize,
+            int groupSize, IntConsumer consumer) {
+        checkGroupSizes(firstGroupSize, groupSize);
+        if (n < 0) {
+            consumer.accept('-');
+            n = -n; // Long.MIN_VALUE remains negative, and is treated as unsigned
+        }
+        long fraction = 0;
+        if (scale >= 19) {
+            fraction = n;
+            n = 0;
+        }
+        else if (scale > 0) {
+            long p = longPowersOfTen[scale];
+            long m = Long.divideUnsigned(n, p);
+            fraction = n - m * p;
+            n = m;
+        }
+        int remaining = unsignedLongLength(n);
+        if (remaining > firstGroupSize) {
+            int leading = (remaining - firstGroupSize) % groupSize;
+            remaining -= leading == 0 ? groupSize : leading;
+            long p = longPowersOfTen[remaining];
+            long m = Long.divideUnsigned(n, p);
+            outputPositiveLong(m, consumer);
+            n -= m * p;
+            while (remaining > firstGroupSize) {
+                remaining -= groupSize;
+                p = longPowersOfTen[remaining];
+                m = n / p;
+                consumer.accept(groupingChar);
+                outputNDigits(m, groupSize, consumer);
+                n -= m * p;
+            }
+            consumer.accept(groupingChar);
+            outputNDigits(n, firstGroupSize, consumer);
+        }
+        else
+            outputUnsignedLong(n, consumer);
+        if (scale > 0) {
+            consumer.accept(separator);
+            if (scale >= 19) { // the fraction may be 2^63, which is negative as a long
+                for (; scale > 19; scale--)
+                    consumer.accept('0');
+                long m = (fraction >>> 1) / 5;
+                outputNDigits(m, 18, consumer);
+                consumer.accept(digits[(int)(fraction - m * 10)]);
+            }
+            else
+                outputNDigits(fraction, scale, consumer);
+        }
+    }
+
+    /**
+     * Output a {@link BigInteger} left-trimmed using an {@link IntConsumer}.  If the value fits in a {@code long} it is
+     * output using {@link #outputLong(long, IntConsumer)}; otherwise it is split by divide-and-conquer into 18-digit
+     * chunks, which are output using the {@code long} functions, avoiding the creation of the string form.
+     *
+     * @param   bi          the {@link BigInteger}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputBigInteger(BigInteger bi, IntConsumer consumer) {
+        if (bi.bitLength() < 64)
+            outputLong(bi.longValue(), consumer);
+        else {
+            if (bi.signum() < 0) {
+                consumer.accept('-');
+                bi = bi.negate();
+            }
+            outputPositiveBigInteger(bi, 0, consumer);
+        }
+    }
+
+    private static void outputPositiveBigInteger(BigInteger n, int count, IntConsumer consumer) {
+        if (n.bitLength() < 64) {
+            if (count == 0)
+                outputPositiveLong(n.longValue(), consumer);
+            else
+                outputNDigits(n.longValue(), count, consumer);
+        }
+        else {
+            int k = bigPowerOfTenIndex(n);
+            BigInteger[] qr = n.divideAndRemainder(bigPowerOfTen(k));
+            int chunkDigits = BIG_CHUNK_DIGITS << k;
+            outputPositiveBigInteger(qr[0], count == 0 ? 0 : count - chunkDigits, consumer);
+            outputPositiveBigInteger(qr[1], chunkDigits, consumer);
+        }
+    }
+
+    /**
+     * Output a {@link BigInteger} left-trimmed using an {@link IntConsumer} with digits grouped in 3s and separated by
+     * the specified grouping character.
+     *
+     * @param   bi              the {@link BigInteger}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @param   consumer        the {@link IntConsumer}
+     */
+    public static void outputBigIntegerGrouped(BigInteger bi, char groupingChar, IntConsumer consumer) {
+        if (bi.bitLength() < 64)
+            outputLongGrouped(bi.longValue(), groupingChar, consumer);
+        else {
+            if (bi.signum() < 0) {
+                consumer.accept('-');
+                bi = bi.negate();
+            }
+            outputPositiveBigIntegerGrouped(bi, 0, groupingChar, consumer);
+        }
+    }
+
+    private static void outputPositiveBigIntegerGrouped(BigInteger n, int count, char groupingChar,
+            IntConsumer consumer) {
+        if (n.bitLength() < 64) {
+            if (count == 0)
+                outputPositiveLongGrouped(n.longValue(), groupingChar, consumer);
+            else
+                outputChunkGrouped(n.longValue(), count, groupingChar, consumer);
+        }
+        else {
+            int k = bigPowerOfTenIndex(n);
+            BigInteger[] qr = n.divideAndRemainder(bigPowerOfTen(k));
+            int chunkDigits = BIG_CHUNK_DIGITS << k;
+            outputPositiveBigIntegerGrouped(qr[0], count == 0 ? 0 : count - chunkDigits, groupingChar, consumer);
+            outputPositiveBigIntegerGrouped(qr[1], chunkDigits, groupingChar, consumer);
+        }
+    }
+
+    private static void outputChunkGrouped(long n, int count, char groupingChar, IntConsumer consumer) {
+        if (count > BIG_CHUNK_DIGITS) {
+            for (; count > BIG_CHUNK_DIGITS + 3; count -= 3) {
+                consumer.accept(groupingChar);
+                consumer.accept('0');
+                consumer.accept('0');
+                consumer.accept('0');
+            }
+            long m = n / 1000000000000000000L;
+            consumer.accept(groupingChar);
+            output3Digits((int)m, consumer);
+            n -= m * 1000000000000000000L;
+        }
+        long m = n / 1000000000;
+        output9DigitsGrouped((int)m, groupingChar, consumer);
+        output9DigitsGrouped((int)(n - m * 1000000000), groupingChar, consumer);
+    }
+
+    private static void output9DigitsGrouped(int i, char groupingChar, IntConsumer consumer) {
+        int j = i / 1000000;
+        consumer.accept(groupingChar);
+        output3Digits(j, consumer);
+        i -= j * 1000000;
+        j = i / 1000;
+        consumer.accept(groupingChar);
+        output3Digits(j, consumer);
+        consumer.accept(groupingChar);
+        output3Digits(i - j * 1000, consumer);
+    }
+
+    /**
+     * Output a {@link BigDecimal} using an {@link IntConsumer}, in the form output by
+     * {@link BigDecimal#toPlainString()}.
+     *
+     * @param   bd          the {@link BigDecimal}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputBigDecimal(BigDecimal bd, IntConsumer consumer) {
+        outputBigDecimal(bd, '.', consumer);
+    }
+
+    /**
+     * Output a {@link BigDecimal} using an {@link IntConsumer}, in the form output by
+     * {@link BigDecimal#toPlainString()} but using the specified decimal separator.  If the unscaled value fits in a
+     * {@code long} it is output using {@link #outputLongScaled(long, int, char, IntConsumer)}; otherwise the integer
+     * and fractional parts are output as {@link BigInteger}s.
+     *
+     * @param   bd          the {@link BigDecimal}
+     * @param   separator   the decimal separator character to use
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputBigDecimal(BigDecimal bd, char separator, IntConsumer consumer) {
+        BigInteger unscaled = bd.unscaledValue();
+        int scale = bd.scale();
+        if (unscaled.bitLength() < 64)
+            outputLongScaled(unscaled.longValue(), scale, separator, consumer);
+        else {
+            if (unscaled.signum() < 0) {
+                consumer.accept('-');
+                unscaled = unscaled.negate();
+            }
+            if (scale > 0) {
+                BigInteger[] qr = unscaled.divideAndRemainder(BigInteger.TEN.pow(scale));
+                outputPositiveBigInteger(qr[0], 0, consumer);
+                consumer.accept(separator);
+                outputPositiveBigInteger(qr[1], scale, consumer);
+            }
+            else
+                outputPositiveBigInteger(unscaled, 0, consumer);
+        }
+        if (scale < 0 && unscaled.signum() != 0) {
+            for (; scale < 0; scale++)
+                consumer.accept('0');
+        }
+    }
+
+    /**
+     * Get the index k of the power of ten 10<sup>18 &times; 2<sup>k</sup></sup> to divide a {@link BigInteger} by,
+     * such that both the quotient and the remainder are less than the divisor.  The value must be at least
+     * 10<sup>18</sup>.
+     *
+     * @param   n           the {@link BigInteger}
+     * @return              the index
+     */
+    private static int bigPowerOfTenIndex(BigInteger n) {
+        int k = 0;
+        while (bigPowerOfTen(k + 1).compareTo(n) <= 0)
+            k++;
+        return k;
+    }
+
+    /**
+     * Get the power of ten 10<sup>18 &times; 2<sup>k</sup></sup> as a {@link BigInteger}.  The powers are created
+     * when first required, by squaring the previous power, and the array of powers is replaced (a race between threads
+     * will at worst cause a power to be calculated twice).
+     *
+     * @param   k           the index
+     * @return              the power of ten
+     */
+    private static BigInteger bigPowerOfTen(int k) {
+        BigInteger[] powers = bigPowersOfTen;
+        if (k >= powers.length) {
+            int i = powers.length;
+            powers = Arrays.copyOf(powers, k + 1);
+            for (; i <= k; i++)
+                powers[i] = powers[i - 1].multiply(powers[i - 1]);
+            bigPowersOfTen = powers;
+        }
+        return powers[k];
+    }
+
+    /**
+     * Output a signed 128-bit integer, supplied as two {@code long}s, left-trimmed using an {@link IntConsumer}.
+     *
+     * @param   hi          the high-order 64 bits
+     * @param   lo          the low-order 64 bits
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputInt128(long hi, long lo, IntConsumer consumer) {
+        if (hi < 0) {
+            consumer.accept('-');
+            lo = -lo;
+            hi = lo == 0 ? -hi : ~hi;
+        }
+        outputUnsignedInt128(hi, lo, consumer);
+    }
+
+    /**
+     * Output an unsigned 128-bit integer, supplied as two {@code long}s, left-trimmed using an {@link IntConsumer}.
+     *
+     * @param   hi          the high-order 64 bits
+     * @param   lo          the low-order 64 bits
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputUnsignedInt128(long hi, long lo, IntConsumer consumer) {
+        if (hi == 0)
+            outputUnsignedLong(lo, consumer);
+        else {
+            long q = divideUnsigned128(hi, lo, 19);
+            outputUnsignedInt128((hi >>> 19) / powersOfFive[19], q, consumer);
+            long r = lo - q * TEN_TO_THE_19TH_UNSIGNED;
+            long m = (r >>> 1) / 50;
+            outputNDigits(m, 17, consumer);
+            output2Digits((int)(r - m * 100), consumer);
+        }
+    }
+
+    /**
+     * Output a signed 128-bit integer, supplied as two {@code long}s, left-trimmed using an {@link IntConsumer} with
+     * digits grouped in 3s and separated by the specified grouping character.
+     *
+     * @param   hi              the high-order 64 bits
+     * @param   lo              the low-order 64 bits
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @param   consumer        the {@link IntConsumer}
+     */
+    public static void outputInt128Grouped(long hi, long lo, char groupingChar, IntConsumer consumer) {
+        if (hi < 0) {
+            consumer.accept('-');
+            lo = -lo;
+            hi = lo == 0 ? -hi : ~hi;
+        }
+        outputUnsignedInt128Grouped(hi, lo, groupingChar, consumer);
+    }
+
+    /**
+     * Output an unsigned 128-bit integer, supplied as two {@code long}s, left-trimmed using an {@link IntConsumer}
+     * with digits grouped in 3s and separated by the specified grouping character.
+     *
+     * @param   hi              the high-order 64 bits
+     * @param   lo              the low-order 64 bits
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @param   consumer        the {@link IntConsumer}
+     */
+    public static void outputUnsignedInt128Grouped(long hi, long lo, char groupingChar, IntConsumer consumer) {
+        if (hi == 0 && lo >= 0)
+            outputPositiveLongGrouped(lo, groupingChar, consumer);
+        else {
+            long q = divideUnsigned128(hi, lo, 18);
+            outputUnsignedInt128Grouped((hi >>> 18) / powersOfFive[18], q, groupingChar, consumer);
+            outputChunkGrouped(lo - q * longPowersOfTen[18], 18, groupingChar, consumer);
+        }
+    }
+
+    /**
+     * Output a signed 128-bit integer, supplied as two {@code long}s, left-trimmed using an {@link IntConsumer}, using
+     * a scale parameter to indicate the number of decimal places.  Negative scale values are ignored.
+     *
+     * @param   hi          the high-order 64 bits
+     * @param   lo          the low-order 64 bits
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputInt128Scaled(long hi, long lo, int scale, char separator, IntConsumer consumer) {
+        if (hi < 0) {
+            consumer.accept('-');
+            lo = -lo;
+            hi = lo == 0 ? -hi : ~hi;
+        }
+        outputUnsignedInt128Scaled(hi, lo, scale, separator, consumer);
+    }
+
+    /**
+     * Output an unsigned 128-bit integer, supplied as two {@code long}s, left-trimmed using an {@link IntConsumer},
+     * using a scale parameter to indicate the number of decimal places.  Negative scale values are ignored.
+     *
+     * @param   hi          the high-order 64 bits
+     * @param   lo          the low-order 64 bits
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputUnsignedInt128Scaled(long hi, long lo, int scale, char separator, IntConsumer consumer) {
+        if (scale <= 0)
+            outputUnsignedInt128(hi, lo, consumer);
+        else if (hi == 0 && lo >= 0)
+            outputPositiveLongScaled(lo, scale, separator, consumer);
+        else if (scale <= 18) {
+            long q = divideUnsigned128(hi, lo, scale);
+            outputUnsignedInt128((hi >>> scale) / powersOfFive[scale], q, consumer);
+            consumer.accept(separator);
+            outputNDigits(lo - q * longPowersOfTen[scale], scale, consumer);
+        }
+        else {
+            long q = divideUnsigned128(hi, lo, 18);
+            outputUnsignedInt128Scaled((hi >>> 18) / powersOfFive[18], q, scale - 18, separator, consumer);
+            outputNDigits(lo - q * longPowersOfTen[18], 18, consumer);
+        }
+    }
+
+    /**
+     * Output a 128-bit integer, supplied as two {@code long}s, left-trimmed using an {@link IntConsumer} in
+     * hexadecimal.
+     *
+     * @param   hi          the high-order 64 bits
+     * @param   lo          the low-order 64 bits
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputInt128Hex(long hi, long lo, IntConsumer consumer) {
+        if (hi != 0) {
+            outputLongHex(hi, consumer);
+            output8Hex((int)(lo >>> 32), consumer);
+            output8Hex((int)lo, consumer);
+        }
+        else
+            outputLongHex(lo, consumer);
+    }
+
+    /**
+     * Output a 128-bit integer, supplied as two {@code long}s, left-trimmed using an {@link IntConsumer} in
+     * hexadecimal, using lower-case for the alphabetic characters.
+     *
+     * @param   hi          the high-order 64 bits
+     * @param   lo          the low-order 64 bits
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputInt128HexLC(long hi, long lo, IntConsumer consumer) {
+        if (hi != 0) {
+            outputLongHexLC(hi, consumer);
+            output8HexLC((int)(lo >>> 32), consumer);
+            output8HexLC((int)lo, consumer);
+        }
+        else
+            outputLongHexLC(lo, consumer);
+    }
+
+    /**
+     * Divide an unsigned 128-bit integer by 10<sup>k</sup>, and return the low-order 64 bits of the quotient (the
+     * high-order bits are given by {@code (hi >>> k) / powersOfFive[k]}, and the remainder by
+     * {@code lo - quotient * 10^k}).  Since 10<sup>k</sup> = 2<sup>k</sup> &times; 5<sup>k</sup>, the value
+     * is shifted right by k bits (the bits shifted out form the low-order bits of the remainder), and then divided by
+     * 5<sup>k</sup>, which is less than 2<sup>45</sup>, 16 bits at a time, so that each step can use a signed
+     * {@code long} division (in the same way that {@link #appendUnsignedLong(Appendable, long)} shifts right by one bit
+     * before dividing).
+     *
+     * @param   hi          the high-order 64 bits
+     * @param   lo          the low-order 64 bits
+     * @param   k           the power of ten (1 to 19)
+     * @return              the low-order 64 bits of the quotient
+     */
+    private static long divideUnsigned128(long hi, long lo, int k) {
+        long divisor = powersOfFive[k];
+        long xh = hi >>> k;
+        long xl = hi << (64 - k) | lo >>> k;
+        long r = xh % divisor;
+        long q = 0;
+        for (int shift = 48; shift >= 0; shift -= 16) {
+            long t = r << 16 | (xl >>> shift) & 0xFFFF;
+            long d = t / divisor;
+            r = t - d * divisor;
+            q = q << 16 | d;
+        }
+        return q;
+    }
+
+    /**
+     * Output an {@code int} left-trimmed using an {@link IntConsumer} in hexadecimal.  This method outputs the digits
+     * left to right, avoiding the need to allocate a separate object to hold the string form.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputIntHex(int i, IntConsumer consumer) {
+        if ((i & ~0xFFFF) != 0) {
+            output16BitsHex(i >>> 16, consumer);
+            output4Hex(i, consumer);
+        }
+        else
+            output16BitsHex(i, consumer);
+    }
+
+    private static void output8BitsHex(int i, IntConsumer consumer) {
+        if ((i & ~0xF) != 0)
+            consumer.accept(digitsHex[i >>> 4]);
+        consumer.accept(digitsHex[i & 0xF]);
+    }
+
+    private static void output16BitsHex(int i, IntConsumer consumer) {
+        if ((i & ~0xFF) != 0) {
+            output8BitsHex(i >>> 8, consumer);
+            output2Hex(i, consumer);
+        }
+        else
+            output8BitsHex(i, consumer);
+    }
+
+    /**
+     * Output an {@code int} left-trimmed using an {@link IntConsumer} in hexadecimal, using lower-case for the
+     * alphabetic characters.  This method outputs the digits left to right, avoiding the need to allocate a separate
+     * object to hold the string form.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputIntHexLC(int i, IntConsumer consumer) {
+        if ((i & ~0xFFFF) != 0) {
+            output16BitsHexLC(i >>> 16, consumer);
+            output4HexLC(i, consumer);
+        }
+        else
+            output16BitsHexLC(i, consumer);
+    }
+
+    private static void output8BitsHexLC(int i, IntConsumer consumer) {
+        if ((i & ~0xF) != 0)
+            consumer.accept(digitsHexLC[i >>> 4]);
+        consumer.accept(digitsHexLC[i & 0xF]);
+    }
+
+    private static void output16BitsHexLC(int i, IntConsumer consumer) {
+        if ((i & ~0xFF) != 0) {
+            output8BitsHexLC(i >>> 8, consumer);
+            output2HexLC(i, consumer);
+        }
+        else
+            output8BitsHexLC(i, consumer);
+    }
+
+    /**
+     * Output a {@code long} left-trimmed using an {@link IntConsumer} in hexadecimal.  This method outputs the digits
+     * left to right, avoiding the need to allocate a separate object to hold the string form.
+     *
+     * @param   n           the {@code long}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputLongHex(long n, IntConsumer consumer) {
+        int hi = (int)(n >>> 32);
+        int lo = (int)n;
+        if (hi != 0) {
+            outputIntHex(hi, consumer);
+            output8Hex(lo, consumer);
+        }
+        else
+            outputIntHex(lo, consumer);
+    }
+
+    /**
+     * Output a {@code long} left-trimmed using an {@link IntConsumer} in hexadecimal, using lower-case for the
+     * alphabetic characters.  This method outputs the digits left to right, avoiding the need to allocate a separate
+     * object to hold the string form.
+     *
+     * @param   n           the {@code long}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputLongHexLC(long n, IntConsumer consumer) {
+        int hi = (int)(n >>> 32);
+        int lo = (int)n;
+        if (hi != 0) {
+            outputIntHexLC(hi, consumer);
+            output8HexLC(lo, consumer);
+        }
+        else
+            outputIntHexLC(lo, consumer);
+    }
+
+    /**
+     * Output an {@code int} using an {@link IntConsumer} as eight hexadecimal digits.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void output8Hex(int i, IntConsumer consumer) {
+        output4Hex(i >>> 16, consumer);
+        output4Hex(i, consumer);
+    }
+
+    /**
+     * Output an {@code int} using an {@link IntConsumer} as eight hexadecimal digits, using lower-case for the
+     * alphabetic characters.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void output8HexLC(int i, IntConsumer consumer) {
+        output4HexLC(i >>> 16, consumer);
+        output4HexLC(i, consumer);
+    }
+
+    /**
+     * Output an {@code int} using an {@link IntConsumer} as four hexadecimal digits.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void output4Hex(int i, IntConsumer consumer) {
+        output2Hex(i >> 8, consumer);
+        output2Hex(i, consumer);
+    }
+
+    /**
+     * Output an {@code int} using an {@link IntConsumer} as four hexadecimal digits, using lower-case for the
+     * alphabetic characters.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void output4HexLC(int i, IntConsumer consumer) {
+        output2HexLC(i >> 8, consumer);
+        output2HexLC(i, consumer);
+    }
+
+    /**
+     * Output an {@code int} using an {@link IntConsumer} as two hexadecimal digits.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void output2Hex(int i, IntConsumer consumer) {
+        consumer.accept(digitsHex[(i >> 4) & 0xF]);
+        consumer.accept(digitsHex[i & 0xF]);
+    }
+
+    /**
+     * Output an {@code int} using an {@link IntConsumer} as two hexadecimal digits, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void output2HexLC(int i, IntConsumer consumer) {
+        consumer.accept(digitsHexLC[(i >> 4) & 0xF]);
+        consumer.accept(digitsHexLC[i & 0xF]);
+    }
+
+    /**
+     * Output an {@code int} using an {@link IntConsumer} as a single hexadecimal digit.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void output1Hex(int i, IntConsumer consumer) {
+        consumer.accept(digitsHex[i & 0xF]);
+    }
+
+    /**
+     * Output an {@code int} using an {@link IntConsumer} as a single hexadecimal digit, using lower-case for the
+     * alphabetic characters.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void output1HexLC(int i, IntConsumer consumer) {
+        consumer.accept(digitsHexLC[i & 0xF]);
+    }
+
+    /**
+     * Output an {@code int} left-trimmed using an {@link IntConsumer} in octal.  The value is treated as unsigned, as
+     * in {@link Integer#toOctalString(int)}, but no intermediate {@link String} is created.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputIntOctal(int i, IntConsumer consumer) {
+        for (int shift = (intOctalLength(i) - 1) * 3; shift >= 0; shift -= 3)
+            consumer.accept(digitsHex[(i >>> shift) & 7]);
+    }
+
+    /**
+     * Output a {@code long} left-trimmed using an {@link IntConsumer} in octal.  The value is treated as unsigned, as
+     * in {@link Long#toOctalString(long)}, but no intermediate {@link String} is created.
+     *
+     * @param   n           the {@code long}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputLongOctal(long n, IntConsumer consumer) {
+        outputNOctal(n, longOctalLength(n), consumer);
+    }
+
+    /**
+     * Output the least significant octal digits of a {@code long} using an {@link IntConsumer}, as the specified number
+     * of digits (for example, 3 digits for a file mode).  If the number of digits is greater than the number required
+     * to represent a {@code long}, the output is left filled with zeros.  A negative {@code int} value will be
+     * sign-extended (use {@code i & 0xFFFFFFFFL} to treat it as unsigned).
+     *
+     * @param   n           the {@code long}
+     * @param   count       the number of digits
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputNOctal(long n, int count, IntConsumer consumer) {
+        for (; count > 22; count--)
+            consumer.accept('0');
+        for (int shift = (count - 1) * 3; shift >= 0; shift -= 3)
+            consumer.accept(digitsHex[(int)(n >>> shift) & 7]);
+    }
+
+    /**
+     * Output an {@code int} left-trimmed using an {@link IntConsumer} in binary.  The value is treated as unsigned, as
+     * in {@link Integer#toBinaryString(int)}, but no intermediate {@link String} is created.
+     *
+     * @param   i           the {@code int}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputIntBinary(int i, IntConsumer consumer) {
+        for (int shift = intBinaryLength(i) - 1; shift >= 0; shift--)
+            consumer.accept(digitsHex[(i >>> shift) & 1]);
+    }
+
+    /**
+     * Output a {@code long} left-trimmed using an {@link IntConsumer} in binary.  The value is treated as unsigned, as
+     * in {@link Long#toBinaryString(long)}, but no intermediate {@link String} is created.
+     *
+     * @param   n           the {@code long}
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputLongBinary(long n, IntConsumer consumer) {
+        outputNBinary(n, longBinaryLength(n), consumer);
+    }
+
+    /**
+     * Output the least significant binary digits of a {@code long} using an {@link IntConsumer}, as the specified
+     * number of digits (for example, 8 digits for the bits of a {@code byte}).  If the number of digits is greater than
+     * the number required to represent a {@code long}, the output is left filled with zeros.  A negative {@code int}
+     * value will be sign-extended (use {@code i & 0xFFFFFFFFL} to treat it as unsigned).
+     *
+     * @param   n           the {@code long}
+     * @param   count       the number of digits
+     * @param   consumer    the {@link IntConsumer}
+     */
+    public static void outputNBinary(long n, int count, IntConsumer consumer) {
+        for (; count > 64; count--)
+            consumer.accept('0');
+        for (int shift = count - 1; shift >= 0; shift--)
+            consumer.accept(digitsHex[(int)(n >>> shift) & 1]);
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendInt(Appendable, int)} for a given
+     * {@code int}.  The length is determined from the number of significant bits, without division.
+     *
+     * @param   i           the {@code int}
+     * @return              the number of characters
+     */
+    public static int intLength(int i) {
+        if (i < 0)
+            return i == Integer.MIN_VALUE ? MIN_INTEGER_DIGITS.length() + 1 : positiveIntLength(-i) + 1;
+        return positiveIntLength(i);
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendPositiveInt(Appendable, int)} for a given
+     * {@code int} (the number of decimal digits).
+     *
+     * @param   i           the {@code int}
+     * @return              the number of characters
+     */
+    public static int positiveIntLength(int i) {
+        i |= 1; // zero is output as one digit, the same as one
+        int n = ((32 - Integer.numberOfLeadingZeros(i)) * 1233) >>> 12; // 1233 / 4096 approximates log10(2)
+        return i >= intPowersOfTen[n] ? n + 1 : n;
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendUnsignedInt(Appendable, int)} for a given
+     * {@code int}.
+     *
+     * @param   i           the {@code int}
+     * @return              the number of characters
+     */
+    public static int unsignedIntLength(int i) {
+        return i < 0 ? MIN_INTEGER_DIGITS.length() : positiveIntLength(i);
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendIntScaled(Appendable, int, int, char)} for a
+     * given {@code int} and scale.
+     *
+     * @param   i           the {@code int}
+     * @param   scale       the number of decimal places
+     * @return              the number of characters
+     */
+    public static int intScaledLength(int i, int scale) {
+        if (i < 0)
+            return scaledLength(i == Integer.MIN_VALUE ? MIN_INTEGER_DIGITS.length() : positiveIntLength(-i),
+                    scale) + 1;
+        return scaledLength(positiveIntLength(i), scale);
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendPositiveIntScaled(Appendable, int, int, char)}
+     * for a given {@code int} and scale.
+     *
+     * @param   i           the {@code int}
+     * @param   scale       the number of decimal places
+     * @return              the number of characters
+     */
+    public static int positiveIntScaledLength(int i, int scale) {
+        return scaledLength(positiveIntLength(i), scale);
+    }
+
+    private static int scaledLength(int digitCount, int scale) {
+        if (scale <= 0)
+            return digitCount;
+        return digitCount > scale ? digitCount + 1 : scale + 2;
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendIntGrouped(Appendable, int, char)} for a
+     * given {@code int}, including the grouping characters.
+     *
+     * @param   i           the {@code int}
+     * @return              the number of characters
+     */
+    public static int intGroupedLength(int i) {
+        if (i < 0)
+            return groupedLength(i == Integer.MIN_VALUE ? MIN_INTEGER_DIGITS.length() : positiveIntLength(-i)) + 1;
+        return groupedLength(positiveIntLength(i));
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendPositiveIntGrouped(Appendable, int, char)}
+     * for a given {@code int}, including the grouping characters.
+     *
+     * @param   i           the {@code int}
+     * @return              the number of characters
+     */
+    public static int positiveIntGroupedLength(int i) {
+        return groupedLength(positiveIntLength(i));
+    }
+
+    private static int groupedLength(int digitCount) {
+        return digitCount + (digitCount - 1) / 3;
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendIntHex(Appendable, int)} (or
+     * {@link #appendIntHexLC(Appendable, int)}) for a given {@code int}.
+     *
+     * @param   i           the {@code int}
+     * @return              the number of characters
+     */
+    public static int intHexLength(int i) {
+        return (35 - Integer.numberOfLeadingZeros(i | 1)) >> 2;
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendLong(Appendable, long)} for a given
+     * {@code long}.  The length is determined from the number of significant bits, without division.
+     *
+     * @param   n           the {@code long}
+     * @return              the number of characters
+     */
+    public static int longLength(long n) {
+        if (n < 0)
+            return n == Long.MIN_VALUE ? MIN_LONG_DIGITS.length() + 1 : positiveLongLength(-n) + 1;
+        return positiveLongLength(n);
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendPositiveLong(Appendable, long)} for a given
+     * {@code long} (the number of decimal digits).
+     *
+     * @param   n           the {@code long}
+     * @return              the number of characters
+     */
+    public static int positiveLongLength(long n) {
+        n |= 1; // zero is output as one digit, the same as one
+        int m = ((64 - Long.numberOfLeadingZeros(n)) * 1233) >>> 12; // 1233 / 4096 approximates log10(2)
+        return n >= longPowersOfTen[m] ? m + 1 : m;
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendUnsignedLong(Appendable, long)} for a given
+     * {@code long}.
+     *
+     * @param   n           the {@code long}
+     * @return              the number of characters
+     */
+    public static int unsignedLongLength(long n) {
+        if (n >= 0)
+            return positiveLongLength(n);
+        return n + Long.MIN_VALUE >= TEN_TO_THE_19TH_UNSIGNED + Long.MIN_VALUE ? 20 : 19; // unsigned compare
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendLongScaled(Appendable, long, int, char)} for
+     * a given {@code long} and scale.
+     *
+     * @param   n           the {@code long}
+     * @param   scale       the number of decimal places
+     * @return              the number of characters
+     */
+    public static int longScaledLength(long n, int scale) {
+        if (n < 0)
+            return scaledLength(n == Long.MIN_VALUE ? MIN_LONG_DIGITS.length() : positiveLongLength(-n), scale) + 1;
+        return scaledLength(positiveLongLength(n), scale);
+    }
+
+    /**
+     * Get the number of characters that will be output by
+     * {@link #appendPositiveLongScaled(Appendable, long, int, char)} for a given {@code long} and scale.
+     *
+     * @param   n           the {@code long}
+     * @param   scale       the number of decimal places
+     * @return              the number of characters
+     */
+    public static int positiveLongScaledLength(long n, int scale) {
+        return scaledLength(positiveLongLength(n), scale);
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendLongGrouped(Appendable, long, char)} for a
+     * given {@code long}, including the grouping characters.
+     *
+     * @param   n           the {@code long}
+     * @return              the number of characters
+     */
+    public static int longGroupedLength(long n) {
+        if (n < 0)
+            return groupedLength(n == Long.MIN_VALUE ? MIN_LONG_DIGITS.length() : positiveLongLength(-n)) + 1;
+        return groupedLength(positiveLongLength(n));
+    }
+
+    /**
+     * Get the number of characters that will be output by
+     * {@link #appendPositiveLongGrouped(Appendable, long, char)} for a given {@code long}, including the grouping
+     * characters.
+     *
+     * @param   n           the {@code long}
+     * @return              the number of characters
+     */
+    public static int positiveLongGroupedLength(long n) {
+        return groupedLength(positiveLongLength(n));
+    }
+
+    /**
+     * Get the number of characters that will be output by
+     * {@link #appendLongGroupedScaled(Appendable, long, int, char, char, int, int)} for a given {@code long}, scale and
+     * group sizes, including the grouping characters and the decimal separator.
+     *
+     * @param   n               the {@code long}
+     * @param   scale           the number of decimal places
+     * @param   firstGroupSize  the number of digits in the last group of the integer part
+     * @param   groupSize       the number of digits in each preceding group
+     * @return                  the number of characters
+     * @throws  IllegalArgumentException if a group size is less than 1
+     */
+    public static int longGroupedScaledLength(long n, int scale, int firstGroupSize, int groupSize) {
+        checkGroupSizes(firstGroupSize, groupSize);
+        int length = 0;
+        if (n < 0) {
+            length = 1;
+            n = -n;
+        }
+        if (scale >= 19)
+            n = 0;
+        else if (scale > 0)
+            n = Long.divideUnsigned(n, longPowersOfTen[scale]);
+        int count = unsignedLongLength(n);
+        if (count > firstGroupSize)
+            length += (count - firstGroupSize - 1) / groupSize + 1;
+        return scale > 0 ? length + count + scale + 1 : length + count;
+    }
+
+    private static void checkGroupSizes(int firstGroupSize, int groupSize) {
+        if (firstGroupSize < 1 || groupSize < 1)
+            throw new IllegalArgumentException("Group size must be at least 1");
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendLongHex(Appendable, long)} (or
+     * {@link #appendLongHexLC(Appendable, long)}) for a given {@code long}.
+     *
+     * @param   n           the {@code long}
+     * @return              the number of characters
+     */
+    public static int longHexLength(long n) {
+        return (67 - Long.numberOfLeadingZeros(n | 1)) >> 2;
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendIntOctal(Appendable, int)} for a given
+     * {@code int}.
+     *
+     * @param   i           the {@code int}
+     * @return              the number of characters
+     */
+    public static int intOctalLength(int i) {
+        return (34 - Integer.numberOfLeadingZeros(i | 1)) / 3;
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendLongOctal(Appendable, long)} for a given
+     * {@code long}.
+     *
+     * @param   n           the {@code long}
+     * @return              the number of characters
+     */
+    public static int longOctalLength(long n) {
+        return (66 - Long.numberOfLeadingZeros(n | 1)) / 3;
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendIntBinary(Appendable, int)} for a given
+     * {@code int}.
+     *
+     * @param   i           the {@code int}
+     * @return              the number of characters
+     */
+    public static int intBinaryLength(int i) {
+        return 32 - Integer.numberOfLeadingZeros(i | 1);
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendLongBinary(Appendable, long)} for a given
+     * {@code long}.
+     *
+     * @param   n           the {@code long}
+     * @return              the number of characters
+     */
+    public static int longBinaryLength(long n) {
+        return 64 - Long.numberOfLeadingZeros(n | 1);
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendInts(Appendable, int[], char)} for a given
+     * {@code int} array, including the separators.
+     *
+     * @param   values      the {@code int} array
+     * @return              the number of characters
+     */
+    public static int intsLength(int[] values) {
+        int length = values.length - 1;
+        for (int value : values)
+            length += intLength(value);
+        return Math.max(length, 0);
+    }
+
+    /**
+     * Get the number of characters that will be output by {@link #appendLongs(Appendable, long[], char)} for a given
+     * {@code long} array, including the separators.
+     *
+     * @param   values      the {@code long} array
+     * @return              the number of characters
+     */
+    public static int longsLength(long[] values) {
+        int length = values.length - 1;
+        for (long value : values)
+            length += longLength(value);
+        return Math.max(length, 0);
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@code byte} array as ASCII characters.  The length of the output is
+     * determined in advance, and the digits are stored right to left, avoiding the need for recursion.  The array must
+     * have sufficient space for the output (a maximum of 11 bytes).
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   i           the {@code int}
+     * @return              the offset following the last byte stored
+     */
+    public static int appendInt(byte[] bytes, int offset, int i) {
+        if (i < 0) {
+            bytes[offset++] = '-';
+            if (i == Integer.MIN_VALUE)
+                return appendString(bytes, offset, MIN_INTEGER_DIGITS, 0, MIN_INTEGER_DIGITS.length());
+            return appendPositiveInt(bytes, offset, -i);
+        }
+        return appendPositiveInt(bytes, offset, i);
+    }
+
+    /**
+     * Append a positive {@code int} left-trimmed to a {@code byte} array as ASCII characters.  The length of the output
+     * is determined in advance, and the digits are stored right to left, avoiding the need for recursion.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   i           the {@code int}
+     * @return              the offset following the last byte stored
+     */
+    public static int appendPositiveInt(byte[] bytes, int offset, int i) {
+        int end = offset + positiveIntLength(i);
+        storePositiveInt(bytes, end, i);
+        return end;
+    }
+
+    private static void storePositiveInt(byte[] bytes, int end, int i) {
+        while (i >= 100) {
+            int n = i / 100;
+            int r = i - n * 100;
+            bytes[--end] = (byte)digits[r];
+            bytes[--end] = (byte)tensDigits[r];
+            i = n;
+        }
+        bytes[--end] = (byte)digits[i];
+        if (i >= 10)
+            bytes[end - 1] = (byte)tensDigits[i];
+    }
+
+    /**
+     * Append an unsigned {@code int} left-trimmed to a {@code byte} array as ASCII characters.  The length of the
+     * output is determined in advance, and the digits are stored right to left, avoiding the need for recursion.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   i           the {@code int}
+     * @return              the offset following the last byte stored
+     */
+    public static int appendUnsignedInt(byte[] bytes, int offset, int i) {
+        if (i >= 0)
+            return appendPositiveInt(bytes, offset, i);
+        int end = offset + MIN_INTEGER_DIGITS.length();
+        int n = (i >>> 1) / 50;
+        append2Digits(bytes, end - 2, i - n * 100);
+        storePositiveInt(bytes, end - 2, n);
+        return end;
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@code byte} array as ASCII characters, using a scale parameter to
+     * indicate the number of decimal places.  Negative scale values are ignored (see {@link
+     * #appendIntScaled(Appendable, int, int, char)}).
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   i           the {@code int}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @return              the offset following the last byte stored
+     */
+    public static int appendIntScaled(byte[] bytes, int offset, int i, int scale, char separator) {
+        if (i < 0) {
+            bytes[offset++] = '-';
+            if (i == Integer.MIN_VALUE)
+                return appendStringScaled(bytes, offset, MIN_INTEGER_DIGITS, scale, separator);
+            return appendPositiveIntScaled(bytes, offset, -i, scale, separator);
+        }
+        return appendPositiveIntScaled(bytes, offset, i, scale, separator);
+    }
+
+    private static int appendStringScaled(byte[] bytes, int offset, String string, int scale, char separator) {
+        int length = string.length();
+        if (scale <= 0)
+            return appendString(bytes, offset, string, 0, length);
+        if (scale >= length) {
+            bytes[offset++] = '0';
+            bytes[offset++] = (byte)separator;
+            for (int i = scale; i > length; i--)
+                bytes[offset++] = '0';
+            return appendString(bytes, offset, string, 0, length);
+        }
+        int insertionPoint = length - scale;
+        offset = appendString(bytes, offset, string, 0, insertionPoint);
+        bytes[offset++] = (byte)separator;
+        return appendString(bytes, offset, string, insertionPoint, length);
+    }
+
+    /**
+     * Append a positive {@code int} left-trimmed to a {@code byte} array as ASCII characters, using a scale parameter
+     * to indicate the number of decimal places.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   i           the {@code int}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @return              the offset following the last byte stored
+     */
+    public static int appendPositiveIntScaled(byte[] bytes, int offset, int i, int scale, char separator) {
+        int end = offset + positiveIntScaledLength(i, scale);
+        int p = end;
+        if (scale > 0) {
+            for (; scale >= 2; scale -= 2) {
+                int n = i / 100;
+                int r = i - n * 100;
+                bytes[--p] = (byte)digits[r];
+                bytes[--p] = (byte)tensDigits[r];
+                i = n;
+            }
+            if (scale == 1) {
+                int n = i / 10;
+                bytes[--p] = (byte)digits[i - n * 10];
+                i = n;
+            }
+            bytes[--p] = (byte)separator;
+        }
+        storePositiveInt(bytes, p, i);
+        return end;
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@code byte} array as ASCII characters.  The length of the output is
+     * determined in advance, and the digits are stored right to left, avoiding the need for recursion.  The array must
+     * have sufficient space for the output (a maximum of 20 bytes).
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   n           the {@code long}
+     * @return              the offset following the last byte stored
+     */
+    public static int appendLong(byte[] bytes, int offset, long n) {
+        if (n < 0) {
+            bytes[offset++] = '-';
+            if (n == Long.MIN_VALUE)
+                return appendString(bytes, offset, MIN_LONG_DIGITS, 0, MIN_LONG_DIGITS.length());
+            return appendPositiveLong(bytes, offset, -n);
+        }
+        return appendPositiveLong(bytes, offset, n);
+    }
+
+    /**
+     * Append a positive {@code long} left-trimmed to a {@code byte} array as ASCII characters.  The length of the
+     * output is determined in advance, and the digits are stored right to left, avoiding the need for recursion.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   n           the {@code long}
+     * @return              the offset following the last byte stored
+     */
+    public static int appendPositiveLong(byte[] bytes, int offset, long n) {
+        int end = offset + positiveLongLength(n);
+        storePositiveLong(bytes, end, n);
+        return end;
+    }
+
+    private static void storePositiveLong(byte[] bytes, int end, long n) {
+        while (n > Integer.MAX_VALUE) {
+            long m = n / 100000000; // one long division for each 8 digits, the rest using int arithmetic
+            end = store8Digits(bytes, end, (int)(n - m * 100000000));
+            n = m;
+        }
+        storePositiveInt(bytes, end, (int)n);
+    }
+
+    private static int store8Digits(byte[] bytes, int end, int i) {
+        end -= 8;
+        storePacked(bytes, end, packDigits(i));
+        return end;
+    }
+
+    private static int storeDigits(byte[] bytes, int end, long n, int count) {
+        while (n > Integer.MAX_VALUE) {
+            long m = n / 100000000;
+            end = store8Digits(bytes, end, (int)(n - m * 100000000));
+            count -= 8;
+            n = m;
+        }
+        int i = (int)n;
+        for (; count >= 2; count -= 2) {
+            int m = i / 100;
+            int r = i - m * 100;
+            bytes[--end] = (byte)digits[r];
+            bytes[--end] = (byte)tensDigits[r];
+            i = m;
+        }
+        if (count > 0)
+            bytes[--end] = (byte)digits[i];
+        return end;
+    }
+
+    /**
+     * Append an unsigned {@code long} left-trimmed to a {@code byte} array as ASCII characters.  The length of the
+     * output is determined in advance, and the digits are stored right to left, avoiding the need for recursion.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   n           the {@code long}
+     * @return              the offset following the last byte stored
+     */
+    public static int appendUnsignedLong(byte[] bytes, int offset, long n) {
+        if (n >= 0)
+            return appendPositiveLong(bytes, offset, n);
+        int end = offset + unsignedLongLength(n);
+        long m = (n >>> 1) / 50;
+        append2Digits(bytes, end - 2, (int)(n - m * 100));
+        storePositiveLong(bytes, end - 2, m);
+        return end;
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@code byte} array as ASCII characters, using a scale parameter to
+     * indicate the number of decimal places.  Negative scale values are ignored (see {@link
+     * #appendLongScaled(Appendable, long, int, char)}).
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   n           the {@code long}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @return              the offset following the last byte stored
+     */
+    public static int appendLongScaled(byte[] bytes, int offset, long n, int scale, char separator) {
+        if (n < 0) {
+            bytes[offset++] = '-';
+            if (n == Long.MIN_VALUE)
+                return appendStringScaled(bytes, offset, MIN_LONG_DIGITS, scale, separator);
+            return appendPositiveLongScaled(bytes, offset, -n, scale, separator);
+        }
+        return appendPositiveLongScaled(bytes, offset, n, scale, separator);
+    }
+
+    /**
+     * Append a positive {@code long} left-trimmed to a {@code byte} array as ASCII characters, using a scale parameter
+     * to indicate the number of decimal places.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   n           the {@code long}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @return              the offset following the last byte stored
+     */
+    public static int appendPositiveLongScaled(byte[] bytes, int offset, long n, int scale, char separator) {
+        int end = offset + positiveLongScaledLength(n, scale);
+        if (scale > 0) {
+            long m = 0;
+            if (scale < longPowersOfTen.length) {
+                m = n / longPowersOfTen[scale];
+                n -= m * longPowersOfTen[scale];
+            }
+            int p = storeDigits(bytes, end, n, scale);
+            bytes[--p] = (byte)separator;
+            storePositiveLong(bytes, p, m);
+        }
+        else
+            storePositiveLong(bytes, end, n);
+        return end;
+    }
+
+    /**
+     * Append an {@code int} to a {@code byte} array as a single decimal digit.  Note that there is no range check on
+     * the input value.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the byte
+     * @param   i           the {@code int}
+     * @return              the offset following the byte stored
+     */
+    public static int append1Digit(byte[] bytes, int offset, int i) {
+        bytes[offset] = (byte)(i + '0');
+        return offset + 1;
+    }
+
+    /**
+     * Append an {@code int} to a {@code byte} array as two decimal digits.  Note that there is no range check on the
+     * input value.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   i           the {@code int}
+     * @return              the offset following the last byte stored
+     */
+    public static int append2Digits(byte[] bytes, int offset, int i) {
+        bytes[offset] = (byte)tensDigits[i];
+        bytes[offset + 1] = (byte)digits[i];
+        return offset + 2;
+    }
+
+    /**
+     * Append an {@code int} to a {@code byte} array as three decimal digits.  Note that there is no range check on the
+     * input value.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   i           the {@code int}
+     * @return              the offset following the last byte stored
+     */
+    public static int append3Digits(byte[] bytes, int offset, int i) {
+        int n = i / 100;
+        bytes[offset] = (byte)digits[n];
+        return append2Digits(bytes, offset + 1, i - n * 100);
+    }
+
+    /**
+     * Append an {@code int} to a {@code byte} array as ASCII characters as the specified number of decimal digits, left
+     * filled with zeros.  Note that there is no range check on the input value; it must be positive and must fit in the
+     * number of digits.  To append the least significant digits of a value that is not guaranteed to be in range, use
+     * {@link #appendNDigitsSafe(byte[], int, int, int)}.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   i           the {@code int}
+     * @param   count       the number of digits
+     * @return              the offset following the last byte stored
+     */
+    public static int appendNDigits(byte[] bytes, int offset, int i, int count) {
+        int end = offset + count;
+        storeDigits(bytes, end, i, count);
+        return end;
+    }
+
+    /**
+     * Append the least significant decimal digits of an {@code int} to a {@code byte} array as ASCII characters, as the
+     * specified number of digits, left filled with zeros.  The sign of the value is ignored.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   i           the {@code int}
+     * @param   count       the number of digits
+     * @return              the offset following the last byte stored
+     */
+    public static int appendNDigitsSafe(byte[] bytes, int offset, int i, int count) {
+        return appendNDigitsSafe(bytes, offset, (long)i, count);
+    }
+
+    /**
+     * Append a {@code long} to a {@code byte} array as ASCII characters as the specified number of decimal digits, left
+     * filled with zeros.  Note that there is no range check on the input value; it must be positive and must fit in the
+     * number of digits.  To append the least significant digits of a value that is not guaranteed to be in range, use
+     * {@link #appendNDigitsSafe(byte[], int, long, int)}.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   n           the {@code long}
+     * @param   count       the number of digits
+     * @return              the offset following the last byte stored
+     */
+    public static int appendNDigits(byte[] bytes, int offset, long n, int count) {
+        int end = offset + count;
+        storeDigits(bytes, end, n, count);
+        return end;
+    }
+
+    /**
+     * Append the least significant decimal digits of a {@code long} to a {@code byte} array as ASCII characters, as the
+     * specified number of digits, left filled with zeros.  The sign of the value is ignored.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   n           the {@code long}
+     * @param   count       the number of digits
+     * @return              the offset following the last byte stored
+     */
+    public static int appendNDigitsSafe(byte[] bytes, int offset, long n, int count) {
+        if (count <= 0)
+            return offset;
+        if (count < 19)
+            return appendNDigits(bytes, offset, Math.abs(n % longPowersOfTen[count]), count);
+        if (n == Long.MIN_VALUE) {
+            int end = offset + count;
+            int start = end - MIN_LONG_DIGITS.length();
+            Arrays.fill(bytes, offset, start, (byte)'0');
+            for (int k = 0; k < MIN_LONG_DIGITS.length(); k++)
+                bytes[start + k] = (byte)MIN_LONG_DIGITS.charAt(k);
+            return end;
+        }
+        return appendNDigits(bytes, offset, Math.abs(n), count);
+    }
+
+    /**
+     * Append an {@code int} to a {@code byte} array as ASCII characters, right-aligned in a field of the specified
+     * width and padded on the left with the specified pad character.  If the pad character is {@code '0'}, the minus
+     * sign of a negative number precedes the padding.  If the number is longer than the field width, it is output in
+     * full.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   i           the {@code int}
+     * @param   width       the field width
+     * @param   padChar     the pad character
+     * @return              the offset following the last byte stored
+     */
+    public static int appendIntPadded(byte[] bytes, int offset, int i, int width, char padChar) {
+        return paddedInt(bytes, offset, i, width - intLength(i), padChar);
+    }
+
+    /**
+     * Append an {@code int} to a {@code byte} array as ASCII characters, right-aligned in a field of the specified
+     * width and padded on the left with the specified pad character.  If the pad character is {@code '0'}, the minus
+     * sign of a negative number precedes the padding.  If the number is longer than the field width, the field is
+     * filled with the overflow character instead (for example, {@code '*'}).
+     *
+     * @param   bytes           the {@code byte} array
+     * @param   offset          the offset within the array at which to store the first byte
+     * @param   i               the {@code int}
+     * @param   width           the field width
+     * @param   padChar         the pad character
+     * @param   overflowChar    the character to fill the field if the number does not fit
+     * @return                  the offset following the last byte stored
+     */
+    public static int appendIntPadded(byte[] bytes, int offset, int i, int width, char padChar, char overflowChar) {
+        int padding = width - intLength(i);
+        if (padding < 0) {
+            int end = offset + Math.max(width, 0);
+            Arrays.fill(bytes, offset, end, (byte)overflowChar);
+            return end;
+        }
+        return paddedInt(bytes, offset, i, padding, padChar);
+    }
+
+    /**
+     * Append a {@code long} to a {@code byte} array as ASCII characters, right-aligned in a field of the specified
+     * width and padded on the left with the specified pad character.  If the pad character is {@code '0'}, the minus
+     * sign of a negative number precedes the padding.  If the number is longer than the field width, it is output in
+     * full.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   n           the {@code long}
+     * @param   width       the field width
+     * @param   padChar     the pad character
+     * @return              the offset following the last byte stored
+     */
+    public static int appendLongPadded(byte[] bytes, int offset, long n, int width, char padChar) {
+        return paddedLong(bytes, offset, n, width - longLength(n), padChar);
+    }
+
+    /**
+     * Append a {@code long} to a {@code byte} array as ASCII characters, right-aligned in a field of the specified
+     * width and padded on the left with the specified pad character.  If the pad character is {@code '0'}, the minus
+     * sign of a negative number precedes the padding.  If the number is longer than the field width, the field is
+     * filled with the overflow character instead (for example, {@code '*'}).
+     *
+     * @param   bytes           the {@code byte} array
+     * @param   offset          the offset within the array at which to store the first byte
+     * @param   n               the {@code long}
+     * @param   width           the field width
+     * @param   padChar         the pad character
+     * @param   overflowChar    the character to fill the field if the number does not fit
+     * @return                  the offset following the last byte stored
+     */
+    public static int appendLongPadded(byte[] bytes, int offset, long n, int width, char padChar, char overflowChar) {
+        int padding = width - longLength(n);
+        if (padding < 0) {
+            int end = offset + Math.max(width, 0);
+            Arrays.fill(bytes, offset, end, (byte)overflowChar);
+            return end;
+        }
+        return paddedLong(bytes, offset, n, padding, padChar);
+    }
+
+    private static int paddedInt(byte[] bytes, int offset, int i, int padding, char padChar) {
+        if (padding > 0) {
+            if (i < 0 && padChar == '0') {
+                bytes[offset++] = '-';
+                Arrays.fill(bytes, offset, offset + padding, (byte)'0');
+                return appendUnsignedInt(bytes, offset + padding, -i);
+            }
+            Arrays.fill(bytes, offset, offset + padding, (byte)padChar);
+            offset += padding;
+        }
+        return appendInt(bytes, offset, i);
+    }
+
+    private static int paddedLong(byte[] bytes, int offset, long n, int padding, char padChar) {
+        if (padding > 0) {
+            if (n < 0 && padChar == '0') {
+                bytes[offset++] = '-';
+                Arrays.fill(bytes, offset, offset + padding, (byte)'0');
+                return appendUnsignedLong(bytes, offset + padding, -n);
+            }
+            Arrays.fill(bytes, offset, offset + padding, (byte)padChar);
+            offset += padding;
+        }
+        return appendLong(bytes, offset, n);
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@code byte} array as ASCII characters, with digits grouped in 3s and
+     * separated by the specified grouping character.
+     *
+     * @param   bytes           the {@code byte} array
+     * @param   offset          the offset within the array at which to store the first byte
+     * @param   i               the {@code int}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the offset following the last byte stored
+     */
+    public static int appendIntGrouped(byte[] bytes, int offset, int i, char groupingChar) {
+        if (i < 0) {
+            bytes[offset++] = '-';
+            if (i == Integer.MIN_VALUE)
+                return appendStringGrouped(bytes, offset, MIN_INTEGER_DIGITS, groupingChar);
+            return appendPositiveIntGrouped(bytes, offset, -i, groupingChar);
+        }
+        return appendPositiveIntGrouped(bytes, offset, i, groupingChar);
+    }
+
+    private static int appendStringGrouped(byte[] bytes, int offset, String string, char groupingChar) {
+        int length = string.length();
+        int end = (length - 1) % 3 + 1;
+        offset = appendString(bytes, offset, string, 0, end);
+        while (end < length) {
+            bytes[offset++] = (byte)groupingChar;
+            offset = appendString(bytes, offset, string, end, end + 3);
+            end += 3;
+        }
+        return offset;
+    }
+
+    /**
+     * Append a positive {@code int} left-trimmed to a {@code byte} array as ASCII characters, with digits grouped in 3s
+     * and separated by the specified grouping character.
+     *
+     * @param   bytes           the {@code byte} array
+     * @param   offset          the offset within the array at which to store the first byte
+     * @param   i               the {@code int}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the offset following the last byte stored
+     */
+    public static int appendPositiveIntGrouped(byte[] bytes, int offset, int i, char groupingChar) {
+        int end = offset + positiveIntGroupedLength(i);
+        int p = end;
+        while (i >= 1000) {
+            int n = i / 1000;
+            p = store3Digits(bytes, p, i - n * 1000);
+            bytes[--p] = (byte)groupingChar;
+            i = n;
+        }
+        storePositiveInt(bytes, p, i);
+        return end;
+    }
+
+    private static int store3Digits(byte[] bytes, int end, int i) {
+        int n = i / 100;
+        int r = i - n * 100;
+        bytes[end - 1] = (byte)digits[r];
+        bytes[end - 2] = (byte)tensDigits[r];
+        bytes[end - 3] = (byte)digits[n];
+        return end - 3;
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@code byte} array as ASCII characters, with digits grouped in 3s and
+     * separated by the specified grouping character.
+     *
+     * @param   bytes           the {@code byte} array
+     * @param   offset          the offset within the array at which to store the first byte
+     * @param   n               the {@code long}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the offset following the last byte stored
+     */
+    public static int appendLongGrouped(byte[] bytes, int offset, long n, char groupingChar) {
+        if (n < 0) {
+            bytes[offset++] = '-';
+            if (n == Long.MIN_VALUE)
+                return appendStringGrouped(bytes, offset, MIN_LONG_DIGITS, groupingChar);
+            return appendPositiveLongGrouped(bytes, offset, -n, groupingChar);
+        }
+        return appendPositiveLongGrouped(bytes, offset, n, groupingChar);
+    }
+
+    /**
+     * Append a positive {@code long} left-trimmed to a {@code byte} array as ASCII characters, with digits grouped in
+     * 3s and separated by the specified grouping character.
+     *
+     * @param   bytes           the {@code byte} array
+     * @param   offset          the offset within the array at which to store the first byte
+     * @param   n               the {@code long}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the offset following the last byte stored
+     */
+    public static int appendPositiveLongGrouped(byte[] bytes, int offset, long n, char groupingChar) {
+        int end = offset + positiveLongGroupedLength(n);
+        int p = end;
+        while (n > Integer.MAX_VALUE) {
+            long m = n / 1000000000; // one long division for each 9 digits, the rest using int arithmetic
+            int i = (int)(n - m * 1000000000);
+            for (int k = 0; k < 3; k++) {
+                int j = i / 1000;
+                p = store3Digits(bytes, p, i - j * 1000);
+                bytes[--p] = (byte)groupingChar;
+                i = j;
+            }
+            n = m;
+        }
+        int i = (int)n;
+        while (i >= 1000) {
+            int m = i / 1000;
+            p = store3Digits(bytes, p, i - m * 1000);
+            bytes[--p] = (byte)groupingChar;
+            i = m;
+        }
+        storePositiveInt(bytes, p, i);
+        return end;
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@code byte} array as ASCII characters with digits grouped in groups of
+     * the specified size, separated by the specified grouping character.
+     *
+     * @param   bytes           the {@code byte} array
+     * @param   offset          the offset within the array at which to store the first byte
+     * @param   n               the {@code long}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @param   groupSize       the number of digits in each group
+     * @return                  the offset following the last byte stored
+     * @throws  IllegalArgumentException if a group size is less than 1
+     */
+    public static int appendLongGrouped(byte[] bytes, int offset, long n, char groupingChar, int groupSize) {
+        return appendLongGroupedScaled(bytes, offset, n, 0, '.', groupingChar, groupSize, groupSize);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@code byte} array as ASCII characters with digits grouped in the Indian
+     * style (lakh and crore): the last 3 digits form a group, and the preceding digits are grouped in 2s (for example,
+     * {@code 12,34,56,789}).
+     *
+     * @param   bytes           the {@code byte} array
+     * @param   offset          the offset within the array at which to store the first byte
+     * @param   n               the {@code long}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the offset following the last byte stored
+     */
+    public static int appendLongGroupedIndian(byte[] bytes, int offset, long n, char groupingChar) {
+        return appendLongGroupedScaled(bytes, offset, n, 0, '.', groupingChar, 3, 2);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@code byte} array as ASCII characters, using a scale parameter to
+     * indicate the number of decimal places, with the digits of the integer part grouped in 3s and separated by the
+     * specified grouping character.
+     *
+     * @param   bytes           the {@code byte} array
+     * @param   offset          the offset within the array at which to store the first byte
+     * @param   n               the {@code long}
+     * @param   scale           the number of decimal places
+     * @param   separator       the decimal separator character to use
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the offset following the last byte stored
+     */
+    public static int appendLongGroupedScaled(byte[] bytes, int offset, long n, int scale, char separator,
+            char groupingChar) {
+        return appendLongGroupedScaled(bytes, offset, n, scale, separator, groupingChar, 3, 3);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@code byte} array as ASCII characters, using a scale parameter to
+     * indicate the number of decimal places, with the digits of the integer part grouped and separated by the specified
+     * grouping character.  The last (rightmost) group of the integer part has {@code firstGroupSize} digits, and the
+     * preceding groups have {@code groupSize} digits (3 and 2 for the Indian style).
+     * <br>
+     * The digits are output left to right in a single pass, without recursion: the length of the integer part is
+     * determined first (using the table of powers of ten), and then each group is separated using a single division by
+     * a power of ten.  Negative scale values are ignored.
+     *
+     * @param   bytes           the {@code byte} array
+     * @param   offset          the offset within the array at which to store the first byte
+     * @param   n               the {@code long}
+     * @param   scale           the number of decimal places
+     * @param   separator       the decimal separator character to use
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @param   firstGroupSize  the number of digits in the last group of the integer part
+     * @param   groupSize       the number of digits in each preceding group
+     * @return                  the offset following the last byte stored
+     * @throws  IllegalArgumentException if a group size is less than 1
+     */
+    public static int appendLongGroupedScaled(byte[] bytes, int offset, long n, int scale, char separator,
+            char groupingChar, int firstGroupSize, int groupSize) {
+        checkGroupSizes(firstGroupSize, groupSize);
+        if (n < 0) {
+            bytes[offset++] = (byte)'-';
+            n = -n; // Long.MIN_VALUE remains negative, and is treated as unsigned
+        }
+        long fraction = 0;
+        if (scale >= 19) {
+            fraction = n;
+            n = 0;
+        }
+        else if (scale > 0) {
+            long p = longPowersOfTen[scale];
+            long m = Long.divideUnsigned(n, p);
+            fraction = n - m * p;
+            n = m;
+        }
+        int remaining = unsignedLongLength(n);
+        if (remaining > firstGroupSize) {
+            int leading = (remaining - firstGroupSize) % groupSize;
+            remaining -= leading == 0 ? groupSize : leading;
+            long p = longPowersOfTen[remaining];
+            long m = Long.divideUnsigned(n, p);
+            offset = appendPositiveLong(bytes, offset, m);
+            n -= m * p;
+            while (remaining > firstGroupSize) {
+                remaining -= groupSize;
+                p = longPowersOfTen[remaining];
+                m = n / p;
+                bytes[offset++] = (byte)groupingChar;
+                offset = appendNDigits(bytes, offset, m, groupSize);
+                n -= m * p;
+            }
+            bytes[offset++] = (byte)groupingChar;
+            offset = appendNDigits(bytes, offset, n, firstGroupSize);
+        }
+        else
+            offset = appendUnsignedLong(bytes, offset, n);
+        if (scale > 0) {
+            bytes[offset++] = (byte)separator;
+            if (scale >= 19) { // the fraction may be 2^63, which is negative as a long
+                for (; scale > 19; scale--)
+                    bytes[offset++] = (byte)'0';
+                long m = (fraction >>> 1) / 5;
+                offset = appendNDigits(bytes, offset, m, 18);
+                bytes[offset++] = (byte)digits[(int)(fraction - m * 10)];
+            }
+            else
+                offset = appendNDigits(bytes, offset, fraction, scale);
+        }
+        return offset;
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@code byte} array as ASCII characters in hexadecimal.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   i           the {@code int}
+     * @return              the offset following the last byte stored
+     */
+    public static int appendIntHex(byte[] bytes, int offset, int i) {
+        return appendHex(bytes, offset, i & 0xFFFFFFFFL, digitsHex);
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@code byte} array as ASCII characters in hexadecimal, using lower-case
+     * for the alphabetic characters.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   i           the {@code int}
+     * @return              the offset following the last byte stored
+     */
+    public static int appendIntHexLC(byte[] bytes, int offset, int i) {
+        return appendHex(bytes, offset, i & 0xFFFFFFFFL, digitsHexLC);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@code byte} array as ASCII characters in hexadecimal.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   n           the {@code long}
+     * @return              the offset following the last byte stored
+     */
+    public static int appendLongHex(byte[] bytes, int offset, long n) {
+        return appendHex(bytes, offset, n, digitsHex);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@code byte} array as ASCII characters in hexadecimal, using lower-case
+     * for the alphabetic characters.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   n           the {@code long}
+     * @return              the offset following the last byte stored
+     */
+    public static int appendLongHexLC(byte[] bytes, int offset, long n) {
+        return appendHex(bytes, offset, n, digitsHexLC);
+    }
+
+    private static int appendHex(byte[] bytes, int offset, long n, char[] hexDigits) {
+        int shift = (63 - Long.numberOfLeadingZeros(n | 1)) & ~3;
+        while (shift >= 0) {
+            bytes[offset++] = (byte)hexDigits[(int)(n >>> shift) & 0xF];
+            shift -= 4;
+        }
+        return offset;
+    }
+
+    /**
+     * Convert an {@code int} in the range 0..99999999 to eight ASCII decimal digits packed into a {@code long}, most
+     * significant digit in the high-order byte.  The value is split into 4-digit halves in 32-bit lanes, then into
+     * 2-digit quarters in 16-bit lanes, then into single digits in 8-bit lanes, dividing all the lanes at once by
+     * multiplying by a reciprocal and shifting.
+     *
+     * @param   i           the {@code int}
+     * @return              the packed digits
+     */
+    private static long packDigits(int i) {
+        int hi = i / 10000;
+        long x = ((long)hi << 32) | (i - hi * 10000);
+        long q = ((x * 5243) >>> 19) & 0x0000007F0000007FL; // x / 100 in each 32-bit lane (valid for x < 43699)
+        x += q * (0x10000 - 100);
+        q = ((x * 103) >>> 10) & 0x000F000F000F000FL; // x / 10 in each 16-bit lane (valid for x < 1024)
+        x += q * (0x100 - 10);
+        return x | 0x3030303030303030L;
+    }
+
+    private static void storePacked(byte[] bytes, int index, long packed) {
+        bytes[index] = (byte)(packed >>> 56);
+        bytes[index + 1] = (byte)(packed >>> 48);
+        bytes[index + 2] = (byte)(packed >>> 40);
+        bytes[index + 3] = (byte)(packed >>> 32);
+        bytes[index + 4] = (byte)(packed >>> 24);
+        bytes[index + 5] = (byte)(packed >>> 16);
+        bytes[index + 6] = (byte)(packed >>> 8);
+        bytes[index + 7] = (byte)packed;
+    }
+
+    /**
+     * Append an {@code int} to a {@code byte} array as eight hexadecimal digits.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   i           the {@code int}
+     * @return              the offset following the last byte stored
+     */
+    public static int append8Hex(byte[] bytes, int offset, int i) {
+        return append4Hex(bytes, append4Hex(bytes, offset, i >>> 16), i);
+    }
+
+    /**
+     * Append an {@code int} to a {@code byte} array as eight hexadecimal digits, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   i           the {@code int}
+     * @return              the offset following the last byte stored
+     */
+    public static int append8HexLC(byte[] bytes, int offset, int i) {
+        return append4HexLC(bytes, append4HexLC(bytes, offset, i >>> 16), i);
+    }
+
+    /**
+     * Append an {@code int} to a {@code byte} array as four hexadecimal digits.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   i           the {@code int}
+     * @return              the offset following the last byte stored
+     */
+    public static int append4Hex(byte[] bytes, int offset, int i) {
+        return append2Hex(bytes, append2Hex(bytes, offset, i >> 8), i);
+    }
+
+    /**
+     * Append an {@code int} to a {@code byte} array as four hexadecimal digits, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   i           the {@code int}
+     * @return              the offset following the last byte stored
+     */
+    public static int append4HexLC(byte[] bytes, int offset, int i) {
+        return append2HexLC(bytes, append2HexLC(bytes, offset, i >> 8), i);
+    }
+
+    /**
+     * Append an {@code int} to a {@code byte} array as two hexadecimal digits.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   i           the {@code int}
+     * @return              the offset following the last byte stored
+     */
+    public static int append2Hex(byte[] bytes, int offset, int i) {
+        bytes[offset] = (byte)digitsHex[(i >> 4) & 0xF];
+        bytes[offset + 1] = (byte)digitsHex[i & 0xF];
+        return offset + 2;
+    }
+
+    /**
+     * Append an {@code int} to a {@code byte} array as two hexadecimal digits, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   i           the {@code int}
+     * @return              the offset following the last byte stored
+     */
+    public static int append2HexLC(byte[] bytes, int offset, int i) {
+        bytes[offset] = (byte)digitsHexLC[(i >> 4) & 0xF];
+        bytes[offset + 1] = (byte)digitsHexLC[i & 0xF];
+        return offset + 2;
+    }
+
+    /**
+     * Append an {@code int} to a {@code byte} array as a single hexadecimal digit.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the byte
+     * @param   i           the {@code int}
+     * @return              the offset following the byte stored
+     */
+    public static int append1Hex(byte[] bytes, int offset, int i) {
+        bytes[offset] = (byte)digitsHex[i & 0xF];
+        return offset + 1;
+    }
+
+    /**
+     * Append an {@code int} to a {@code byte} array as a single hexadecimal digit, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the byte
+     * @param   i           the {@code int}
+     * @return              the offset following the byte stored
+     */
+    public static int append1HexLC(byte[] bytes, int offset, int i) {
+        bytes[offset] = (byte)digitsHexLC[i & 0xF];
+        return offset + 1;
+    }
+
+    private static int appendString(byte[] bytes, int offset, String s, int start, int end) {
+        for (int i = start; i < end; i++)
+            bytes[offset++] = (byte)s.charAt(i);
+        return offset;
+    }
+
+    /**
+     * Append the values of an {@code int} array to a {@code byte} array as ASCII characters, left-trimmed and separated
+     * by the specified separator character.  The array must have sufficient space for the output; the required length
+     * may be determined using {@link #intsLength(int[])}.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   values      the {@code int} array
+     * @param   separator   the separator character
+     * @return              the offset following the last byte stored
+     */
+    public static int appendInts(byte[] bytes, int offset, int[] values, char separator) {
+        for (int k = 0, n = values.length; k < n; k++) {
+            if (k > 0)
+                bytes[offset++] = (byte)separator;
+            offset = appendInt(bytes, offset, values[k]);
+        }
+        return offset;
+    }
+
+    /**
+     * Append the values of a {@code long} array to a {@code byte} array as ASCII characters, left-trimmed and separated
+     * by the specified separator character.  The array must have sufficient space for the output; the required length
+     * may be determined using {@link #longsLength(long[])}.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   values      the {@code long} array
+     * @param   separator   the separator character
+     * @return              the offset following the last byte stored
+     */
+    public static int appendLongs(byte[] bytes, int offset, long[] values, char separator) {
+        for (int k = 0, n = values.length; k < n; k++) {
+            if (k > 0)
+                bytes[offset++] = (byte)separator;
+            offset = appendLong(bytes, offset, values[k]);
+        }
+        return offset;
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@code char} array.  The length of the output is determined in advance,
+     * and the digits are stored right to left, avoiding the need for recursion.  The array must have sufficient space
+     * for the output (a maximum of 11 characters).
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   i           the {@code int}
+     * @return              the offset following the last character stored
+     */
+    public static int appendInt(char[] chars, int offset, int i) {
+        if (i < 0) {
+            chars[offset++] = '-';
+            if (i == Integer.MIN_VALUE)
+                return appendString(chars, offset, MIN_INTEGER_DIGITS, 0, MIN_INTEGER_DIGITS.length());
+            return appendPositiveInt(chars, offset, -i);
+        }
+        return appendPositiveInt(chars, offset, i);
+    }
+
+    /**
+     * Append a positive {@code int} left-trimmed to a {@code char} array.  The length of the output is determined in
+     * advance, and the digits are stored right to left, avoiding the need for recursion.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   i           the {@code int}
+     * @return              the offset following the last character stored
+     */
+    public static int appendPositiveInt(char[] chars, int offset, int i) {
+        int end = offset + positiveIntLength(i);
+        storePositiveInt(chars, end, i);
+        return end;
+    }
+
+    private static void storePositiveInt(char[] chars, int end, int i) {
+        while (i >= 100) {
+            int n = i / 100;
+            int r = i - n * 100;
+            chars[--end] = digits[r];
+            chars[--end] = tensDigits[r];
+            i = n;
+        }
+        chars[--end] = digits[i];
+        if (i >= 10)
+            chars[end - 1] = tensDigits[i];
+    }
+
+    /**
+     * Append an unsigned {@code int} left-trimmed to a {@code char} array.  The length of the output is determined in
+     * advance, and the digits are stored right to left, avoiding the need for recursion.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   i           the {@code int}
+     * @return              the offset following the last character stored
+     */
+    public static int appendUnsignedInt(char[] chars, int offset, int i) {
+        if (i >= 0)
+            return appendPositiveInt(chars, offset, i);
+        int end = offset + MIN_INTEGER_DIGITS.length();
+        int n = (i >>> 1) / 50;
+        append2Digits(chars, end - 2, i - n * 100);
+        storePositiveInt(chars, end - 2, n);
+        return end;
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@code char} array, using a scale parameter to indicate the number of
+     * decimal places.  Negative scale values are ignored (see {@link #appendIntScaled(Appendable, int, int, char)}).
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   i           the {@code int}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @return              the offset following the last character stored
+     */
+    public static int appendIntScaled(char[] chars, int offset, int i, int scale, char separator) {
+        if (i < 0) {
+            chars[offset++] = '-';
+            if (i == Integer.MIN_VALUE)
+                return appendStringScaled(chars, offset, MIN_INTEGER_DIGITS, scale, separator);
+            return appendPositiveIntScaled(chars, offset, -i, scale, separator);
+        }
+        return appendPositiveIntScaled(chars, offset, i, scale, separator);
+    }
+
+    private static int appendStringScaled(char[] chars, int offset, String string, int scale, char separator) {
+        int length = string.length();
+        if (scale <= 0)
+            return appendString(chars, offset, string, 0, length);
+        if (scale >= length) {
+            chars[offset++] = '0';
+            chars[offset++] = separator;
+            for (int i = scale; i > length; i--)
+                chars[offset++] = '0';
+            return appendString(chars, offset, string, 0, length);
+        }
+        int insertionPoint = length - scale;
+        offset = appendString(chars, offset, string, 0, insertionPoint);
+        chars[offset++] = separator;
+        return appendString(chars, offset, string, insertionPoint, length);
+    }
+
+    /**
+     * Append a positive {@code int} left-trimmed to a {@code char} array, using a scale parameter to indicate the
+     * number of decimal places.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   i           the {@code int}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @return              the offset following the last character stored
+     */
+    public static int appendPositiveIntScaled(char[] chars, int offset, int i, int scale, char separator) {
+        int end = offset + positiveIntScaledLength(i, scale);
+        int p = end;
+        if (scale > 0) {
+            for (; scale >= 2; scale -= 2) {
+                int n = i / 100;
+                int r = i - n * 100;
+                chars[--p] = digits[r];
+                chars[--p] = tensDigits[r];
+                i = n;
+            }
+            if (scale == 1) {
+                int n = i / 10;
+                chars[--p] = digits[i - n * 10];
+                i = n;
+            }
+            chars[--p] = separator;
+        }
+        storePositiveInt(chars, p, i);
+        return end;
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@code char} array.  The length of the output is determined in advance,
+     * and the digits are stored right to left, avoiding the need for recursion.  The array must have sufficient space
+     * for the output (a maximum of 20 characters).
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   n           the {@code long}
+     * @return              the offset following the last character stored
+     */
+    public static int appendLong(char[] chars, int offset, long n) {
+        if (n < 0) {
+            chars[offset++] = '-';
+            if (n == Long.MIN_VALUE)
+                return appendString(chars, offset, MIN_LONG_DIGITS, 0, MIN_LONG_DIGITS.length());
+            return appendPositiveLong(chars, offset, -n);
+        }
+        return appendPositiveLong(chars, offset, n);
+    }
+
+    /**
+     * Append a positive {@code long} left-trimmed to a {@code char} array.  The length of the output is determined in
+     * advance, and the digits are stored right to left, avoiding the need for recursion.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   n           the {@code long}
+     * @return              the offset following the last character stored
+     */
+    public static int appendPositiveLong(char[] chars, int offset, long n) {
+        int end = offset + positiveLongLength(n);
+        storePositiveLong(chars, end, n);
+        return end;
+    }
+
+    private static void storePositiveLong(char[] chars, int end, long n) {
+        while (n > Integer.MAX_VALUE) {
+            long m = n / 100000000; // one long division for each 8 digits, the rest using int arithmetic
+            end = store8Digits(chars, end, (int)(n - m * 100000000));
+            n = m;
+        }
+        storePositiveInt(chars, end, (int)n);
+    }
+
+    private static int store8Digits(char[] chars, int end, int i) {
+        for (int k = 0; k < 4; k++) {
+            int n = i / 100;
+            int r = i - n * 100;
+            chars[--end] = digits[r];
+            chars[--end] = tensDigits[r];
+            i = n;
+        }
+        return end;
+    }
+
+    private static int storeDigits(char[] chars, int end, long n, int count) {
+        while (n > Integer.MAX_VALUE) {
+            long m = n / 100000000;
+            end = store8Digits(chars, end, (int)(n - m * 100000000));
+            count -= 8;
+            n = m;
+        }
+        int i = (int)n;
+        for (; count >= 2; count -= 2) {
+            int m = i / 100;
+            int r = i - m * 100;
+            chars[--end] = digits[r];
+            chars[--end] = tensDigits[r];
+            i = m;
+        }
+        if (count > 0)
+            chars[--end] = digits[i];
+        return end;
+    }
+
+    /**
+     * Append an unsigned {@code long} left-trimmed to a {@code char} array.  The length of the output is determined in
+     * advance, and the digits are stored right to left, avoiding the need for recursion.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   n           the {@code long}
+     * @return              the offset following the last character stored
+     */
+    public static int appendUnsignedLong(char[] chars, int offset, long n) {
+        if (n >= 0)
+            return appendPositiveLong(chars, offset, n);
+        int end = offset + unsignedLongLength(n);
+        long m = (n >>> 1) / 50;
+        append2Digits(chars, end - 2, (int)(n - m * 100));
+        storePositiveLong(chars, end - 2, m);
+        return end;
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@code char} array, using a scale parameter to indicate the number of
+     * decimal places.  Negative scale values are ignored (see {@link #appendLongScaled(Appendable, long, int, char)}).
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   n           the {@code long}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @return              the offset following the last character stored
+     */
+    public static int appendLongScaled(char[] chars, int offset, long n, int scale, char separator) {
+        if (n < 0) {
+            chars[offset++] = '-';
+            if (n == Long.MIN_VALUE)
+                return appendStringScaled(chars, offset, MIN_LONG_DIGITS, scale, separator);
+            return appendPositiveLongScaled(chars, offset, -n, scale, separator);
+        }
+        return appendPositiveLongScaled(chars, offset, n, scale, separator);
+    }
+
+    /**
+     * Append a positive {@code long} left-trimmed to a {@code char} array, using a scale parameter to indicate the
+     * number of decimal places.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   n           the {@code long}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @return              the offset following the last character stored
+     */
+    public static int appendPositiveLongScaled(char[] chars, int offset, long n, int scale, char separator) {
+        int end = offset + positiveLongScaledLength(n, scale);
+        if (scale > 0) {
+            long m = 0;
+            if (scale < longPowersOfTen.length) {
+                m = n / longPowersOfTen[scale];
+                n -= m * longPowersOfTen[scale];
+            }
+            int p = storeDigits(chars, end, n, scale);
+            chars[--p] = separator;
+            storePositiveLong(chars, p, m);
+        }
+        else
+            storePositiveLong(chars, end, n);
+        return end;
+    }
+
+    /**
+     * Append an {@code int} to a {@code char} array as a single decimal digit.  Note that there is no range check on
+     * the input value.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the character
+     * @param   i           the {@code int}
+     * @return              the offset following the character stored
+     */
+    public static int append1Digit(char[] chars, int offset, int i) {
+        chars[offset] = (char)(i + '0');
+        return offset + 1;
+    }
+
+    /**
+     * Append an {@code int} to a {@code char} array as two decimal digits.  Note that there is no range check on the
+     * input value.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   i           the {@code int}
+     * @return              the offset following the last character stored
+     */
+    public static int append2Digits(char[] chars, int offset, int i) {
+        chars[offset] = tensDigits[i];
+        chars[offset + 1] = digits[i];
+        return offset + 2;
+    }
+
+    /**
+     * Append an {@code int} to a {@code char} array as three decimal digits.  Note that there is no range check on the
+     * input value.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   i           the {@code int}
+     * @return              the offset following the last character stored
+     */
+    public static int append3Digits(char[] chars, int offset, int i) {
+        int n = i / 100;
+        chars[offset] = digits[n];
+        return append2Digits(chars, offset + 1, i - n * 100);
+    }
+
+    /**
+     * Append an {@code int} to a {@code char} array as the specified number of decimal digits, left filled with zeros.
+     * Note that there is no range check on the input value; it must be positive and must fit in the number of digits.
+     * To append the least significant digits of a value that is not guaranteed to be in range, use
+     * {@link #appendNDigitsSafe(char[], int, int, int)}.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   i           the {@code int}
+     * @param   count       the number of digits
+     * @return              the offset following the last character stored
+     */
+    public static int appendNDigits(char[] chars, int offset, int i, int count) {
+        int end = offset + count;
+        storeDigits(chars, end, i, count);
+        return end;
+    }
+
+    /**
+     * Append the least significant decimal digits of an {@code int} to a {@code char} array, as the specified number of
+     * digits, left filled with zeros.  The sign of the value is ignored.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   i           the {@code int}
+     * @param   count       the number of digits
+     * @return              the offset following the last character stored
+     */
+    public static int appendNDigitsSafe(char[] chars, int offset, int i, int count) {
+        return appendNDigitsSafe(chars, offset, (long)i, count);
+    }
+
+    /**
+     * Append a {@code long} to a {@code char} array as the specified number of decimal digits, left filled with zeros.
+     * Note that there is no range check on the input value; it must be positive and must fit in the number of digits.
+     * To append the least significant digits of a value that is not guaranteed to be in range, use
+     * {@link #appendNDigitsSafe(char[], int, long, int)}.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   n           the {@code long}
+     * @param   count       the number of digits
+     * @return              the offset following the last character stored
+     */
+    public static int appendNDigits(char[] chars, int offset, long n, int count) {
+        int end = offset + count;
+        storeDigits(chars, end, n, count);
+        return end;
+    }
+
+    /**
+     * Append the least significant decimal digits of a {@code long} to a {@code char} array, as the specified number of
+     * digits, left filled with zeros.  The sign of the value is ignored.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   n           the {@code long}
+     * @param   count       the number of digits
+     * @return              the offset following the last character stored
+     */
+    public static int appendNDigitsSafe(char[] chars, int offset, long n, int count) {
+        if (count <= 0)
+            return offset;
+        if (count < 19)
+            return appendNDigits(chars, offset, Math.abs(n % longPowersOfTen[count]), count);
+        if (n == Long.MIN_VALUE) {
+            int end = offset + count;
+            int start = end - MIN_LONG_DIGITS.length();
+            Arrays.fill(chars, offset, start, '0');
+            for (int k = 0; k < MIN_LONG_DIGITS.length(); k++)
+                chars[start + k] = MIN_LONG_DIGITS.charAt(k);
+            return end;
+        }
+        return appendNDigits(chars, offset, Math.abs(n), count);
+    }
+
+    /**
+     * Append an {@code int} to a {@code char} array, right-aligned in a field of the specified width and padded on the
+     * left with the specified pad character.  If the pad character is {@code '0'}, the minus sign of a negative number
+     * precedes the padding.  If the number is longer than the field width, it is output in full.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   i           the {@code int}
+     * @param   width       the field width
+     * @param   padChar     the pad character
+     * @return              the offset following the last character stored
+     */
+    public static int appendIntPadded(char[] chars, int offset, int i, int width, char padChar) {
+        return paddedInt(chars, offset, i, width - intLength(i), padChar);
+    }
+
+    /**
+     * Append an {@code int} to a {@code char} array, right-aligned in a field of the specified width and padded on the
+     * left with the specified pad character.  If the pad character is {@code '0'}, the minus sign of a negative number
+     * precedes the padding.  If the number is longer than the field width, the field is filled with the overflow
+     * character instead (for example, {@code '*'}).
+     *
+     * @param   chars           the {@code char} array
+     * @param   offset          the offset within the array at which to store the first character
+     * @param   i               the {@code int}
+     * @param   width           the field width
+     * @param   padChar         the pad character
+     * @param   overflowChar    the character to fill the field if the number does not fit
+     * @return                  the offset following the last character stored
+     */
+    public static int appendIntPadded(char[] chars, int offset, int i, int width, char padChar, char overflowChar) {
+        int padding = width - intLength(i);
+        if (padding < 0) {
+            int end = offset + Math.max(width, 0);
+            Arrays.fill(chars, offset, end, overflowChar);
+            return end;
+        }
+        return paddedInt(chars, offset, i, padding, padChar);
+    }
+
+    /**
+     * Append a {@code long} to a {@code char} array, right-aligned in a field of the specified width and padded on the
+     * left with the specified pad character.  If the pad character is {@code '0'}, the minus sign of a negative number
+     * precedes the padding.  If the number is longer than the field width, it is output in full.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   n           the {@code long}
+     * @param   width       the field width
+     * @param   padChar     the pad character
+     * @return              the offset following the last character stored
+     */
+    public static int appendLongPadded(char[] chars, int offset, long n, int width, char padChar) {
+        return paddedLong(chars, offset, n, width - longLength(n), padChar);
+    }
+
+    /**
+     * Append a {@code long} to a {@code char} array, right-aligned in a field of the specified width and padded on the
+     * left with the specified pad character.  If the pad character is {@code '0'}, the minus sign of a negative number
+     * precedes the padding.  If the number is longer than the field width, the field is filled with the overflow
+     * character instead (for example, {@code '*'}).
+     *
+     * @param   chars           the {@code char} array
+     * @param   offset          the offset within the array at which to store the first character
+     * @param   n               the {@code long}
+     * @param   width           the field width
+     * @param   padChar         the pad character
+     * @param   overflowChar    the character to fill the field if the number does not fit
+     * @return                  the offset following the last character stored
+     */
+    public static int appendLongPadded(char[] chars, int offset, long n, int width, char padChar, char overflowChar) {
+        int padding = width - longLength(n);
+        if (padding < 0) {
+            int end = offset + Math.max(width, 0);
+            Arrays.fill(chars, offset, end, overflowChar);
+            return end;
+        }
+        return paddedLong(chars, offset, n, padding, padChar);
+    }
+
+    private static int paddedInt(char[] chars, int offset, int i, int padding, char padChar) {
+        if (padding > 0) {
+            if (i < 0 && padChar == '0') {
+                chars[offset++] = '-';
+                Arrays.fill(chars, offset, offset + padding, '0');
+                return appendUnsignedInt(chars, offset + padding, -i);
+            }
+            Arrays.fill(chars, offset, offset + padding, padChar);
+            offset += padding;
+        }
+        return appendInt(chars, offset, i);
+    }
+
+    private static int paddedLong(char[] chars, int offset, long n, int padding, char padChar) {
+        if (padding > 0) {
+            if (n < 0 && padChar == '0') {
+                chars[offset++] = '-';
+                Arrays.fill(chars, offset, offset + padding, '0');
+                return appendUnsignedLong(chars, offset + padding, -n);
+            }
+            Arrays.fill(chars, offset, offset + padding, padChar);
+            offset += padding;
+        }
+        return appendLong(chars, offset, n);
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@code char} array, with digits grouped in 3s and separated by the
+     * specified grouping character.
+     *
+     * @param   chars           the {@code char} array
+     * @param   offset          the offset within the array at which to store the first character
+     * @param   i               the {@code int}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the offset following the last character stored
+     */
+    public static int appendIntGrouped(char[] chars, int offset, int i, char groupingChar) {
+        if (i < 0) {
+            chars[offset++] = '-';
+            if (i == Integer.MIN_VALUE)
+                return appendStringGrouped(chars, offset, MIN_INTEGER_DIGITS, groupingChar);
+            return appendPositiveIntGrouped(chars, offset, -i, groupingChar);
+        }
+        return appendPositiveIntGrouped(chars, offset, i, groupingChar);
+    }
+
+    private static int appendStringGrouped(char[] chars, int offset, String string, char groupingChar) {
+        int length = string.length();
+        int end = (length - 1) % 3 + 1;
+        offset = appendString(chars, offset, string, 0, end);
+        while (end < length) {
+            chars[offset++] = groupingChar;
+            offset = appendString(chars, offset, string, end, end + 3);
+            end += 3;
+        }
+        return offset;
+    }
+
+    /**
+     * Append a positive {@code int} left-trimmed to a {@code char} array, with digits grouped in 3s and separated by
+     * the specified grouping character.
+     *
+     * @param   chars           the {@code char} array
+     * @param   offset          the offset within the array at which to store the first character
+     * @param   i               the {@code int}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the offset following the last character stored
+     */
+    public static int appendPositiveIntGrouped(char[] chars, int offset, int i, char groupingChar) {
+        int end = offset + positiveIntGroupedLength(i);
+        int p = end;
+        while (i >= 1000) {
+            int n = i / 1000;
+            p = store3Digits(chars, p, i - n * 1000);
+            chars[--p] = groupingChar;
+            i = n;
+        }
+        storePositiveInt(chars, p, i);
+        return end;
+    }
+
+    private static int store3Digits(char[] chars, int end, int i) {
+        int n = i / 100;
+        int r = i - n * 100;
+        chars[end - 1] = digits[r];
+        chars[end - 2] = tensDigits[r];
+        chars[end - 3] = digits[n];
+        return end - 3;
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@code char} array, with digits grouped in 3s and separated by the
+     * specified grouping character.
+     *
+     * @param   chars           the {@code char} array
+     * @param   offset          the offset within the array at which to store the first character
+     * @param   n               the {@code long}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the offset following the last character stored
+     */
+    public static int appendLongGrouped(char[] chars, int offset, long n, char groupingChar) {
+        if (n < 0) {
+            chars[offset++] = '-';
+            if (n == Long.MIN_VALUE)
+                return appendStringGrouped(chars, offset, MIN_LONG_DIGITS, groupingChar);
+            return appendPositiveLongGrouped(chars, offset, -n, groupingChar);
+        }
+        return appendPositiveLongGrouped(chars, offset, n, groupingChar);
+    }
+
+    /**
+     * Append a positive {@code long} left-trimmed to a {@code char} array, with digits grouped in 3s and separated by
+     * the specified grouping character.
+     *
+     * @param   chars           the {@code char} array
+     * @param   offset          the offset within the array at which to store the first character
+     * @param   n               the {@code long}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the offset following the last character stored
+     */
+    public static int appendPositiveLongGrouped(char[] chars, int offset, long n, char groupingChar) {
+        int end = offset + positiveLongGroupedLength(n);
+        int p = end;
+        while (n > Integer.MAX_VALUE) {
+            long m = n / 1000000000; // one long division for each 9 digits, the rest using int arithmetic
+            int i = (int)(n - m * 1000000000);
+            for (int k = 0; k < 3; k++) {
+                int j = i / 1000;
+                p = store3Digits(chars, p, i - j * 1000);
+                chars[--p] = groupingChar;
+                i = j;
+            }
+            n = m;
+        }
+        int i = (int)n;
+        while (i >= 1000) {
+            int m = i / 1000;
+            p = store3Digits(chars, p, i - m * 1000);
+            chars[--p] = groupingChar;
+            i = m;
+        }
+        storePositiveInt(chars, p, i);
+        return end;
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@code char} array with digits grouped in groups of the specified size,
+     * separated by the specified grouping character.
+     *
+     * @param   chars           the {@code char} array
+     * @param   offset          the offset within the array at which to store the first character
+     * @param   n               the {@code long}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @param   groupSize       the number of digits in each group
+     * @return                  the offset following the last character stored
+     * @throws  IllegalArgumentException if a group size is less than 1
+     */
+    public static int appendLongGrouped(char[] chars, int offset, long n, char groupingChar, int groupSize) {
+        return appendLongGroupedScaled(chars, offset, n, 0, '.', groupingChar, groupSize, groupSize);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@code char} array with digits grouped in the Indian style (lakh and
+     * crore): the last 3 digits form a group, and the preceding digits are grouped in 2s (for example,
+     * {@code 12,34,56,789}).
+     *
+     * @param   chars           the {@code char} array
+     * @param   offset          the offset within the array at which to store the first character
+     * @param   n               the {@code long}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the offset following the last character stored
+     */
+    public static int appendLongGroupedIndian(char[] chars, int offset, long n, char groupingChar) {
+        return appendLongGroupedScaled(chars, offset, n, 0, '.', groupingChar, 3, 2);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@code char} array, using a scale parameter to indicate the number of
+     * decimal places, with the digits of the integer part grouped in 3s and separated by the specified grouping
+     * character.
+     *
+     * @param   chars           the {@code char} array
+     * @param   offset          the offset within the array at which to store the first character
+     * @param   n               the {@code long}
+     * @param   scale           the number of decimal places
+     * @param   separator       the decimal separator character to use
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the offset following the last character stored
+     */
+    public static int appendLongGroupedScaled(char[] chars, int offset, long n, int scale, char separator,
+            char groupingChar) {
+        return appendLongGroupedScaled(chars, offset, n, scale, separator, groupingChar, 3, 3);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@code char} array, using a scale parameter to indicate the number of
+     * decimal places, with the digits of the integer part grouped and separated by the specified grouping character.
+     * The last (rightmost) group of the integer part has {@code firstGroupSize} digits, and the preceding groups have
+     * {@code groupSize} digits (3 and 2 for the Indian style).
+     * <br>
+     * The digits are output left to right in a single pass, without recursion: the length of the integer part is
+     * determined first (using the table of powers of ten), and then each group is separated using a single division by
+     * a power of ten.  Negative scale values are ignored.
+     *
+     * @param   chars           the {@code char} array
+     * @param   offset          the offset within the array at which to store the first character
+     * @param   n               the {@code long}
+     * @param   scale           the number of decimal places
+     * @param   separator       the decimal separator character to use
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @param   firstGroupSize  the number of digits in the last group of the integer part
+     * @param   groupSize       the number of digits in each preceding group
+     * @return                  the offset following the last character stored
+     * @throws  IllegalArgumentException if a group size is less than 1
+     */
+    public static int appendLongGroupedScaled(char[] chars, int offset, long n, int scale, char separator,
+            char groupingChar, int firstGroupSize, int groupSize) {
+        checkGroupSizes(firstGroupSize, groupSize);
+        if (n < 0) {
+            chars[offset++] = '-';
+            n = -n; // Long.MIN_VALUE remains negative, and is treated as unsigned
+        }
+        long fraction = 0;
+        if (scale >= 19) {
+            fraction = n;
+            n = 0;
+        }
+        else if (scale > 0) {
+            long p = longPowersOfTen[scale];
+            long m = Long.divideUnsigned(n, p);
+            fraction = n - m * p;
+            n = m;
+        }
+        int remaining = unsignedLongLength(n);
+        if (remaining > firstGroupSize) {
+            int leading = (remaining - firstGroupSize) % groupSize;
+            remaining -= leading == 0 ? groupSize : leading;
+            long p = longPowersOfTen[remaining];
+            long m = Long.divideUnsigned(n, p);
+            offset = appendPositiveLong(chars, offset, m);
+            n -= m * p;
+            while (remaining > firstGroupSize) {
+                remaining -= groupSize;
+                p = longPowersOfTen[remaining];
+                m = n / p;
+                chars[offset++] = groupingChar;
+                offset = appendNDigits(chars, offset, m, groupSize);
+                n -= m * p;
+            }
+            chars[offset++] = groupingChar;
+            offset = appendNDigits(chars, offset, n, firstGroupSize);
+        }
+        else
+            offset = appendUnsignedLong(chars, offset, n);
+        if (scale > 0) {
+            chars[offset++] = separator;
+            if (scale >= 19) { // the fraction may be 2^63, which is negative as a long
+                for (; scale > 19; scale--)
+                    chars[offset++] = '0';
+                long m = (fraction >>> 1) / 5;
+                offset = appendNDigits(chars, offset, m, 18);
+                chars[offset++] = digits[(int)(fraction - m * 10)];
+            }
+            else
+                offset = appendNDigits(chars, offset, fraction, scale);
+        }
+        return offset;
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@code char} array in hexadecimal.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   i           the {@code int}
+     * @return              the offset following the last character stored
+     */
+    public static int appendIntHex(char[] chars, int offset, int i) {
+        return appendHex(chars, offset, i & 0xFFFFFFFFL, digitsHex);
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@code char} array in hexadecimal, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   i           the {@code int}
+     * @return              the offset following the last character stored
+     */
+    public static int appendIntHexLC(char[] chars, int offset, int i) {
+        return appendHex(chars, offset, i & 0xFFFFFFFFL, digitsHexLC);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@code char} array in hexadecimal.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   n           the {@code long}
+     * @return              the offset following the last character stored
+     */
+    public static int appendLongHex(char[] chars, int offset, long n) {
+        return appendHex(chars, offset, n, digitsHex);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@code char} array in hexadecimal, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   n           the {@code long}
+     * @return              the offset following the last character stored
+     */
+    public static int appendLongHexLC(char[] chars, int offset, long n) {
+        return appendHex(chars, offset, n, digitsHexLC);
+    }
+
+    private static int appendHex(char[] chars, int offset, long n, char[] hexDigits) {
+        int shift = (63 - Long.numberOfLeadingZeros(n | 1)) & ~3;
+        while (shift >= 0) {
+            chars[offset++] = hexDigits[(int)(n >>> shift) & 0xF];
+            shift -= 4;
+        }
+        return offset;
+    }
+
+    /**
+     * Append an {@code int} to a {@code char} array as eight hexadecimal digits.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   i           the {@code int}
+     * @return              the offset following the last character stored
+     */
+    public static int append8Hex(char[] chars, int offset, int i) {
+        return append4Hex(chars, append4Hex(chars, offset, i >>> 16), i);
+    }
+
+    /**
+     * Append an {@code int} to a {@code char} array as eight hexadecimal digits, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   i           the {@code int}
+     * @return              the offset following the last character stored
+     */
+    public static int append8HexLC(char[] chars, int offset, int i) {
+        return append4HexLC(chars, append4HexLC(chars, offset, i >>> 16), i);
+    }
+
+    /**
+     * Append an {@code int} to a {@code char} array as four hexadecimal digits.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   i           the {@code int}
+     * @return              the offset following the last character stored
+     */
+    public static int append4Hex(char[] chars, int offset, int i) {
+        return append2Hex(chars, append2Hex(chars, offset, i >> 8), i);
+    }
+
+    /**
+     * Append an {@code int} to a {@code char} array as four hexadecimal digits, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   i           the {@code int}
+     * @return              the offset following the last character stored
+     */
+    public static int append4HexLC(char[] chars, int offset, int i) {
+        return append2HexLC(chars, append2HexLC(chars, offset, i >> 8), i);
+    }
+
+    /**
+     * Append an {@code int} to a {@code char} array as two hexadecimal digits.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   i           the {@code int}
+     * @return              the offset following the last character stored
+     */
+    public static int append2Hex(char[] chars, int offset, int i) {
+        chars[offset] = digitsHex[(i >> 4) & 0xF];
+        chars[offset + 1] = digitsHex[i & 0xF];
+        return offset + 2;
+    }
+
+    /**
+     * Append an {@code int} to a {@code char} array as two hexadecimal digits, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   i           the {@code int}
+     * @return              the offset following the last character stored
+     */
+    public static int append2HexLC(char[] chars, int offset, int i) {
+        chars[offset] = digitsHexLC[(i >> 4) & 0xF];
+        chars[offset + 1] = digitsHexLC[i & 0xF];
+        return offset + 2;
+    }
+
+    /**
+     * Append an {@code int} to a {@code char} array as a single hexadecimal digit.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the character
+     * @param   i           the {@code int}
+     * @return              the offset following the character stored
+     */
+    public static int append1Hex(char[] chars, int offset, int i) {
+        chars[offset] = digitsHex[i & 0xF];
+        return offset + 1;
+    }
+
+    /**
+     * Append an {@code int} to a {@code char} array as a single hexadecimal digit, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the character
+     * @param   i           the {@code int}
+     * @return              the offset following the character stored
+     */
+    public static int append1HexLC(char[] chars, int offset, int i) {
+        chars[offset] = digitsHexLC[i & 0xF];
+        return offset + 1;
+    }
+
+    private static int appendString(char[] chars, int offset, String s, int start, int end) {
+        s.getChars(start, end, chars, offset);
+        return offset + end - start;
+    }
+
+    /**
+     * Append the values of an {@code int} array to a {@code char} array, left-trimmed and separated by the
+     * specified separator character.  The array must have sufficient space for the output; the required length may be
+     * determined using {@link #intsLength(int[])}.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   values      the {@code int} array
+     * @param   separator   the separator character
+     * @return              the offset following the last character stored
+     */
+    public static int appendInts(char[] chars, int offset, int[] values, char separator) {
+        for (int k = 0, n = values.length; k < n; k++) {
+            if (k > 0)
+                chars[offset++] = separator;
+            offset = appendInt(chars, offset, values[k]);
+        }
+        return offset;
+    }
+
+    /**
+     * Append the values of a {@code long} array to a {@code char} array, left-trimmed and separated by the
+     * specified separator character.  The array must have sufficient space for the output; the required length may be
+     * determined using {@link #longsLength(long[])}.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   values      the {@code long} array
+     * @param   separator   the separator character
+     * @return              the offset following the last character stored
+     */
+    public static int appendLongs(char[] chars, int offset, long[] values, char separator) {
+        for (int k = 0, n = values.length; k < n; k++) {
+            if (k > 0)
+                chars[offset++] = separator;
+            offset = appendLong(chars, offset, values[k]);
+        }
+        return offset;
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@link ByteBuffer} as ASCII characters.  The characters are stored
+     * starting at the current position of the buffer, and the position is advanced once, past the last character.  If
+     * the buffer is backed by an accessible array, the characters are stored directly into the array; otherwise they
+     * are stored using absolute puts.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendInt(ByteBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, intLength(i));
+        if (buffer.hasArray())
+            appendInt(buffer.array(), buffer.arrayOffset() + position, i);
+        else {
+            if (i < 0)
+                buffer.put(position, (byte)'-');
+            storeUnsignedLong(buffer, end, Math.abs((long)i));
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a positive {@code int} left-trimmed to a {@link ByteBuffer} as ASCII characters.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendPositiveInt(ByteBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, positiveIntLength(i));
+        if (buffer.hasArray())
+            appendPositiveInt(buffer.array(), buffer.arrayOffset() + position, i);
+        else {
+            storeUnsignedLong(buffer, end, i);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an unsigned {@code int} left-trimmed to a {@link ByteBuffer} as ASCII characters.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendUnsignedInt(ByteBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, unsignedIntLength(i));
+        if (buffer.hasArray())
+            appendUnsignedInt(buffer.array(), buffer.arrayOffset() + position, i);
+        else {
+            storeUnsignedLong(buffer, end, i & 0xFFFFFFFFL);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@link ByteBuffer} as ASCII characters, using a scale parameter to
+     * indicate the number of decimal places.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendIntScaled(ByteBuffer buffer, int i, int scale, char separator) {
+        int position = buffer.position();
+        int end = reserve(buffer, intScaledLength(i, scale));
+        if (buffer.hasArray())
+            appendIntScaled(buffer.array(), buffer.arrayOffset() + position, i, scale, separator);
+        else {
+            if (i < 0)
+                buffer.put(position, (byte)'-');
+            storeUnsignedLongScaled(buffer, end, Math.abs((long)i), scale, separator);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a positive {@code int} left-trimmed to a {@link ByteBuffer} as ASCII characters, using a scale parameter
+     * to indicate the number of decimal places.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendPositiveIntScaled(ByteBuffer buffer, int i, int scale, char separator) {
+        int position = buffer.position();
+        int end = reserve(buffer, positiveIntScaledLength(i, scale));
+        if (buffer.hasArray())
+            appendPositiveIntScaled(buffer.array(), buffer.arrayOffset() + position, i, scale, separator);
+        else {
+            storeUnsignedLongScaled(buffer, end, i, scale, separator);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@link ByteBuffer} as ASCII characters.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   n           the {@code long}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendLong(ByteBuffer buffer, long n) {
+        int position = buffer.position();
+        int end = reserve(buffer, longLength(n));
+        if (buffer.hasArray())
+            appendLong(buffer.array(), buffer.arrayOffset() + position, n);
+        else {
+            if (n < 0)
+                buffer.put(position, (byte)'-');
+            storeUnsignedLong(buffer, end, n < 0 ? -n : n); // -Long.MIN_VALUE is correct if treated as unsigned
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a positive {@code long} left-trimmed to a {@link ByteBuffer} as ASCII characters.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   n           the {@code long}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendPositiveLong(ByteBuffer buffer, long n) {
+        int position = buffer.position();
+        int end = reserve(buffer, positiveLongLength(n));
+        if (buffer.hasArray())
+            appendPositiveLong(buffer.array(), buffer.arrayOffset() + position, n);
+        else {
+            storeUnsignedLong(buffer, end, n);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an unsigned {@code long} left-trimmed to a {@link ByteBuffer} as ASCII characters.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   n           the {@code long}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendUnsignedLong(ByteBuffer buffer, long n) {
+        int position = buffer.position();
+        int end = reserve(buffer, unsignedLongLength(n));
+        if (buffer.hasArray())
+            appendUnsignedLong(buffer.array(), buffer.arrayOffset() + position, n);
+        else {
+            storeUnsignedLong(buffer, end, n);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@link ByteBuffer} as ASCII characters, using a scale parameter to
+     * indicate the number of decimal places.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   n           the {@code long}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendLongScaled(ByteBuffer buffer, long n, int scale, char separator) {
+        int position = buffer.position();
+        int end = reserve(buffer, longScaledLength(n, scale));
+        if (buffer.hasArray())
+            appendLongScaled(buffer.array(), buffer.arrayOffset() + position, n, scale, separator);
+        else {
+            if (n < 0)
+                buffer.put(position, (byte)'-');
+            storeUnsignedLongScaled(buffer, end, n < 0 ? -n : n, scale, separator);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a positive {@code long} left-trimmed to a {@link ByteBuffer} as ASCII characters, using a scale parameter
+     * to indicate the number of decimal places.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   n           the {@code long}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendPositiveLongScaled(ByteBuffer buffer, long n, int scale, char separator) {
+        int position = buffer.position();
+        int end = reserve(buffer, positiveLongScaledLength(n, scale));
+        if (buffer.hasArray())
+            appendPositiveLongScaled(buffer.array(), buffer.arrayOffset() + position, n, scale, separator);
+        else {
+            storeUnsignedLongScaled(buffer, end, n, scale, separator);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@link ByteBuffer} as ASCII characters, with digits grouped in 3s and
+     * separated by the specified grouping character.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @param   groupingChar the grouping character (e.g. ',')
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendIntGrouped(ByteBuffer buffer, int i, char groupingChar) {
+        int position = buffer.position();
+        int end = reserve(buffer, intGroupedLength(i));
+        if (buffer.hasArray())
+            appendIntGrouped(buffer.array(), buffer.arrayOffset() + position, i, groupingChar);
+        else {
+            if (i < 0)
+                buffer.put(position, (byte)'-');
+            storeUnsignedLongGrouped(buffer, end, Math.abs((long)i), groupingChar);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a positive {@code int} left-trimmed to a {@link ByteBuffer} as ASCII characters, with digits grouped in 3s
+     * and separated by the specified grouping character.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @param   groupingChar the grouping character (e.g. ',')
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendPositiveIntGrouped(ByteBuffer buffer, int i, char groupingChar) {
+        int position = buffer.position();
+        int end = reserve(buffer, positiveIntGroupedLength(i));
+        if (buffer.hasArray())
+            appendPositiveIntGrouped(buffer.array(), buffer.arrayOffset() + position, i, groupingChar);
+        else {
+            storeUnsignedLongGrouped(buffer, end, i, groupingChar);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@link ByteBuffer} as ASCII characters, with digits grouped in 3s and
+     * separated by the specified grouping character.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   n           the {@code long}
+     * @param   groupingChar the grouping character (e.g. ',')
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendLongGrouped(ByteBuffer buffer, long n, char groupingChar) {
+        int position = buffer.position();
+        int end = reserve(buffer, longGroupedLength(n));
+        if (buffer.hasArray())
+            appendLongGrouped(buffer.array(), buffer.arrayOffset() + position, n, groupingChar);
+        else {
+            if (n < 0)
+                buffer.put(position, (byte)'-');
+            storeUnsignedLongGrouped(buffer, end, n < 0 ? -n : n, groupingChar);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a positive {@code long} left-trimmed to a {@link ByteBuffer} as ASCII characters, with digits grouped in
+     * 3s and separated by the specified grouping character.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   n           the {@code long}
+     * @param   groupingChar the grouping character (e.g. ',')
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendPositiveLongGrouped(ByteBuffer buffer, long n, char groupingChar) {
+        int position = buffer.position();
+        int end = reserve(buffer, positiveLongGroupedLength(n));
+        if (buffer.hasArray())
+            appendPositiveLongGrouped(buffer.array(), buffer.arrayOffset() + position, n, groupingChar);
+        else {
+            storeUnsignedLongGrouped(buffer, end, n, groupingChar);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} to a {@link ByteBuffer} as ASCII characters as a single decimal digit.  Note that there is
+     * no range check on the input value.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void append1Digit(ByteBuffer buffer, int i) {
+        int position = buffer.position();
+        buffer.put(position, (byte)(i + '0'));
+        setPosition(buffer, position + 1);
+    }
+
+    /**
+     * Append an {@code int} to a {@link ByteBuffer} as ASCII characters as two decimal digits.  Note that there is no
+     * range check on the input value.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void append2Digits(ByteBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 2);
+        store2Digits(buffer, position, i);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} to a {@link ByteBuffer} as ASCII characters as three decimal digits.  Note that there is no
+     * range check on the input value.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void append3Digits(ByteBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 3);
+        int n = i / 100;
+        buffer.put(position, (byte)digits[n]);
+        store2Digits(buffer, position + 1, i - n * 100);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@link ByteBuffer} as ASCII characters in hexadecimal.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendIntHex(ByteBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, intHexLength(i));
+        if (buffer.hasArray())
+            appendIntHex(buffer.array(), buffer.arrayOffset() + position, i);
+        else
+            storeHex(buffer, position, end, i & 0xFFFFFFFFL, HEX_ALPHA_OFFSET);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@link ByteBuffer} as ASCII characters in hexadecimal, using lower-case
+     * for the alphabetic characters.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendIntHexLC(ByteBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, intHexLength(i));
+        if (buffer.hasArray())
+            appendIntHexLC(buffer.array(), buffer.arrayOffset() + position, i);
+        else
+            storeHex(buffer, position, end, i & 0xFFFFFFFFL, HEX_ALPHA_OFFSET_LC);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@link ByteBuffer} as ASCII characters in hexadecimal.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   n           the {@code long}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendLongHex(ByteBuffer buffer, long n) {
+        int position = buffer.position();
+        int end = reserve(buffer, longHexLength(n));
+        if (buffer.hasArray())
+            appendLongHex(buffer.array(), buffer.arrayOffset() + position, n);
+        else
+            storeHex(buffer, position, end, n, HEX_ALPHA_OFFSET);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@link ByteBuffer} as ASCII characters in hexadecimal, using lower-case
+     * for the alphabetic characters.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   n           the {@code long}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendLongHexLC(ByteBuffer buffer, long n) {
+        int position = buffer.position();
+        int end = reserve(buffer, longHexLength(n));
+        if (buffer.hasArray())
+            appendLongHexLC(buffer.array(), buffer.arrayOffset() + position, n);
+        else
+            storeHex(buffer, position, end, n, HEX_ALPHA_OFFSET_LC);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} to a {@link ByteBuffer} as eight hexadecimal digits.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void append8Hex(ByteBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 8);
+        storeHex(buffer, position, end, i, HEX_ALPHA_OFFSET);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} to a {@link ByteBuffer} as eight hexadecimal digits, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void append8HexLC(ByteBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 8);
+        storeHex(buffer, position, end, i, HEX_ALPHA_OFFSET_LC);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} to a {@link ByteBuffer} as four hexadecimal digits.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void append4Hex(ByteBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 4);
+        storeHex(buffer, position, end, i, HEX_ALPHA_OFFSET);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} to a {@link ByteBuffer} as four hexadecimal digits, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void append4HexLC(ByteBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 4);
+        storeHex(buffer, position, end, i, HEX_ALPHA_OFFSET_LC);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} to a {@link ByteBuffer} as two hexadecimal digits.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void append2Hex(ByteBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 2);
+        storeHex(buffer, position, end, i, HEX_ALPHA_OFFSET);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} to a {@link ByteBuffer} as two hexadecimal digits, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void append2HexLC(ByteBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 2);
+        storeHex(buffer, position, end, i, HEX_ALPHA_OFFSET_LC);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} to a {@link ByteBuffer} as a single hexadecimal digit.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void append1Hex(ByteBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 1);
+        storeHex(buffer, position, end, i, HEX_ALPHA_OFFSET);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} to a {@link ByteBuffer} as a single hexadecimal digit, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   buffer      the {@link ByteBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void append1HexLC(ByteBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 1);
+        storeHex(buffer, position, end, i, HEX_ALPHA_OFFSET_LC);
+        setPosition(buffer, end);
+    }
+
+    private static void storeUnsignedLong(ByteBuffer buffer, int end, long n) {
+        while (n < 0 || n > Integer.MAX_VALUE) {
+            long m = (n >>> 8) / 390625; // 100,000,000 = 2 ^ 8 * 390,625
+            end = store8Digits(buffer, end, (int)(n - m * 100000000));
+            n = m;
+        }
+        int i = (int)n;
+        while (i >= 100) {
+            int m = i / 100;
+            end -= 2;
+            store2Digits(buffer, end, i - m * 100);
+            i = m;
+        }
+        buffer.put(--end, (byte)digits[i]);
+        if (i >= 10)
+            buffer.put(end - 1, (byte)tensDigits[i]);
+    }
+
+    private static int store8Digits(ByteBuffer buffer, int end, int i) {
+        end -= 8;
+        storePacked(buffer, end, packDigits(i));
+        return end;
+    }
+
+    private static void storeUnsignedLongScaled(ByteBuffer buffer, int end, long n, int scale, char separator) {
+        if (scale > 0) {
+            for (; scale >= 8 && (n < 0 || n > Integer.MAX_VALUE); scale -= 8) {
+                long m = (n >>> 8) / 390625;
+                end = store8Digits(buffer, end, (int)(n - m * 100000000));
+                n = m;
+            }
+            if (n < 0 || n > Integer.MAX_VALUE) { // separator falls within the next 8 digits
+                long m = (n >>> 8) / 390625;
+                int i = (int)(n - m * 100000000);
+                for (int k = 0; k < 8; k++) {
+                    if (k == scale)
+                        buffer.put(--end, (byte)separator);
+                    int j = i / 10;
+                    buffer.put(--end, (byte)digits[i - j * 10]);
+                    i = j;
+                }
+                n = m;
+            }
+            else {
+                int i = (int)n;
+                for (; scale >= 2; scale -= 2) {
+                    int j = i / 100;
+                    end -= 2;
+                    store2Digits(buffer, end, i - j * 100);
+                    i = j;
+                }
+                if (scale == 1) {
+                    int j = i / 10;
+                    buffer.put(--end, (byte)digits[i - j * 10]);
+                    i = j;
+                }
+                buffer.put(--end, (byte)separator);
+                n = i;
+            }
+        }
+        storeUnsignedLong(buffer, end, n);
+    }
+
+    private static void storeUnsignedLongGrouped(ByteBuffer buffer, int end, long n, char groupingChar) {
+        while (n < 0 || n > Integer.MAX_VALUE) {
+            long m = (n >>> 9) / 1953125; // 1,000,000,000 = 2 ^ 9 * 1,953,125
+            int i = (int)(n - m * 1000000000);
+            for (int k = 0; k < 3; k++) {
+                int j = i / 1000;
+                end = store3Digits(buffer, end, i - j * 1000);
+                buffer.put(--end, (byte)groupingChar);
+                i = j;
+            }
+            n = m;
+        }
+        int i = (int)n;
+        while (i >= 1000) {
+            int j = i / 1000;
+            end = store3Digits(buffer, end, i - j * 1000);
+            buffer.put(--end, (byte)groupingChar);
+            i = j;
+        }
+        storeUnsignedLong(buffer, end, i);
+    }
+
+    private static int store3Digits(ByteBuffer buffer, int end, int i) {
+        int n = i / 100;
+        end -= 2;
+        store2Digits(buffer, end, i - n * 100);
+        buffer.put(--end, (byte)digits[n]);
+        return end;
+    }
+
+    private static void store2Digits(ByteBuffer buffer, int index, int i) {
+        buffer.put(index, (byte)tensDigits[i]);
+        buffer.put(index + 1, (byte)digits[i]);
+    }
+
+    private static void storeHex(ByteBuffer buffer, int index, int end, long n, long alphaOffset) {
+        if (end - index > 8) {
+            end -= 8;
+            storePacked(buffer, end, packHex((int)n, alphaOffset));
+            n >>>= 32;
+        }
+        long packed = packHex((int)n, alphaOffset);
+        while (end > index) {
+            buffer.put(--end, (byte)packed);
+            packed >>>= 8;
+        }
+    }
+
+    /**
+     * Convert an {@code int} to eight ASCII hexadecimal digits packed into a {@code long}, most significant digit in
+     * the high-order byte, using SWAR (SIMD within a register) operations in place of table lookups.
+     *
+     * @param   i           the {@code int}
+     * @param   alphaOffset the difference between the alphabetic digits and the characters following '9'
+     * @return              the packed digits
+     */
+    private static long packHex(int i, long alphaOffset) {
+        long x = i & 0xFFFFFFFFL;
+        x = (x | (x << 16)) & 0x0000FFFF0000FFFFL; // spread the nibbles one to each byte
+        x = (x | (x << 8)) & 0x00FF00FF00FF00FFL;
+        x = (x | (x << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        long alpha = ((x + 0x0606060606060606L) >>> 4) & 0x0101010101010101L; // 1 in each byte with nibble >= 10
+        return x + 0x3030303030303030L + alpha * alphaOffset;
+    }
+
+    private static void storePacked(ByteBuffer buffer, int index, long packed) {
+        buffer.putLong(index, buffer.order() == ByteOrder.BIG_ENDIAN ? packed : Long.reverseBytes(packed));
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@link CharBuffer}.  The characters are stored starting at the current
+     * position of the buffer, and the position is advanced once, past the last character.  If the buffer is backed by
+     * an accessible array, the characters are stored directly into the array; otherwise they are stored using absolute
+     * puts.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendInt(CharBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, intLength(i));
+        if (buffer.hasArray())
+            appendInt(buffer.array(), buffer.arrayOffset() + position, i);
+        else {
+            if (i < 0)
+                buffer.put(position, '-');
+            storeUnsignedLong(buffer, end, Math.abs((long)i));
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a positive {@code int} left-trimmed to a {@link CharBuffer}.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendPositiveInt(CharBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, positiveIntLength(i));
+        if (buffer.hasArray())
+            appendPositiveInt(buffer.array(), buffer.arrayOffset() + position, i);
+        else {
+            storeUnsignedLong(buffer, end, i);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an unsigned {@code int} left-trimmed to a {@link CharBuffer}.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendUnsignedInt(CharBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, unsignedIntLength(i));
+        if (buffer.hasArray())
+            appendUnsignedInt(buffer.array(), buffer.arrayOffset() + position, i);
+        else {
+            storeUnsignedLong(buffer, end, i & 0xFFFFFFFFL);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@link CharBuffer}, using a scale parameter to indicate the number of
+     * decimal places.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   i           the {@code int}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendIntScaled(CharBuffer buffer, int i, int scale, char separator) {
+        int position = buffer.position();
+        int end = reserve(buffer, intScaledLength(i, scale));
+        if (buffer.hasArray())
+            appendIntScaled(buffer.array(), buffer.arrayOffset() + position, i, scale, separator);
+        else {
+            if (i < 0)
+                buffer.put(position, '-');
+            storeUnsignedLongScaled(buffer, end, Math.abs((long)i), scale, separator);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a positive {@code int} left-trimmed to a {@link CharBuffer}, using a scale parameter to indicate the
+     * number of decimal places.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   i           the {@code int}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendPositiveIntScaled(CharBuffer buffer, int i, int scale, char separator) {
+        int position = buffer.position();
+        int end = reserve(buffer, positiveIntScaledLength(i, scale));
+        if (buffer.hasArray())
+            appendPositiveIntScaled(buffer.array(), buffer.arrayOffset() + position, i, scale, separator);
+        else {
+            storeUnsignedLongScaled(buffer, end, i, scale, separator);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@link CharBuffer}.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   n           the {@code long}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendLong(CharBuffer buffer, long n) {
+        int position = buffer.position();
+        int end = reserve(buffer, longLength(n));
+        if (buffer.hasArray())
+            appendLong(buffer.array(), buffer.arrayOffset() + position, n);
+        else {
+            if (n < 0)
+                buffer.put(position, '-');
+            storeUnsignedLong(buffer, end, n < 0 ? -n : n); // -Long.MIN_VALUE is correct if treated as unsigned
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a positive {@code long} left-trimmed to a {@link CharBuffer}.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   n           the {@code long}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendPositiveLong(CharBuffer buffer, long n) {
+        int position = buffer.position();
+        int end = reserve(buffer, positiveLongLength(n));
+        if (buffer.hasArray())
+            appendPositiveLong(buffer.array(), buffer.arrayOffset() + position, n);
+        else {
+            storeUnsignedLong(buffer, end, n);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an unsigned {@code long} left-trimmed to a {@link CharBuffer}.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   n           the {@code long}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendUnsignedLong(CharBuffer buffer, long n) {
+        int position = buffer.position();
+        int end = reserve(buffer, unsignedLongLength(n));
+        if (buffer.hasArray())
+            appendUnsignedLong(buffer.array(), buffer.arrayOffset() + position, n);
+        else {
+            storeUnsignedLong(buffer, end, n);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@link CharBuffer}, using a scale parameter to indicate the number of
+     * decimal places.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   n           the {@code long}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendLongScaled(CharBuffer buffer, long n, int scale, char separator) {
+        int position = buffer.position();
+        int end = reserve(buffer, longScaledLength(n, scale));
+        if (buffer.hasArray())
+            appendLongScaled(buffer.array(), buffer.arrayOffset() + position, n, scale, separator);
+        else {
+            if (n < 0)
+                buffer.put(position, '-');
+            storeUnsignedLongScaled(buffer, end, n < 0 ? -n : n, scale, separator);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a positive {@code long} left-trimmed to a {@link CharBuffer}, using a scale parameter to indicate the
+     * number of decimal places.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   n           the {@code long}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendPositiveLongScaled(CharBuffer buffer, long n, int scale, char separator) {
+        int position = buffer.position();
+        int end = reserve(buffer, positiveLongScaledLength(n, scale));
+        if (buffer.hasArray())
+            appendPositiveLongScaled(buffer.array(), buffer.arrayOffset() + position, n, scale, separator);
+        else {
+            storeUnsignedLongScaled(buffer, end, n, scale, separator);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@link CharBuffer}, with digits grouped in 3s and separated by the
+     * specified grouping character.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   i           the {@code int}
+     * @param   groupingChar the grouping character (e.g. ',')
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendIntGrouped(CharBuffer buffer, int i, char groupingChar) {
+        int position = buffer.position();
+        int end = reserve(buffer, intGroupedLength(i));
+        if (buffer.hasArray())
+            appendIntGrouped(buffer.array(), buffer.arrayOffset() + position, i, groupingChar);
+        else {
+            if (i < 0)
+                buffer.put(position, '-');
+            storeUnsignedLongGrouped(buffer, end, Math.abs((long)i), groupingChar);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a positive {@code int} left-trimmed to a {@link CharBuffer}, with digits grouped in 3s and separated by
+     * the specified grouping character.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   i           the {@code int}
+     * @param   groupingChar the grouping character (e.g. ',')
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendPositiveIntGrouped(CharBuffer buffer, int i, char groupingChar) {
+        int position = buffer.position();
+        int end = reserve(buffer, positiveIntGroupedLength(i));
+        if (buffer.hasArray())
+            appendPositiveIntGrouped(buffer.array(), buffer.arrayOffset() + position, i, groupingChar);
+        else {
+            storeUnsignedLongGrouped(buffer, end, i, groupingChar);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@link CharBuffer}, with digits grouped in 3s and separated by the
+     * specified grouping character.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   n           the {@code long}
+     * @param   groupingChar the grouping character (e.g. ',')
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendLongGrouped(CharBuffer buffer, long n, char groupingChar) {
+        int position = buffer.position();
+        int end = reserve(buffer, longGroupedLength(n));
+        if (buffer.hasArray())
+            appendLongGrouped(buffer.array(), buffer.arrayOffset() + position, n, groupingChar);
+        else {
+            if (n < 0)
+                buffer.put(position, '-');
+            storeUnsignedLongGrouped(buffer, end, n < 0 ? -n : n, groupingChar);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a positive {@code long} left-trimmed to a {@link CharBuffer}, with digits grouped in 3s and separated by
+     * the specified grouping character.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   n           the {@code long}
+     * @param   groupingChar the grouping character (e.g. ',')
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendPositiveLongGrouped(CharBuffer buffer, long n, char groupingChar) {
+        int position = buffer.position();
+        int end = reserve(buffer, positiveLongGroupedLength(n));
+        if (buffer.hasArray())
+            appendPositiveLongGrouped(buffer.array(), buffer.arrayOffset() + position, n, groupingChar);
+        else {
+            storeUnsignedLongGrouped(buffer, end, n, groupingChar);
+        }
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} to a {@link CharBuffer} as a single decimal digit.  Note that there is no range check on
+     * the input value.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void append1Digit(CharBuffer buffer, int i) {
+        int position = buffer.position();
+        buffer.put(position, (char)(i + '0'));
+        setPosition(buffer, position + 1);
+    }
+
+    /**
+     * Append an {@code int} to a {@link CharBuffer} as two decimal digits.  Note that there is no range check on the
+     * input value.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void append2Digits(CharBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 2);
+        store2Digits(buffer, position, i);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} to a {@link CharBuffer} as three decimal digits.  Note that there is no range check on the
+     * input value.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void append3Digits(CharBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 3);
+        int n = i / 100;
+        buffer.put(position, digits[n]);
+        store2Digits(buffer, position + 1, i - n * 100);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@link CharBuffer} in hexadecimal.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendIntHex(CharBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, intHexLength(i));
+        if (buffer.hasArray())
+            appendIntHex(buffer.array(), buffer.arrayOffset() + position, i);
+        else
+            storeHex(buffer, position, end, i & 0xFFFFFFFFL, digitsHex);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} left-trimmed to a {@link CharBuffer} in hexadecimal, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendIntHexLC(CharBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, intHexLength(i));
+        if (buffer.hasArray())
+            appendIntHexLC(buffer.array(), buffer.arrayOffset() + position, i);
+        else
+            storeHex(buffer, position, end, i & 0xFFFFFFFFL, digitsHexLC);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@link CharBuffer} in hexadecimal.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   n           the {@code long}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendLongHex(CharBuffer buffer, long n) {
+        int position = buffer.position();
+        int end = reserve(buffer, longHexLength(n));
+        if (buffer.hasArray())
+            appendLongHex(buffer.array(), buffer.arrayOffset() + position, n);
+        else
+            storeHex(buffer, position, end, n, digitsHex);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append a {@code long} left-trimmed to a {@link CharBuffer} in hexadecimal, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   n           the {@code long}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void appendLongHexLC(CharBuffer buffer, long n) {
+        int position = buffer.position();
+        int end = reserve(buffer, longHexLength(n));
+        if (buffer.hasArray())
+            appendLongHexLC(buffer.array(), buffer.arrayOffset() + position, n);
+        else
+            storeHex(buffer, position, end, n, digitsHexLC);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} to a {@link CharBuffer} as eight hexadecimal digits.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void append8Hex(CharBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 8);
+        storeHex(buffer, position, end, i, digitsHex);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} to a {@link CharBuffer} as eight hexadecimal digits, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void append8HexLC(CharBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 8);
+        storeHex(buffer, position, end, i, digitsHexLC);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} to a {@link CharBuffer} as four hexadecimal digits.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void append4Hex(CharBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 4);
+        storeHex(buffer, position, end, i, digitsHex);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} to a {@link CharBuffer} as four hexadecimal digits, using lower-case for the alphabetic
+     * characters.
+     *
+     * @param   buffer      the {@link CharBuffer}
+     * @param   i           the {@code int}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void append4HexLC(CharBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 4);
+        storeHex(buffer, position, end, i, digitsHexLC);
+        setPosition(buffer, end);
+    }
+
+    /**
+     * Append an {@code int} to a {@link CharBuffer} as two hexadecimal digits.
+     *
+     * @param   buffer      the {@link CharBuffer}
      * @param   i           the {@code int}
-     * @throws  IOException if thrown by the {@link Appendable}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
      */
-    public static void append2Hex(Appendable a, int i) throws IOException {
-        a.append(digitsHex[(i >> 4) & 0xF]);
-        a.append(digitsHex[i & 0xF]);
+    public static void append2Hex(CharBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 2);
+        storeHex(buffer, position, end, i, digitsHex);
+        setPosition(buffer, end);
     }
 
     /**
-     * Append an {@code int} to an {@link Appendable} as two hexadecimal digits, using lower-case for the alphabetic
+     * Append an {@code int} to a {@link CharBuffer} as two hexadecimal digits, using lower-case for the alphabetic
      * characters.
      *
-     * @param   a           the {@link Appendable}
+     * @param   buffer      the {@link CharBuffer}
      * @param   i           the {@code int}
-     * @throws  IOException if thrown by the {@link Appendable}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
      */
-    public static void append2HexLC(Appendable a, int i) throws IOException {
-        a.append(digitsHexLC[(i >> 4) & 0xF]);
-        a.append(digitsHexLC[i & 0xF]);
+    public static void append2HexLC(CharBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 2);
+        storeHex(buffer, position, end, i, digitsHexLC);
+        setPosition(buffer, end);
     }
 
     /**
-     * Append an {@code int} to an {@link Appendable} as a single hexadecimal digit.
+     * Append an {@code int} to a {@link CharBuffer} as a single hexadecimal digit.
      *
-     * @param   a           the {@link Appendable}
+     * @param   buffer      the {@link CharBuffer}
      * @param   i           the {@code int}
-     * @throws  IOException if thrown by the {@link Appendable}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
      */
-    public static void append1Hex(Appendable a, int i) throws IOException {
-        a.append(digitsHex[i & 0xF]);
+    public static void append1Hex(CharBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 1);
+        storeHex(buffer, position, end, i, digitsHex);
+        setPosition(buffer, end);
     }
 
     /**
-     * Append an {@code int} to an {@link Appendable} as a single hexadecimal digit, using lower-case for the alphabetic
+     * Append an {@code int} to a {@link CharBuffer} as a single hexadecimal digit, using lower-case for the alphabetic
      * characters.
      *
-     * @param   a           the {@link Appendable}
+     * @param   buffer      the {@link CharBuffer}
      * @param   i           the {@code int}
-     * @throws  IOException if thrown by the {@link Appendable}
+     * @throws  BufferOverflowException if there is insufficient space remaining in the buffer
      */
-    public static void append1HexLC(Appendable a, int i) throws IOException {
-        a.append(digitsHexLC[i & 0xF]);
+    public static void append1HexLC(CharBuffer buffer, int i) {
+        int position = buffer.position();
+        int end = reserve(buffer, 1);
+        storeHex(buffer, position, end, i, digitsHexLC);
+        setPosition(buffer, end);
+    }
+
+    private static void storeUnsignedLong(CharBuffer buffer, int end, long n) {
+        while (n < 0 || n > Integer.MAX_VALUE) {
+            long m = (n >>> 8) / 390625; // 100,000,000 = 2 ^ 8 * 390,625
+            end = store8Digits(buffer, end, (int)(n - m * 100000000));
+            n = m;
+        }
+        int i = (int)n;
+        while (i >= 100) {
+            int m = i / 100;
+            end -= 2;
+            store2Digits(buffer, end, i - m * 100);
+            i = m;
+        }
+        buffer.put(--end, digits[i]);
+        if (i >= 10)
+            buffer.put(end - 1, tensDigits[i]);
+    }
+
+    private static int store8Digits(CharBuffer buffer, int end, int i) {
+        for (int k = 0; k < 4; k++) {
+            int n = i / 100;
+            end -= 2;
+            store2Digits(buffer, end, i - n * 100);
+            i = n;
+        }
+        return end;
+    }
+
+    private static void storeUnsignedLongScaled(CharBuffer buffer, int end, long n, int scale, char separator) {
+        if (scale > 0) {
+            for (; scale >= 8 && (n < 0 || n > Integer.MAX_VALUE); scale -= 8) {
+                long m = (n >>> 8) / 390625;
+                end = store8Digits(buffer, end, (int)(n - m * 100000000));
+                n = m;
+            }
+            if (n < 0 || n > Integer.MAX_VALUE) { // separator falls within the next 8 digits
+                long m = (n >>> 8) / 390625;
+                int i = (int)(n - m * 100000000);
+                for (int k = 0; k < 8; k++) {
+                    if (k == scale)
+                        buffer.put(--end, separator);
+                    int j = i / 10;
+                    buffer.put(--end, digits[i - j * 10]);
+                    i = j;
+                }
+                n = m;
+            }
+            else {
+                int i = (int)n;
+                for (; scale >= 2; scale -= 2) {
+                    int j = i / 100;
+                    end -= 2;
+                    store2Digits(buffer, end, i - j * 100);
+                    i = j;
+                }
+                if (scale == 1) {
+                    int j = i / 10;
+                    buffer.put(--end, digits[i - j * 10]);
+                    i = j;
+                }
+                buffer.put(--end, separator);
+                n = i;
+            }
+        }
+        storeUnsignedLong(buffer, end, n);
+    }
+
+    private static void storeUnsignedLongGrouped(CharBuffer buffer, int end, long n, char groupingChar) {
+        while (n < 0 || n > Integer.MAX_VALUE) {
+            long m = (n >>> 9) / 1953125; // 1,000,000,000 = 2 ^ 9 * 1,953,125
+            int i = (int)(n - m * 1000000000);
+            for (int k = 0; k < 3; k++) {
+                int j = i / 1000;
+                end = store3Digits(buffer, end, i - j * 1000);
+                buffer.put(--end, groupingChar);
+                i = j;
+            }
+            n = m;
+        }
+        int i = (int)n;
+        while (i >= 1000) {
+            int j = i / 1000;
+            end = store3Digits(buffer, end, i - j * 1000);
+            buffer.put(--end, groupingChar);
+            i = j;
+        }
+        storeUnsignedLong(buffer, end, i);
+    }
+
+    private static int store3Digits(CharBuffer buffer, int end, int i) {
+        int n = i / 100;
+        end -= 2;
+        store2Digits(buffer, end, i - n * 100);
+        buffer.put(--end, digits[n]);
+        return end;
+    }
+
+    private static void store2Digits(CharBuffer buffer, int index, int i) {
+        buffer.put(index, tensDigits[i]);
+        buffer.put(index + 1, digits[i]);
+    }
+
+    private static void storeHex(CharBuffer buffer, int index, int end, long n, char[] hexDigits) {
+        while (end > index) {
+            buffer.put(--end, hexDigits[(int)n & 0xF]);
+            n >>>= 4;
+        }
+    }
+
+    private static int reserve(Buffer buffer, int length) {
+        if (buffer.remaining() < length)
+            throw new BufferOverflowException();
+        return buffer.position() + length;
+    }
+
+    private static void setPosition(Buffer buffer, int position) {
+        buffer.position(position); // called through Buffer for compatibility with the Java 8 API
     }
 
     /**
-     * Output an {@code int} left-trimmed using an {@link IntConsumer}.  This method outputs the digits left to right,
-     * avoiding the need to allocate a separate object to hold the string form.
+     * Output an {@code int} left-trimmed using a {@link CharSink}.  The digits are output in groups, using
+     * {@link CharSink#putDigits(int, int)}.
      *
      * @param   i           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void outputInt(int i, IntConsumer consumer) {
+    public static void outputInt(int i, CharSink sink) {
         if (i < 0) {
-            consumer.accept('-');
+            sink.put('-');
             if (i == Integer.MIN_VALUE)
-                outputString(MIN_INTEGER_DIGITS, consumer);
+                sink.put(MIN_INTEGER_DIGITS, 0, MIN_INTEGER_DIGITS.length());
             else
-                outputPositiveInt(-i, consumer);
+                outputPositiveInt(-i, sink);
         }
         else
-            outputPositiveInt(i, consumer);
+            outputPositiveInt(i, sink);
     }
 
     /**
-     * Output a positive {@code int} left-trimmed using an {@link IntConsumer}.  This method outputs the digits left to
-     * right, avoiding the need to allocate a separate object to hold the string form.
+     * Output a positive {@code int} left-trimmed using a {@link CharSink}.  The digits are output in groups, using
+     * {@link CharSink#putDigits(int, int)}.
      *
      * @param   i           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void outputPositiveInt(int i, IntConsumer consumer) {
-        if (i >= 100) {
-            int n = i / 100;
-            outputPositiveInt(n, consumer);
-            output2Digits(i - n * 100, consumer);
-        }
-        else if (i >= 10)
-            output2Digits(i, consumer);
+    public static void outputPositiveInt(int i, CharSink sink) {
+        if (i < 10)
+            sink.put(digits[i]);
         else
-            consumer.accept(digits[i]);
+            sink.putDigits(i, positiveIntLength(i));
     }
 
     /**
-     * Output an unsigned {@code int} left-trimmed using an {@link IntConsumer}.  This method outputs the digits left to
-     * right, avoiding the need to allocate a separate object to hold the string form.
+     * Output an unsigned {@code int} left-trimmed using a {@link CharSink}.  The digits are output in groups, using
+     * {@link CharSink#putDigits(int, int)}.
      *
      * @param   i           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void outputUnsignedInt(int i, IntConsumer consumer) {
+    public static void outputUnsignedInt(int i, CharSink sink) {
         if (i >= 0)
-            outputPositiveInt(i, consumer);
-        else {
-            int n = (i >>> 1) / 50;
-            outputPositiveInt(n, consumer);
-            output2Digits(i - n * 100, consumer);
-        }
+            outputPositiveInt(i, sink);
+        else
+            outputPositiveLong(i & 0xFFFFFFFFL, sink);
     }
 
     /**
-     * Output an {@code int} left-trimmed using an {@link IntConsumer}, using a scale parameter to indicate the number
-     * of decimal places.  This method outputs the digits left to right, avoiding the need to allocate a separate object
-     * to hold the string form.
+     * Output an {@code int} left-trimmed using a {@link CharSink}, using a scale parameter to indicate the number of
+     * decimal places.  The digits are output in groups, using {@link CharSink#putDigits(int, int)}.
      *
      * @param   i           the {@code int}
      * @param   scale       the number of decimal places
      * @param   separator   the decimal separator character to use
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void outputIntScaled(int i, int scale, char separator, IntConsumer consumer) {
+    public static void outputIntScaled(int i, int scale, char separator, CharSink sink) {
         if (i < 0) {
-            consumer.accept('-');
+            sink.put('-');
             if (i == Integer.MIN_VALUE)
-                outputStringScaled(MIN_INTEGER_DIGITS, scale, separator, consumer);
+                outputStringScaled(MIN_INTEGER_DIGITS, scale, separator, sink);
             else
-                outputPositiveIntScaled(-i, scale, separator, consumer);
+                outputPositiveIntScaled(-i, scale, separator, sink);
         }
         else
-            outputPositiveIntScaled(i, scale, separator, consumer);
+            outputPositiveIntScaled(i, scale, separator, sink);
     }
 
-    /**
-     * Output a given string (representing a decimal value) using an {@link IntConsumer}, using a scale parameter to
-     * indicate the number of decimal places.
-
-     * @param   string      the string of digits
-     * @param   scale       the number of decimal places
-     * @param   separator   the decimal separator character to use
-     * @param   consumer    the {@link IntConsumer}
-     */
-    private static void outputStringScaled(String string, int scale, char separator, IntConsumer consumer) {
+    private static void outputStringScaled(String string, int scale, char separator, CharSink sink) {
+        int length = string.length();
         if (scale <= 0)
-            outputString(string, consumer);
+            sink.put(string, 0, length);
+        else if (scale >= length) {
+            sink.put2('0', separator);
+            outputZeros(scale - length, sink);
+            sink.put(string, 0, length);
+        }
         else {
-            int length = string.length();
-            if (scale >= length) {
-                consumer.accept('0');
-                consumer.accept(separator);
-                for (int i = scale; i > length; i--)
-                    consumer.accept('0');
-                outputString(string, consumer);
-            }
-            else {
-                int insertionPoint = length - scale;
-                for (int i = 0; i < length; i++) {
-                    if (i == insertionPoint)
-                        consumer.accept(separator);
-                    consumer.accept(string.charAt(i));
-                }
-            }
+            int insertionPoint = length - scale;
+            sink.put(string, 0, insertionPoint);
+            sink.put(separator);
+            sink.put(string, insertionPoint, length);
         }
     }
 
     /**
-     * Output a positive {@code int} left-trimmed using an {@link IntConsumer}, using a scale parameter to indicate the
-     * number of decimal places.  This method outputs the digits left to right, avoiding the need to allocate a separate
-     * object to hold the string form.
+     * Output a positive {@code int} left-trimmed using a {@link CharSink}, using a scale parameter to indicate the
+     * number of decimal places.  The digits are output in groups, using {@link CharSink#putDigits(int, int)}.
      *
      * @param   i           the {@code int}
      * @param   scale       the number of decimal places
      * @param   separator   the decimal separator character to use
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void outputPositiveIntScaled(int i, int scale, char separator, IntConsumer consumer) {
-        if (scale > 2) {
-            int n = i / 100;
-            outputPositiveIntScaled(n, scale - 2, separator, consumer);
-            output2Digits(i - n * 100, consumer);
-        }
-        else if (scale == 2) {
-            int n = i / 100;
-            outputPositiveInt(n, consumer);
-            consumer.accept(separator);
-            output2Digits(i - n * 100, consumer);
-        }
-        else if (scale == 1) {
-            int n = i / 10;
-            outputPositiveInt(n, consumer);
-            consumer.accept(separator);
-            consumer.accept(digits[i - n * 10]);
-        }
-        else if (i >= 100) {
-            int n = i / 100;
-            outputPositiveInt(n, consumer);
-            output2Digits(i - n * 100, consumer);
+    public static void outputPositiveIntScaled(int i, int scale, char separator, CharSink sink) {
+        if (scale <= 0)
+            outputPositiveInt(i, sink);
+        else {
+            int length = positiveIntLength(i);
+            if (scale >= length) {
+                sink.put2('0', separator);
+                outputZeros(scale - length, sink);
+                sink.putDigits(i, length);
+            }
+            else {
+                int n = i / intPowersOfTen[scale];
+                sink.putDigits(n, length - scale);
+                sink.put(separator);
+                sink.putDigits(i - n * intPowersOfTen[scale], scale);
+            }
         }
-        else if (i >= 10)
-            output2Digits(i, consumer);
-        else
-            consumer.accept(digits[i]);
     }
 
     /**
-     * Output a {@code long} left-trimmed using an {@link IntConsumer}.  This method outputs the digits left to right,
-     * avoiding the need to allocate a separate object to hold the string form.
+     * Output a {@code long} left-trimmed using a {@link CharSink}.  The digits are output in groups of up to nine,
+     * using {@link CharSink#putDigits(int, int)}.
      *
-     * @param   n           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   n           the {@code long}
+     * @param   sink        the {@link CharSink}
      */
-    public static void outputLong(long n, IntConsumer consumer) {
+    public static void outputLong(long n, CharSink sink) {
         if (n < 0) {
-            consumer.accept('-');
+            sink.put('-');
             if (n == Long.MIN_VALUE)
-                outputString(MIN_LONG_DIGITS, consumer);
+                sink.put(MIN_LONG_DIGITS, 0, MIN_LONG_DIGITS.length());
             else
-                outputPositiveLong(-n, consumer);
+                outputPositiveLong(-n, sink);
         }
         else
-            outputPositiveLong(n, consumer);
+            outputPositiveLong(n, sink);
     }
 
     /**
-     * Output a positive {@code int} left-trimmed using an {@link IntConsumer}.  This method outputs the digits left to
-     * right, avoiding the need to allocate a separate object to hold the string form.
+     * Output a positive {@code long} left-trimmed using a {@link CharSink}.  The digits are output in groups of up to
+     * nine, using {@link CharSink#putDigits(int, int)}.
      *
      * @param   n           the {@code long}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void outputPositiveLong(long n, IntConsumer consumer) {
-        if (n >= 100) {
-            long m = n / 100;
-            outputPositiveLong(m, consumer);
-            output2Digits((int)(n - m * 100), consumer);
-        }
+    public static void outputPositiveLong(long n, CharSink sink) {
+        if (n <= Integer.MAX_VALUE)
+            outputPositiveInt((int)n, sink);
         else {
-            int i = (int)n;
-            if (i >= 10)
-                consumer.accept(tensDigits[i]);
-            consumer.accept(digits[i]);
+            long m = n / 1_000_000_000;
+            outputPositiveLong(m, sink);
+            sink.putDigits((int)(n - m * 1_000_000_000), 9);
         }
     }
 
     /**
-     * Output an unsigned {@code long} left-trimmed using an {@link IntConsumer}.  This method outputs the digits left
-     * to right, avoiding the need to allocate a separate object to hold the string form.
+     * Output an unsigned {@code long} left-trimmed using a {@link CharSink}.  The digits are output in groups of up to
+     * nine, using {@link CharSink#putDigits(int, int)}.
      *
      * @param   n           the {@code long}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void outputUnsignedLong(long n, IntConsumer consumer) {
+    public static void outputUnsignedLong(long n, CharSink sink) {
         if (n >= 0)
-            outputPositiveLong(n, consumer);
+            outputPositiveLong(n, sink);
         else {
-            long m = (n >>> 1) / 50;
-            outputPositiveLong(m, consumer);
-            output2Digits((int)(n - m * 100), consumer);
+            long m = (n >>> 9) / 1_953_125; // 1,000,000,000 = 2 ^ 9 * 1,953,125
+            outputPositiveLong(m, sink);
+            sink.putDigits((int)(n - m * 1_000_000_000), 9);
         }
     }
 
     /**
-     * Append an {@code int} left-trimmed to an {@link Appendable}, using a scale parameter to indicate the number of
-     * decimal places.  This method outputs the digits left to right, avoiding the need to allocate a separate object to
-     * hold the string form.
+     * Output a {@code long} left-trimmed using a {@link CharSink}, using a scale parameter to indicate the number of
+     * decimal places.  The digits are output in groups of up to nine, using {@link CharSink#putDigits(int, int)}.
      *
      * @param   n           the {@code long}
      * @param   scale       the number of decimal places
      * @param   separator   the decimal separator character to use
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void outputLongScaled(long n, int scale, char separator, IntConsumer consumer) {
+    public static void outputLongScaled(long n, int scale, char separator, CharSink sink) {
         if (n < 0) {
-            consumer.accept('-');
+            sink.put('-');
             if (n == Long.MIN_VALUE)
-                outputStringScaled(MIN_LONG_DIGITS, scale, separator, consumer);
+                outputStringScaled(MIN_LONG_DIGITS, scale, separator, sink);
             else
-                outputPositiveLongScaled(-n, scale, separator, consumer);
+                outputPositiveLongScaled(-n, scale, separator, sink);
         }
         else
-            outputPositiveLongScaled(n, scale, separator, consumer);
+            outputPositiveLongScaled(n, scale, separator, sink);
     }
 
     /**
-     * Append a positive {@code long} left-trimmed to an {@link Appendable}, using a scale parameter to indicate the
-     * number of decimal places.  This method outputs the digits left to right, avoiding the need to allocate a separate
-     * object to hold the string form.
+     * Output a positive {@code long} left-trimmed using a {@link CharSink}, using a scale parameter to indicate the
+     * number of decimal places.  The digits are output in groups of up to nine, using
+     * {@link CharSink#putDigits(int, int)}.
      *
-     * @param   n           the {@code int}
+     * @param   n           the {@code long}
      * @param   scale       the number of decimal places
      * @param   separator   the decimal separator character to use
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void outputPositiveLongScaled(long n, int scale, char separator, IntConsumer consumer) {
-        if (scale > 2) {
-            long m = n / 100;
-            outputPositiveLongScaled(m, scale - 2, separator, consumer);
-            output2Digits((int)(n - m * 100), consumer);
-        }
-        else if (scale == 2) {
-            long m = n / 100;
-            outputPositiveLong(m, consumer);
-            consumer.accept(separator);
-            output2Digits((int)(n - m * 100), consumer);
-        }
-        else if (scale == 1) {
-            long m = n / 10;
-            outputPositiveLong(m, consumer);
-            consumer.accept(separator);
-            consumer.accept(digits[(int)(n - m * 10)]);
-        }
-        else if (n >= 100) {
-            long m = n / 100;
-            outputPositiveLong(m, consumer);
-            output2Digits((int)(n - m * 100), consumer);
-        }
+    public static void outputPositiveLongScaled(long n, int scale, char separator, CharSink sink) {
+        if (scale <= 0)
+            outputPositiveLong(n, sink);
         else {
-            int i = (int)n;
-            if (i >= 10)
-                consumer.accept(tensDigits[i]);
-            consumer.accept(digits[i]);
+            int length = positiveLongLength(n);
+            if (scale >= length) {
+                sink.put2('0', separator);
+                outputZeros(scale - length, sink);
+                outputLongDigits(n, length, sink);
+            }
+            else {
+                long m = n / longPowersOfTen[scale];
+                outputPositiveLong(m, sink);
+                sink.put(separator);
+                outputLongDigits(n - m * longPowersOfTen[scale], scale, sink);
+            }
+        }
+    }
+
+    private static void outputLongDigits(long n, int count, CharSink sink) {
+        if (count > 9) {
+            long m = n / 1_000_000_000;
+            outputLongDigits(m, count - 9, sink);
+            sink.putDigits((int)(n - m * 1_000_000_000), 9);
         }
+        else
+            sink.putDigits((int)n, count);
+    }
+
+    private static void outputZeros(int count, CharSink sink) {
+        for (; count >= 2; count -= 2)
+            sink.put2('0', '0');
+        if (count > 0)
+            sink.put('0');
     }
 
     /**
-     * Output an {@code int} using an {@link IntConsumer} as a single decimal digit.  Note that there is no range check
-     * on the input value; to output the least significant digit in cases where the value is not guaranteed to be in the
-     * range 0..9, use {@link #output1DigitSafe}.
+     * Output an {@code int} using a {@link CharSink} as a single decimal digit.  Note that there is no range check on
+     * the input value; to output the least significant digit in cases where the value is not guaranteed to be in the
+     * range 0..9, use {@link #output1DigitSafe(int, CharSink)}.
      *
      * @param   i           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void output1Digit(int i, IntConsumer consumer) {
-        consumer.accept(i + '0');
+    public static void output1Digit(int i, CharSink sink) {
+        sink.put((char)(i + '0'));
     }
 
     /**
-     * Output the least significant decimal digit of an {@code int} using an {@link IntConsumer}.
+     * Output the least significant decimal digit of an {@code int} using a {@link CharSink}.
      *
      * @param   i           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void output1DigitSafe(int i, IntConsumer consumer) {
-        consumer.accept(i == Integer.MIN_VALUE ? '8' : (Math.abs(i) % 10) + '0'); // 8 is last digit of MIN_VALUE
+    public static void output1DigitSafe(int i, CharSink sink) {
+        sink.put(i == Integer.MIN_VALUE ? '8' : digits[Math.abs(i) % 10]); // 8 is last digit of MIN_VALUE
     }
 
     /**
-     * Output an {@code int} using an {@link IntConsumer} as two decimal digits.  There is often a requirement to output
-     * a number as 2 digits, for example the cents value in dollars and cents, or hours, minutes and seconds in a time
-     * string.  Note that there is no range check on the input value; to output the least significant two digits in
-     * cases where the value is not guaranteed to be in the range 00..99, use {@link #output2DigitsSafe}.
+     * Output an {@code int} using a {@link CharSink} as two decimal digits.  Note that there is no range check on the
+     * input value; to output the least significant two digits in cases where the value is not guaranteed to be in the
+     * range 00..99, use {@link #output2DigitsSafe(int, CharSink)}.
      *
      * @param   i           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void output2Digits(int i, IntConsumer consumer) {
-        consumer.accept(tensDigits[i]);
-        consumer.accept(digits[i]);
+    public static void output2Digits(int i, CharSink sink) {
+        sink.put2(tensDigits[i], digits[i]);
     }
 
     /**
-     * Output the least significant two decimal digits of an {@code int} using an {@link IntConsumer}.
-     *
-     * @param   i           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
-     */
-    public static void output2DigitsSafe(int i, IntConsumer consumer) {
-        int n = i == Integer.MIN_VALUE ? 48 : Math.abs(i) % 100; // 48 is last two digits of MIN_VALUE
-        consumer.accept(tensDigits[n]);
-        consumer.accept(digits[n]);
+     * Output the least significant two decimal digits of an {@code int} using a {@link CharSink}.
+     *
+     * @param   i           the {@code int}
+     * @param   sink        the {@link CharSink}
+     */
+    public static void output2DigitsSafe(int i, CharSink sink) {
+        output2Digits(i == Integer.MIN_VALUE ? 48 : Math.abs(i) % 100, sink); // 48 is last two digits of MIN_VALUE
     }
 
     /**
-     * Output an {@code int} using an {@link IntConsumer} as three decimal digits.  There is less frequently a
-     * requirement to output a number as 3 digits, for example the milliseconds in a time string.  Note that there is no
-     * range check on the input value; to output the least significant three digits in cases where the value is not
-     * guaranteed to be in the range 000..999, use {@link #output3DigitsSafe}.
+     * Output an {@code int} using a {@link CharSink} as three decimal digits.  Note that there is no range check on the
+     * input value; to output the least significant three digits in cases where the value is not guaranteed to be in the
+     * range 000..999, use {@link #output3DigitsSafe(int, CharSink)}.
      *
      * @param   i           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void output3Digits(int i, IntConsumer consumer) {
-        int n = i / 100;
-        consumer.accept(digits[n]);
-        output2Digits(i - n * 100, consumer);
+    public static void output3Digits(int i, CharSink sink) {
+        sink.putDigits(i, 3);
     }
 
     /**
-     * Output the least significant three decimal digits of an {@code int} using an {@link IntConsumer}.
+     * Output the least significant three decimal digits of an {@code int} using a {@link CharSink}.
      *
      * @param   i           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void output3DigitsSafe(int i, IntConsumer consumer) {
-        int n = i == Integer.MIN_VALUE ? 648 : Math.abs(i) % 1000; // 648 is last three digits of MIN_VALUE
-        int m = n / 100;
-        consumer.accept(digits[m]);
-        output2Digits(n - m * 100, consumer);
+    public static void output3DigitsSafe(int i, CharSink sink) {
+        sink.putDigits(i == Integer.MIN_VALUE ? 648 : Math.abs(i) % 1000, 3); // 648 is last three digits of MIN_VALUE
     }
 
     /**
-     * Output an {@code int} left-trimmed using an {@link IntConsumer} with digits grouped in 3s and separated by the
+     * Output an {@code int} left-trimmed using a {@link CharSink} with digits grouped in 3s and separated by the
      * specified grouping character.
      *
      * @param   i               the {@code int}
      * @param   groupingChar    the grouping character (e.g. ',')
-     * @param   consumer        the {@link IntConsumer}
+     * @param   sink            the {@link CharSink}
      */
-    public static void outputIntGrouped(int i, char groupingChar, IntConsumer consumer) {
+    public static void outputIntGrouped(int i, char groupingChar, CharSink sink) {
         if (i < 0) {
-            consumer.accept('-');
-            if (i == Integer.MIN_VALUE) {
-                consumer.accept(MIN_INTEGER_DIGITS.charAt(0));
-                consumer.accept(groupingChar);
-                outputString(MIN_INTEGER_DIGITS, 1, 4, consumer);
-                consumer.accept(groupingChar);
-                outputString(MIN_INTEGER_DIGITS, 4, 7, consumer);
-                consumer.accept(groupingChar);
-                outputString(MIN_INTEGER_DIGITS, 7, 10, consumer);
-            }
+            sink.put('-');
+            if (i == Integer.MIN_VALUE)
+                outputStringGrouped(MIN_INTEGER_DIGITS, groupingChar, sink);
             else
-                outputPositiveIntGrouped(-i, groupingChar, consumer);
+                outputPositiveIntGrouped(-i, groupingChar, sink);
         }
         else
-            outputPositiveIntGrouped(i, groupingChar, consumer);
+            outputPositiveIntGrouped(i, groupingChar, sink);
     }
 
     /**
-     * Output a positive {@code int} left-trimmed using an {@link IntConsumer} with digits grouped in 3s and separated
-     * by the specified grouping character.
+     * Output a positive {@code int} left-trimmed using a {@link CharSink} with digits grouped in 3s and separated by
+     * the specified grouping character.
      *
      * @param   i               the {@code int}
      * @param   groupingChar    the grouping character (e.g. ',')
-     * @param   consumer        the {@link IntConsumer}
+     * @param   sink            the {@link CharSink}
      */
-    public static void outputPositiveIntGrouped(int i, char groupingChar, IntConsumer consumer) {
-        if (i >= 100) {
-            int n = i / 100;
-            outputPositiveIntGrouped1(n, groupingChar, consumer);
-            output2Digits(i - n * 100, consumer);
-        }
-        else if (i >= 10)
-            output2Digits(i, consumer);
-        else
-            consumer.accept(digits[i]);
-    }
-
-    private static void outputPositiveIntGrouped1(int i, char groupingChar, IntConsumer consumer) {
-        if (i >= 100) {
-            int n = i / 100;
-            outputPositiveIntGrouped2(n, groupingChar, consumer);
-            i -= n * 100;
-            consumer.accept(tensDigits[i]);
-            consumer.accept(groupingChar);
-            consumer.accept(digits[i]);
-        }
-        else if (i >= 10) {
-            consumer.accept(tensDigits[i]);
-            consumer.accept(groupingChar);
-            consumer.accept(digits[i]);
+    public static void outputPositiveIntGrouped(int i, char groupingChar, CharSink sink) {
+        if (i >= 1000) {
+            int n = i / 1000;
+            outputPositiveIntGrouped(n, groupingChar, sink);
+            sink.put(groupingChar);
+            sink.putDigits(i - n * 1000, 3);
         }
         else
-            consumer.accept(digits[i]);
-    }
-
-    private static void outputPositiveIntGrouped2(int i, char groupingChar, IntConsumer consumer) {
-        if (i >= 100) {
-            int n = i / 100;
-            outputPositiveIntGrouped(n, groupingChar, consumer);
-            consumer.accept(groupingChar);
-            output2Digits(i - n * 100, consumer);
-        }
-        else if (i >= 10)
-            output2Digits(i, consumer);
-        else
-            consumer.accept(digits[i]);
+            outputPositiveInt(i, sink);
     }
 
     /**
-     * Output a {@code long} left-trimmed using an {@link IntConsumer} with digits grouped in 3s and separated by the
+     * Output a {@code long} left-trimmed using a {@link CharSink} with digits grouped in 3s and separated by the
      * specified grouping character.
      *
      * @param   n               the {@code long}
      * @param   groupingChar    the grouping character (e.g. ',')
-     * @param   consumer        the {@link IntConsumer}
+     * @param   sink            the {@link CharSink}
      */
-    public static void outputLongGrouped(long n, char groupingChar, IntConsumer consumer) {
+    public static void outputLongGrouped(long n, char groupingChar, CharSink sink) {
         if (n < 0) {
-            consumer.accept('-');
-            if (n == Long.MIN_VALUE) {
-                consumer.accept(MIN_LONG_DIGITS.charAt(0));
-                consumer.accept(groupingChar);
-                outputString(MIN_LONG_DIGITS, 1, 4, consumer);
-                consumer.accept(groupingChar);
-                outputString(MIN_LONG_DIGITS, 4, 7, consumer);
-                consumer.accept(groupingChar);
-                outputString(MIN_LONG_DIGITS, 7, 10, consumer);
-                consumer.accept(groupingChar);
-                outputString(MIN_LONG_DIGITS, 10, 13, consumer);
-                consumer.accept(groupingChar);
-                outputString(MIN_LONG_DIGITS, 13, 16, consumer);
-                consumer.accept(groupingChar);
-                outputString(MIN_LONG_DIGITS, 16, 19, consumer);
-            }
+            sink.put('-');
+            if (n == Long.MIN_VALUE)
+                outputStringGrouped(MIN_LONG_DIGITS, groupingChar, sink);
             else
-                outputPositiveLongGrouped(-n, groupingChar, consumer);
+                outputPositiveLongGrouped(-n, groupingChar, sink);
         }
         else
-            outputPositiveLongGrouped(n, groupingChar, consumer);
+            outputPositiveLongGrouped(n, groupingChar, sink);
     }
 
     /**
-     * Output a positive {@code long} left-trimmed using an {@link IntConsumer} with digits grouped in 3s and separated
-     * by the specified grouping character.
+     * Output a positive {@code long} left-trimmed using a {@link CharSink} with digits grouped in 3s and separated by
+     * the specified grouping character.
      *
      * @param   n               the {@code long}
      * @param   groupingChar    the grouping character (e.g. ',')
-     * @param   consumer        the {@link IntConsumer}
+     * @param   sink            the {@link CharSink}
      */
-    public static void outputPositiveLongGrouped(long n, char groupingChar, IntConsumer consumer) {
-        if (n >= 100) {
-            long m = n / 100;
-            outputPositiveLongGrouped1(m, groupingChar, consumer);
-            output2Digits((int)(n - m * 100), consumer);
-        }
-        else {
-            int i = (int)n;
-            if (i >= 10)
-                consumer.accept(tensDigits[i]);
-            consumer.accept(digits[i]);
-        }
-    }
-
-    private static void outputPositiveLongGrouped1(long n, char groupingChar, IntConsumer consumer) {
-        if (n >= 100) {
-            long m = n / 100;
-            outputPositiveLongGrouped2(m, groupingChar, consumer);
-            int i = (int)(n - m * 100);
-            consumer.accept(tensDigits[i]);
-            consumer.accept(groupingChar);
-            consumer.accept(digits[i]);
-        }
-        else {
-            int i = (int)n;
-            if (i >= 10) {
-                consumer.accept(tensDigits[i]);
-                consumer.accept(groupingChar);
-            }
-            consumer.accept(digits[i]);
+    public static void outputPositiveLongGrouped(long n, char groupingChar, CharSink sink) {
+        if (n >= 1000) {
+            long m = n / 1000;
+            outputPositiveLongGrouped(m, groupingChar, sink);
+            sink.put(groupingChar);
+            sink.putDigits((int)(n - m * 1000), 3);
         }
+        else
+            outputPositiveInt((int)n, sink);
     }
 
-    private static void outputPositiveLongGrouped2(long n, char groupingChar, IntConsumer consumer) {
-        if (n >= 100) {
-            long m = n / 100;
-            outputPositiveLongGrouped(m, groupingChar, consumer);
-            consumer.accept(groupingChar);
-            output2Digits((int)(n - m * 100), consumer);
-        }
-        else {
-            int i = (int)n;
-            if (i >= 10)
-                consumer.accept(tensDigits[i]);
-            consumer.accept(digits[i]);
+    private static void outputStringGrouped(String string, char groupingChar, CharSink sink) {
+        int length = string.length();
+        int i = (length - 1) % 3 + 1;
+        sink.put(string, 0, i);
+        while (i < length) {
+            sink.put(groupingChar);
+            sink.put(string, i, i + 3);
+            i += 3;
         }
     }
 
     /**
-     * Output an {@code int} left-trimmed using an {@link IntConsumer} in hexadecimal.  This method outputs the digits
-     * left to right, avoiding the need to allocate a separate object to hold the string form.
+     * Output an {@code int} left-trimmed using a {@link CharSink} in hexadecimal.  The digits are output in pairs,
+     * using {@link CharSink#put2(char, char)}.
      *
      * @param   i           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void outputIntHex(int i, IntConsumer consumer) {
-        if ((i & ~0xFFFF) != 0) {
-            output16BitsHex(i >>> 16, consumer);
-            output4Hex(i, consumer);
-        }
-        else
-            output16BitsHex(i, consumer);
-    }
-
-    private static void output8BitsHex(int i, IntConsumer consumer) {
-        if ((i & ~0xF) != 0)
-            consumer.accept(digitsHex[i >>> 4]);
-        consumer.accept(digitsHex[i & 0xF]);
-    }
-
-    private static void output16BitsHex(int i, IntConsumer consumer) {
-        if ((i & ~0xFF) != 0) {
-            output8BitsHex(i >>> 8, consumer);
-            output2Hex(i, consumer);
-        }
-        else
-            output8BitsHex(i, consumer);
+    public static void outputIntHex(int i, CharSink sink) {
+        outputHex(i & 0xFFFFFFFFL, intHexLength(i), digitsHex, sink);
     }
 
     /**
-     * Output an {@code int} left-trimmed using an {@link IntConsumer} in hexadecimal, using lower-case for the
-     * alphabetic characters.  This method outputs the digits left to right, avoiding the need to allocate a separate
-     * object to hold the string form.
+     * Output an {@code int} left-trimmed using a {@link CharSink} in hexadecimal, using lower-case for the alphabetic
+     * characters.  The digits are output in pairs, using {@link CharSink#put2(char, char)}.
      *
      * @param   i           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void outputIntHexLC(int i, IntConsumer consumer) {
-        if ((i & ~0xFFFF) != 0) {
-            output16BitsHexLC(i >>> 16, consumer);
-            output4HexLC(i, consumer);
-        }
-        else
-            output16BitsHexLC(i, consumer);
-    }
-
-    private static void output8BitsHexLC(int i, IntConsumer consumer) {
-        if ((i & ~0xF) != 0)
-            consumer.accept(digitsHexLC[i >>> 4]);
-        consumer.accept(digitsHexLC[i & 0xF]);
-    }
-
-    private static void output16BitsHexLC(int i, IntConsumer consumer) {
-        if ((i & ~0xFF) != 0) {
-            output8BitsHexLC(i >>> 8, consumer);
-            output2HexLC(i, consumer);
-        }
-        else
-            output8BitsHexLC(i, consumer);
+    public static void outputIntHexLC(int i, CharSink sink) {
+        outputHex(i & 0xFFFFFFFFL, intHexLength(i), digitsHexLC, sink);
     }
 
     /**
-     * Output a {@code long} left-trimmed using an {@link IntConsumer} in hexadecimal.  This method outputs the digits
-     * left to right, avoiding the need to allocate a separate object to hold the string form.
+     * Output a {@code long} left-trimmed using a {@link CharSink} in hexadecimal.  The digits are output in pairs,
+     * using {@link CharSink#put2(char, char)}.
      *
      * @param   n           the {@code long}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void outputLongHex(long n, IntConsumer consumer) {
-        int hi = (int)(n >>> 32);
-        int lo = (int)n;
-        if (hi != 0) {
-            outputIntHex(hi, consumer);
-            output8Hex(lo, consumer);
-        }
-        else
-            outputIntHex(lo, consumer);
+    public static void outputLongHex(long n, CharSink sink) {
+        outputHex(n, longHexLength(n), digitsHex, sink);
     }
 
     /**
-     * Output a {@code long} left-trimmed using an {@link IntConsumer} in hexadecimal, using lower-case for the
-     * alphabetic characters.  This method outputs the digits left to right, avoiding the need to allocate a separate
-     * object to hold the string form.
+     * Output a {@code long} left-trimmed using a {@link CharSink} in hexadecimal, using lower-case for the alphabetic
+     * characters.  The digits are output in pairs, using {@link CharSink#put2(char, char)}.
      *
      * @param   n           the {@code long}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void outputLongHexLC(long n, IntConsumer consumer) {
-        int hi = (int)(n >>> 32);
-        int lo = (int)n;
-        if (hi != 0) {
-            outputIntHexLC(hi, consumer);
-            output8HexLC(lo, consumer);
+    public static void outputLongHexLC(long n, CharSink sink) {
+        outputHex(n, longHexLength(n), digitsHexLC, sink);
+    }
+
+    private static void outputHex(long n, int count, char[] hexDigits, CharSink sink) {
+        int shift = count * 4;
+        if ((count & 1) != 0) {
+            shift -= 4;
+            sink.put(hexDigits[(int)(n >>> shift) & 0xF]);
+        }
+        while (shift > 0) {
+            shift -= 8;
+            sink.put2(hexDigits[(int)(n >>> (shift + 4)) & 0xF], hexDigits[(int)(n >>> shift) & 0xF]);
         }
-        else
-            outputIntHexLC(lo, consumer);
     }
 
     /**
-     * Output an {@code int} using an {@link IntConsumer} as eight hexadecimal digits.
+     * Output an {@code int} using a {@link CharSink} as eight hexadecimal digits.
      *
      * @param   i           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void output8Hex(int i, IntConsumer consumer) {
-        output4Hex(i >>> 16, consumer);
-        output4Hex(i, consumer);
+    public static void output8Hex(int i, CharSink sink) {
+        outputHex(i, 8, digitsHex, sink);
     }
 
     /**
-     * Output an {@code int} using an {@link IntConsumer} as eight hexadecimal digits, using lower-case for the
-     * alphabetic characters.
+     * Output an {@code int} using a {@link CharSink} as eight hexadecimal digits, using lower-case for the alphabetic
+     * characters.
      *
      * @param   i           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void output8HexLC(int i, IntConsumer consumer) {
-        output4HexLC(i >>> 16, consumer);
-        output4HexLC(i, consumer);
+    public static void output8HexLC(int i, CharSink sink) {
+        outputHex(i, 8, digitsHexLC, sink);
     }
 
     /**
-     * Output an {@code int} using an {@link IntConsumer} as four hexadecimal digits.
+     * Output an {@code int} using a {@link CharSink} as four hexadecimal digits.
      *
      * @param   i           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void output4Hex(int i, IntConsumer consumer) {
-        output2Hex(i >> 8, consumer);
-        output2Hex(i, consumer);
+    public static void output4Hex(int i, CharSink sink) {
+        outputHex(i, 4, digitsHex, sink);
     }
 
     /**
-     * Output an {@code int} using an {@link IntConsumer} as four hexadecimal digits, using lower-case for the
-     * alphabetic characters.
+     * Output an {@code int} using a {@link CharSink} as four hexadecimal digits, using lower-case for the alphabetic
+     * characters.
      *
      * @param   i           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void output4HexLC(int i, IntConsumer consumer) {
-        output2HexLC(i >> 8, consumer);
-        output2HexLC(i, consumer);
+    public static void output4HexLC(int i, CharSink sink) {
+        outputHex(i, 4, digitsHexLC, sink);
     }
 
     /**
-     * Output an {@code int} using an {@link IntConsumer} as two hexadecimal digits.
+     * Output an {@code int} using a {@link CharSink} as two hexadecimal digits.
      *
      * @param   i           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void output2Hex(int i, IntConsumer consumer) {
-        consumer.accept(digitsHex[(i >> 4) & 0xF]);
-        consumer.accept(digitsHex[i & 0xF]);
+    public static void output2Hex(int i, CharSink sink) {
+        sink.put2(digitsHex[(i >> 4) & 0xF], digitsHex[i & 0xF]);
     }
 
     /**
-     * Output an {@code int} using an {@link IntConsumer} as two hexadecimal digits, using lower-case for the alphabetic
+     * Output an {@code int} using a {@link CharSink} as two hexadecimal digits, using lower-case for the alphabetic
      * characters.
      *
      * @param   i           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void output2HexLC(int i, IntConsumer consumer) {
-        consumer.accept(digitsHexLC[(i >> 4) & 0xF]);
-        consumer.accept(digitsHexLC[i & 0xF]);
+    public static void output2HexLC(int i, CharSink sink) {
+        sink.put2(digitsHexLC[(i >> 4) & 0xF], digitsHexLC[i & 0xF]);
     }
 
     /**
-     * Output an {@code int} using an {@link IntConsumer} as a single hexadecimal digit.
+     * Output an {@code int} using a {@link CharSink} as a single hexadecimal digit.
      *
      * @param   i           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void output1Hex(int i, IntConsumer consumer) {
-        consumer.accept(digitsHex[i & 0xF]);
+    public static void output1Hex(int i, CharSink sink) {
+        sink.put(digitsHex[i & 0xF]);
     }
 
     /**
-     * Output an {@code int} using an {@link IntConsumer} as a single hexadecimal digit, using lower-case for the
+     * Output an {@code int} using a {@link CharSink} as a single hexadecimal digit, using lower-case for the
      * alphabetic characters.
      *
      * @param   i           the {@code int}
-     * @param   consumer    the {@link IntConsumer}
+     * @param   sink        the {@link CharSink}
      */
-    public static void output1HexLC(int i, IntConsumer consumer) {
-        consumer.accept(digitsHexLC[i & 0xF]);
+    public static void output1HexLC(int i, CharSink sink) {
+        sink.put(digitsHexLC[i & 0xF]);
+    }
+
+    /**
+     * Output a non-negative {@code int} as the specified number of decimal digits using a {@link CharSink}, in pairs
+     * where possible.  This is the default implementation of {@link CharSink#putDigits(int, int)}.
+     *
+     * @param   i           the {@code int}
+     * @param   count       the number of digits
+     * @param   sink        the {@link CharSink}
+     */
+    static void outputDigits(int i, int count, CharSink sink) {
+        if (count > 2) {
+            int n = i / 100;
+            outputDigits(n, count - 2, sink);
+            i -= n * 100;
+            sink.put2(tensDigits[i], digits[i]);
+        }
+        else if (count == 2)
+            sink.put2(tensDigits[i], digits[i]);
+        else if (count == 1)
+            sink.put(digits[i]);
     }
 
     private static void outputString(String s, int start, int end, IntConsumer consumer) {
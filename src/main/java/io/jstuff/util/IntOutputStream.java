@@ -0,0 +1,402 @@
+/*
+ * @(#) IntOutputStream.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A buffered {@link OutputStream} with functions to output integer values as ASCII characters.  The values are stored
+ * directly into the buffer using the {@code byte} array functions of {@link IntOutput}, avoiding the character encoding
+ * and memory allocation involved in writing through a {@link java.io.Writer}.
+ * <br>
+ * Like {@link java.io.BufferedOutputStream}, the buffer is written to the underlying stream when it becomes full, or
+ * when {@link #flush()} or {@link #close()} is called.  Unlike {@link java.io.BufferedOutputStream}, this class is not
+ * thread-safe.
+ *
+ * @author  Peter Wall
+ */
+public class IntOutputStream extends OutputStream {
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    public static final int MINIMUM_BUFFER_SIZE = 32;
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int count;
+
+    /**
+     * Create an {@code IntOutputStream} with the specified buffer size.
+     *
+     * @param   out         the underlying {@link OutputStream}
+     * @param   bufferSize  the buffer size
+     * @throws  IllegalArgumentException if the buffer size is less than {@link #MINIMUM_BUFFER_SIZE}
+     */
+    public IntOutputStream(OutputStream out, int bufferSize) {
+        if (bufferSize < MINIMUM_BUFFER_SIZE)
+            throw new IllegalArgumentException("Buffer size must be at least " + MINIMUM_BUFFER_SIZE);
+        this.out = out;
+        buffer = new byte[bufferSize];
+        count = 0;
+    }
+
+    /**
+     * Create an {@code IntOutputStream} with the default buffer size.
+     *
+     * @param   out         the underlying {@link OutputStream}
+     */
+    public IntOutputStream(OutputStream out) {
+        this(out, DEFAULT_BUFFER_SIZE);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (count >= buffer.length)
+            flushBuffer();
+        buffer[count++] = (byte)b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (len >= buffer.length) {
+            flushBuffer();
+            out.write(b, off, len);
+        }
+        else {
+            if (len > buffer.length - count)
+                flushBuffer();
+            System.arraycopy(b, off, buffer, count, len);
+            count += len;
+        }
+    }
+
+    /**
+     * Write a character as a single byte.  No character encoding is performed; the character is expected to be ASCII.
+     *
+     * @param   ch          the character
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void writeChar(char ch) throws IOException {
+        write(ch);
+    }
+
+    /**
+     * Write the characters of a {@link CharSequence}, each as a single byte.  No character encoding is performed; the
+     * characters are expected to be ASCII.
+     *
+     * @param   cs          the {@link CharSequence}
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void writeAscii(CharSequence cs) throws IOException {
+        for (int i = 0, n = cs.length(); i < n; i++) {
+            if (count >= buffer.length)
+                flushBuffer();
+            buffer[count++] = (byte)cs.charAt(i);
+        }
+    }
+
+    /**
+     * Write an {@code int} left-trimmed.
+     *
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void writeInt(int i) throws IOException {
+        reserve(11);
+        count = IntOutput.appendInt(buffer, count, i);
+    }
+
+    /**
+     * Write an unsigned {@code int} left-trimmed.
+     *
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void writeUnsignedInt(int i) throws IOException {
+        reserve(10);
+        count = IntOutput.appendUnsignedInt(buffer, count, i);
+    }
+
+    /**
+     * Write an {@code int} left-trimmed, using a scale parameter to indicate the number of decimal places.
+     *
+     * @param   i           the {@code int}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void writeIntScaled(int i, int scale, char separator) throws IOException {
+        int length = IntOutput.intScaledLength(i, scale);
+        if (length > buffer.length) {
+            flushBuffer();
+            byte[] bytes = new byte[length]; // only for scale values larger than the buffer - not a realistic case
+            out.write(bytes, 0, IntOutput.appendIntScaled(bytes, 0, i, scale, separator));
+        }
+        else {
+            reserve(length);
+            count = IntOutput.appendIntScaled(buffer, count, i, scale, separator);
+        }
+    }
+
+    /**
+     * Write an {@code int} left-trimmed, with digits grouped in 3s and separated by the specified grouping character.
+     *
+     * @param   i               the {@code int}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void writeIntGrouped(int i, char groupingChar) throws IOException {
+        reserve(14);
+        count = IntOutput.appendIntGrouped(buffer, count, i, groupingChar);
+    }
+
+    /**
+     * Write a {@code long} left-trimmed.
+     *
+     * @param   n           the {@code long}
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void writeLong(long n) throws IOException {
+        reserve(20);
+        count = IntOutput.appendLong(buffer, count, n);
+    }
+
+    /**
+     * Write an unsigned {@code long} left-trimmed.
+     *
+     * @param   n           the {@code long}
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void writeUnsignedLong(long n) throws IOException {
+        reserve(20);
+        count = IntOutput.appendUnsignedLong(buffer, count, n);
+    }
+
+    /**
+     * Write a {@code long} left-trimmed, using a scale parameter to indicate the number of decimal places.
+     *
+     * @param   n           the {@code long}
+     * @param   scale       the number of decimal places
+     * @param   separator   the decimal separator character to use
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void writeLongScaled(long n, int scale, char separator) throws IOException {
+        int length = IntOutput.longScaledLength(n, scale);
+        if (length > buffer.length) {
+            flushBuffer();
+            byte[] bytes = new byte[length]; // only for scale values larger than the buffer - not a realistic case
+            out.write(bytes, 0, IntOutput.appendLongScaled(bytes, 0, n, scale, separator));
+        }
+        else {
+            reserve(length);
+            count = IntOutput.appendLongScaled(buffer, count, n, scale, separator);
+        }
+    }
+
+    /**
+     * Write a {@code long} left-trimmed, with digits grouped in 3s and separated by the specified grouping character.
+     *
+     * @param   n               the {@code long}
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void writeLongGrouped(long n, char groupingChar) throws IOException {
+        reserve(26);
+        count = IntOutput.appendLongGrouped(buffer, count, n, groupingChar);
+    }
+
+    /**
+     * Write an {@code int} as a single decimal digit.  Note that there is no range check on the input value.
+     *
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void write1Digit(int i) throws IOException {
+        reserve(1);
+        count = IntOutput.append1Digit(buffer, count, i);
+    }
+
+    /**
+     * Write an {@code int} as two decimal digits.  Note that there is no range check on the input value.
+     *
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void write2Digits(int i) throws IOException {
+        reserve(2);
+        count = IntOutput.append2Digits(buffer, count, i);
+    }
+
+    /**
+     * Write an {@code int} as three decimal digits.  Note that there is no range check on the input value.
+     *
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void write3Digits(int i) throws IOException {
+        reserve(3);
+        count = IntOutput.append3Digits(buffer, count, i);
+    }
+
+    /**
+     * Write an {@code int} left-trimmed in hexadecimal.
+     *
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void writeIntHex(int i) throws IOException {
+        reserve(8);
+        count = IntOutput.appendIntHex(buffer, count, i);
+    }
+
+    /**
+     * Write an {@code int} left-trimmed in hexadecimal, using lower-case for the alphabetic characters.
+     *
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void writeIntHexLC(int i) throws IOException {
+        reserve(8);
+        count = IntOutput.appendIntHexLC(buffer, count, i);
+    }
+
+    /**
+     * Write a {@code long} left-trimmed in hexadecimal.
+     *
+     * @param   n           the {@code long}
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void writeLongHex(long n) throws IOException {
+        reserve(16);
+        count = IntOutput.appendLongHex(buffer, count, n);
+    }
+
+    /**
+     * Write a {@code long} left-trimmed in hexadecimal, using lower-case for the alphabetic characters.
+     *
+     * @param   n           the {@code long}
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void writeLongHexLC(long n) throws IOException {
+        reserve(16);
+        count = IntOutput.appendLongHexLC(buffer, count, n);
+    }
+
+    /**
+     * Write an {@code int} as eight hexadecimal digits.
+     *
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void write8Hex(int i) throws IOException {
+        reserve(8);
+        count = IntOutput.append8Hex(buffer, count, i);
+    }
+
+    /**
+     * Write an {@code int} as eight hexadecimal digits, using lower-case for the alphabetic characters.
+     *
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void write8HexLC(int i) throws IOException {
+        reserve(8);
+        count = IntOutput.append8HexLC(buffer, count, i);
+    }
+
+    /**
+     * Write an {@code int} as four hexadecimal digits.
+     *
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void write4Hex(int i) throws IOException {
+        reserve(4);
+        count = IntOutput.append4Hex(buffer, count, i);
+    }
+
+    /**
+     * Write an {@code int} as four hexadecimal digits, using lower-case for the alphabetic characters.
+     *
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void write4HexLC(int i) throws IOException {
+        reserve(4);
+        count = IntOutput.append4HexLC(buffer, count, i);
+    }
+
+    /**
+     * Write an {@code int} as two hexadecimal digits.
+     *
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void write2Hex(int i) throws IOException {
+        reserve(2);
+        count = IntOutput.append2Hex(buffer, count, i);
+    }
+
+    /**
+     * Write an {@code int} as two hexadecimal digits, using lower-case for the alphabetic characters.
+     *
+     * @param   i           the {@code int}
+     * @throws  IOException if thrown by the underlying stream
+     */
+    public void write2HexLC(int i) throws IOException {
+        reserve(2);
+        count = IntOutput.append2HexLC(buffer, count, i);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBuffer();
+        }
+        finally {
+            out.close();
+        }
+    }
+
+    private void reserve(int length) throws IOException {
+        if (length > buffer.length - count)
+            flushBuffer();
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            out.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+}
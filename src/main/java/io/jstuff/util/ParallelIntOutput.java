@@ -0,0 +1,290 @@
+/*
+ * @(#) ParallelIntOutput.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Functions to convert large arrays of {@code int} or {@code long} values to a single {@code byte} array (of ASCII
+ * characters) or {@code char} array, using the common {@link ForkJoinPool}.
+ * <br>
+ * The input array is divided into chunks, and the conversion is performed in two parallel passes: the first
+ * determines the length of the output of each chunk (using the {@link IntOutput} length functions), and after the
+ * offset of each chunk in the result has been calculated, the second pass stores the output of each chunk in its own
+ * part of the result array, without the need for locking.  Small arrays are converted on the calling thread.
+ *
+ * @author  Peter Wall
+ */
+public class ParallelIntOutput {
+
+    public static final int MINIMUM_CHUNK_SIZE = 4096;
+
+    private static final int MAXIMUM_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Convert an array of {@code int} values to a {@code byte} array, left-trimmed and separated by the specified
+     * separator character.
+     *
+     * @param   values      the {@code int} values
+     * @param   separator   the separator character
+     * @return              the {@code byte} array
+     * @throws  IllegalArgumentException if the output would exceed the maximum size of an array
+     */
+    public static byte[] intsToBytes(int[] values, char separator) {
+        return convert(values.length, i -> IntOutput.intLength(values[i]), byte[]::new,
+                (bytes, offset, i) -> IntOutput.appendInt(bytes, offset, values[i]), byteSeparator(separator));
+    }
+
+    /**
+     * Convert an array of {@code int} values to a {@code byte} array, left-trimmed with digits grouped in 3s, and
+     * separated by the specified separator character.
+     *
+     * @param   values          the {@code int} values
+     * @param   separator       the separator character
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the {@code byte} array
+     * @throws  IllegalArgumentException if the output would exceed the maximum size of an array
+     */
+    public static byte[] intsToBytesGrouped(int[] values, char separator, char groupingChar) {
+        return convert(values.length, i -> IntOutput.intGroupedLength(values[i]), byte[]::new,
+                (bytes, offset, i) -> IntOutput.appendIntGrouped(bytes, offset, values[i], groupingChar),
+                byteSeparator(separator));
+    }
+
+    /**
+     * Convert an array of {@code int} values to a {@code byte} array, left-trimmed in hexadecimal and separated by the
+     * specified separator character.
+     *
+     * @param   values      the {@code int} values
+     * @param   separator   the separator character
+     * @return              the {@code byte} array
+     * @throws  IllegalArgumentException if the output would exceed the maximum size of an array
+     */
+    public static byte[] intsToBytesHex(int[] values, char separator) {
+        return convert(values.length, i -> IntOutput.intHexLength(values[i]), byte[]::new,
+                (bytes, offset, i) -> IntOutput.appendIntHex(bytes, offset, values[i]), byteSeparator(separator));
+    }
+
+    /**
+     * Convert an array of {@code long} values to a {@code byte} array, left-trimmed and separated by the specified
+     * separator character.
+     *
+     * @param   values      the {@code long} values
+     * @param   separator   the separator character
+     * @return              the {@code byte} array
+     * @throws  IllegalArgumentException if the output would exceed the maximum size of an array
+     */
+    public static byte[] longsToBytes(long[] values, char separator) {
+        return convert(values.length, i -> IntOutput.longLength(values[i]), byte[]::new,
+                (bytes, offset, i) -> IntOutput.appendLong(bytes, offset, values[i]), byteSeparator(separator));
+    }
+
+    /**
+     * Convert an array of {@code long} values to a {@code byte} array, left-trimmed with digits grouped in 3s, and
+     * separated by the specified separator character.
+     *
+     * @param   values          the {@code long} values
+     * @param   separator       the separator character
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the {@code byte} array
+     * @throws  IllegalArgumentException if the output would exceed the maximum size of an array
+     */
+    public static byte[] longsToBytesGrouped(long[] values, char separator, char groupingChar) {
+        return convert(values.length, i -> IntOutput.longGroupedLength(values[i]), byte[]::new,
+                (bytes, offset, i) -> IntOutput.appendLongGrouped(bytes, offset, values[i], groupingChar),
+                byteSeparator(separator));
+    }
+
+    /**
+     * Convert an array of {@code long} values to a {@code byte} array, left-trimmed in hexadecimal and separated by
+     * the specified separator character.
+     *
+     * @param   values      the {@code long} values
+     * @param   separator   the separator character
+     * @return              the {@code byte} array
+     * @throws  IllegalArgumentException if the output would exceed the maximum size of an array
+     */
+    public static byte[] longsToBytesHex(long[] values, char separator) {
+        return convert(values.length, i -> IntOutput.longHexLength(values[i]), byte[]::new,
+                (bytes, offset, i) -> IntOutput.appendLongHex(bytes, offset, values[i]), byteSeparator(separator));
+    }
+
+    /**
+     * Convert an array of {@code int} values to a {@code char} array, left-trimmed and separated by the specified
+     * separator character.
+     *
+     * @param   values      the {@code int} values
+     * @param   separator   the separator character
+     * @return              the {@code char} array
+     * @throws  IllegalArgumentException if the output would exceed the maximum size of an array
+     */
+    public static char[] intsToChars(int[] values, char separator) {
+        return convert(values.length, i -> IntOutput.intLength(values[i]), char[]::new,
+                (chars, offset, i) -> IntOutput.appendInt(chars, offset, values[i]), charSeparator(separator));
+    }
+
+    /**
+     * Convert an array of {@code int} values to a {@code char} array, left-trimmed with digits grouped in 3s, and
+     * separated by the specified separator character.
+     *
+     * @param   values          the {@code int} values
+     * @param   separator       the separator character
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the {@code char} array
+     * @throws  IllegalArgumentException if the output would exceed the maximum size of an array
+     */
+    public static char[] intsToCharsGrouped(int[] values, char separator, char groupingChar) {
+        return convert(values.length, i -> IntOutput.intGroupedLength(values[i]), char[]::new,
+                (chars, offset, i) -> IntOutput.appendIntGrouped(chars, offset, values[i], groupingChar),
+                charSeparator(separator));
+    }
+
+    /**
+     * Convert an array of {@code int} values to a {@code char} array, left-trimmed in hexadecimal and separated by the
+     * specified separator character.
+     *
+     * @param   values      the {@code int} values
+     * @param   separator   the separator character
+     * @return              the {@code char} array
+     * @throws  IllegalArgumentException if the output would exceed the maximum size of an array
+     */
+    public static char[] intsToCharsHex(int[] values, char separator) {
+        return convert(values.length, i -> IntOutput.intHexLength(values[i]), char[]::new,
+                (chars, offset, i) -> IntOutput.appendIntHex(chars, offset, values[i]), charSeparator(separator));
+    }
+
+    /**
+     * Convert an array of {@code long} values to a {@code char} array, left-trimmed and separated by the specified
+     * separator character.
+     *
+     * @param   values      the {@code long} values
+     * @param   separator   the separator character
+     * @return              the {@code char} array
+     * @throws  IllegalArgumentException if the output would exceed the maximum size of an array
+     */
+    public static char[] longsToChars(long[] values, char separator) {
+        return convert(values.length, i -> IntOutput.longLength(values[i]), char[]::new,
+                (chars, offset, i) -> IntOutput.appendLong(chars, offset, values[i]), charSeparator(separator));
+    }
+
+    /**
+     * Convert an array of {@code long} values to a {@code char} array, left-trimmed with digits grouped in 3s, and
+     * separated by the specified separator character.
+     *
+     * @param   values          the {@code long} values
+     * @param   separator       the separator character
+     * @param   groupingChar    the grouping character (e.g. ',')
+     * @return                  the {@code char} array
+     * @throws  IllegalArgumentException if the output would exceed the maximum size of an array
+     */
+    public static char[] longsToCharsGrouped(long[] values, char separator, char groupingChar) {
+        return convert(values.length, i -> IntOutput.longGroupedLength(values[i]), char[]::new,
+                (chars, offset, i) -> IntOutput.appendLongGrouped(chars, offset, values[i], groupingChar),
+                charSeparator(separator));
+    }
+
+    /**
+     * Convert an array of {@code long} values to a {@code char} array, left-trimmed in hexadecimal and separated by
+     * the specified separator character.
+     *
+     * @param   values      the {@code long} values
+     * @param   separator   the separator character
+     * @return              the {@code char} array
+     * @throws  IllegalArgumentException if the output would exceed the maximum size of an array
+     */
+    public static char[] longsToCharsHex(long[] values, char separator) {
+        return convert(values.length, i -> IntOutput.longHexLength(values[i]), char[]::new,
+                (chars, offset, i) -> IntOutput.appendLongHex(chars, offset, values[i]), charSeparator(separator));
+    }
+
+    private static <T> T convert(int count, IntUnaryOperator length, IntFunction<T> allocator, Store<T> store,
+            Store<T> separatorStore) {
+        int chunkCount = chunkCount(count);
+        int chunkSize = chunkCount == 0 ? 0 : (count - 1) / chunkCount + 1;
+        long[] offsets = new long[chunkCount + 1];
+        forEachChunk(chunkCount, c -> {
+            int from = c * chunkSize;
+            int to = from + Math.min(chunkSize, count - from);
+            long chunkLength = from == 0 ? to - from - 1 : to - from; // separator precedes each value except the first
+            for (int i = from; i < to; i++)
+                chunkLength += length.applyAsInt(i);
+            offsets[c + 1] = chunkLength;
+        });
+        for (int c = 0; c < chunkCount; c++)
+            offsets[c + 1] += offsets[c];
+        long total = offsets[chunkCount];
+        if (total > MAXIMUM_ARRAY_SIZE)
+            throw new IllegalArgumentException("Output too large for array: " + total);
+        T result = allocator.apply((int)total);
+        forEachChunk(chunkCount, c -> {
+            int from = c * chunkSize;
+            int to = from + Math.min(chunkSize, count - from);
+            int offset = (int)offsets[c];
+            for (int i = from; i < to; i++) {
+                if (i > 0)
+                    offset = separatorStore.store(result, offset, i);
+                offset = store.store(result, offset, i);
+            }
+        });
+        return result;
+    }
+
+    private static int chunkCount(int count) {
+        int maxChunks = ForkJoinPool.getCommonPoolParallelism() * 4;
+        return count == 0 ? 0 : Math.min((count - 1) / MINIMUM_CHUNK_SIZE + 1, maxChunks);
+    }
+
+    private static void forEachChunk(int chunkCount, IntConsumer action) {
+        if (chunkCount == 1)
+            action.accept(0);
+        else if (chunkCount > 1)
+            IntStream.range(0, chunkCount).parallel().forEach(action);
+    }
+
+    private static Store<byte[]> byteSeparator(char separator) {
+        return (bytes, offset, i) -> {
+            bytes[offset] = (byte)separator;
+            return offset + 1;
+        };
+    }
+
+    private static Store<char[]> charSeparator(char separator) {
+        return (chars, offset, i) -> {
+            chars[offset] = separator;
+            return offset + 1;
+        };
+    }
+
+    @FunctionalInterface
+    private interface Store<T> {
+        int store(T array, int offset, int index);
+    }
+
+}
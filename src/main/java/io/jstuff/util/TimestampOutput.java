@@ -0,0 +1,435 @@
+/*
+ * @(#) TimestampOutput.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util;
+
+import java.io.IOException;
+
+/**
+ * Functions to output timestamps in ISO 8601 form ({@code yyyy-MM-ddTHH:mm:ss.SSSZ}, or with an offset in place of the
+ * {@code Z}), from a time in milliseconds or nanoseconds since the epoch, to an {@link Appendable}, a {@code char}
+ * array or a {@code byte} array.
+ * <br>
+ * The conversion to a calendar date is performed arithmetically, without creating any {@code java.time} objects, and
+ * the date and time prefix ({@code yyyy-MM-ddTHH:mm:ss}) for the most recent second is cached per thread, so that
+ * successive timestamps within the same second (the common case in logging) require only the fractional part and the
+ * offset to be converted.  Years outside the range 0000 to 9999 are not supported.
+ *
+ * @author  Peter Wall
+ */
+public class TimestampOutput {
+
+    /** The maximum number of characters output by any of the functions. */
+    public static final int MAX_LENGTH = 38;
+
+    static final int PREFIX_LENGTH = 19;
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+
+    private static final ThreadLocal<Prefix> prefixes = ThreadLocal.withInitial(Prefix::new);
+
+    /**
+     * Append a timestamp in UTC, with milliseconds, to an {@link Appendable}.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   epochMillis the time in milliseconds since the epoch
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendTimestamp(Appendable a, long epochMillis) throws IOException {
+        appendTimestamp(a, epochMillis, 0);
+    }
+
+    /**
+     * Append a timestamp with milliseconds, adjusted by the specified offset from UTC, to an {@link Appendable}.  The
+     * offset is output as {@code Z} if zero, or as {@code +HH:MM} (or {@code +HH:MM:SS} if the offset includes
+     * seconds).
+     *
+     * @param   a               the {@link Appendable}
+     * @param   epochMillis     the time in milliseconds since the epoch
+     * @param   offsetSeconds   the offset from UTC in seconds
+     * @throws  IOException if thrown by the {@link Appendable}
+     * @throws  IllegalArgumentException if the offset or the year is out of range
+     */
+    public static void appendTimestamp(Appendable a, long epochMillis, int offsetSeconds) throws IOException {
+        checkOffset(offsetSeconds);
+        long localMillis = epochMillis + offsetSeconds * 1000L;
+        long second = Math.floorDiv(localMillis, 1000L);
+        a.append(prefix(second).string);
+        a.append('.');
+        IntOutput.append3Digits(a, (int)(localMillis - second * 1000));
+        appendOffset(a, offsetSeconds);
+    }
+
+    /**
+     * Append a timestamp in UTC, with nanoseconds, to an {@link Appendable}.
+     *
+     * @param   a           the {@link Appendable}
+     * @param   epochNanos  the time in nanoseconds since the epoch
+     * @throws  IOException if thrown by the {@link Appendable}
+     */
+    public static void appendTimestampNanos(Appendable a, long epochNanos) throws IOException {
+        appendTimestampNanos(a, epochNanos, 0);
+    }
+
+    /**
+     * Append a timestamp with nanoseconds, adjusted by the specified offset from UTC, to an {@link Appendable}.  The
+     * offset is output as {@code Z} if zero, or as {@code +HH:MM} (or {@code +HH:MM:SS} if the offset includes
+     * seconds).
+     *
+     * @param   a               the {@link Appendable}
+     * @param   epochNanos      the time in nanoseconds since the epoch
+     * @param   offsetSeconds   the offset from UTC in seconds
+     * @throws  IOException if thrown by the {@link Appendable}
+     * @throws  IllegalArgumentException if the offset or the year is out of range
+     */
+    public static void appendTimestampNanos(Appendable a, long epochNanos, int offsetSeconds) throws IOException {
+        checkOffset(offsetSeconds);
+        long localNanos = epochNanos + offsetSeconds * 1000000000L;
+        long second = Math.floorDiv(localNanos, 1000000000L);
+        int nanos = (int)(localNanos - second * 1000000000);
+        a.append(prefix(second).string);
+        a.append('.');
+        int millis = nanos / 1000000;
+        IntOutput.append3Digits(a, millis);
+        int micros = nanos / 1000;
+        IntOutput.append3Digits(a, micros - millis * 1000);
+        IntOutput.append3Digits(a, nanos - micros * 1000);
+        appendOffset(a, offsetSeconds);
+    }
+
+    private static void appendOffset(Appendable a, int offsetSeconds) throws IOException {
+        if (offsetSeconds == 0)
+            a.append('Z');
+        else {
+            if (offsetSeconds < 0) {
+                a.append('-');
+                offsetSeconds = -offsetSeconds;
+            }
+            else
+                a.append('+');
+            int minutes = offsetSeconds / 60;
+            int hours = minutes / 60;
+            IntOutput.append2Digits(a, hours);
+            a.append(':');
+            IntOutput.append2Digits(a, minutes - hours * 60);
+            int seconds = offsetSeconds - minutes * 60;
+            if (seconds != 0) {
+                a.append(':');
+                IntOutput.append2Digits(a, seconds);
+            }
+        }
+    }
+
+    /**
+     * Append a timestamp in UTC, with milliseconds, to a {@code char} array.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   epochMillis the time in milliseconds since the epoch
+     * @return              the offset following the last character stored
+     */
+    public static int appendTimestamp(char[] chars, int offset, long epochMillis) {
+        return appendTimestamp(chars, offset, epochMillis, 0);
+    }
+
+    /**
+     * Append a timestamp with milliseconds, adjusted by the specified offset from UTC, to a {@code char} array.  The
+     * offset is output as {@code Z} if zero, or as {@code +HH:MM} (or {@code +HH:MM:SS} if the offset includes
+     * seconds).
+     *
+     * @param   chars           the {@code char} array
+     * @param   offset          the offset within the array at which to store the first character
+     * @param   epochMillis     the time in milliseconds since the epoch
+     * @param   offsetSeconds   the offset from UTC in seconds
+     * @return                  the offset following the last character stored
+     * @throws  IllegalArgumentException if the offset or the year is out of range
+     */
+    public static int appendTimestamp(char[] chars, int offset, long epochMillis, int offsetSeconds) {
+        checkOffset(offsetSeconds);
+        long localMillis = epochMillis + offsetSeconds * 1000L;
+        long second = Math.floorDiv(localMillis, 1000L);
+        System.arraycopy(prefix(second).chars, 0, chars, offset, PREFIX_LENGTH);
+        offset += PREFIX_LENGTH;
+        chars[offset++] = '.';
+        offset = IntOutput.append3Digits(chars, offset, (int)(localMillis - second * 1000));
+        return appendOffset(chars, offset, offsetSeconds);
+    }
+
+    /**
+     * Append a timestamp in UTC, with nanoseconds, to a {@code char} array.
+     *
+     * @param   chars       the {@code char} array
+     * @param   offset      the offset within the array at which to store the first character
+     * @param   epochNanos  the time in nanoseconds since the epoch
+     * @return              the offset following the last character stored
+     */
+    public static int appendTimestampNanos(char[] chars, int offset, long epochNanos) {
+        return appendTimestampNanos(chars, offset, epochNanos, 0);
+    }
+
+    /**
+     * Append a timestamp with nanoseconds, adjusted by the specified offset from UTC, to a {@code char} array.  The
+     * offset is output as {@code Z} if zero, or as {@code +HH:MM} (or {@code +HH:MM:SS} if the offset includes
+     * seconds).
+     *
+     * @param   chars           the {@code char} array
+     * @param   offset          the offset within the array at which to store the first character
+     * @param   epochNanos      the time in nanoseconds since the epoch
+     * @param   offsetSeconds   the offset from UTC in seconds
+     * @return                  the offset following the last character stored
+     * @throws  IllegalArgumentException if the offset or the year is out of range
+     */
+    public static int appendTimestampNanos(char[] chars, int offset, long epochNanos, int offsetSeconds) {
+        checkOffset(offsetSeconds);
+        long localNanos = epochNanos + offsetSeconds * 1000000000L;
+        long second = Math.floorDiv(localNanos, 1000000000L);
+        int nanos = (int)(localNanos - second * 1000000000);
+        System.arraycopy(prefix(second).chars, 0, chars, offset, PREFIX_LENGTH);
+        offset += PREFIX_LENGTH;
+        chars[offset++] = '.';
+        int millis = nanos / 1000000;
+        offset = IntOutput.append3Digits(chars, offset, millis);
+        int micros = nanos / 1000;
+        offset = IntOutput.append3Digits(chars, offset, micros - millis * 1000);
+        offset = IntOutput.append3Digits(chars, offset, nanos - micros * 1000);
+        return appendOffset(chars, offset, offsetSeconds);
+    }
+
+    static int appendOffset(char[] chars, int offset, int offsetSeconds) {
+        if (offsetSeconds == 0) {
+            chars[offset] = 'Z';
+            return offset + 1;
+        }
+        if (offsetSeconds < 0) {
+            chars[offset++] = '-';
+            offsetSeconds = -offsetSeconds;
+        }
+        else
+            chars[offset++] = '+';
+        int minutes = offsetSeconds / 60;
+        int hours = minutes / 60;
+        offset = IntOutput.append2Digits(chars, offset, hours);
+        chars[offset++] = ':';
+        offset = IntOutput.append2Digits(chars, offset, minutes - hours * 60);
+        int seconds = offsetSeconds - minutes * 60;
+        if (seconds != 0) {
+            chars[offset++] = ':';
+            offset = IntOutput.append2Digits(chars, offset, seconds);
+        }
+        return offset;
+    }
+
+    /**
+     * Append a timestamp in UTC, with milliseconds, to a {@code byte} array as ASCII characters.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   epochMillis the time in milliseconds since the epoch
+     * @return              the offset following the last byte stored
+     */
+    public static int appendTimestamp(byte[] bytes, int offset, long epochMillis) {
+        return appendTimestamp(bytes, offset, epochMillis, 0);
+    }
+
+    /**
+     * Append a timestamp with milliseconds, adjusted by the specified offset from UTC, to a {@code byte} array as ASCII
+     * characters.  The offset is output as {@code Z} if zero, or as {@code +HH:MM} (or {@code +HH:MM:SS} if the offset
+     * includes seconds).
+     *
+     * @param   bytes           the {@code byte} array
+     * @param   offset          the offset within the array at which to store the first byte
+     * @param   epochMillis     the time in milliseconds since the epoch
+     * @param   offsetSeconds   the offset from UTC in seconds
+     * @return                  the offset following the last byte stored
+     * @throws  IllegalArgumentException if the offset or the year is out of range
+     */
+    public static int appendTimestamp(byte[] bytes, int offset, long epochMillis, int offsetSeconds) {
+        checkOffset(offsetSeconds);
+        long localMillis = epochMillis + offsetSeconds * 1000L;
+        long second = Math.floorDiv(localMillis, 1000L);
+        System.arraycopy(prefix(second).bytes, 0, bytes, offset, PREFIX_LENGTH);
+        offset += PREFIX_LENGTH;
+        bytes[offset++] = '.';
+        offset = IntOutput.append3Digits(bytes, offset, (int)(localMillis - second * 1000));
+        return appendOffset(bytes, offset, offsetSeconds);
+    }
+
+    /**
+     * Append a timestamp in UTC, with nanoseconds, to a {@code byte} array as ASCII characters.
+     *
+     * @param   bytes       the {@code byte} array
+     * @param   offset      the offset within the array at which to store the first byte
+     * @param   epochNanos  the time in nanoseconds since the epoch
+     * @return              the offset following the last byte stored
+     */
+    public static int appendTimestampNanos(byte[] bytes, int offset, long epochNanos) {
+        return appendTimestampNanos(bytes, offset, epochNanos, 0);
+    }
+
+    /**
+     * Append a timestamp with nanoseconds, adjusted by the specified offset from UTC, to a {@code byte} array as ASCII
+     * characters.  The offset is output as {@code Z} if zero, or as {@code +HH:MM} (or {@code +HH:MM:SS} if the offset
+     * includes seconds).
+     *
+     * @param   bytes           the {@code byte} array
+     * @param   offset          the offset within the array at which to store the first byte
+     * @param   epochNanos      the time in nanoseconds since the epoch
+     * @param   offsetSeconds   the offset from UTC in seconds
+     * @return                  the offset following the last byte stored
+     * @throws  IllegalArgumentException if the offset or the year is out of range
+     */
+    public static int appendTimestampNanos(byte[] bytes, int offset, long epochNanos, int offsetSeconds) {
+        checkOffset(offsetSeconds);
+        long localNanos = epochNanos + offsetSeconds * 1000000000L;
+        long second = Math.floorDiv(localNanos, 1000000000L);
+        int nanos = (int)(localNanos - second * 1000000000);
+        System.arraycopy(prefix(second).bytes, 0, bytes, offset, PREFIX_LENGTH);
+        offset += PREFIX_LENGTH;
+        bytes[offset++] = '.';
+        int millis = nanos / 1000000;
+        offset = IntOutput.append3Digits(bytes, offset, millis);
+        int micros = nanos / 1000;
+        offset = IntOutput.append3Digits(bytes, offset, micros - millis * 1000);
+        offset = IntOutput.append3Digits(bytes, offset, nanos - micros * 1000);
+        return appendOffset(bytes, offset, offsetSeconds);
+    }
+
+    private static int appendOffset(byte[] bytes, int offset, int offsetSeconds) {
+        if (offsetSeconds == 0) {
+            bytes[offset] = 'Z';
+            return offset + 1;
+        }
+        if (offsetSeconds < 0) {
+            bytes[offset++] = '-';
+            offsetSeconds = -offsetSeconds;
+        }
+        else
+            bytes[offset++] = '+';
+        int minutes = offsetSeconds / 60;
+        int hours = minutes / 60;
+        offset = IntOutput.append2Digits(bytes, offset, hours);
+        bytes[offset++] = ':';
+        offset = IntOutput.append2Digits(bytes, offset, minutes - hours * 60);
+        int seconds = offsetSeconds - minutes * 60;
+        if (seconds != 0) {
+            bytes[offset++] = ':';
+            offset = IntOutput.append2Digits(bytes, offset, seconds);
+        }
+        return offset;
+    }
+
+    static void checkOffset(int offsetSeconds) {
+        if (offsetSeconds < -MAX_OFFSET_SECONDS || offsetSeconds > MAX_OFFSET_SECONDS)
+            throw new IllegalArgumentException("Offset out of range: " + offsetSeconds);
+    }
+
+    private static Prefix prefix(long second) {
+        Prefix prefix = prefixes.get();
+        if (prefix.second != second)
+            prefix.set(second);
+        return prefix;
+    }
+
+    /**
+     * The {@code yyyy-MM-ddTHH:mm:ss} prefix for a particular second (local to the offset in use), in {@code char},
+     * {@code byte} and {@link String} form.  The date part is recalculated only when the day changes.
+     */
+    private static class Prefix {
+
+        private long second = Long.MIN_VALUE;
+        private long day = Long.MIN_VALUE;
+        private final char[] chars = new char[PREFIX_LENGTH];
+        private final byte[] bytes = new byte[PREFIX_LENGTH];
+        private String string;
+
+        private Prefix() {
+            chars[4] = '-';
+            chars[7] = '-';
+            chars[10] = 'T';
+            chars[13] = ':';
+            chars[16] = ':';
+        }
+
+        private void set(long second) {
+            long day = Math.floorDiv(second, 86400L);
+            if (this.day != day) {
+                storeDate(chars, day);
+                this.day = day;
+            }
+            storeTime(chars, (int)(second - day * 86400));
+            for (int i = 0; i < PREFIX_LENGTH; i++)
+                bytes[i] = (byte)chars[i];
+            string = new String(chars);
+            this.second = second;
+        }
+
+    }
+
+    /**
+     * Store the {@code yyyy-MM-ddTHH:mm:ss} prefix for the specified second in a {@code char} array.
+     */
+    static void storePrefix(char[] chars, long second) {
+        long day = Math.floorDiv(second, 86400L);
+        storeDate(chars, day);
+        chars[4] = '-';
+        chars[7] = '-';
+        chars[10] = 'T';
+        chars[13] = ':';
+        chars[16] = ':';
+        storeTime(chars, (int)(second - day * 86400));
+    }
+
+    private static void storeTime(char[] chars, int secondOfDay) {
+        int minuteOfDay = secondOfDay / 60;
+        int hour = minuteOfDay / 60;
+        IntOutput.append2Digits(chars, 11, hour);
+        IntOutput.append2Digits(chars, 14, minuteOfDay - hour * 60);
+        IntOutput.append2Digits(chars, 17, secondOfDay - minuteOfDay * 60);
+    }
+
+    /**
+     * Convert a day number (days since 1970-01-01) to a year, month and day, using the algorithm from Howard Hinnant's
+     * <a href="https://howardhinnant.github.io/date_algorithms.html">chrono-Compatible Low-Level Date Algorithms</a>,
+     * which works in 400-year eras of a calendar starting on 1 March, and store them in {@code yyyy-MM-dd} form.
+     */
+    private static void storeDate(char[] chars, long epochDay) {
+        long z = epochDay + 719468; // days from 0000-03-01
+        long era = Math.floorDiv(z, 146097L);
+        int dayOfEra = (int)(z - era * 146097);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int mp = (5 * dayOfYear + 2) / 153; // month starting from March
+        int dayOfMonth = dayOfYear - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        long year = era * 400 + yearOfEra + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999)
+            throw new IllegalArgumentException("Year out of range: " + year);
+        int century = (int)year / 100;
+        IntOutput.append2Digits(chars, 0, century);
+        IntOutput.append2Digits(chars, 2, (int)year - century * 100);
+        IntOutput.append2Digits(chars, 5, month);
+        IntOutput.append2Digits(chars, 8, dayOfMonth);
+    }
+
+}
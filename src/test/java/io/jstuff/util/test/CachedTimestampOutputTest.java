@@ -0,0 +1,109 @@
+/*
+ * @(#) CachedTimestampOutputTest.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import io.jstuff.util.CachedTimestampOutput;
+
+public class CachedTimestampOutputTest {
+
+    private static final DateTimeFormatter microsFormatter =
+            DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSSSSXXXXX");
+
+    @Test
+    public void shouldOutputTimestamp() throws IOException {
+        CachedTimestampOutput output = new CachedTimestampOutput();
+        StringBuilder sb = new StringBuilder();
+        output.appendTimestamp(sb, 1709210096789L);
+        assertEquals("2024-02-29T12:34:56.789Z", sb.toString());
+        sb.setLength(0);
+        output.appendTimestamp(sb, 1709210096790L);
+        assertEquals("2024-02-29T12:34:56.790Z", sb.toString());
+        output = new CachedTimestampOutput(-(3 * 3600 + 30 * 60));
+        assertEquals(-12600, output.getOffsetSeconds());
+        char[] chars = new char[40];
+        assertEquals(32, output.appendTimestampMicros(chars, 0, -1L));
+        assertEquals("1969-12-31T20:29:59.999999-03:30", new String(chars, 0, 32));
+        byte[] bytes = new byte[40];
+        assertEquals(30, output.appendTimestamp(bytes, 1, 1709210096789L));
+        assertEquals("2024-02-29T09:04:56.789-03:30", new String(bytes, 1, 29, StandardCharsets.US_ASCII));
+        assertThrows(IllegalArgumentException.class, () -> new CachedTimestampOutput(-18 * 3600 - 1));
+    }
+
+    @Test
+    public void shouldOutputCorrectTimestampsFromMultipleThreads() throws Exception {
+        int offsetSeconds = 5 * 3600 + 45 * 60;
+        CachedTimestampOutput output = new CachedTimestampOutput(offsetSeconds);
+        ZoneOffset zoneOffset = ZoneOffset.ofTotalSeconds(offsetSeconds);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    char[] chars = new char[40];
+                    byte[] bytes = new byte[40];
+                    long micros = 1700000000000000L;
+                    for (int n = 0; n < 20000; n++) {
+                        micros += random.nextInt(200000);
+                        Instant instant = Instant.ofEpochSecond(micros / 1000000, micros % 1000000 * 1000);
+                        String expected = microsFormatter.format(instant.atOffset(zoneOffset));
+                        assertEquals(expected, new String(chars, 0, output.appendTimestampMicros(chars, 0, micros)));
+                        assertEquals(expected, new String(bytes, 0, output.appendTimestampMicros(bytes, 0, micros),
+                                StandardCharsets.US_ASCII));
+                        long millis = micros / 1000;
+                        StringBuilder sb = new StringBuilder();
+                        output.appendTimestamp(sb, millis);
+                        assertEquals(expected.substring(0, 23) + expected.substring(26), sb.toString());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures)
+                future.get();
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,287 @@
+/*
+ * @(#) DoubleOutputTest.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import io.jstuff.util.DoubleOutput;
+
+public class DoubleOutputTest {
+
+    private static final double[] doubleValues = { 0.0, -0.0, 1.0, -1.0, 0.1, 0.3, 2.0 / 3.0, 123.456, 1.0E7,
+            9999999.0, 0.001, 0.00099, 1.0E-10, 1.0E23, 2.0E23, 5.0E-324, 1.0E-323, Double.MIN_NORMAL, Double.MAX_VALUE,
+            Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 4.35, 100.0, 1234567.0,
+            1.7976931348623157E308, 9007199254740992.0, 9007199254740993.0, 1.0E16, 123456789012345680.0, Math.PI,
+            Math.E, 0.1 + 0.2 };
+
+    private static final float[] floatValues = { 0.0F, -0.0F, 1.0F, -1.0F, 0.1F, 0.3F, 2.0F / 3.0F, 123.456F, 1.0E7F,
+            9999999.0F, 0.001F, 1.0E-10F, 1.4E-45F, Float.MIN_NORMAL, Float.MAX_VALUE, Float.NaN,
+            Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, 16777216.0F, (float)Math.PI, 3.4028235E38F };
+
+    @Test
+    public void shouldOutputSpecialValues() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        DoubleOutput.appendDouble(sb, Double.NaN);
+        assertEquals("NaN", sb.toString());
+        sb.setLength(0);
+        DoubleOutput.appendDouble(sb, Double.NEGATIVE_INFINITY);
+        assertEquals("-Infinity", sb.toString());
+        sb.setLength(0);
+        DoubleOutput.appendDouble(sb, -0.0);
+        assertEquals("-0.0", sb.toString());
+        sb.setLength(0);
+        DoubleOutput.appendFloat(sb, Float.POSITIVE_INFINITY);
+        assertEquals("Infinity", sb.toString());
+    }
+
+    @Test
+    public void shouldOutputDoubleInJavaFormat() throws IOException {
+        assertEquals("1.0", appendDouble(1.0));
+        assertEquals("-12.5", appendDouble(-12.5));
+        assertEquals("1234567.0", appendDouble(1234567.0));
+        assertEquals("1.0E7", appendDouble(1.0E7));
+        assertEquals("1.2345678E7", appendDouble(12345678.0));
+        assertEquals("0.001", appendDouble(0.001));
+        assertEquals("9.9E-4", appendDouble(0.00099));
+        assertEquals("0.30000000000000004", appendDouble(0.1 + 0.2));
+        assertEquals("1.0E23", appendDouble(1.0E23));
+        assertEquals("2.0E23", appendDouble(2.0E23));
+        assertEquals("0.002", appendDouble(2.0E-3));
+        assertEquals("4.9E-324", appendDouble(Double.MIN_VALUE));
+        assertEquals("1.7976931348623157E308", appendDouble(Double.MAX_VALUE));
+        assertEquals("2.2250738585072014E-308", appendDouble(Double.MIN_NORMAL));
+        assertEquals("9.007199254740992E15", appendDouble(9007199254740992.0));
+    }
+
+    @Test
+    public void shouldOutputFloatInJavaFormat() throws IOException {
+        assertEquals("1.0", appendFloat(1.0F));
+        assertEquals("0.1", appendFloat(0.1F));
+        assertEquals("1.4E-45", appendFloat(Float.MIN_VALUE));
+        assertEquals("3.4028235E38", appendFloat(Float.MAX_VALUE));
+        assertEquals("1.1754944E-38", appendFloat(Float.MIN_NORMAL));
+        assertEquals("3.1415927", appendFloat((float)Math.PI));
+        assertEquals("1.6777216E7", appendFloat(16777216.0F));
+    }
+
+    @Test
+    public void shouldOutputShortestDouble() throws IOException {
+        for (double d : doubleValues)
+            checkDouble(d);
+        Random random = new Random(12345);
+        for (int i = 0; i < 20000; i++)
+            checkDouble(Double.longBitsToDouble(random.nextLong()));
+        for (int i = 0; i < 10000; i++)
+            checkDouble(random.nextInt() / 1000.0);
+        for (long bits = 1; bits < 1000; bits++)
+            checkDouble(Double.longBitsToDouble(bits));
+        for (int e = 1; e < 2047; e++)
+            checkDouble(Double.longBitsToDouble((long)e << 52));
+    }
+
+    @Test
+    public void shouldOutputShortestFloat() throws IOException {
+        for (float f : floatValues)
+            checkFloat(f);
+        Random random = new Random(54321);
+        for (int i = 0; i < 20000; i++)
+            checkFloat(Float.intBitsToFloat(random.nextInt()));
+        for (int bits = 1; bits < 1000; bits++)
+            checkFloat(Float.intBitsToFloat(bits));
+        for (int e = 1; e < 255; e++)
+            checkFloat(Float.intBitsToFloat(e << 23));
+    }
+
+    @Test
+    public void shouldOutputToAllTargets() throws IOException {
+        Random random = new Random(999);
+        char[] chars = new char[40];
+        byte[] bytes = new byte[40];
+        for (int i = 0; i < 10000; i++) {
+            double d = Double.longBitsToDouble(random.nextLong());
+            String expected = appendDouble(d);
+            int end = DoubleOutput.appendDouble(chars, 3, d);
+            assertEquals(expected, new String(chars, 3, end - 3));
+            end = DoubleOutput.appendDouble(bytes, 2, d);
+            assertEquals(expected, new String(bytes, 2, end - 2, StandardCharsets.US_ASCII));
+            StringBuilder sb = new StringBuilder();
+            DoubleOutput.outputDouble(d, ch -> sb.append((char)ch));
+            assertEquals(expected, sb.toString());
+            float f = Float.intBitsToFloat(random.nextInt());
+            expected = appendFloat(f);
+            end = DoubleOutput.appendFloat(chars, 1, f);
+            assertEquals(expected, new String(chars, 1, end - 1));
+            end = DoubleOutput.appendFloat(bytes, 0, f);
+            assertEquals(expected, new String(bytes, 0, end, StandardCharsets.US_ASCII));
+            sb.setLength(0);
+            DoubleOutput.outputFloat(f, ch -> sb.append((char)ch));
+            assertEquals(expected, sb.toString());
+        }
+    }
+
+    @Test
+    public void shouldOutputDoubleFixed() throws IOException {
+        assertEquals("1.23", appendDoubleFixed(1.225, 2, RoundingMode.HALF_UP)); // 1.225 is slightly above
+        assertEquals("1.00", appendDoubleFixed(1.005, 2, RoundingMode.HALF_UP)); // 1.005 is slightly below
+        assertEquals("0.13", appendDoubleFixed(0.125, 2, RoundingMode.HALF_UP));
+        assertEquals("0.12", appendDoubleFixed(0.125, 2, RoundingMode.HALF_EVEN));
+        assertEquals("0.38", appendDoubleFixed(0.375, 2, RoundingMode.HALF_EVEN));
+        assertEquals("-0.00", appendDoubleFixed(-0.001, 2, RoundingMode.HALF_UP));
+        assertEquals("0.0", appendDoubleFixed(0.0, 1, RoundingMode.HALF_UP));
+        assertEquals("3", appendDoubleFixed(2.5, 0, RoundingMode.HALF_UP));
+        assertEquals("2", appendDoubleFixed(2.5, 0, RoundingMode.HALF_EVEN));
+        assertEquals("-123,457", appendDoubleFixed(-123.4567, 3, RoundingMode.HALF_UP).replace('.', ','));
+        assertEquals("0.000000000000000005", appendDoubleFixed(5.0E-18, 18, RoundingMode.HALF_UP));
+        assertEquals("0.00", appendDoubleFixed(Double.MIN_VALUE, 2, RoundingMode.HALF_UP));
+        assertEquals("0.01", appendDoubleFixed(Double.MIN_VALUE, 2, RoundingMode.UP));
+        assertEquals("9223372036854774784", appendDoubleFixed(9.223372036854775E18, 0, RoundingMode.HALF_UP));
+        assertEquals("NaN", appendDoubleFixed(Double.NaN, 2, RoundingMode.HALF_UP));
+        assertEquals("-Infinity", appendDoubleFixed(Double.NEGATIVE_INFINITY, 2, RoundingMode.HALF_UP));
+        StringBuilder sb = new StringBuilder();
+        DoubleOutput.appendDoubleFixed(sb, 1234.5678, 2, ',');
+        assertEquals("1234,57", sb.toString());
+        assertThrows(IllegalArgumentException.class, () -> DoubleOutput.appendDoubleFixed(sb, 1.0, 19, '.'));
+        assertThrows(IllegalArgumentException.class, () -> DoubleOutput.appendDoubleFixed(sb, 1.0E19, 0, '.'));
+        assertThrows(IllegalArgumentException.class, () -> DoubleOutput.appendDoubleFixed(sb, 10.0, 18, '.'));
+        assertThrows(ArithmeticException.class, () -> DoubleOutput.appendDoubleFixed(sb, 0.1, 2, '.',
+                RoundingMode.UNNECESSARY));
+    }
+
+    @Test
+    public void shouldRoundDoubleFixedExactly() throws IOException {
+        Random random = new Random(13579);
+        char[] chars = new char[40];
+        byte[] bytes = new byte[40];
+        for (int i = 0; i < 20000; i++) {
+            int decimals = random.nextInt(19);
+            double d = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(19 - decimals) - random.nextInt(8));
+            if (i % 4 == 0) // values that are close to a tie
+                d = Math.round(d * 1000.0) / 1000.0 + 0.0005;
+            BigDecimal exact = new BigDecimal(d);
+            if (exact.abs().setScale(decimals, RoundingMode.UP).unscaledValue().bitLength() > 63)
+                continue;
+            for (RoundingMode mode : RoundingMode.values()) {
+                if (mode == RoundingMode.UNNECESSARY)
+                    continue;
+                String expected = exact.setScale(decimals, mode).toPlainString();
+                if (d < 0 && !expected.startsWith("-"))
+                    expected = '-' + expected;
+                assertEquals(expected, appendDoubleFixed(d, decimals, mode));
+                int end = DoubleOutput.appendDoubleFixed(chars, 1, d, decimals, '.', mode);
+                assertEquals(expected, new String(chars, 1, end - 1));
+                end = DoubleOutput.appendDoubleFixed(bytes, 0, d, decimals, '.', mode);
+                assertEquals(expected, new String(bytes, 0, end, StandardCharsets.US_ASCII));
+                StringBuilder sb = new StringBuilder();
+                DoubleOutput.outputDoubleFixed(d, decimals, '.', mode, ch -> sb.append((char)ch));
+                assertEquals(expected, sb.toString());
+            }
+        }
+    }
+
+    private static String appendDouble(double d) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        DoubleOutput.appendDouble(sb, d);
+        return sb.toString();
+    }
+
+    private static String appendFloat(float f) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        DoubleOutput.appendFloat(sb, f);
+        return sb.toString();
+    }
+
+    private static String appendDoubleFixed(double d, int decimals, RoundingMode roundingMode) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        DoubleOutput.appendDoubleFixed(sb, d, decimals, '.', roundingMode);
+        return sb.toString();
+    }
+
+    private static void checkDouble(double d) throws IOException {
+        String s = appendDouble(d);
+        if (Double.isNaN(d) || Double.isInfinite(d) || d == 0.0) {
+            assertEquals(Double.toString(d), s);
+            return;
+        }
+        assertEquals(Double.doubleToLongBits(d), Double.doubleToLongBits(Double.parseDouble(s)));
+        BigDecimal exact = new BigDecimal(d);
+        assertEquals(s, 0, new BigDecimal(s).compareTo(shortest(exact, 17, x -> x.doubleValue() == d)));
+        checkFormat(s, Double.toString(d));
+    }
+
+    private static void checkFloat(float f) throws IOException {
+        String s = appendFloat(f);
+        if (Float.isNaN(f) || Float.isInfinite(f) || f == 0.0F) {
+            assertEquals(Float.toString(f), s);
+            return;
+        }
+        assertEquals(Float.floatToIntBits(f), Float.floatToIntBits(Float.parseFloat(s)));
+        BigDecimal exact = new BigDecimal(f);
+        assertEquals(s, 0, new BigDecimal(s).compareTo(shortest(exact, 9, x -> x.floatValue() == f)));
+        checkFormat(s, Float.toString(f));
+    }
+
+    /**
+     * Find the closest decimal with the fewest digits that converts back to the original value (as specified by
+     * {@link Double#toString(double)}, if a single digit is sufficient, the closest of one or two digits is chosen).
+     */
+    private static BigDecimal shortest(BigDecimal exact, int maxDigits, Predicate<BigDecimal> test) {
+        BigDecimal best = null;
+        for (int n = 1; n <= maxDigits; n++) {
+            for (RoundingMode mode : new RoundingMode[] { RoundingMode.HALF_EVEN, RoundingMode.FLOOR,
+                    RoundingMode.CEILING }) {
+                BigDecimal candidate = exact.round(new MathContext(n, mode));
+                if (test.test(candidate) && (best == null ||
+                        candidate.subtract(exact).abs().compareTo(best.subtract(exact).abs()) < 0))
+                    best = candidate;
+            }
+            if (best != null && n >= 2)
+                return best;
+        }
+        if (best != null)
+            return best;
+        throw new AssertionError("No representation found for " + exact);
+    }
+
+    /**
+     * Check that the output is in the same form as the JDK output, where the JDK output has the same value (older JDKs
+     * do not always produce the shortest representation).
+     */
+    private static void checkFormat(String s, String jdk) {
+        if (new BigDecimal(s).compareTo(new BigDecimal(jdk)) == 0 && !jdk.matches(".*[1-9]0+(E.*)?$"))
+            assertEquals(jdk, s);
+    }
+
+}
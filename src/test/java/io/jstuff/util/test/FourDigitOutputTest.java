@@ -0,0 +1,110 @@
+/*
+ * @(#) FourDigitOutputTest.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+import io.jstuff.util.FourDigitOutput;
+
+public class FourDigitOutputTest {
+
+    private static final int[] intValues = { 0, 1, 9, 10, 99, 100, 999, 1000, 9999, 10000, 10001, 99999999, 100000000,
+            123456789, 1000000000, Integer.MAX_VALUE, -1, -9999, -10000, -123456789, Integer.MIN_VALUE + 1,
+            Integer.MIN_VALUE };
+
+    private static final long[] longValues = { 0, 5, 9999, 10000, 2147483647, 2147483648L, 99999999999L,
+            100000000000L, 1234567890123456789L, 999999999999999999L, 1000000000000000000L, Long.MAX_VALUE, -1,
+            -10000, -2147483648L, -2147483649L, -1234567890123456789L, Long.MIN_VALUE + 1, Long.MIN_VALUE };
+
+    @Test
+    public void shouldAppendIntValues() throws IOException {
+        byte[] bytes = new byte[20];
+        char[] chars = new char[20];
+        for (int i : intValues) {
+            String expected = String.valueOf(i);
+            StringBuilder sb = new StringBuilder();
+            FourDigitOutput.appendInt(sb, i);
+            assertEquals(expected, sb.toString());
+            assertEquals(expected, new String(bytes, 2, FourDigitOutput.appendInt(bytes, 2, i) - 2,
+                    StandardCharsets.US_ASCII));
+            assertEquals(expected, new String(chars, 2, FourDigitOutput.appendInt(chars, 2, i) - 2));
+        }
+    }
+
+    @Test
+    public void shouldAppendLongValues() throws IOException {
+        byte[] bytes = new byte[30];
+        char[] chars = new char[30];
+        for (long n : longValues) {
+            String expected = String.valueOf(n);
+            StringBuilder sb = new StringBuilder();
+            FourDigitOutput.appendLong(sb, n);
+            assertEquals(expected, sb.toString());
+            assertEquals(expected, new String(bytes, 3, FourDigitOutput.appendLong(bytes, 3, n) - 3,
+                    StandardCharsets.US_ASCII));
+            assertEquals(expected, new String(chars, 3, FourDigitOutput.appendLong(chars, 3, n) - 3));
+        }
+    }
+
+    @Test
+    public void shouldAppendPositiveValues() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        FourDigitOutput.appendPositiveInt(sb, 1234567);
+        sb.append(' ');
+        FourDigitOutput.appendPositiveLong(sb, 12345678901234L);
+        assertEquals("1234567 12345678901234", sb.toString());
+        byte[] bytes = new byte[20];
+        assertEquals(7, FourDigitOutput.appendPositiveInt(bytes, 0, 1234567));
+        assertEquals("1234567", new String(bytes, 0, 7, StandardCharsets.US_ASCII));
+        char[] chars = new char[20];
+        assertEquals(14, FourDigitOutput.appendPositiveLong(chars, 0, 12345678901234L));
+        assertEquals("12345678901234", new String(chars, 0, 14));
+    }
+
+    @Test
+    public void shouldAppendRandomValues() throws IOException {
+        Random random = new Random(86420);
+        byte[] bytes = new byte[20];
+        char[] chars = new char[20];
+        for (int i = 0; i < 10000; i++) {
+            long n = random.nextLong() >> random.nextInt(64);
+            String expected = String.valueOf(n);
+            StringBuilder sb = new StringBuilder();
+            FourDigitOutput.appendLong(sb, n);
+            assertEquals(expected, sb.toString());
+            assertEquals(expected, new String(bytes, 0, FourDigitOutput.appendLong(bytes, 0, n),
+                    StandardCharsets.US_ASCII));
+            assertEquals(expected, new String(chars, 0, FourDigitOutput.appendLong(chars, 0, n)));
+            assertEquals(String.valueOf((int)n), new String(chars, 0, FourDigitOutput.appendInt(chars, 0, (int)n)));
+        }
+    }
+
+}
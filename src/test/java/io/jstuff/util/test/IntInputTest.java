@@ -0,0 +1,199 @@
+/*
+ * @(#) IntInputTest.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.util.Random;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import io.jstuff.util.IntInput;
+import io.jstuff.util.IntOutput;
+
+public class IntInputTest {
+
+    @Test
+    public void shouldParseIntAndReportEndPosition() {
+        ParsePosition pos = new ParsePosition(2);
+        assertEquals(-123, IntInput.parseInt("x=-123;", pos));
+        assertEquals(6, pos.getIndex());
+        pos.setIndex(0);
+        assertEquals(Integer.MIN_VALUE, IntInput.parseInt("-2147483648".toCharArray(), pos));
+        assertEquals(11, pos.getIndex());
+        pos.setIndex(1);
+        assertEquals(Integer.MAX_VALUE, IntInput.parseInt(" 2147483647 ".getBytes(StandardCharsets.US_ASCII), pos));
+        assertEquals(11, pos.getIndex());
+        assertEquals(42, IntInput.parseInt("[42]", 1, 3));
+        assertEquals(-9223372036854775808L, IntInput.parseLong("-9223372036854775808", 0, 20));
+        ByteBuffer buffer = ByteBuffer.wrap("12,34".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(12, IntInput.parseInt(buffer));
+        assertEquals(2, buffer.position());
+    }
+
+    @Test
+    public void shouldParseOtherForms() {
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(-1, IntInput.parseUnsignedInt("4294967295", pos));
+        pos.setIndex(0);
+        assertEquals(-1L, IntInput.parseUnsignedLong("18446744073709551615", pos));
+        pos.setIndex(0);
+        assertEquals(-1230, IntInput.parseIntScaled("-12.3", pos, 2, '.'));
+        assertEquals(5, pos.getIndex());
+        pos.setIndex(0);
+        assertEquals(1200, IntInput.parseIntScaled("12.", pos, 2, '.'));
+        assertEquals(2, pos.getIndex());
+        pos.setIndex(0);
+        assertEquals(1234567, IntInput.parseIntGrouped("1,234,567,", pos, ','));
+        assertEquals(9, pos.getIndex());
+        pos.setIndex(0);
+        assertEquals(12, IntInput.parseLongGrouped("12,34", pos, ','));
+        assertEquals(2, pos.getIndex());
+        pos.setIndex(0);
+        assertEquals(0xABCDEF01, IntInput.parseIntHex("abCDef01", pos));
+        pos.setIndex(0);
+        assertEquals(0x8000000000000000L, IntInput.parseLongHex("08000000000000000", pos));
+    }
+
+    @Test
+    public void shouldThrowExceptionOnInvalidInput() {
+        assertThrows(NumberFormatException.class, () -> IntInput.parseInt("-", new ParsePosition(0)));
+        assertThrows(NumberFormatException.class, () -> IntInput.parseInt("2147483648", new ParsePosition(0)));
+        assertThrows(NumberFormatException.class, () -> IntInput.parseInt("123x", 0, 4));
+        assertThrows(NumberFormatException.class,
+                () -> IntInput.parseLong("9223372036854775808".toCharArray(), new ParsePosition(0)));
+        assertThrows(NumberFormatException.class,
+                () -> IntInput.parseUnsignedLong("18446744073709551616", new ParsePosition(0)));
+        assertThrows(NumberFormatException.class,
+                () -> IntInput.parseIntScaled("1.234", new ParsePosition(0), 2, '.'));
+        assertThrows(NumberFormatException.class,
+                () -> IntInput.parseIntGrouped("1234,567", new ParsePosition(0), ','));
+        assertThrows(NumberFormatException.class,
+                () -> IntInput.parseIntGrouped("1,2345", new ParsePosition(0), ','));
+        assertThrows(NumberFormatException.class, () -> IntInput.parseIntHex("123456789", new ParsePosition(0)));
+    }
+
+    @Test
+    public void shouldParse8DigitsAtOnce() {
+        byte[] bytes = "x01234567890123456789".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(1234567, IntInput.parse8Digits(bytes, 1));
+        assertEquals(89012345, IntInput.parse8Digits(bytes, 9));
+        bytes[5] = ':';
+        assertThrows(NumberFormatException.class, () -> IntInput.parse8Digits(bytes, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> IntInput.parse8Digits(bytes, 14));
+        for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+            ByteBuffer buffer = ByteBuffer.wrap("99999999/0000000".getBytes(StandardCharsets.US_ASCII)).order(order);
+            assertEquals(99999999, IntInput.parse8Digits(buffer));
+            assertEquals(8, buffer.position());
+            assertThrows(NumberFormatException.class, () -> IntInput.parse8Digits(buffer));
+            assertEquals(8, buffer.position());
+        }
+    }
+
+    @Test
+    public void shouldParseLongDigitSequencesFromBytes() {
+        Random random = new Random(15);
+        for (int n = 0; n < 10000; n++) {
+            long l = random.nextLong() >> random.nextInt(64);
+            String s = ' ' + Long.toString(l) + ' ' + Long.toUnsignedString(l) + ' ';
+            byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+            ParsePosition pos = new ParsePosition(1);
+            assertEquals(l, IntInput.parseLong(bytes, pos));
+            pos.setIndex(pos.getIndex() + 1);
+            assertEquals(l, IntInput.parseUnsignedLong(bytes, pos));
+            assertEquals(bytes.length - 1, pos.getIndex());
+        }
+        byte[] max = "0000000018446744073709551615".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(-1L, IntInput.parseUnsignedLong(max, new ParsePosition(0)));
+        byte[] tooBig = "18446744073709551616".getBytes(StandardCharsets.US_ASCII);
+        assertThrows(NumberFormatException.class, () -> IntInput.parseUnsignedLong(tooBig, new ParsePosition(0)));
+        byte[] tooSmall = "-9223372036854775809".getBytes(StandardCharsets.US_ASCII);
+        assertThrows(NumberFormatException.class, () -> IntInput.parseLong(tooSmall, new ParsePosition(0)));
+    }
+
+    @Test
+    public void shouldParseOutputOfIntOutput() throws IOException {
+        Random random = new Random(14);
+        StringBuilder sb = new StringBuilder();
+        for (int n = 0; n < 10000; n++) {
+            int i = random.nextInt() >> random.nextInt(32);
+            long l = random.nextLong() >> random.nextInt(64);
+            int scale = random.nextInt(6);
+            sb.setLength(0);
+            IntOutput.appendInt(sb, i);
+            sb.append(' ');
+            IntOutput.appendLong(sb, l);
+            sb.append(' ');
+            IntOutput.appendUnsignedLong(sb, l);
+            sb.append(' ');
+            IntOutput.appendIntScaled(sb, i, scale, '.');
+            sb.append(' ');
+            IntOutput.appendLongGrouped(sb, l, ',');
+            sb.append(' ');
+            IntOutput.appendIntHex(sb, i);
+            sb.append(' ');
+            IntOutput.appendLongHex(sb, l);
+            byte[] bytes = sb.toString().getBytes(StandardCharsets.US_ASCII);
+            ParsePosition pos = new ParsePosition(0);
+            assertEquals(i, IntInput.parseInt(sb, pos));
+            pos.setIndex(pos.getIndex() + 1);
+            assertEquals(l, IntInput.parseLong(sb, pos));
+            pos.setIndex(pos.getIndex() + 1);
+            assertEquals(l, IntInput.parseUnsignedLong(sb, pos));
+            pos.setIndex(pos.getIndex() + 1);
+            assertEquals(i, IntInput.parseIntScaled(sb, pos, scale, '.'));
+            pos.setIndex(pos.getIndex() + 1);
+            assertEquals(l, IntInput.parseLongGrouped(sb, pos, ','));
+            pos.setIndex(pos.getIndex() + 1);
+            assertEquals(i, IntInput.parseIntHex(sb, pos));
+            pos.setIndex(pos.getIndex() + 1);
+            assertEquals(l, IntInput.parseLongHex(sb, pos));
+            assertEquals(sb.length(), pos.getIndex());
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes).flip();
+            assertEquals(i, IntInput.parseInt(buffer));
+            buffer.get();
+            assertEquals(l, IntInput.parseLong(buffer));
+            buffer.get();
+            assertEquals(l, IntInput.parseUnsignedLong(buffer));
+            buffer.get();
+            assertEquals(i, IntInput.parseIntScaled(buffer, scale, '.'));
+            buffer.get();
+            assertEquals(l, IntInput.parseLongGrouped(buffer, ','));
+            buffer.get();
+            assertEquals(i, IntInput.parseIntHex(buffer));
+            buffer.get();
+            assertEquals(l, IntInput.parseLongHex(buffer));
+            assertEquals(bytes.length, buffer.position());
+        }
+    }
+
+}
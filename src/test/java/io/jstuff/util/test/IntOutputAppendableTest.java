@@ -26,14 +26,22 @@
 package io.jstuff.util.test;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Locale;
+import java.util.Random;
 
 import org.junit.Test;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
 
 import io.jstuff.util.IntOutput;
 
 public class IntOutputAppendableTest {
 
+    private static final BigInteger LONG_MASK = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+    private static final BigInteger INT128_MASK = BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE);
+
     @Test
     public void shouldConvertIntCorrectly() throws IOException {
         StringBuilder sb = new StringBuilder();
@@ -401,6 +409,107 @@ public class IntOutputAppendableTest {
         assertEquals("321", sb.toString());
     }
 
+    @Test
+    public void shouldOutputNDigits() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        IntOutput.appendNDigits(sb, 2024, 4);
+        assertEquals("2024", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendNDigits(sb, 4567, 6);
+        assertEquals("004567", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendNDigits(sb, 12345678, 9);
+        assertEquals("012345678", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendNDigits(sb, 42, 12);
+        assertEquals("000000000042", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendNDigits(sb, 123456789012345L, 18);
+        assertEquals("000123456789012345", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendNDigits(sb, Long.MAX_VALUE, 20);
+        assertEquals("09223372036854775807", sb.toString());
+        Random random = new Random(19);
+        for (int k = 0; k < 10000; k++) {
+            long n = random.nextLong() >>> (1 + random.nextInt(63));
+            int count = Long.toString(n).length() + random.nextInt(4);
+            sb.setLength(0);
+            IntOutput.appendNDigits(sb, n, count);
+            assertEquals(String.format("%0" + count + "d", n), sb.toString());
+            int i = random.nextInt() >>> (1 + random.nextInt(31));
+            count = Integer.toString(i).length() + random.nextInt(3);
+            sb.setLength(0);
+            IntOutput.appendNDigits(sb, i, count);
+            assertEquals(String.format("%0" + count + "d", i), sb.toString());
+        }
+    }
+
+    @Test
+    public void shouldOutputNDigitsSafely() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        IntOutput.appendNDigitsSafe(sb, 1234567, 4);
+        assertEquals("4567", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendNDigitsSafe(sb, -1234567, 6);
+        assertEquals("234567", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendNDigitsSafe(sb, Integer.MIN_VALUE, 10);
+        assertEquals("2147483648", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendNDigitsSafe(sb, Integer.MIN_VALUE, 3);
+        assertEquals("648", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendNDigitsSafe(sb, Long.MIN_VALUE, 18);
+        assertEquals("223372036854775808", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendNDigitsSafe(sb, Long.MIN_VALUE, 21);
+        assertEquals("009223372036854775808", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendNDigitsSafe(sb, -5L, 0);
+        assertEquals("", sb.toString());
+    }
+
+    @Test
+    public void shouldOutputPadded() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        IntOutput.appendIntPadded(sb, 123, 6, ' ');
+        assertEquals("   123", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendIntPadded(sb, -123, 6, '0');
+        assertEquals("-00123", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendIntPadded(sb, Integer.MIN_VALUE, 12, '0');
+        assertEquals("-02147483648", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendIntPadded(sb, 1234567, 4, ' ');
+        assertEquals("1234567", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendIntPadded(sb, -1234, 4, ' ', '*');
+        assertEquals("****", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendIntPadded(sb, -123, 4, ' ', '*');
+        assertEquals("-123", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendLongPadded(sb, -1234567890123L, 16, ' ');
+        assertEquals("  -1234567890123", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendLongPadded(sb, Long.MIN_VALUE, 21, '0');
+        assertEquals("-09223372036854775808", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendLongPadded(sb, 123456789L, 8, '0', '#');
+        assertEquals("########", sb.toString());
+        for (int width = 0; width < 24; width++) {
+            for (long n : new long[] { 0, 5, -5, 123456789012L, -123456789012L, Long.MAX_VALUE }) {
+                sb.setLength(0);
+                IntOutput.appendLongPadded(sb, n, width, ' ');
+                assertEquals(String.format("%" + (width == 0 ? "" : width) + "d", n), sb.toString());
+                sb.setLength(0);
+                IntOutput.appendLongPadded(sb, n, width, '0');
+                assertEquals(String.format("%" + (width == 0 ? "" : "0" + width) + "d", n), sb.toString());
+            }
+        }
+    }
+
     @Test
     public void shouldOutputIntegerWithGrouping() throws IOException {
         StringBuilder sb = new StringBuilder();
@@ -780,4 +889,254 @@ public class IntOutputAppendableTest {
         assertEquals("a", sb.toString());
     }
 
+    @Test
+    public void shouldOutputOctalCorrectly() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        IntOutput.appendIntOctal(sb, 0);
+        assertEquals("0", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendIntOctal(sb, 493);
+        assertEquals("755", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendNOctal(sb, 420, 4);
+        assertEquals("0644", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendNOctal(sb, -1, 24);
+        assertEquals("001777777777777777777777", sb.toString());
+        Random random = new Random(20);
+        for (int k = 0; k < 1000; k++) {
+            int i = random.nextInt() >> random.nextInt(32);
+            long n = random.nextLong() >> random.nextInt(64);
+            sb.setLength(0);
+            IntOutput.appendIntOctal(sb, i);
+            assertEquals(Integer.toOctalString(i), sb.toString());
+            sb.setLength(0);
+            IntOutput.appendLongOctal(sb, n);
+            assertEquals(Long.toOctalString(n), sb.toString());
+        }
+    }
+
+    @Test
+    public void shouldOutputBinaryCorrectly() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        IntOutput.appendIntBinary(sb, 0);
+        assertEquals("0", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendIntBinary(sb, 10);
+        assertEquals("1010", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendNBinary(sb, 5, 8);
+        assertEquals("00000101", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendNBinary(sb, 0xFFFFFFFFL, 4);
+        assertEquals("1111", sb.toString());
+        Random random = new Random(20);
+        for (int k = 0; k < 1000; k++) {
+            int i = random.nextInt() >> random.nextInt(32);
+            long n = random.nextLong() >> random.nextInt(64);
+            sb.setLength(0);
+            IntOutput.appendIntBinary(sb, i);
+            assertEquals(Integer.toBinaryString(i), sb.toString());
+            sb.setLength(0);
+            IntOutput.appendLongBinary(sb, n);
+            assertEquals(Long.toBinaryString(n), sb.toString());
+        }
+    }
+
+    @Test
+    public void shouldConvertRandomLongValuesCorrectly() throws IOException {
+        Random random = new Random(97531);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            long n = random.nextLong() >> random.nextInt(64);
+            int scale = random.nextInt(24);
+            sb.setLength(0);
+            IntOutput.appendLong(sb, n);
+            assertEquals(Long.toString(n), sb.toString());
+            sb.setLength(0);
+            IntOutput.appendUnsignedLong(sb, n);
+            assertEquals(Long.toUnsignedString(n), sb.toString());
+            sb.setLength(0);
+            IntOutput.appendLongScaled(sb, n, scale, '.');
+            assertEquals(BigDecimal.valueOf(n, scale).toPlainString(), sb.toString());
+            sb.setLength(0);
+            IntOutput.appendLongGrouped(sb, n, ',');
+            assertEquals(String.format(Locale.US, "%,d", n), sb.toString());
+        }
+    }
+
+    @Test
+    public void shouldAppendArraysOfValues() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        IntOutput.appendInts(sb, new int[] { 1, -22, 333, Integer.MIN_VALUE }, ',');
+        assertEquals("1,-22,333,-2147483648", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendLongs(sb, new long[] { 1234567890123L, 0, Long.MIN_VALUE }, '|');
+        assertEquals("1234567890123|0|-9223372036854775808", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendInts(sb, new int[0], ',');
+        assertEquals("", sb.toString());
+    }
+
+    @Test
+    public void shouldConvertBigInteger() throws IOException {
+        Random random = new Random(86420);
+        StringBuilder sb = new StringBuilder();
+        BigInteger[] values = { BigInteger.ZERO, BigInteger.valueOf(Long.MIN_VALUE), BigInteger.valueOf(Long.MAX_VALUE),
+                BigInteger.ONE.shiftLeft(63), BigInteger.TEN.pow(18), BigInteger.TEN.pow(36), BigInteger.TEN.pow(100),
+                BigInteger.TEN.pow(100).add(BigInteger.ONE), BigInteger.TEN.pow(1000).subtract(BigInteger.ONE) };
+        for (int i = 0; i < 2000; i++) {
+            BigInteger bi = i < values.length ? values[i] : new BigInteger(1 + random.nextInt(2000), random);
+            if ((i & 1) != 0)
+                bi = bi.negate();
+            sb.setLength(0);
+            IntOutput.appendBigInteger(sb, bi);
+            assertEquals(bi.toString(), sb.toString());
+            sb.setLength(0);
+            IntOutput.appendBigIntegerGrouped(sb, bi, ',');
+            assertEquals(String.format(Locale.US, "%,d", bi), sb.toString());
+        }
+    }
+
+    @Test
+    public void shouldConvertBigDecimal() throws IOException {
+        Random random = new Random(75319);
+        StringBuilder sb = new StringBuilder();
+        BigDecimal[] values = { BigDecimal.ZERO, new BigDecimal("0.00"), new BigDecimal("-0.05"),
+                new BigDecimal("1E+3"), new BigDecimal("0E+3"),
+                new BigDecimal("123456789012345678901234567890.000000000000000000001"),
+                new BigDecimal("-0.000000000000000000000000000000000000001"), new BigDecimal("1.5E+40") };
+        for (int i = 0; i < 2000; i++) {
+            BigDecimal bd = i < values.length ? values[i] :
+                    new BigDecimal(new BigInteger(1 + random.nextInt(300), random), random.nextInt(100) - 20);
+            if ((i & 1) != 0)
+                bd = bd.negate();
+            sb.setLength(0);
+            IntOutput.appendBigDecimal(sb, bd);
+            assertEquals(bd.toPlainString(), sb.toString());
+            sb.setLength(0);
+            IntOutput.appendBigDecimal(sb, bd, ',');
+            assertEquals(bd.toPlainString().replace('.', ','), sb.toString());
+        }
+    }
+
+    @Test
+    public void shouldConvertInt128() throws IOException {
+        Random random = new Random(24682);
+        StringBuilder sb = new StringBuilder();
+        long[] values = { 0, 0, 0, 1, 0, -1, -1, -1, -1, 0, Long.MIN_VALUE, 0, Long.MAX_VALUE, -1, 1, 0,
+                0x4B3B4CA85A86C47AL, 0x098A224000000000L, 0x4B3B4CA85A86C47AL, 0x098A223FFFFFFFFFL };
+        for (int i = 0; i < 10000; i++) {
+            long hi;
+            long lo;
+            if (i * 2 < values.length) {
+                hi = values[i * 2];
+                lo = values[i * 2 + 1];
+            }
+            else {
+                hi = random.nextLong() >> random.nextInt(64);
+                lo = random.nextLong();
+            }
+            BigInteger signed = BigInteger.valueOf(hi).shiftLeft(64).or(BigInteger.valueOf(lo).and(LONG_MASK));
+            BigInteger unsigned = signed.and(INT128_MASK);
+            int scale = random.nextInt(45);
+            sb.setLength(0);
+            IntOutput.appendInt128(sb, hi, lo);
+            assertEquals(signed.toString(), sb.toString());
+            sb.setLength(0);
+            IntOutput.appendUnsignedInt128(sb, hi, lo);
+            assertEquals(unsigned.toString(), sb.toString());
+            sb.setLength(0);
+            IntOutput.appendInt128Grouped(sb, hi, lo, ',');
+            assertEquals(String.format(Locale.US, "%,d", signed), sb.toString());
+            sb.setLength(0);
+            IntOutput.appendUnsignedInt128Grouped(sb, hi, lo, ',');
+            assertEquals(String.format(Locale.US, "%,d", unsigned), sb.toString());
+            sb.setLength(0);
+            IntOutput.appendInt128Scaled(sb, hi, lo, scale, '.');
+            assertEquals(new BigDecimal(signed, scale).toPlainString(), sb.toString());
+            sb.setLength(0);
+            IntOutput.appendUnsignedInt128Scaled(sb, hi, lo, scale, '.');
+            assertEquals(new BigDecimal(unsigned, scale).toPlainString(), sb.toString());
+            sb.setLength(0);
+            IntOutput.appendInt128Hex(sb, hi, lo);
+            assertEquals(unsigned.toString(16).toUpperCase(), sb.toString());
+            sb.setLength(0);
+            IntOutput.appendInt128HexLC(sb, hi, lo);
+            assertEquals(unsigned.toString(16), sb.toString());
+        }
+    }
+
+    @Test
+    public void shouldConvertLongWithConfigurableGrouping() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        IntOutput.appendLongGroupedIndian(sb, 123456789, ',');
+        assertEquals("12,34,56,789", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendLongGroupedIndian(sb, -1000, ',');
+        assertEquals("-1,000", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendLongGroupedIndian(sb, 999, ',');
+        assertEquals("999", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendLongGroupedIndian(sb, Long.MIN_VALUE, ',');
+        assertEquals("-92,23,37,20,36,85,47,75,808", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendLongGrouped(sb, 123456789, ' ', 4);
+        assertEquals("1 2345 6789", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendLongGrouped(sb, 123456789, ',', 1);
+        assertEquals("1,2,3,4,5,6,7,8,9", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendLongGrouped(sb, Long.MAX_VALUE, ',', 20);
+        assertEquals("9223372036854775807", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendLongGroupedScaled(sb, 123456789, 2, '.', ',');
+        assertEquals("1,234,567.89", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendLongGroupedScaled(sb, -5, 2, '.', ',');
+        assertEquals("-0.05", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendLongGroupedScaled(sb, 1234567890, 2, ',', '.', 3, 2);
+        assertEquals("1.23.45.678,90", sb.toString());
+        sb.setLength(0);
+        IntOutput.appendLongGroupedScaled(sb, Long.MIN_VALUE, 20, '.', ',');
+        assertEquals("-0.09223372036854775808", sb.toString());
+        assertThrows(IllegalArgumentException.class, () -> IntOutput.appendLongGrouped(sb, 1, ',', 0));
+        assertThrows(IllegalArgumentException.class, () -> IntOutput.appendLongGroupedScaled(sb, 1, 0, '.', ',', 0, 3));
+    }
+
+    @Test
+    public void shouldConvertRandomLongsWithConfigurableGrouping() throws IOException {
+        Random random = new Random(97531);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            long n = i == 0 ? Long.MIN_VALUE : random.nextLong() >> random.nextInt(64);
+            int scale = random.nextInt(24);
+            int firstGroupSize = random.nextInt(5) + 1;
+            int groupSize = random.nextInt(5) + 1;
+            sb.setLength(0);
+            IntOutput.appendLongGroupedScaled(sb, n, scale, '.', ',');
+            BigDecimal bd = BigDecimal.valueOf(n, scale);
+            assertEquals(String.format(Locale.US, "%,." + scale + "f", bd), sb.toString());
+            sb.setLength(0);
+            IntOutput.appendLongGroupedScaled(sb, n, scale, '.', ',', firstGroupSize, groupSize);
+            assertEquals(groupedReference(bd, firstGroupSize, groupSize), sb.toString());
+            sb.setLength(0);
+            IntOutput.appendLongGroupedIndian(sb, n, ',');
+            assertEquals(groupedReference(BigDecimal.valueOf(n), 3, 2), sb.toString());
+        }
+    }
+
+    static String groupedReference(BigDecimal bd, int firstGroupSize, int groupSize) {
+        String plain = bd.toPlainString();
+        int start = plain.startsWith("-") ? 1 : 0;
+        int point = plain.indexOf('.');
+        if (point < 0)
+            point = plain.length();
+        StringBuilder sb = new StringBuilder(plain);
+        for (int i = point - firstGroupSize; i > start; i -= groupSize)
+            sb.insert(i, ',');
+        return sb.toString();
+    }
 }
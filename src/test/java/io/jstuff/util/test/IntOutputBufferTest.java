@@ -0,0 +1,290 @@
+/*
+ * @(#) IntOutputBufferTest.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.test;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import io.jstuff.util.IntOutput;
+
+public class IntOutputBufferTest {
+
+    private static String result(ByteBuffer buffer, int start) {
+        byte[] bytes = new byte[buffer.position() - start];
+        for (int i = 0; i < bytes.length; i++)
+            bytes[i] = buffer.get(start + i);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    private static String result(CharBuffer buffer, int start) {
+        char[] chars = new char[buffer.position() - start];
+        for (int i = 0; i < chars.length; i++)
+            chars[i] = buffer.get(start + i);
+        return new String(chars);
+    }
+
+    private static ByteBuffer[] byteBuffers() {
+        ByteBuffer heap = ByteBuffer.allocate(80);
+        heap.position(5);
+        ByteBuffer slice = heap.slice(); // array offset 5
+        ByteBuffer direct = ByteBuffer.allocateDirect(64);
+        assertTrue(slice.hasArray());
+        assertFalse(direct.hasArray());
+        return new ByteBuffer[] { ByteBuffer.allocate(64), slice, direct };
+    }
+
+    private static CharBuffer[] charBuffers() {
+        CharBuffer heap = CharBuffer.allocate(80);
+        heap.position(5);
+        CharBuffer slice = heap.slice();
+        CharBuffer direct = ByteBuffer.allocateDirect(128).asCharBuffer();
+        assertFalse(direct.hasArray());
+        return new CharBuffer[] { CharBuffer.allocate(64), slice, direct };
+    }
+
+    @Test
+    public void shouldOutputToByteBuffer() {
+        for (ByteBuffer buffer : byteBuffers()) {
+            buffer.clear();
+            buffer.put((byte)'[');
+            IntOutput.appendInt(buffer, -22334455);
+            assertEquals(10, buffer.position());
+            assertEquals("-22334455", result(buffer, 1));
+            buffer.clear();
+            IntOutput.appendLong(buffer, Long.MIN_VALUE);
+            assertEquals("-9223372036854775808", result(buffer, 0));
+            buffer.clear();
+            IntOutput.appendUnsignedLong(buffer, -1);
+            assertEquals("18446744073709551615", result(buffer, 0));
+            buffer.clear();
+            IntOutput.appendIntScaled(buffer, Integer.MIN_VALUE, 12, '.');
+            assertEquals("-0.002147483648", result(buffer, 0));
+            buffer.clear();
+            IntOutput.appendLongScaled(buffer, Long.MIN_VALUE, 10, '.');
+            assertEquals("-922337203.6854775808", result(buffer, 0));
+            buffer.clear();
+            IntOutput.appendLongGrouped(buffer, Long.MIN_VALUE, ',');
+            assertEquals("-9,223,372,036,854,775,808", result(buffer, 0));
+            buffer.clear();
+            IntOutput.append1Digit(buffer, 5);
+            IntOutput.append2Digits(buffer, 7);
+            IntOutput.append3Digits(buffer, 42);
+            assertEquals("507042", result(buffer, 0));
+            buffer.clear();
+            IntOutput.appendIntHex(buffer, 0xABC);
+            IntOutput.appendLongHexLC(buffer, 0x89ABCDEF01234567L);
+            assertEquals("ABC89abcdef01234567", result(buffer, 0));
+            buffer.clear();
+            IntOutput.append8Hex(buffer, 0xABCDE);
+            IntOutput.append4HexLC(buffer, 0xABCDE);
+            IntOutput.append2Hex(buffer, 0xABCDE);
+            IntOutput.append1HexLC(buffer, 0xABCDE);
+            assertEquals("000ABCDEbcdeDEe", result(buffer, 0));
+        }
+    }
+
+    @Test
+    public void shouldOutputToCharBuffer() {
+        for (CharBuffer buffer : charBuffers()) {
+            buffer.clear();
+            buffer.put('[');
+            IntOutput.appendInt(buffer, -22334455);
+            assertEquals(10, buffer.position());
+            assertEquals("-22334455", result(buffer, 1));
+            buffer.clear();
+            IntOutput.appendLong(buffer, Long.MIN_VALUE);
+            assertEquals("-9223372036854775808", result(buffer, 0));
+            buffer.clear();
+            IntOutput.appendUnsignedInt(buffer, 0x89ABCDEF);
+            assertEquals("2309737967", result(buffer, 0));
+            buffer.clear();
+            IntOutput.appendLongScaled(buffer, -2233445566778899L, 17, '.');
+            assertEquals("-0.02233445566778899", result(buffer, 0));
+            buffer.clear();
+            IntOutput.appendIntGrouped(buffer, Integer.MIN_VALUE, ',');
+            assertEquals("-2,147,483,648", result(buffer, 0));
+            buffer.clear();
+            IntOutput.appendIntHexLC(buffer, -1);
+            IntOutput.append8HexLC(buffer, 0xABCDE);
+            assertEquals("ffffffff000abcde", result(buffer, 0));
+        }
+    }
+
+    @Test
+    public void shouldThrowExceptionOnOverflow() {
+        for (ByteBuffer buffer : byteBuffers()) {
+            buffer.clear();
+            buffer.limit(5);
+            buffer.position(1);
+            try {
+                IntOutput.appendInt(buffer, 12345);
+                fail("Should throw exception");
+            }
+            catch (BufferOverflowException ignore) {
+                // correct
+            }
+            assertEquals(1, buffer.position());
+            IntOutput.appendInt(buffer, 1234);
+            assertEquals(5, buffer.position());
+        }
+        CharBuffer buffer = CharBuffer.allocate(2);
+        try {
+            IntOutput.append3Digits(buffer, 123);
+            fail("Should throw exception");
+        }
+        catch (BufferOverflowException ignore) {
+            // correct
+        }
+    }
+
+    @Test
+    public void shouldMatchAppendableOutputForRandomValues() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        Random random = new Random(24680);
+        ByteBuffer[] byteBuffers = byteBuffers();
+        CharBuffer[] charBuffers = charBuffers();
+        for (int k = 0; k < 3000; k++) {
+            long n = random.nextLong() >> random.nextInt(64);
+            int i = (int)n;
+            int scale = random.nextInt(22);
+            for (int j = 0; j < byteBuffers.length; j++) {
+                ByteBuffer bb = byteBuffers[j];
+                CharBuffer cb = charBuffers[j];
+                sb.setLength(0);
+                IntOutput.appendInt(sb, i);
+                bb.clear();
+                IntOutput.appendInt(bb, i);
+                assertEquals(sb.toString(), result(bb, 0));
+                cb.clear();
+                IntOutput.appendInt(cb, i);
+                assertEquals(sb.toString(), result(cb, 0));
+                sb.setLength(0);
+                IntOutput.appendUnsignedInt(sb, i);
+                bb.clear();
+                IntOutput.appendUnsignedInt(bb, i);
+                assertEquals(sb.toString(), result(bb, 0));
+                sb.setLength(0);
+                IntOutput.appendIntScaled(sb, i, scale, '.');
+                bb.clear();
+                IntOutput.appendIntScaled(bb, i, scale, '.');
+                assertEquals(sb.toString(), result(bb, 0));
+                cb.clear();
+                IntOutput.appendIntScaled(cb, i, scale, '.');
+                assertEquals(sb.toString(), result(cb, 0));
+                sb.setLength(0);
+                IntOutput.appendIntGrouped(sb, i, ',');
+                bb.clear();
+                IntOutput.appendIntGrouped(bb, i, ',');
+                assertEquals(sb.toString(), result(bb, 0));
+                sb.setLength(0);
+                IntOutput.appendLong(sb, n);
+                bb.clear();
+                IntOutput.appendLong(bb, n);
+                assertEquals(sb.toString(), result(bb, 0));
+                cb.clear();
+                IntOutput.appendLong(cb, n);
+                assertEquals(sb.toString(), result(cb, 0));
+                sb.setLength(0);
+                IntOutput.appendUnsignedLong(sb, n);
+                bb.clear();
+                IntOutput.appendUnsignedLong(bb, n);
+                assertEquals(sb.toString(), result(bb, 0));
+                sb.setLength(0);
+                IntOutput.appendLongScaled(sb, n, scale, '.');
+                bb.clear();
+                IntOutput.appendLongScaled(bb, n, scale, '.');
+                assertEquals(sb.toString(), result(bb, 0));
+                sb.setLength(0);
+                IntOutput.appendLongGrouped(sb, n, ',');
+                bb.clear();
+                IntOutput.appendLongGrouped(bb, n, ',');
+                assertEquals(sb.toString(), result(bb, 0));
+                cb.clear();
+                IntOutput.appendLongGrouped(cb, n, ',');
+                assertEquals(sb.toString(), result(cb, 0));
+                sb.setLength(0);
+                IntOutput.appendLongHex(sb, n);
+                bb.clear();
+                IntOutput.appendLongHex(bb, n);
+                assertEquals(sb.toString(), result(bb, 0));
+                sb.setLength(0);
+                IntOutput.appendIntHexLC(sb, i);
+                cb.clear();
+                IntOutput.appendIntHexLC(cb, i);
+                assertEquals(sb.toString(), result(cb, 0));
+                long positive = n & Long.MAX_VALUE;
+                sb.setLength(0);
+                IntOutput.appendPositiveLongScaled(sb, positive, scale, '.');
+                bb.clear();
+                IntOutput.appendPositiveLongScaled(bb, positive, scale, '.');
+                assertEquals(sb.toString(), result(bb, 0));
+                sb.setLength(0);
+                IntOutput.appendPositiveIntGrouped(sb, i & Integer.MAX_VALUE, ',');
+                bb.clear();
+                IntOutput.appendPositiveIntGrouped(bb, i & Integer.MAX_VALUE, ',');
+                assertEquals(sb.toString(), result(bb, 0));
+            }
+        }
+    }
+
+    @Test
+    public void shouldStorePackedDigitsInEitherByteOrder() {
+        Random random = new Random(11235);
+        for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(64).order(order);
+            for (int k = 0; k < 10000; k++) {
+                int i = random.nextInt();
+                long n = random.nextLong() >> random.nextInt(64);
+                buffer.clear();
+                IntOutput.append8Hex(buffer, i);
+                assertEquals(String.format("%08X", i), result(buffer, 0));
+                buffer.clear();
+                IntOutput.append8HexLC(buffer, i);
+                assertEquals(String.format("%08x", i), result(buffer, 0));
+                buffer.clear();
+                IntOutput.appendLongHexLC(buffer, n);
+                assertEquals(Long.toHexString(n), result(buffer, 0));
+                buffer.clear();
+                IntOutput.appendLong(buffer, n);
+                assertEquals(Long.toString(n), result(buffer, 0));
+                buffer.clear();
+                IntOutput.appendUnsignedLong(buffer, n);
+                assertEquals(Long.toUnsignedString(n), result(buffer, 0));
+            }
+        }
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ * @(#) IntOutputCharArrayTest.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.test;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+import io.jstuff.util.IntOutput;
+
+public class IntOutputCharArrayTest {
+
+    private static final int[] intValues = { 0, 1, 9, 10, 99, 100, 999, 1000, 12345, 123456, -1, -10, -22334455,
+            1000000000, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE + 1, 0x89ABCDEF };
+
+    private static final long[] longValues = { 0, 1, 9, 10, 99, 100, 999, 1000, 123456789012345678L,
+            -2233445566778899L, Integer.MAX_VALUE, Integer.MIN_VALUE, 1000000000000000000L, Long.MAX_VALUE,
+            Long.MIN_VALUE, Long.MIN_VALUE + 1, 0x89ABCDEF01234567L };
+
+    private final char[] chars = new char[256];
+
+    private String result(int start, int end) {
+        return new String(chars, start, end - start);
+    }
+
+    @Test
+    public void shouldConvertIntCorrectly() {
+        int end = IntOutput.appendInt(chars, 0, 0);
+        assertEquals("0", result(0, end));
+        end = IntOutput.appendInt(chars, 0, 123456);
+        assertEquals("123456", result(0, end));
+        end = IntOutput.appendInt(chars, 0, -22334455);
+        assertEquals("-22334455", result(0, end));
+        end = IntOutput.appendInt(chars, 0, Integer.MAX_VALUE);
+        assertEquals("2147483647", result(0, end));
+        end = IntOutput.appendInt(chars, 0, Integer.MIN_VALUE);
+        assertEquals("-2147483648", result(0, end));
+        end = IntOutput.appendInt(chars, 5, 12345);
+        assertEquals(10, end);
+        assertEquals("12345", result(5, end));
+        for (int i : intValues) {
+            end = IntOutput.appendInt(chars, 3, i);
+            assertEquals(String.valueOf(i), result(3, end));
+            end = IntOutput.appendPositiveInt(chars, 3, i & Integer.MAX_VALUE);
+            assertEquals(String.valueOf(i & Integer.MAX_VALUE), result(3, end));
+        }
+    }
+
+    @Test
+    public void shouldConvertUnsignedIntCorrectly() {
+        int end = IntOutput.appendUnsignedInt(chars, 0, 0);
+        assertEquals("0", result(0, end));
+        end = IntOutput.appendUnsignedInt(chars, 0, (int)3456789012L);
+        assertEquals("3456789012", result(0, end));
+        end = IntOutput.appendUnsignedInt(chars, 0, 0x89ABCDEF);
+        assertEquals("2309737967", result(0, end));
+        for (int i : intValues) {
+            end = IntOutput.appendUnsignedInt(chars, 1, i);
+            assertEquals(Integer.toUnsignedString(i), result(1, end));
+        }
+    }
+
+    @Test
+    public void shouldConvertIntScaled() throws IOException {
+        int end = IntOutput.appendIntScaled(chars, 0, 0, 2, '.');
+        assertEquals("0.00", result(0, end));
+        end = IntOutput.appendIntScaled(chars, 0, 123456, 3, '.');
+        assertEquals("123.456", result(0, end));
+        end = IntOutput.appendIntScaled(chars, 0, 123456, 8, '.');
+        assertEquals("0.00123456", result(0, end));
+        end = IntOutput.appendIntScaled(chars, 0, -22334455, 1, ',');
+        assertEquals("-2233445,5", result(0, end));
+        end = IntOutput.appendIntScaled(chars, 0, Integer.MIN_VALUE, 3, '.');
+        assertEquals("-2147483.648", result(0, end));
+        end = IntOutput.appendIntScaled(chars, 0, Integer.MIN_VALUE, 12, '.');
+        assertEquals("-0.002147483648", result(0, end));
+        StringBuilder sb = new StringBuilder();
+        for (int i : intValues) {
+            for (int scale = -1; scale < 13; scale++) {
+                sb.setLength(0);
+                IntOutput.appendIntScaled(sb, i, scale, '.');
+                end = IntOutput.appendIntScaled(chars, 2, i, scale, '.');
+                assertEquals(sb.toString(), result(2, end));
+            }
+        }
+    }
+
+    @Test
+    public void shouldConvertLongCorrectly() {
+        int end = IntOutput.appendLong(chars, 0, 0);
+        assertEquals("0", result(0, end));
+        end = IntOutput.appendLong(chars, 0, 123456789012345678L);
+        assertEquals("123456789012345678", result(0, end));
+        end = IntOutput.appendLong(chars, 0, Long.MAX_VALUE);
+        assertEquals("9223372036854775807", result(0, end));
+        end = IntOutput.appendLong(chars, 0, Long.MIN_VALUE);
+        assertEquals("-9223372036854775808", result(0, end));
+        for (long n : longValues) {
+            end = IntOutput.appendLong(chars, 7, n);
+            assertEquals(String.valueOf(n), result(7, end));
+            end = IntOutput.appendPositiveLong(chars, 7, n & Long.MAX_VALUE);
+            assertEquals(String.valueOf(n & Long.MAX_VALUE), result(7, end));
+        }
+    }
+
+    @Test
+    public void shouldConvertUnsignedLongCorrectly() {
+        long n = 1234567890123456789L;
+        int end = IntOutput.appendUnsignedLong(chars, 0, n * 10);
+        assertEquals("12345678901234567890", result(0, end));
+        for (long value : longValues) {
+            end = IntOutput.appendUnsignedLong(chars, 1, value);
+            assertEquals(Long.toUnsignedString(value), result(1, end));
+        }
+    }
+
+    @Test
+    public void shouldConvertLongScaled() throws IOException {
+        int end = IntOutput.appendLongScaled(chars, 0, 123456789012345678L, 18, '.');
+        assertEquals("0.123456789012345678", result(0, end));
+        end = IntOutput.appendLongScaled(chars, 0, Long.MIN_VALUE, 10, '.');
+        assertEquals("-922337203.6854775808", result(0, end));
+        StringBuilder sb = new StringBuilder();
+        for (long n : longValues) {
+            for (int scale = -1; scale < 22; scale++) {
+                sb.setLength(0);
+                IntOutput.appendLongScaled(sb, n, scale, '.');
+                end = IntOutput.appendLongScaled(chars, 2, n, scale, '.');
+                assertEquals(sb.toString(), result(2, end));
+            }
+        }
+    }
+
+    @Test
+    public void shouldOutputFixedDigitsCorrectly() {
+        int end = IntOutput.append1Digit(chars, 0, 7);
+        assertEquals("7", result(0, end));
+        end = IntOutput.append2Digits(chars, 0, 1);
+        assertEquals("01", result(0, end));
+        end = IntOutput.append2Digits(chars, end, 21);
+        assertEquals("0121", result(0, end));
+        end = IntOutput.append3Digits(chars, 0, 0);
+        assertEquals("000", result(0, end));
+        end = IntOutput.append3Digits(chars, 0, 21);
+        assertEquals("021", result(0, end));
+        end = IntOutput.append3Digits(chars, 0, 321);
+        assertEquals("321", result(0, end));
+    }
+
+    @Test
+    public void shouldOutputNDigits() {
+        int end = IntOutput.appendNDigits(chars, 0, 2024, 4);
+        assertEquals("2024", result(0, end));
+        end = IntOutput.appendNDigits(chars, 1, 4567, 6);
+        assertEquals("004567", result(1, end));
+        end = IntOutput.appendNDigits(chars, 0, 42, 12);
+        assertEquals("000000000042", result(0, end));
+        end = IntOutput.appendNDigits(chars, 0, 123456789012345L, 18);
+        assertEquals("000123456789012345", result(0, end));
+        end = IntOutput.appendNDigitsSafe(chars, 0, -1234567, 3);
+        assertEquals("567", result(0, end));
+        end = IntOutput.appendNDigitsSafe(chars, 0, Long.MIN_VALUE, 19);
+        assertEquals("9223372036854775808", result(0, end));
+        end = IntOutput.appendNDigitsSafe(chars, 2, Long.MIN_VALUE, 22);
+        assertEquals("0009223372036854775808", result(2, end));
+        for (long n : longValues) {
+            end = IntOutput.appendNDigitsSafe(chars, 0, n, 20);
+            assertEquals(String.format("%020d", n).replace("-", "0"), result(0, end));
+        }
+    }
+
+    @Test
+    public void shouldOutputPadded() {
+        int end = IntOutput.appendIntPadded(chars, 0, 123, 6, ' ');
+        assertEquals("   123", result(0, end));
+        end = IntOutput.appendIntPadded(chars, 1, -123, 6, '0');
+        assertEquals("-00123", result(1, end));
+        end = IntOutput.appendIntPadded(chars, 0, Integer.MIN_VALUE, 5, ' ');
+        assertEquals("-2147483648", result(0, end));
+        end = IntOutput.appendIntPadded(chars, 0, 100000, 5, ' ', '*');
+        assertEquals("*****", result(0, end));
+        end = IntOutput.appendLongPadded(chars, 0, -1234567890123L, 16, ' ');
+        assertEquals("  -1234567890123", result(0, end));
+        end = IntOutput.appendLongPadded(chars, 2, Long.MIN_VALUE, 21, '0', '*');
+        assertEquals("-09223372036854775808", result(2, end));
+        end = IntOutput.appendLongPadded(chars, 0, 123456789L, 8, '0', '#');
+        assertEquals("########", result(0, end));
+        for (long n : longValues) {
+            end = IntOutput.appendLongPadded(chars, 0, n, 22, ' ');
+            assertEquals(String.format("%22d", n), result(0, end));
+            end = IntOutput.appendLongPadded(chars, 0, n, 22, '0');
+            assertEquals(String.format("%022d", n), result(0, end));
+        }
+    }
+
+    @Test
+    public void shouldOutputPaddedWithZeroOrNegativeWidth() {
+        assertEquals(3, IntOutput.appendIntPadded(chars, 3, 123, 0, ' ', '*'));
+        assertEquals(3, IntOutput.appendIntPadded(chars, 3, 123, -5, ' ', '*'));
+        assertEquals(3, IntOutput.appendLongPadded(chars, 3, 123L, 0, '0', '*'));
+        assertEquals(3, IntOutput.appendLongPadded(chars, 3, Long.MIN_VALUE, -1, '0', '*'));
+        int end = IntOutput.appendIntPadded(chars, 0, -123, -5, '0');
+        assertEquals("-123", result(0, end));
+        end = IntOutput.appendLongPadded(chars, 0, 123L, 0, ' ');
+        assertEquals("123", result(0, end));
+    }
+
+    @Test
+    public void shouldOutputWithGrouping() throws IOException {
+        int end = IntOutput.appendIntGrouped(chars, 0, 1234, ',');
+        assertEquals("1,234", result(0, end));
+        end = IntOutput.appendIntGrouped(chars, 0, -1234567, ',');
+        assertEquals("-1,234,567", result(0, end));
+        end = IntOutput.appendIntGrouped(chars, 0, Integer.MIN_VALUE, ',');
+        assertEquals("-2,147,483,648", result(0, end));
+        end = IntOutput.appendLongGrouped(chars, 0, Long.MIN_VALUE, ',');
+        assertEquals("-9,223,372,036,854,775,808", result(0, end));
+        StringBuilder sb = new StringBuilder();
+        for (int i : intValues) {
+            sb.setLength(0);
+            IntOutput.appendIntGrouped(sb, i, ',');
+            end = IntOutput.appendIntGrouped(chars, 1, i, ',');
+            assertEquals(sb.toString(), result(1, end));
+        }
+        for (long n : longValues) {
+            sb.setLength(0);
+            IntOutput.appendLongGrouped(sb, n, ',');
+            end = IntOutput.appendLongGrouped(chars, 1, n, ',');
+            assertEquals(sb.toString(), result(1, end));
+        }
+        int i = 1;
+        for (int j = 0; j < 10; j++) {
+            sb.setLength(0);
+            IntOutput.appendPositiveIntGrouped(sb, i, ',');
+            end = IntOutput.appendPositiveIntGrouped(chars, 0, i, ',');
+            assertEquals(sb.toString(), result(0, end));
+            i = i * 10 + j;
+        }
+        long n = 1;
+        for (int j = 0; j < 19; j++) {
+            sb.setLength(0);
+            IntOutput.appendPositiveLongGrouped(sb, n, ',');
+            end = IntOutput.appendPositiveLongGrouped(chars, 0, n, ',');
+            assertEquals(sb.toString(), result(0, end));
+            n = n * 10 + j;
+        }
+    }
+
+    @Test
+    public void shouldOutputHexCorrectly() {
+        int end = IntOutput.appendIntHex(chars, 0, 0);
+        assertEquals("0", result(0, end));
+        end = IntOutput.appendIntHex(chars, 0, 0xABC);
+        assertEquals("ABC", result(0, end));
+        end = IntOutput.appendIntHexLC(chars, 0, 0xABC);
+        assertEquals("abc", result(0, end));
+        end = IntOutput.appendLongHex(chars, 0, 0x89ABCDEF01234567L);
+        assertEquals("89ABCDEF01234567", result(0, end));
+        end = IntOutput.appendLongHexLC(chars, 0, 0x1ABCDEF01234567L);
+        assertEquals("1abcdef01234567", result(0, end));
+        for (int i : intValues) {
+            end = IntOutput.appendIntHex(chars, 4, i);
+            assertEquals(Integer.toHexString(i).toUpperCase(), result(4, end));
+            end = IntOutput.appendIntHexLC(chars, 4, i);
+            assertEquals(Integer.toHexString(i), result(4, end));
+        }
+        for (long n : longValues) {
+            end = IntOutput.appendLongHex(chars, 4, n);
+            assertEquals(Long.toHexString(n).toUpperCase(), result(4, end));
+            end = IntOutput.appendLongHexLC(chars, 4, n);
+            assertEquals(Long.toHexString(n), result(4, end));
+        }
+        end = IntOutput.append8Hex(chars, 0, 0xABCDE);
+        assertEquals("000ABCDE", result(0, end));
+        end = IntOutput.append8HexLC(chars, 0, 0xABCDE);
+        assertEquals("000abcde", result(0, end));
+        end = IntOutput.append4Hex(chars, 0, 0xABCDE);
+        assertEquals("BCDE", result(0, end));
+        end = IntOutput.append4HexLC(chars, 0, 0xA);
+        assertEquals("000a", result(0, end));
+        end = IntOutput.append2Hex(chars, 0, 0xABCDE);
+        assertEquals("DE", result(0, end));
+        end = IntOutput.append2HexLC(chars, 0, 0xABCDE);
+        assertEquals("de", result(0, end));
+        end = IntOutput.append1Hex(chars, 0, 0xABCDE);
+        assertEquals("E", result(0, end));
+        end = IntOutput.append1HexLC(chars, 0, 0xABCDE);
+        assertEquals("e", result(0, end));
+    }
+
+    @Test
+    public void shouldMatchAppendableOutputForRandomValues() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        Random random = new Random(54321);
+        for (int k = 0; k < 10000; k++) {
+            long n = random.nextLong() >> random.nextInt(64);
+            int i = (int)n;
+            int scale = random.nextInt(22);
+            sb.setLength(0);
+            IntOutput.appendInt(sb, i);
+            assertEquals(sb.toString(), result(1, IntOutput.appendInt(chars, 1, i)));
+            sb.setLength(0);
+            IntOutput.appendUnsignedInt(sb, i);
+            assertEquals(sb.toString(), result(1, IntOutput.appendUnsignedInt(chars, 1, i)));
+            sb.setLength(0);
+            IntOutput.appendIntScaled(sb, i, scale, '.');
+            assertEquals(sb.toString(), result(1, IntOutput.appendIntScaled(chars, 1, i, scale, '.')));
+            sb.setLength(0);
+            IntOutput.appendIntGrouped(sb, i, ',');
+            assertEquals(sb.toString(), result(1, IntOutput.appendIntGrouped(chars, 1, i, ',')));
+            sb.setLength(0);
+            IntOutput.appendLong(sb, n);
+            assertEquals(sb.toString(), result(1, IntOutput.appendLong(chars, 1, n)));
+            sb.setLength(0);
+            IntOutput.appendUnsignedLong(sb, n);
+            assertEquals(sb.toString(), result(1, IntOutput.appendUnsignedLong(chars, 1, n)));
+            sb.setLength(0);
+            IntOutput.appendLongScaled(sb, n, scale, '.');
+            assertEquals(sb.toString(), result(1, IntOutput.appendLongScaled(chars, 1, n, scale, '.')));
+            sb.setLength(0);
+            IntOutput.appendLongGrouped(sb, n, ',');
+            assertEquals(sb.toString(), result(1, IntOutput.appendLongGrouped(chars, 1, n, ',')));
+        }
+    }
+
+    @Test
+    public void shouldAppendArraysOfValues() {
+        int end = IntOutput.appendInts(chars, 1, intValues, ',');
+        StringBuilder sb = new StringBuilder();
+        for (int i : intValues)
+            sb.append(i).append(',');
+        sb.setLength(sb.length() - 1);
+        assertEquals(sb.toString(), result(1, end));
+        assertEquals(IntOutput.intsLength(intValues), end - 1);
+        end = IntOutput.appendLongs(chars, 1, new long[] { 1234567890123L, 0, Long.MIN_VALUE }, ' ');
+        assertEquals("1234567890123 0 -9223372036854775808", result(1, end));
+        assertEquals(1, IntOutput.appendLongs(chars, 1, new long[0], ' '));
+        assertEquals(0, IntOutput.longsLength(new long[0]));
+    }
+
+    @Test
+    public void shouldOutputLongWithConfigurableGrouping() throws IOException {
+        int end = IntOutput.appendLongGroupedIndian(chars, 2, 123456789, ',');
+        assertEquals("12,34,56,789", result(2, end));
+        end = IntOutput.appendLongGrouped(chars, 0, -123456789, ' ', 4);
+        assertEquals("-1 2345 6789", result(0, end));
+        end = IntOutput.appendLongGroupedScaled(chars, 1, 123456789, 2, '.', ',');
+        assertEquals("1,234,567.89", result(1, end));
+        StringBuilder sb = new StringBuilder();
+        for (long n : longValues) {
+            for (int scale = 0; scale < 22; scale += 3) {
+                sb.setLength(0);
+                IntOutput.appendLongGroupedScaled(sb, n, scale, '.', ',', 3, 2);
+                end = IntOutput.appendLongGroupedScaled(chars, 3, n, scale, '.', ',', 3, 2);
+                assertEquals(sb.toString(), result(3, end));
+            }
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * @(#) IntOutputCharSinkTest.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.test;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.jstuff.util.CharSink;
+import io.jstuff.util.IntOutput;
+
+public class IntOutputCharSinkTest {
+
+    private static final int[] intValues = { 0, 1, 9, 10, 99, 100, 999, 1000, 12345, 999999, 1000000, 123456789,
+            1234567890, Integer.MAX_VALUE, -1, -9, -10, -12345, -1000000, Integer.MIN_VALUE + 1, Integer.MIN_VALUE };
+
+    private static final long[] longValues = { 0, 7, 99, 1000, 123456789, 999999999, 1000000000, 2147483647,
+            2147483648L, 1234567890123L, 999999999999999999L, 1000000000000000000L, Long.MAX_VALUE, -1, -1000,
+            -2147483648L, -2147483649L, -1234567890123456789L, Long.MIN_VALUE + 1, Long.MIN_VALUE };
+
+    @Test
+    public void shouldOutputIntValuesSameAsAppendable() throws IOException {
+        TestSink sink = new TestSink();
+        StringBuilder sb = new StringBuilder();
+        for (int i : intValues) {
+            IntOutput.outputInt(i, sink);
+            IntOutput.appendInt(sb, i);
+            IntOutput.outputUnsignedInt(i, sink);
+            IntOutput.appendUnsignedInt(sb, i);
+            IntOutput.outputIntGrouped(i, ',', sink);
+            IntOutput.appendIntGrouped(sb, i, ',');
+            IntOutput.outputIntHex(i, sink);
+            IntOutput.appendIntHex(sb, i);
+            IntOutput.outputIntHexLC(i, sink);
+            IntOutput.appendIntHexLC(sb, i);
+            for (int scale = -1; scale < 13; scale++) {
+                IntOutput.outputIntScaled(i, scale, '.', sink);
+                IntOutput.appendIntScaled(sb, i, scale, '.');
+            }
+            if (i >= 0) {
+                IntOutput.outputPositiveInt(i, sink);
+                IntOutput.appendPositiveInt(sb, i);
+                IntOutput.outputPositiveIntGrouped(i, ',', sink);
+                IntOutput.appendPositiveIntGrouped(sb, i, ',');
+                IntOutput.outputPositiveIntScaled(i, 3, '.', sink);
+                IntOutput.appendPositiveIntScaled(sb, i, 3, '.');
+            }
+            sink.put(' ');
+            sb.append(' ');
+        }
+        assertEquals(sb.toString(), sink.toString());
+    }
+
+    @Test
+    public void shouldOutputLongValuesSameAsAppendable() throws IOException {
+        TestSink sink = new TestSink();
+        StringBuilder sb = new StringBuilder();
+        for (long n : longValues) {
+            IntOutput.outputLong(n, sink);
+            IntOutput.appendLong(sb, n);
+            IntOutput.outputUnsignedLong(n, sink);
+            IntOutput.appendUnsignedLong(sb, n);
+            IntOutput.outputLongGrouped(n, ',', sink);
+            IntOutput.appendLongGrouped(sb, n, ',');
+            IntOutput.outputLongHex(n, sink);
+            IntOutput.appendLongHex(sb, n);
+            IntOutput.outputLongHexLC(n, sink);
+            IntOutput.appendLongHexLC(sb, n);
+            for (int scale = -1; scale < 22; scale++) {
+                IntOutput.outputLongScaled(n, scale, '.', sink);
+                IntOutput.appendLongScaled(sb, n, scale, '.');
+            }
+            if (n >= 0) {
+                IntOutput.outputPositiveLong(n, sink);
+                IntOutput.appendPositiveLong(sb, n);
+                IntOutput.outputPositiveLongGrouped(n, ',', sink);
+                IntOutput.appendPositiveLongGrouped(sb, n, ',');
+                IntOutput.outputPositiveLongScaled(n, 12, '.', sink);
+                IntOutput.appendPositiveLongScaled(sb, n, 12, '.');
+            }
+            sink.put(' ');
+            sb.append(' ');
+        }
+        assertEquals(sb.toString(), sink.toString());
+    }
+
+    @Test
+    public void shouldOutputFixedDigitsAndHex() {
+        TestSink sink = new TestSink();
+        IntOutput.output1Digit(7, sink);
+        IntOutput.output1DigitSafe(-123, sink);
+        IntOutput.output2Digits(5, sink);
+        IntOutput.output2DigitsSafe(Integer.MIN_VALUE, sink);
+        IntOutput.output3Digits(42, sink);
+        IntOutput.output3DigitsSafe(-1234567, sink);
+        sink.put(' ');
+        IntOutput.output8Hex(0xABCDE, sink);
+        IntOutput.output8HexLC(0xABCDE, sink);
+        IntOutput.output4Hex(0xABCDE, sink);
+        IntOutput.output4HexLC(0xABCDE, sink);
+        IntOutput.output2Hex(0xABCDE, sink);
+        IntOutput.output2HexLC(0xABCDE, sink);
+        IntOutput.output1Hex(0xABCDE, sink);
+        IntOutput.output1HexLC(0xABCDE, sink);
+        assertEquals("730548042567 000ABCDE000abcdeBCDEbcdeDEdeEe", sink.toString());
+    }
+
+    @Test
+    public void shouldUseFewerCallsThanIntConsumer() {
+        TestSink sink = new TestSink();
+        IntOutput.outputLong(-1234567890123456789L, sink);
+        assertEquals("-1234567890123456789", sink.toString());
+        assertTrue(sink.calls <= 4);
+        sink = new TestSink();
+        IntOutput.outputIntGrouped(1234567890, ',', sink);
+        assertEquals("1,234,567,890", sink.toString());
+        assertTrue(sink.calls <= 7);
+    }
+
+    @Test
+    public void shouldUseDefaultPutDigitsInPairs() {
+        PairSink sink = new PairSink();
+        IntOutput.outputInt(123456789, sink);
+        assertEquals("123456789", sink.sb.toString());
+        assertEquals(5, sink.calls);
+        sink = new PairSink();
+        IntOutput.outputLong(Long.MAX_VALUE, sink);
+        assertEquals("9223372036854775807", sink.sb.toString());
+    }
+
+    @Test
+    public void shouldOutputRandomValuesSameAsAppendable() throws IOException {
+        Random random = new Random(24680);
+        for (int i = 0; i < 1000; i++) {
+            long n = random.nextLong() >> random.nextInt(64);
+            int scale = random.nextInt(20);
+            TestSink sink = new TestSink();
+            StringBuilder sb = new StringBuilder();
+            IntOutput.outputLong(n, sink);
+            IntOutput.appendLong(sb, n);
+            IntOutput.outputLongScaled(n, scale, '.', sink);
+            IntOutput.appendLongScaled(sb, n, scale, '.');
+            IntOutput.outputInt((int)n, sink);
+            IntOutput.appendInt(sb, (int)n);
+            IntOutput.outputIntScaled((int)n, scale, '.', sink);
+            IntOutput.appendIntScaled(sb, (int)n, scale, '.');
+            assertEquals(sb.toString(), sink.toString());
+        }
+    }
+
+    /**
+     * A {@link CharSink} that stores digit groups directly, in the way an array-based implementation might.
+     */
+    private static class TestSink implements CharSink {
+
+        private final StringBuilder sb = new StringBuilder();
+        private int calls;
+
+        @Override
+        public void put(char ch) {
+            calls++;
+            sb.append(ch);
+        }
+
+        @Override
+        public void put(CharSequence cs, int from, int to) {
+            calls++;
+            sb.append(cs, from, to);
+        }
+
+        @Override
+        public void put2(char ch1, char ch2) {
+            calls++;
+            sb.append(ch1).append(ch2);
+        }
+
+        @Override
+        public void putDigits(int value, int count) {
+            calls++;
+            String s = String.valueOf(value);
+            for (int i = s.length(); i < count; i++)
+                sb.append('0');
+            sb.append(s);
+        }
+
+        @Override
+        public String toString() {
+            return sb.toString();
+        }
+
+    }
+
+    /**
+     * A {@link CharSink} that uses the default implementation of {@link CharSink#putDigits(int, int)}.
+     */
+    private static class PairSink implements CharSink {
+
+        private final StringBuilder sb = new StringBuilder();
+        private int calls;
+
+        @Override
+        public void put(char ch) {
+            calls++;
+            sb.append(ch);
+        }
+
+        @Override
+        public void put(CharSequence cs, int from, int to) {
+            calls++;
+            sb.append(cs, from, to);
+        }
+
+        @Override
+        public void put2(char ch1, char ch2) {
+            calls++;
+            sb.append(ch1).append(ch2);
+        }
+
+    }
+
+}
@@ -25,6 +25,10 @@
 
 package io.jstuff.util.test;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Locale;
+import java.util.Random;
 import java.util.function.IntConsumer;
 
 import org.junit.Test;
@@ -34,6 +38,9 @@ import io.jstuff.util.IntOutput;
 
 public class IntOutputIntConsumerTest {
 
+    private static final BigInteger LONG_MASK = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+    private static final BigInteger INT128_MASK = BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE);
+
     @Test
     public void shouldConvertIntCorrectlyUsingLambda() {
         StringBuilder sb = new StringBuilder();
@@ -413,6 +420,46 @@ public class IntOutputIntConsumerTest {
         assertEquals("321", sb.toString());
     }
 
+    @Test
+    public void shouldOutputNDigitsUsingLambda() {
+        StringBuilder sb = new StringBuilder();
+        IntConsumer ic = ch -> sb.append((char)ch);
+        IntOutput.outputNDigits(123, 6, ic);
+        assertEquals("000123", sb.toString());
+        sb.setLength(0);
+        IntOutput.outputNDigits(987654321, 9, ic);
+        assertEquals("987654321", sb.toString());
+        sb.setLength(0);
+        IntOutput.outputNDigits(123456789012345678L, 18, ic);
+        assertEquals("123456789012345678", sb.toString());
+        sb.setLength(0);
+        IntOutput.outputNDigitsSafe(-987654321, 4, ic);
+        assertEquals("4321", sb.toString());
+        sb.setLength(0);
+        IntOutput.outputNDigitsSafe(Long.MIN_VALUE, 20, ic);
+        assertEquals("09223372036854775808", sb.toString());
+    }
+
+    @Test
+    public void shouldOutputPaddedUsingLambda() {
+        StringBuilder sb = new StringBuilder();
+        IntConsumer ic = ch -> sb.append((char)ch);
+        IntOutput.outputIntPadded(123, 6, ' ', ic);
+        assertEquals("   123", sb.toString());
+        sb.setLength(0);
+        IntOutput.outputIntPadded(-123, 6, '0', ic);
+        assertEquals("-00123", sb.toString());
+        sb.setLength(0);
+        IntOutput.outputIntPadded(-1234, 4, ' ', '*', ic);
+        assertEquals("****", sb.toString());
+        sb.setLength(0);
+        IntOutput.outputLongPadded(Long.MIN_VALUE, 22, ' ', ic);
+        assertEquals("  -9223372036854775808", sb.toString());
+        sb.setLength(0);
+        IntOutput.outputLongPadded(42L, 3, '0', '*', ic);
+        assertEquals("042", sb.toString());
+    }
+
     @Test
     public void shouldOutputIntegerWithGroupingUsingLambda() {
         StringBuilder sb = new StringBuilder();
@@ -786,4 +833,173 @@ public class IntOutputIntConsumerTest {
         assertEquals("a", sb.toString());
     }
 
+    @Test
+    public void shouldOutputOctalAndBinaryUsingLambda() {
+        StringBuilder sb = new StringBuilder();
+        IntConsumer ic = ch -> sb.append((char)ch);
+        IntOutput.outputIntOctal(-1, ic);
+        assertEquals("37777777777", sb.toString());
+        sb.setLength(0);
+        IntOutput.outputLongOctal(Long.MIN_VALUE, ic);
+        assertEquals("1000000000000000000000", sb.toString());
+        sb.setLength(0);
+        IntOutput.outputNOctal(8, 3, ic);
+        assertEquals("010", sb.toString());
+        sb.setLength(0);
+        IntOutput.outputIntBinary(Integer.MIN_VALUE, ic);
+        assertEquals("10000000000000000000000000000000", sb.toString());
+        sb.setLength(0);
+        IntOutput.outputLongBinary(6L, ic);
+        assertEquals("110", sb.toString());
+        sb.setLength(0);
+        IntOutput.outputNBinary(3, 66, ic);
+        assertEquals(66, sb.length());
+        assertEquals("000011", sb.substring(60));
+    }
+
+    @Test
+    public void shouldConvertRandomLongValuesCorrectlyUsingLambda() {
+        Random random = new Random(97531);
+        StringBuilder sb = new StringBuilder();
+        IntConsumer ic = ch -> sb.append((char)ch);
+        for (int i = 0; i < 10000; i++) {
+            long n = random.nextLong() >> random.nextInt(64);
+            int scale = random.nextInt(24);
+            sb.setLength(0);
+            IntOutput.outputLong(n, ic);
+            assertEquals(Long.toString(n), sb.toString());
+            sb.setLength(0);
+            IntOutput.outputUnsignedLong(n, ic);
+            assertEquals(Long.toUnsignedString(n), sb.toString());
+            sb.setLength(0);
+            IntOutput.outputLongScaled(n, scale, '.', ic);
+            assertEquals(BigDecimal.valueOf(n, scale).toPlainString(), sb.toString());
+            sb.setLength(0);
+            IntOutput.outputLongGrouped(n, ',', ic);
+            assertEquals(String.format(Locale.US, "%,d", n), sb.toString());
+        }
+    }
+
+    @Test
+    public void shouldConvertBigIntegerUsingLambda() {
+        Random random = new Random(86420);
+        StringBuilder sb = new StringBuilder();
+        IntConsumer ic = ch -> sb.append((char)ch);
+        BigInteger[] values = { BigInteger.ZERO, BigInteger.valueOf(Long.MIN_VALUE), BigInteger.valueOf(Long.MAX_VALUE),
+                BigInteger.ONE.shiftLeft(63), BigInteger.TEN.pow(18), BigInteger.TEN.pow(36), BigInteger.TEN.pow(100),
+                BigInteger.TEN.pow(100).add(BigInteger.ONE), BigInteger.TEN.pow(1000).subtract(BigInteger.ONE) };
+        for (int i = 0; i < 2000; i++) {
+            BigInteger bi = i < values.length ? values[i] : new BigInteger(1 + random.nextInt(2000), random);
+            if ((i & 1) != 0)
+                bi = bi.negate();
+            sb.setLength(0);
+            IntOutput.outputBigInteger(bi, ic);
+            assertEquals(bi.toString(), sb.toString());
+            sb.setLength(0);
+            IntOutput.outputBigIntegerGrouped(bi, ',', ic);
+            assertEquals(String.format(Locale.US, "%,d", bi), sb.toString());
+        }
+    }
+
+    @Test
+    public void shouldConvertBigDecimalUsingLambda() {
+        Random random = new Random(75319);
+        StringBuilder sb = new StringBuilder();
+        IntConsumer ic = ch -> sb.append((char)ch);
+        BigDecimal[] values = { BigDecimal.ZERO, new BigDecimal("0.00"), new BigDecimal("-0.05"),
+                new BigDecimal("1E+3"), new BigDecimal("0E+3"),
+                new BigDecimal("123456789012345678901234567890.000000000000000000001"),
+                new BigDecimal("-0.000000000000000000000000000000000000001"), new BigDecimal("1.5E+40") };
+        for (int i = 0; i < 2000; i++) {
+            BigDecimal bd = i < values.length ? values[i] :
+                    new BigDecimal(new BigInteger(1 + random.nextInt(300), random), random.nextInt(100) - 20);
+            if ((i & 1) != 0)
+                bd = bd.negate();
+            sb.setLength(0);
+            IntOutput.outputBigDecimal(bd, ic);
+            assertEquals(bd.toPlainString(), sb.toString());
+            sb.setLength(0);
+            IntOutput.outputBigDecimal(bd, ',', ic);
+            assertEquals(bd.toPlainString().replace('.', ','), sb.toString());
+        }
+    }
+
+    @Test
+    public void shouldConvertInt128UsingLambda() {
+        Random random = new Random(24682);
+        StringBuilder sb = new StringBuilder();
+        IntConsumer ic = ch -> sb.append((char)ch);
+        long[] values = { 0, 0, 0, 1, 0, -1, -1, -1, -1, 0, Long.MIN_VALUE, 0, Long.MAX_VALUE, -1, 1, 0,
+                0x4B3B4CA85A86C47AL, 0x098A224000000000L, 0x4B3B4CA85A86C47AL, 0x098A223FFFFFFFFFL };
+        for (int i = 0; i < 10000; i++) {
+            long hi;
+            long lo;
+            if (i * 2 < values.length) {
+                hi = values[i * 2];
+                lo = values[i * 2 + 1];
+            }
+            else {
+                hi = random.nextLong() >> random.nextInt(64);
+                lo = random.nextLong();
+            }
+            BigInteger signed = BigInteger.valueOf(hi).shiftLeft(64).or(BigInteger.valueOf(lo).and(LONG_MASK));
+            BigInteger unsigned = signed.and(INT128_MASK);
+            int scale = random.nextInt(45);
+            sb.setLength(0);
+            IntOutput.outputInt128(hi, lo, ic);
+            assertEquals(signed.toString(), sb.toString());
+            sb.setLength(0);
+            IntOutput.outputUnsignedInt128(hi, lo, ic);
+            assertEquals(unsigned.toString(), sb.toString());
+            sb.setLength(0);
+            IntOutput.outputInt128Grouped(hi, lo, ',', ic);
+            assertEquals(String.format(Locale.US, "%,d", signed), sb.toString());
+            sb.setLength(0);
+            IntOutput.outputUnsignedInt128Grouped(hi, lo, ',', ic);
+            assertEquals(String.format(Locale.US, "%,d", unsigned), sb.toString());
+            sb.setLength(0);
+            IntOutput.outputInt128Scaled(hi, lo, scale, '.', ic);
+            assertEquals(new BigDecimal(signed, scale).toPlainString(), sb.toString());
+            sb.setLength(0);
+            IntOutput.outputUnsignedInt128Scaled(hi, lo, scale, '.', ic);
+            assertEquals(new BigDecimal(unsigned, scale).toPlainString(), sb.toString());
+            sb.setLength(0);
+            IntOutput.outputInt128Hex(hi, lo, ic);
+            assertEquals(unsigned.toString(16).toUpperCase(), sb.toString());
+            sb.setLength(0);
+            IntOutput.outputInt128HexLC(hi, lo, ic);
+            assertEquals(unsigned.toString(16), sb.toString());
+        }
+    }
+
+    @Test
+    public void shouldConvertLongWithConfigurableGroupingUsingLambda() {
+        StringBuilder sb = new StringBuilder();
+        IntConsumer ic = ch -> sb.append((char)ch);
+        IntOutput.outputLongGroupedIndian(123456789, ',', ic);
+        assertEquals("12,34,56,789", sb.toString());
+        sb.setLength(0);
+        IntOutput.outputLongGrouped(-123456789, ' ', 4, ic);
+        assertEquals("-1 2345 6789", sb.toString());
+        sb.setLength(0);
+        IntOutput.outputLongGroupedScaled(123456789, 2, '.', ',', ic);
+        assertEquals("1,234,567.89", sb.toString());
+        sb.setLength(0);
+        IntOutput.outputLongGroupedScaled(Long.MIN_VALUE, 20, '.', ',', ic);
+        assertEquals("-0.09223372036854775808", sb.toString());
+        Random random = new Random(97531);
+        for (int i = 0; i < 10000; i++) {
+            long n = random.nextLong() >> random.nextInt(64);
+            int scale = random.nextInt(24);
+            int firstGroupSize = random.nextInt(5) + 1;
+            int groupSize = random.nextInt(5) + 1;
+            BigDecimal bd = BigDecimal.valueOf(n, scale);
+            sb.setLength(0);
+            IntOutput.outputLongGroupedScaled(n, scale, '.', ',', ic);
+            assertEquals(String.format(Locale.US, "%,." + scale + "f", bd), sb.toString());
+            sb.setLength(0);
+            IntOutput.outputLongGroupedScaled(n, scale, '.', ',', firstGroupSize, groupSize, ic);
+            assertEquals(IntOutputAppendableTest.groupedReference(bd, firstGroupSize, groupSize), sb.toString());
+        }
+    }
 }
@@ -0,0 +1,168 @@
+/*
+ * @(#) IntOutputLengthTest.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.test;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+import io.jstuff.util.IntOutput;
+
+public class IntOutputLengthTest {
+
+    @Test
+    public void shouldGetIntLength() {
+        assertEquals(1, IntOutput.intLength(0));
+        assertEquals(1, IntOutput.intLength(9));
+        assertEquals(2, IntOutput.intLength(10));
+        assertEquals(2, IntOutput.intLength(-1));
+        assertEquals(6, IntOutput.intLength(123456));
+        assertEquals(9, IntOutput.intLength(-22334455));
+        assertEquals(10, IntOutput.intLength(Integer.MAX_VALUE));
+        assertEquals(11, IntOutput.intLength(Integer.MIN_VALUE));
+        assertEquals(1, IntOutput.positiveIntLength(0));
+        assertEquals(10, IntOutput.positiveIntLength(1000000000));
+        assertEquals(9, IntOutput.positiveIntLength(999999999));
+        assertEquals(10, IntOutput.unsignedIntLength(-1));
+        assertEquals(7, IntOutput.unsignedIntLength(1234567));
+    }
+
+    @Test
+    public void shouldGetLongLength() {
+        assertEquals(1, IntOutput.longLength(0));
+        assertEquals(18, IntOutput.longLength(123456789012345678L));
+        assertEquals(17, IntOutput.longLength(-2233445566778899L));
+        assertEquals(19, IntOutput.longLength(Long.MAX_VALUE));
+        assertEquals(20, IntOutput.longLength(Long.MIN_VALUE));
+        assertEquals(19, IntOutput.positiveLongLength(1000000000000000000L));
+        assertEquals(18, IntOutput.positiveLongLength(999999999999999999L));
+        assertEquals(20, IntOutput.unsignedLongLength(-1));
+        assertEquals(19, IntOutput.unsignedLongLength(Long.MIN_VALUE));
+        assertEquals(19, IntOutput.unsignedLongLength(Long.parseUnsignedLong("9999999999999999999")));
+        assertEquals(20, IntOutput.unsignedLongLength(Long.parseUnsignedLong("10000000000000000000")));
+    }
+
+    @Test
+    public void shouldGetScaledAndGroupedLength() {
+        assertEquals(4, IntOutput.intScaledLength(0, 2));
+        assertEquals(7, IntOutput.intScaledLength(123456, 3));
+        assertEquals(10, IntOutput.intScaledLength(123456, 8));
+        assertEquals(15, IntOutput.intScaledLength(Integer.MIN_VALUE, 12));
+        assertEquals(21, IntOutput.longScaledLength(Long.MIN_VALUE, 10));
+        assertEquals(1, IntOutput.intGroupedLength(0));
+        assertEquals(5, IntOutput.intGroupedLength(1234));
+        assertEquals(14, IntOutput.intGroupedLength(Integer.MIN_VALUE));
+        assertEquals(26, IntOutput.longGroupedLength(Long.MIN_VALUE));
+        assertEquals(12, IntOutput.longGroupedScaledLength(123456789, 0, 3, 2));
+        assertEquals(12, IntOutput.longGroupedScaledLength(123456789, 2, 3, 3));
+        assertEquals(23, IntOutput.longGroupedScaledLength(Long.MIN_VALUE, 20, 3, 3));
+    }
+
+    @Test
+    public void shouldGetHexLength() {
+        assertEquals(1, IntOutput.intHexLength(0));
+        assertEquals(1, IntOutput.intHexLength(15));
+        assertEquals(2, IntOutput.intHexLength(16));
+        assertEquals(8, IntOutput.intHexLength(-1));
+        assertEquals(1, IntOutput.longHexLength(0));
+        assertEquals(9, IntOutput.longHexLength(0x100000000L));
+        assertEquals(16, IntOutput.longHexLength(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void shouldGetOctalAndBinaryLength() {
+        assertEquals(1, IntOutput.intOctalLength(0));
+        assertEquals(1, IntOutput.intOctalLength(7));
+        assertEquals(2, IntOutput.intOctalLength(8));
+        assertEquals(11, IntOutput.intOctalLength(-1));
+        assertEquals(22, IntOutput.longOctalLength(-1L));
+        assertEquals(1, IntOutput.intBinaryLength(0));
+        assertEquals(3, IntOutput.intBinaryLength(4));
+        assertEquals(32, IntOutput.intBinaryLength(Integer.MIN_VALUE));
+        assertEquals(64, IntOutput.longBinaryLength(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void shouldMatchOutputLengthForAllMagnitudes() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        Random random = new Random(12345);
+        for (int k = 0; k < 10000; k++) {
+            long n = random.nextLong() >> random.nextInt(64);
+            int i = (int)n;
+            sb.setLength(0);
+            IntOutput.appendInt(sb, i);
+            assertEquals(sb.length(), IntOutput.intLength(i));
+            sb.setLength(0);
+            IntOutput.appendUnsignedInt(sb, i);
+            assertEquals(sb.length(), IntOutput.unsignedIntLength(i));
+            sb.setLength(0);
+            IntOutput.appendIntGrouped(sb, i, ',');
+            assertEquals(sb.length(), IntOutput.intGroupedLength(i));
+            sb.setLength(0);
+            IntOutput.appendIntHex(sb, i);
+            assertEquals(sb.length(), IntOutput.intHexLength(i));
+            sb.setLength(0);
+            IntOutput.appendLong(sb, n);
+            assertEquals(sb.length(), IntOutput.longLength(n));
+            sb.setLength(0);
+            IntOutput.appendUnsignedLong(sb, n);
+            assertEquals(sb.length(), IntOutput.unsignedLongLength(n));
+            sb.setLength(0);
+            IntOutput.appendLongGrouped(sb, n, ',');
+            assertEquals(sb.length(), IntOutput.longGroupedLength(n));
+            sb.setLength(0);
+            IntOutput.appendLongHex(sb, n);
+            assertEquals(sb.length(), IntOutput.longHexLength(n));
+            int scale = random.nextInt(24) - 2;
+            sb.setLength(0);
+            IntOutput.appendIntScaled(sb, i, scale, '.');
+            assertEquals(sb.length(), IntOutput.intScaledLength(i, scale));
+            sb.setLength(0);
+            IntOutput.appendLongScaled(sb, n, scale, '.');
+            assertEquals(sb.length(), IntOutput.longScaledLength(n, scale));
+            int groupSize = random.nextInt(4) + 1;
+            sb.setLength(0);
+            IntOutput.appendLongGroupedScaled(sb, n, scale, '.', ',', 3, groupSize);
+            assertEquals(sb.length(), IntOutput.longGroupedScaledLength(n, scale, 3, groupSize));
+        }
+        long n = 1;
+        for (int k = 1; k <= 19; k++) {
+            assertEquals(k, IntOutput.positiveLongLength(n));
+            assertEquals(k, IntOutput.positiveLongLength(n * 2 - 1));
+            if (k < 19)
+                assertEquals(k, IntOutput.positiveLongLength(n * 10 - 1));
+            if (k <= 10) {
+                assertEquals(k, IntOutput.positiveIntLength((int)n));
+                if (k < 10)
+                    assertEquals(k, IntOutput.positiveIntLength((int)(n * 10 - 1)));
+            }
+            n *= 10;
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * @(#) IntOutputStreamTest.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.jstuff.util.IntOutput;
+import io.jstuff.util.IntOutputStream;
+
+public class IntOutputStreamTest {
+
+    @Test
+    public void shouldWriteNumbers() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        IntOutputStream ios = new IntOutputStream(baos);
+        ios.writeInt(-22334455);
+        ios.writeChar(',');
+        ios.writeLong(Long.MIN_VALUE);
+        ios.writeChar(',');
+        ios.writeUnsignedInt(0x89ABCDEF);
+        ios.writeChar(',');
+        ios.writeUnsignedLong(-1);
+        ios.writeAscii(", ");
+        ios.writeIntScaled(123456, 2, '.');
+        ios.writeChar(' ');
+        ios.writeLongScaled(-2233445566778899L, 17, '.');
+        ios.writeChar(' ');
+        ios.writeIntGrouped(1234567, ',');
+        ios.writeChar(' ');
+        ios.writeLongGrouped(Long.MIN_VALUE, ',');
+        assertEquals(0, baos.size());
+        ios.flush();
+        assertEquals("-22334455,-9223372036854775808,2309737967,18446744073709551615, 1234.56 -0.02233445566778899 " +
+                "1,234,567 -9,223,372,036,854,775,808", baos.toString("US-ASCII"));
+    }
+
+    @Test
+    public void shouldWriteFixedDigitsAndHex() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (IntOutputStream ios = new IntOutputStream(baos)) {
+            ios.write2Digits(23);
+            ios.writeChar(':');
+            ios.write2Digits(5);
+            ios.writeChar('.');
+            ios.write3Digits(7);
+            ios.write1Digit(9);
+            ios.writeChar(' ');
+            ios.writeIntHex(0xABC);
+            ios.writeIntHexLC(0xABC);
+            ios.writeChar(' ');
+            ios.writeLongHex(0x89ABCDEF01234567L);
+            ios.writeLongHexLC(0x89ABCDEF01234567L);
+            ios.writeChar(' ');
+            ios.write8Hex(0xABCDE);
+            ios.write8HexLC(0xABCDE);
+            ios.write4Hex(0xABCDE);
+            ios.write4HexLC(0xABCDE);
+            ios.write2Hex(0xABCDE);
+            ios.write2HexLC(0xABCDE);
+        }
+        assertEquals("23:05.0079 ABCabc 89ABCDEF0123456789abcdef01234567 000ABCDE000abcdeBCDEbcdeDEde",
+                baos.toString("US-ASCII"));
+    }
+
+    @Test
+    public void shouldFlushWhenBufferFull() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        IntOutputStream ios = new IntOutputStream(baos, IntOutputStream.MINIMUM_BUFFER_SIZE);
+        StringBuilder sb = new StringBuilder();
+        Random random = new Random(13579);
+        for (int i = 0; i < 1000; i++) {
+            long n = random.nextLong() >> random.nextInt(64);
+            ios.writeLong(n);
+            ios.writeChar(' ');
+            IntOutput.appendLong(sb, n);
+            sb.append(' ');
+        }
+        byte[] block = new byte[100];
+        for (int i = 0; i < block.length; i++) {
+            block[i] = (byte)('a' + i % 26);
+            sb.append((char)block[i]);
+        }
+        ios.write(block);
+        ios.writeLongScaled(12345, 40, '.');
+        IntOutput.appendLongScaled(sb, 12345, 40, '.');
+        assertTrue(baos.size() > 0);
+        ios.flush();
+        assertEquals(sb.toString(), new String(baos.toByteArray(), StandardCharsets.US_ASCII));
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * @(#) ParallelIntOutputTest.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+import io.jstuff.util.IntOutput;
+import io.jstuff.util.ParallelIntOutput;
+
+public class ParallelIntOutputTest {
+
+    private static int[] randomInts(int count) {
+        Random random = new Random(count);
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++)
+            values[i] = random.nextInt() >> random.nextInt(32);
+        return values;
+    }
+
+    private static long[] randomLongs(int count) {
+        Random random = new Random(count);
+        long[] values = new long[count];
+        for (int i = 0; i < count; i++)
+            values[i] = random.nextLong() >> random.nextInt(64);
+        return values;
+    }
+
+    @Test
+    public void shouldConvertSmallArrays() {
+        assertEquals("", new String(ParallelIntOutput.intsToChars(new int[0], ',')));
+        assertEquals("", new String(ParallelIntOutput.longsToBytes(new long[0], ','), StandardCharsets.US_ASCII));
+        assertEquals("-5", new String(ParallelIntOutput.intsToChars(new int[] { -5 }, ',')));
+        assertEquals("1,234 -5", new String(ParallelIntOutput.intsToCharsGrouped(new int[] { 1234, -5 }, ' ', ',')));
+        assertEquals("FF;0", new String(ParallelIntOutput.longsToBytesHex(new long[] { 255, 0 }, ';'),
+                StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void shouldConvertLargeIntArrays() throws IOException {
+        for (int count : new int[] { 100, ParallelIntOutput.MINIMUM_CHUNK_SIZE + 1, 100000 }) {
+            int[] values = randomInts(count);
+            StringBuilder sb = new StringBuilder();
+            IntOutput.appendInts(sb, values, ',');
+            assertEquals(sb.toString(), new String(ParallelIntOutput.intsToBytes(values, ','),
+                    StandardCharsets.US_ASCII));
+            assertEquals(sb.toString(), new String(ParallelIntOutput.intsToChars(values, ',')));
+            sb.setLength(0);
+            for (int i = 0; i < count; i++) {
+                if (i > 0)
+                    sb.append(' ');
+                IntOutput.appendIntGrouped(sb, values[i], ',');
+            }
+            assertEquals(sb.toString(), new String(ParallelIntOutput.intsToBytesGrouped(values, ' ', ','),
+                    StandardCharsets.US_ASCII));
+            assertEquals(sb.toString(), new String(ParallelIntOutput.intsToCharsGrouped(values, ' ', ',')));
+            sb.setLength(0);
+            for (int i = 0; i < count; i++) {
+                if (i > 0)
+                    sb.append('\n');
+                IntOutput.appendIntHex(sb, values[i]);
+            }
+            assertEquals(sb.toString(), new String(ParallelIntOutput.intsToBytesHex(values, '\n'),
+                    StandardCharsets.US_ASCII));
+            assertEquals(sb.toString(), new String(ParallelIntOutput.intsToCharsHex(values, '\n')));
+        }
+    }
+
+    @Test
+    public void shouldConvertLargeLongArrays() throws IOException {
+        for (int count : new int[] { 100, ParallelIntOutput.MINIMUM_CHUNK_SIZE + 1, 100000 }) {
+            long[] values = randomLongs(count);
+            StringBuilder sb = new StringBuilder();
+            IntOutput.appendLongs(sb, values, ',');
+            assertEquals(sb.toString(), new String(ParallelIntOutput.longsToBytes(values, ','),
+                    StandardCharsets.US_ASCII));
+            assertEquals(sb.toString(), new String(ParallelIntOutput.longsToChars(values, ',')));
+            sb.setLength(0);
+            for (int i = 0; i < count; i++) {
+                if (i > 0)
+                    sb.append(' ');
+                IntOutput.appendLongGrouped(sb, values[i], ',');
+            }
+            assertEquals(sb.toString(), new String(ParallelIntOutput.longsToBytesGrouped(values, ' ', ','),
+                    StandardCharsets.US_ASCII));
+            assertEquals(sb.toString(), new String(ParallelIntOutput.longsToCharsGrouped(values, ' ', ',')));
+            sb.setLength(0);
+            for (int i = 0; i < count; i++) {
+                if (i > 0)
+                    sb.append('\n');
+                IntOutput.appendLongHex(sb, values[i]);
+            }
+            assertEquals(sb.toString(), new String(ParallelIntOutput.longsToBytesHex(values, '\n'),
+                    StandardCharsets.US_ASCII));
+            assertEquals(sb.toString(), new String(ParallelIntOutput.longsToCharsHex(values, '\n')));
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * @(#) TimestampOutputTest.java
+ *
+ * int-output  Integer output functions
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.util.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import io.jstuff.util.TimestampOutput;
+
+public class TimestampOutputTest {
+
+    private static final DateTimeFormatter millisFormatter =
+            DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSXXXXX");
+    private static final DateTimeFormatter nanosFormatter =
+            DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSSSSSSSXXXXX");
+
+    @Test
+    public void shouldOutputTimestamp() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        TimestampOutput.appendTimestamp(sb, 0);
+        assertEquals("1970-01-01T00:00:00.000Z", sb.toString());
+        sb.setLength(0);
+        TimestampOutput.appendTimestamp(sb, 1709210096789L, 10 * 3600 + 30 * 60);
+        assertEquals("2024-02-29T23:04:56.789+10:30", sb.toString());
+        sb.setLength(0);
+        TimestampOutput.appendTimestampNanos(sb, -1L, -(5 * 3600 + 45));
+        assertEquals("1969-12-31T18:59:14.999999999-05:00:45", sb.toString());
+        char[] chars = new char[TimestampOutput.MAX_LENGTH];
+        assertEquals(24, TimestampOutput.appendTimestamp(chars, 0, 253402300799999L));
+        assertEquals("9999-12-31T23:59:59.999Z", new String(chars, 0, 24));
+        byte[] bytes = new byte[TimestampOutput.MAX_LENGTH + 1];
+        assertEquals(31, TimestampOutput.appendTimestampNanos(bytes, 1, 951782400000000001L));
+        assertEquals("2000-02-29T00:00:00.000000001Z", new String(bytes, 1, 30, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void shouldThrowExceptionOnOutOfRangeValues() {
+        StringBuilder sb = new StringBuilder();
+        assertThrows(IllegalArgumentException.class, () -> TimestampOutput.appendTimestamp(sb, 0, 18 * 3600 + 1));
+        assertThrows(IllegalArgumentException.class, () -> TimestampOutput.appendTimestamp(sb, 253402300800000L));
+        assertThrows(IllegalArgumentException.class, () -> TimestampOutput.appendTimestamp(sb, -62167219200001L));
+    }
+
+    @Test
+    public void shouldOutputSameAsJavaTime() throws IOException {
+        Random random = new Random(16);
+        StringBuilder sb = new StringBuilder();
+        char[] chars = new char[TimestampOutput.MAX_LENGTH];
+        byte[] bytes = new byte[TimestampOutput.MAX_LENGTH];
+        long millis = 0;
+        for (int n = 0; n < 10000; n++) {
+            // mix of timestamps in the same second (cached prefix) and widely separated timestamps
+            millis = random.nextBoolean() ? millis + random.nextInt(400) : random.nextLong() % 253402300799000L;
+            long nanos = (millis % 9000000000000L) * 1000000 + random.nextInt(1000000);
+            int offsetSeconds = random.nextInt(4) == 0 ? 0 : (random.nextInt(24 * 4 + 1) - 48) * 900;
+            ZoneOffset zoneOffset = ZoneOffset.ofTotalSeconds(offsetSeconds);
+            String expected = millisFormatter.format(Instant.ofEpochMilli(millis).atOffset(zoneOffset));
+            if (expected.startsWith("-") || expected.startsWith("+"))
+                continue;
+            sb.setLength(0);
+            TimestampOutput.appendTimestamp(sb, millis, offsetSeconds);
+            assertEquals(expected, sb.toString());
+            assertEquals(expected, new String(chars, 0,
+                    TimestampOutput.appendTimestamp(chars, 0, millis, offsetSeconds)));
+            assertEquals(expected, new String(bytes, 0,
+                    TimestampOutput.appendTimestamp(bytes, 0, millis, offsetSeconds), StandardCharsets.US_ASCII));
+            Instant instant = Instant.ofEpochSecond(Math.floorDiv(nanos, 1000000000L),
+                    Math.floorMod(nanos, 1000000000L));
+            expected = nanosFormatter.format(instant.atOffset(zoneOffset));
+            sb.setLength(0);
+            TimestampOutput.appendTimestampNanos(sb, nanos, offsetSeconds);
+            assertEquals(expected, sb.toString());
+            assertEquals(expected, new String(chars, 0,
+                    TimestampOutput.appendTimestampNanos(chars, 0, nanos, offsetSeconds)));
+            assertEquals(expected, new String(bytes, 0,
+                    TimestampOutput.appendTimestampNanos(bytes, 0, nanos, offsetSeconds), StandardCharsets.US_ASCII));
+        }
+    }
+
+}